@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncQueryRunner;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.Neo4jClient.BindSpec;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Asynchronous Neo4j client based on the drivers {@link org.neo4j.driver.async.AsyncSession}. It offers the same fluent
+ * contract as the {@link Neo4jClient imperative Neo4j client}, but all operations return a {@link CompletionStage}
+ * and don't block the calling thread. There is no integration with Springs transaction management: Each query and each
+ * delegation is executed in a dedicated transaction that is committed when the stage completes normally and rolled back
+ * otherwise. Stages complete exceptionally with translated {@link org.springframework.dao.DataAccessException data access
+ * exceptions} where possible.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public interface AsyncNeo4jClient {
+
+	LogAccessor cypherLog = new LogAccessor(LogFactory.getLog("org.neo4j.springframework.data.cypher"));
+
+	static AsyncNeo4jClient create(Driver driver) {
+
+		return new DefaultAsyncNeo4jClient(driver);
+	}
+
+	/**
+	 * Entrypoint for creating a new Cypher query. Doesn't matter at this point whether it's a match, merge, create or
+	 * removal of things.
+	 *
+	 * @param cypher The cypher code that shall be executed
+	 * @return A runnable query specification.
+	 */
+	RunnableSpec query(String cypher);
+
+	/**
+	 * Entrypoint for creating a new Cypher query based on a supplier. Doesn't matter at this point whether it's a match,
+	 * merge, create or removal of things. The supplier can be an arbitrary Supplier that may provide a DSL for generating
+	 * the Cypher statement.
+	 *
+	 * @param cypherSupplier A supplier of arbitrary Cypher code
+	 * @return A runnable query specification.
+	 */
+	RunnableSpec query(Supplier<String> cypherSupplier);
+
+	/**
+	 * Delegates interaction with the default database to the given callback. All queries run by the callback are
+	 * executed in the same transaction.
+	 *
+	 * @param callback A function receiving an asynchronous query runner for database interaction that returns a stage
+	 *                 with the result
+	 * @param <T>      The type of the result being produced
+	 * @return A stage with the result of the callback
+	 */
+	<T> OngoingDelegation<T> delegateTo(Function<AsyncQueryRunner, CompletionStage<T>> callback);
+
+	/**
+	 * Contract for a runnable query that can be either run returning it's result, run without results or be parameterized.
+	 * @since 1.0.1
+	 */
+	interface RunnableSpec extends RunnableSpecTightToDatabase {
+
+		/**
+		 * Pins the previously defined query to a specific database. A value of {@literal null} chooses the default database.
+		 * The empty string {@literal ""} is not permitted.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return A runnable query specification that is now tight to a given database.
+		 */
+		RunnableSpecTightToDatabase in(@Nullable String targetDatabase);
+	}
+
+	/**
+	 * Contract for a runnable query inside a dedicated database.
+	 * @since 1.0.1
+	 */
+	interface RunnableSpecTightToDatabase extends BindSpec<RunnableSpecTightToDatabase> {
+
+		/**
+		 * Create a mapping for each record return to a specific type.
+		 *
+		 * @param targetClass The class each record should be mapped to
+		 * @param <T>         The type of the class
+		 * @return A mapping spec that allows specifying a mapping function.
+		 */
+		<T> MappingSpec<T> fetchAs(Class<T> targetClass);
+
+		/**
+		 * Fetch all records mapped into generic maps
+		 *
+		 * @return A fetch specification that maps into generic maps.
+		 */
+		RecordFetchSpec<Map<String, Object>> fetch();
+
+		/**
+		 * Execute the query and discard the results. It returns the drivers result summary, including various counters
+		 * and other statistics.
+		 *
+		 * @return A stage with the native summary of the query.
+		 */
+		CompletionStage<ResultSummary> run();
+	}
+
+	/**
+	 * @param <T> The resulting type of this mapping
+	 * @since 1.0.1
+	 */
+	interface MappingSpec<T> extends RecordFetchSpec<T> {
+
+		/**
+		 * The mapping function is responsible to turn one record into one domain object. It will receive the record
+		 * itself and in addition, the type system that the Neo4j Java-Driver used while executing the query.
+		 *
+		 * @param mappingFunction The mapping function used to create new domain objects
+		 * @return A specification how to fetch one or more records.
+		 */
+		RecordFetchSpec<T> mappedBy(BiFunction<TypeSystem, Record, T> mappingFunction);
+	}
+
+	/**
+	 * @param <T> The type to which the fetched records are eventually mapped
+	 * @since 1.0.1
+	 */
+	interface RecordFetchSpec<T> {
+
+		/**
+		 * Fetches exactly one record. The stage completes exceptionally if there are more entries.
+		 *
+		 * @return A stage with the one and only record.
+		 */
+		CompletionStage<Optional<T>> one();
+
+		/**
+		 * Fetches only the first record. Returns an empty holder if there are no records.
+		 *
+		 * @return A stage with the first record if any.
+		 */
+		CompletionStage<Optional<T>> first();
+
+		/**
+		 * Fetches all records.
+		 *
+		 * @return A stage with all records.
+		 */
+		CompletionStage<Collection<T>> all();
+	}
+
+	/**
+	 * A contract for an ongoing delegation in the selected database.
+	 *
+	 * @param <T> The type of the returned value.
+	 * @since 1.0.1
+	 */
+	interface OngoingDelegation<T> extends RunnableDelegation<T> {
+
+		/**
+		 * Runs the delegation in the given target database.
+		 *
+		 * @param targetDatabase selected database to use
+		 * @return An ongoing delegation
+		 */
+		RunnableDelegation<T> in(@Nullable String targetDatabase);
+	}
+
+	/**
+	 * A runnable delegation.
+	 *
+	 * @param <T> the type that gets returned
+	 * @since 1.0.1
+	 */
+	interface RunnableDelegation<T> {
+
+		/**
+		 * Runs the stored callback.
+		 *
+		 * @return A stage with the result of the callback that has been executed with the given database.
+		 */
+		CompletionStage<T> run();
+	}
+}
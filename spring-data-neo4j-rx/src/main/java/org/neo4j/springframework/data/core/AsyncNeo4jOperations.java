@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+
+/**
+ * Specifies asynchronous operations one can perform on a database, based on an <em>Domain Type</em>. All operations
+ * return immediately, their results are delivered through a {@link CompletionStage}. Failures, including
+ * {@link org.springframework.dao.DataAccessException data access exceptions}, complete the stage exceptionally.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public interface AsyncNeo4jOperations {
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param domainType the type of the entities to be counted.
+	 * @return A stage with the number of instances stored in the database.
+	 */
+	CompletionStage<Long> count(Class<?> domainType);
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param statement  the Cypher {@link Statement} that returns the count.
+	 * @param parameters Map of parameters. Must not be {@code null}.
+	 * @return A stage with the number of instances stored in the database.
+	 */
+	CompletionStage<Long> count(Statement statement, Map<String, Object> parameters);
+
+	/**
+	 * Counts the number of entities of a given type.
+	 *
+	 * @param cypherQuery the Cypher query that returns the count.
+	 * @param parameters  Map of parameters. Must not be {@code null}.
+	 * @return A stage with the number of instances stored in the database.
+	 */
+	CompletionStage<Long> count(String cypherQuery, Map<String, Object> parameters);
+
+	/**
+	 * Load all entities of a given type.
+	 *
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return A stage with all entities of the given type.
+	 */
+	<T> CompletionStage<List<T>> findAll(Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type by executing given statement with parameters.
+	 *
+	 * @param statement  Cypher {@link Statement}. Must not be {@code null}.
+	 * @param parameters Map of parameters. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return A stage with the entities returned by the statement.
+	 */
+	<T> CompletionStage<List<T>> findAll(Statement statement, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type by executing given statement with parameters.
+	 *
+	 * @param cypherQuery Cypher query string. Must not be {@code null}.
+	 * @param parameters  Map of parameters. Must not be {@code null}.
+	 * @param domainType  the type of the entities. Must not be {@code null}.
+	 * @param <T>         the type of the entities. Must not be {@code null}.
+	 * @return A stage with the entities returned by the query.
+	 */
+	<T> CompletionStage<List<T>> findAll(String cypherQuery, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load one entity of a given type by executing given statement with parameters. The stage completes with an
+	 * {@link IncorrectResultSizeDataAccessException} if the statement returns more than one entity.
+	 *
+	 * @param statement  Cypher {@link Statement}. Must not be {@code null}.
+	 * @param parameters Map of parameters. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return A stage with the entity, if any.
+	 */
+	<T> CompletionStage<Optional<T>> findOne(Statement statement, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load one entity of a given type by executing given statement with parameters. The stage completes with an
+	 * {@link IncorrectResultSizeDataAccessException} if the query returns more than one entity.
+	 *
+	 * @param cypherQuery Cypher query string. Must not be {@code null}.
+	 * @param parameters  Map of parameters. Must not be {@code null}.
+	 * @param domainType  the type of the entities. Must not be {@code null}.
+	 * @param <T>         the type of the entities. Must not be {@code null}.
+	 * @return A stage with the entity, if any.
+	 */
+	<T> CompletionStage<Optional<T>> findOne(String cypherQuery, Map<String, Object> parameters, Class<T> domainType);
+
+	/**
+	 * Load an entity from the database.
+	 *
+	 * @param id         the id of the entity to load. Must not be {@code null}.
+	 * @param domainType the type of the entity. Must not be {@code null}.
+	 * @param <T>        the type of the entity.
+	 * @return A stage with the loaded entity, if any.
+	 */
+	<T> CompletionStage<Optional<T>> findById(Object id, Class<T> domainType);
+
+	/**
+	 * Load all entities of a given type that are identified by the given ids.
+	 *
+	 * @param ids        of the entities identifying the entities to load. Must not be {@code null}.
+	 * @param domainType the type of the entities. Must not be {@code null}.
+	 * @param <T>        the type of the entities. Must not be {@code null}.
+	 * @return A stage with the loaded entities.
+	 */
+	<T> CompletionStage<List<T>> findAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Saves an instance of an entity, including all the related entities of the entity, in one transaction.
+	 *
+	 * @param instance the entity to be saved. Must not be {@code null}.
+	 * @param <T>      the type of the entity.
+	 * @return A stage with the saved instance.
+	 */
+	<T> CompletionStage<T> save(T instance);
+
+	/**
+	 * Saves several instances of an entity, including all the related entities of the entity, in one transaction.
+	 *
+	 * @param instances the instances to be saved. Must not be {@code null}.
+	 * @param <T>       the type of the entity.
+	 * @return A stage with the saved instances.
+	 */
+	<T> CompletionStage<List<T>> saveAll(Iterable<T> instances);
+
+	/**
+	 * Deletes a single entity including all entities related to that entity.
+	 *
+	 * @param id         the id of the entity to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param <T>        the type of the entity.
+	 * @return A stage that completes when the entity has been deleted.
+	 */
+	<T> CompletionStage<Void> deleteById(Object id, Class<T> domainType);
+
+	/**
+	 * Deletes all entities with one of the given ids, including all entities related to that entity.
+	 *
+	 * @param ids        the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param <T>        the type of the entity.
+	 * @return A stage that completes when the entities have been deleted.
+	 */
+	<T> CompletionStage<Void> deleteAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Delete all entities of a given type.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @return A stage that completes when the entities have been deleted.
+	 */
+	CompletionStage<Void> deleteAll(Class<?> domainType);
+}
@@ -0,0 +1,702 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
+import static org.neo4j.springframework.data.core.cypher.Cypher.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncQueryRunner;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.springframework.data.core.cypher.Condition;
+import org.neo4j.springframework.data.core.cypher.Functions;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.neo4j.springframework.data.repository.NoResultException;
+import org.neo4j.springframework.data.repository.event.BeforeBindCallback;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Asynchronous template based on the {@link AsyncNeo4jClient}. Queries are executed in a transaction of their own. A
+ * save or a delete, including all related nodes and relationships written with it, is executed in one transaction.
+ * As with the {@link AsyncNeo4jClient}, there is no integration with Springs transaction management.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public final class AsyncNeo4jTemplate implements AsyncNeo4jOperations, BeanFactoryAware {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(AsyncNeo4jTemplate.class));
+
+	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE = "An entity with the required version does not exist.";
+	private static final String OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE = "Entities with the ids %s and the required versions do not exist.";
+
+	private static final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private final AsyncNeo4jClient neo4jClient;
+
+	private final Neo4jMappingContext neo4jMappingContext;
+
+	private final CypherGenerator cypherGenerator;
+
+	private final NestedRelationshipPlanner nestedRelationshipPlanner;
+
+	private Neo4jEvents eventSupport;
+
+	private final DatabaseSelectionProvider databaseSelectionProvider;
+
+	private int batchSize = 1;
+
+	private boolean synchronizeRelationships = false;
+
+	private boolean levelOrderSaves = false;
+
+	public AsyncNeo4jTemplate(AsyncNeo4jClient neo4jClient) {
+		this(neo4jClient, new Neo4jMappingContext(), DatabaseSelectionProvider.getDefaultSelectionProvider());
+	}
+
+	public AsyncNeo4jTemplate(AsyncNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
+		DatabaseSelectionProvider databaseSelectionProvider) {
+
+		Assert.notNull(neo4jClient, "The AsyncNeo4jClient is required");
+		Assert.notNull(neo4jMappingContext, "The Neo4jMappingContext is required");
+		Assert.notNull(databaseSelectionProvider, "The database name provider is required");
+
+		this.neo4jClient = neo4jClient;
+		this.neo4jMappingContext = neo4jMappingContext;
+		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.nestedRelationshipPlanner = new NestedRelationshipPlanner(neo4jMappingContext);
+		this.eventSupport = new Neo4jEvents(EntityCallbacks.create());
+
+		this.databaseSelectionProvider = databaseSelectionProvider;
+	}
+
+	@Override
+	public CompletionStage<Long> count(Class<?> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
+			.returning(Functions.count(asterisk())).build();
+
+		return count(statement, emptyMap());
+	}
+
+	@Override
+	public CompletionStage<Long> count(Statement statement, Map<String, Object> parameters) {
+		return count(renderer.render(statement), parameters);
+	}
+
+	@Override
+	public CompletionStage<Long> count(String cypherQuery, Map<String, Object> parameters) {
+
+		return neo4jClient.query(cypherQuery)
+			.in(getDatabaseName())
+			.bindAll(parameters)
+			.fetchAs(Long.class).one()
+			.thenApply(count -> count.orElseThrow(() -> new NoResultException(1, cypherQuery)));
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
+		return findAll(statement, emptyMap(), domainType);
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Statement statement, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return findAll(renderer.render(statement), parameters, domainType);
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAll(String cypherQuery, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return createFetchSpec(domainType, cypherQuery, parameters).all().thenApply(ArrayList::new);
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findOne(Statement statement, Map<String, Object> parameters,
+		Class<T> domainType) {
+		return findOne(renderer.render(statement), parameters, domainType);
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findOne(String cypherQuery, Map<String, Object> parameters,
+		Class<T> domainType) {
+
+		return createFetchSpec(domainType, cypherQuery, parameters).one()
+			.handle((result, error) -> {
+				if (error == null) {
+					return result;
+				}
+				Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+				if (cause instanceof NoSuchRecordException) {
+					// This exception is thrown by the client when there is more than one record
+					throw new CompletionException(new IncorrectResultSizeDataAccessException(1));
+				}
+				throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+			});
+	}
+
+	@Override
+	public <T> CompletionStage<Optional<T>> findById(Object id, Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator
+			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.build();
+		return findOne(statement, singletonMap(NAME_OF_ID, convertIdValues(id)), domainType);
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> findAllById(Iterable<?> ids, Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = cypherGenerator
+			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().in((parameter(NAME_OF_IDS))))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.build();
+		return findAll(statement, singletonMap(NAME_OF_IDS, convertIdValues(ids)), domainType);
+	}
+
+	private Object convertIdValues(Object idValues) {
+
+		return neo4jMappingContext.getConverter()
+			.writeValueFromProperty(idValues, ClassTypeInformation.from(idValues.getClass()));
+	}
+
+	private <T> AsyncNeo4jClient.RecordFetchSpec<T> createFetchSpec(Class<T> domainType, String cypherQuery,
+		Map<String, Object> parameters) {
+
+		return neo4jClient.query(cypherQuery)
+			.in(getDatabaseName())
+			.bindAll(parameters)
+			.fetchAs(domainType)
+			.mappedBy(neo4jMappingContext.getRequiredResultMappingFunctionFor(domainType));
+	}
+
+	@Override
+	public <T> CompletionStage<T> save(T instance) {
+
+		String databaseName = getDatabaseName();
+		return neo4jClient.delegateTo(queryRunner -> saveImpl(queryRunner, instance)).in(databaseName).run();
+	}
+
+	private <T> CompletionStage<T> saveImpl(AsyncQueryRunner queryRunner, T instance) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
+		T entityToBeSaved = eventSupport.maybeCallBeforeBind(instance);
+		Map<String, Object> parameters = neo4jMappingContext
+			.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()).apply(entityToBeSaved);
+
+		return fetch(queryRunner, renderer.render(cypherGenerator.prepareSaveOf(entityMetaData)), parameters)
+			.thenCompose(records -> {
+				Optional<Long> optionalInternalId = records.stream().findFirst().map(r -> r.get(0).asLong());
+				if (entityMetaData.hasVersionProperty() && !optionalInternalId.isPresent()) {
+					throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+				}
+
+				SavedNodes savedNodes = new SavedNodes(neo4jMappingContext);
+				PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
+				if (!entityMetaData.isUsingInternalIds()) {
+					optionalInternalId.ifPresent(internalId -> savedNodes.add(entityToBeSaved, internalId));
+					return processAssociations(queryRunner, entityMetaData, singletonList(entityToBeSaved), savedNodes)
+						.thenApply(v -> entityToBeSaved);
+				} else {
+					propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), optionalInternalId.get());
+					savedNodes.add(entityToBeSaved, optionalInternalId.get());
+					return processAssociations(queryRunner, entityMetaData, singletonList(entityToBeSaved), savedNodes)
+						.thenApply(v -> propertyAccessor.getBean());
+				}
+			});
+	}
+
+	@Override
+	public <T> CompletionStage<List<T>> saveAll(Iterable<T> instances) {
+
+		List<T> entities = new ArrayList<>();
+		instances.forEach(entities::add);
+		if (entities.isEmpty()) {
+			return CompletableFuture.completedFuture(emptyList());
+		}
+
+		String databaseName = getDatabaseName();
+		return neo4jClient.delegateTo(queryRunner -> saveAllImpl(queryRunner, entities)).in(databaseName).run();
+	}
+
+	private <T> CompletionStage<List<T>> saveAllImpl(AsyncQueryRunner queryRunner, List<T> entities) {
+
+		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
+		List<T> entitiesToBeSaved = entities.stream()
+			.map(eventSupport::maybeCallBeforeBind)
+			.collect(toList());
+
+		// Save roots
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		List<Map<String, Object>> entityList = entitiesToBeSaved.stream()
+			.map(binderFunction).collect(toList());
+
+		// Save related, each related node only once, even if it is related to several of the saved entities
+		SavedNodes savedNodes = new SavedNodes(neo4jMappingContext);
+		String cypher = renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData));
+		SavedIds savedIds = SavedIds.of(entityList);
+		CompletionStage<List<T>> savedRoots = fetch(queryRunner, cypher,
+			singletonMap(NAME_OF_ENTITY_LIST_PARAM, savedIds.getRows()))
+			.thenApply(records -> {
+				savedIds.read(records.stream().map(Record::asMap).collect(toList()));
+				if (entityMetaData.hasVersionProperty()) {
+					List<Object> idsOfUnsavedEntities = savedIds
+						.getIdsOfUnsavedEntities(entityMetaData, entitiesToBeSaved);
+					if (!idsOfUnsavedEntities.isEmpty()) {
+						throw new OptimisticLockingFailureException(
+							String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities));
+					}
+				}
+
+				List<T> savedEntities = entityMetaData.isUsingInternalIds()
+					? savedIds.applyTo(entityMetaData, entitiesToBeSaved)
+					: entitiesToBeSaved;
+				addAll(savedNodes, savedEntities, savedIds.getInternalIds());
+				return savedEntities;
+			});
+
+		return savedRoots.thenCompose(savedEntities ->
+			processAssociations(queryRunner, entityMetaData, savedEntities, savedNodes)
+				.thenApply(v -> savedEntities));
+	}
+
+	private static void addAll(SavedNodes savedNodes, List<?> savedEntities, List<Long> internalIds) {
+
+		for (int i = 0; i < savedEntities.size(); ++i) {
+			savedNodes.add(savedEntities.get(i), internalIds.get(i));
+		}
+	}
+
+	@Override
+	public <T> CompletionStage<Void> deleteById(Object id, Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "id";
+		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
+
+		log.debug(() -> String.format("Deleting entity with id %s ", id));
+
+		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
+		return neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.bind(id).to(nameOfParameter)
+			.run()
+			.thenAccept(AsyncNeo4jTemplate::logDeleteSummary);
+	}
+
+	@Override
+	public <T> CompletionStage<Void> deleteAllById(Iterable<?> ids, Class<T> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "ids";
+		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
+
+		log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
+
+		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
+		return neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.bind(ids).to(nameOfParameter)
+			.run()
+			.thenAccept(AsyncNeo4jTemplate::logDeleteSummary);
+	}
+
+	@Override
+	public CompletionStage<Void> deleteAll(Class<?> domainType) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
+
+		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
+		return neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.run()
+			.thenAccept(AsyncNeo4jTemplate::logDeleteSummary);
+	}
+
+	private static void logDeleteSummary(ResultSummary summary) {
+
+		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
+			summary.counters().relationshipsDeleted()));
+	}
+
+	private CompletionStage<Void> processAssociations(AsyncQueryRunner queryRunner,
+		Neo4jPersistentEntity<?> neo4jPersistentEntity, List<?> parentObjects, SavedNodes savedNodes) {
+
+		if (levelOrderSaves) {
+			return processAssociationsInLevelOrder(queryRunner, parentObjects, new HashSet<>(), savedNodes);
+		}
+		return forEachSequentially(parentObjects, parentObject -> processNestedAssociations(queryRunner,
+			neo4jPersistentEntity, parentObject, new HashSet<>(), savedNodes));
+	}
+
+	/**
+	 * Saves the related nodes of all parents breadth first, one level after another.
+	 */
+	private CompletionStage<Void> processAssociationsInLevelOrder(AsyncQueryRunner queryRunner, List<?> parentObjects,
+		Set<RelationshipDescription> processedRelationshipDescriptions, SavedNodes savedNodes) {
+
+		if (parentObjects.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		NestedRelationshipLevel level = nestedRelationshipPlanner.collectLevel(parentObjects,
+			processedRelationshipDescriptions, savedNodes, eventSupport::maybeCallBeforeBind);
+		return saveLevel(queryRunner, level, savedNodes).thenCompose(savedValues ->
+			processAssociationsInLevelOrder(queryRunner, savedValues, processedRelationshipDescriptions, savedNodes));
+	}
+
+	/**
+	 * Writes one level and returns the nodes that have been saved on it, which are the parents of the next level.
+	 */
+	private CompletionStage<List<Object>> saveLevel(AsyncQueryRunner queryRunner, NestedRelationshipLevel level,
+		SavedNodes savedNodes) {
+
+		List<Object> savedValues = new ArrayList<>();
+		return forEachSequentially(new ArrayList<>(level.getRelationshipsToRemove()), relationships ->
+			execute(queryRunner, renderer.render(relationships.getStatement()),
+				singletonMap(NAME_OF_IDS, relationships.getFromIds()))
+				.thenApply(summary -> (Void) null))
+			.thenCompose(v -> forEachSequentially(new ArrayList<>(level.getValuesToBeSaved().entrySet()), entry -> {
+				Neo4jPersistentEntity<?> targetNodeDescription = entry.getKey();
+				List<Object> unsavedValues = savedNodes.getUnsaved(entry.getValue());
+				return saveNodesOfLevel(queryRunner, targetNodeDescription, unsavedValues)
+					.thenAccept(internalIds -> {
+						NestedRelationshipPlanner
+							.markAsSaved(targetNodeDescription, unsavedValues, internalIds, savedNodes);
+						savedValues.addAll(unsavedValues);
+					});
+			}))
+			.thenCompose(v -> forEachSequentially(new ArrayList<>(level.getRelationshipsToCreate()), relationships ->
+				execute(queryRunner, renderer.render(relationships.getStatement()),
+					singletonMap(NAME_OF_ENTITY_LIST_PARAM, relationships.getRows(neo4jMappingContext, savedNodes)))
+					.thenApply(summary -> (Void) null)))
+			.thenApply(v -> savedValues);
+	}
+
+	private CompletionStage<List<Long>> saveNodesOfLevel(AsyncQueryRunner queryRunner,
+		Neo4jPersistentEntity<?> targetNodeDescription, List<Object> valuesToBeSaved) {
+
+		if (valuesToBeSaved.isEmpty()) {
+			return CompletableFuture.completedFuture(emptyList());
+		}
+
+		Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+			.getRequiredBinderFunctionFor((Class<Object>) targetNodeDescription.getType());
+		List<Map<String, Object>> entityList = valuesToBeSaved.stream().map(binderFunction).collect(toList());
+		String cypher = renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(targetNodeDescription));
+
+		SavedIds savedIds = SavedIds.of(entityList);
+		return fetch(queryRunner, cypher, singletonMap(NAME_OF_ENTITY_LIST_PARAM, savedIds.getRows()))
+			.thenApply(records -> {
+				savedIds.read(records.stream().map(Record::asMap).collect(toList()));
+				if (targetNodeDescription.hasVersionProperty()) {
+					List<Object> idsOfUnsavedEntities = savedIds
+						.getIdsOfUnsavedEntities(targetNodeDescription, valuesToBeSaved);
+					if (!idsOfUnsavedEntities.isEmpty()) {
+						throw new OptimisticLockingFailureException(
+							String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities));
+					}
+				}
+				return savedIds.getInternalIds();
+			});
+	}
+
+	private CompletionStage<Void> processNestedAssociations(AsyncQueryRunner queryRunner,
+		Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
+		Set<RelationshipDescription> processedRelationshipDescriptions, SavedNodes savedNodes) {
+
+		PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
+		Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
+
+		// The associations are processed one after another, as they depend on the nodes saved before
+		List<Association<Neo4jPersistentProperty>> associations = new ArrayList<>();
+		neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) associations::add);
+
+		return forEachSequentially(associations, handler -> nestedRelationshipPlanner
+			.getContextToProcess(handler, propertyAccessor, neo4jPersistentEntity, processedRelationshipDescriptions)
+			.map(relationshipContext -> processAssociation(queryRunner, neo4jPersistentEntity, parentObject, fromId,
+				relationshipContext, processedRelationshipDescriptions, savedNodes))
+			.orElseGet(() -> CompletableFuture.completedFuture(null)));
+	}
+
+	private CompletionStage<Void> processAssociation(AsyncQueryRunner queryRunner,
+		Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject, Object fromId,
+		NestedRelationshipContext relationshipContext, Set<RelationshipDescription> processedRelationshipDescriptions,
+		SavedNodes savedNodes) {
+
+		Neo4jPersistentEntity<?> relationshipsToRemoveDescription = neo4jMappingContext
+			.getPersistentEntity(relationshipContext.getAssociationTargetType());
+
+		CompletionStage<ExistingRelationships> existingRelationshipsStage;
+		if (neo4jPersistentEntity.isNew(parentObject)) {
+			existingRelationshipsStage = CompletableFuture.completedFuture(ExistingRelationships.empty());
+		} else if (synchronizeRelationships) {
+			// only write the difference between the existing and the new relationships
+			Statement relationshipMatchQuery = cypherGenerator.createRelationshipMatchQuery(
+				neo4jPersistentEntity, relationshipContext.getRelationship(), relationshipsToRemoveDescription);
+
+			existingRelationshipsStage = fetch(queryRunner, renderer.render(relationshipMatchQuery),
+				singletonMap(FROM_ID_PARAMETER_NAME, fromId))
+				.thenApply(records -> ExistingRelationships.of(records.stream().map(Record::asMap).collect(toList())));
+		} else {
+			// remove all relationships before creating all new if the entity is not new
+			Statement relationshipRemoveQuery = cypherGenerator.createRelationshipRemoveQuery(
+				neo4jPersistentEntity, relationshipContext.getRelationship(), relationshipsToRemoveDescription);
+
+			existingRelationshipsStage = execute(queryRunner, renderer.render(relationshipRemoveQuery),
+				singletonMap(FROM_ID_PARAMETER_NAME, fromId))
+				.thenApply(summary -> ExistingRelationships.empty());
+		}
+
+		return existingRelationshipsStage.thenCompose(existingRelationships -> {
+
+			// nothing to do because there is nothing to map
+			if (relationshipContext.inverseValueIsEmpty()) {
+				return deleteRelationships(queryRunner, existingRelationships.getObsoleteRelationshipIds());
+			}
+
+			processedRelationshipDescriptions.add(relationshipContext.getRelationship());
+
+			List<Object> relatedValues = NestedRelationshipPlanner.getRelatedValues(relationshipContext);
+			List<Object> valuesToBeSaved = NestedRelationshipPlanner.getValuesToBeSaved(relationshipContext,
+				relatedValues, savedNodes, new IdentityHashMap<>(), eventSupport::maybeCallBeforeBind);
+
+			List<NestedRelationshipBatch> batches = NestedRelationshipBatch
+				.of(neo4jMappingContext, relationshipContext, relatedValues, valuesToBeSaved, batchSize);
+
+			return forEachSequentially(batches, batch -> {
+
+				Neo4jPersistentEntity<?> targetNodeDescription = batch.getTargetNodeDescription();
+				List<Object> unsavedValues = savedNodes.getUnsaved(batch.getValuesToBeSaved());
+
+				return saveRelatedNodes(queryRunner, targetNodeDescription, unsavedValues,
+					relationshipContext.getAssociationTargetType())
+					.thenCompose(internalIdsOfUnsavedValues -> {
+						NestedRelationshipPlanner
+							.markAsSaved(targetNodeDescription, unsavedValues, internalIdsOfUnsavedValues, savedNodes);
+
+						// handle creation of relationship depending on properties on relationship or not
+						CompletionStage<Void> relationshipCreation = nestedRelationshipPlanner
+							.createStatementForRelationships(neo4jPersistentEntity, relationshipContext, batch,
+								existingRelationships, savedNodes)
+							.map(statementHolder -> {
+								Map<String, Object> parameters = new HashMap<>(statementHolder.getProperties());
+								parameters.put(FROM_ID_PARAMETER_NAME, fromId);
+								return execute(queryRunner,
+									renderer.render(statementHolder.getRelationshipCreationQuery()), parameters)
+									.thenApply(summary -> (Void) null);
+							})
+							.orElseGet(() -> CompletableFuture.completedFuture(null));
+
+						return relationshipCreation.thenCompose(v -> forEachSequentially(unsavedValues,
+							valueToBeSaved -> processNestedAssociations(queryRunner, targetNodeDescription,
+								valueToBeSaved, processedRelationshipDescriptions, savedNodes)));
+					});
+			}).thenCompose(v -> deleteRelationships(queryRunner, existingRelationships.getObsoleteRelationshipIds()));
+		});
+	}
+
+	private CompletionStage<Void> deleteRelationships(AsyncQueryRunner queryRunner, Collection<Long> relationshipIds) {
+
+		if (relationshipIds.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		return execute(queryRunner, renderer.render(cypherGenerator.createRelationshipDeleteByIdQuery()),
+			singletonMap(NAME_OF_IDS, relationshipIds))
+			.thenApply(summary -> null);
+	}
+
+	private <Y> CompletionStage<List<Long>> saveRelatedNodes(AsyncQueryRunner queryRunner,
+		Neo4jPersistentEntity<?> targetNodeDescription, List<Object> valuesToBeSaved, Class<Y> entityType) {
+
+		if (valuesToBeSaved.isEmpty()) {
+			return CompletableFuture.completedFuture(emptyList());
+		}
+
+		Function<Y, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(entityType);
+		if (NestedRelationshipPlanner.isSavedOneByOne(targetNodeDescription, valuesToBeSaved)) {
+
+			String cypher = renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription));
+			List<Long> internalIds = new ArrayList<>(valuesToBeSaved.size());
+			return forEachSequentially(valuesToBeSaved, valueToBeSaved ->
+				fetch(queryRunner, cypher, binderFunction.apply((Y) valueToBeSaved)).thenAccept(records ->
+					internalIds.add(NestedRelationshipPlanner.getInternalIdOfSavedNode(targetNodeDescription,
+						records.stream().findFirst().map(r -> r.get(0).asLong())))))
+				.thenApply(v -> internalIds);
+		}
+
+		List<Map<String, Object>> entityList = valuesToBeSaved.stream()
+			.map(valueToBeSaved -> binderFunction.apply((Y) valueToBeSaved)).collect(toList());
+
+		SavedIds savedIds = SavedIds.of(entityList);
+		return fetch(queryRunner, renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(targetNodeDescription)),
+			singletonMap(NAME_OF_ENTITY_LIST_PARAM, savedIds.getRows()))
+			.thenApply(records -> savedIds.read(records.stream().map(Record::asMap).collect(toList()))
+				.getInternalIds());
+	}
+
+	/**
+	 * Applies the given action to all elements, starting the action for an element only after the action for the
+	 * previous element completed. All actions share the transaction of one query runner, which doesn't allow
+	 * concurrent queries.
+	 */
+	private static <E> CompletionStage<Void> forEachSequentially(List<E> elements,
+		Function<E, CompletionStage<Void>> action) {
+
+		CompletionStage<Void> result = CompletableFuture.completedFuture(null);
+		for (E element : elements) {
+			result = result.thenCompose(v -> action.apply(element));
+		}
+		return result;
+	}
+
+	private static CompletionStage<List<Record>> fetch(AsyncQueryRunner queryRunner, String cypher,
+		Map<String, Object> parameters) {
+
+		return run(queryRunner, cypher, parameters).thenCompose(ResultCursor::listAsync);
+	}
+
+	private static CompletionStage<ResultSummary> execute(AsyncQueryRunner queryRunner, String cypher,
+		Map<String, Object> parameters) {
+
+		return run(queryRunner, cypher, parameters).thenCompose(ResultCursor::consumeAsync);
+	}
+
+	private static CompletionStage<ResultCursor> run(AsyncQueryRunner queryRunner, String cypher,
+		Map<String, Object> parameters) {
+
+		AsyncNeo4jClient.cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), cypher));
+		return queryRunner.runAsync(cypher, parameters);
+	}
+
+	private String getDatabaseName() {
+
+		return this.databaseSelectionProvider.getDatabaseSelection().getValue();
+	}
+
+	/**
+	 * Configures how relationships of entities that are not new are updated. By default, all relationships of an
+	 * association are deleted and recreated on each save. When set to {@literal true}, the existing relationships are
+	 * fetched first and only the relationships that have been removed, added or changed are written.
+	 *
+	 * @param synchronizeRelationships Flag, whether to write only the difference of the relationships
+	 * @since 1.0.1
+	 */
+	public void setSynchronizeRelationships(boolean synchronizeRelationships) {
+		this.synchronizeRelationships = synchronizeRelationships;
+	}
+
+	/**
+	 * Configures how many related nodes and relationships of an entity are written together. With the default of
+	 * {@literal 1}, each related node and each relationship is written with a dedicated statement.
+	 *
+	 * @param batchSize The maximum number of related nodes respectively relationships written with one statement
+	 * @since 1.0.1
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the order in which the related nodes of saved entities are written. When set to {@literal true}, all
+	 * related nodes of one depth level are saved with one statement per entity type, followed by one statement per
+	 * kind of relationship, as with {@link Neo4jTemplate#setLevelOrderSaves(boolean)}.
+	 *
+	 * @param levelOrderSaves Flag, whether to save related nodes level by level
+	 * @since 1.0.1
+	 */
+	public void setLevelOrderSaves(boolean levelOrderSaves) {
+		this.levelOrderSaves = levelOrderSaves;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		this.eventSupport = new Neo4jEvents(EntityCallbacks.create(beanFactory));
+	}
+
+	/**
+	 * Utility class that orchestrates {@link EntityCallbacks}.
+	 * All the methods provided here check for their availability and do nothing when an event cannot be published.
+	 */
+	final class Neo4jEvents {
+
+		private final EntityCallbacks entityCallbacks;
+
+		Neo4jEvents(EntityCallbacks entityCallbacks) {
+			this.entityCallbacks = entityCallbacks;
+		}
+
+		public <T> T maybeCallBeforeBind(T object) {
+			return entityCallbacks.callback(BeforeBindCallback.class, object);
+		}
+	}
+}
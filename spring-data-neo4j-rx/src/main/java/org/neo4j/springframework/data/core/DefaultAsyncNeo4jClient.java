@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.Neo4jClient.*;
+import static org.neo4j.springframework.data.core.transaction.Neo4jTransactionUtils.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.async.AsyncQueryRunner;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.repository.support.Neo4jPersistenceExceptionTranslator;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link AsyncNeo4jClient}. Each query runs in a dedicated session and transaction.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+class DefaultAsyncNeo4jClient implements AsyncNeo4jClient {
+
+	private final Driver driver;
+	private final TypeSystem typeSystem;
+	private final ConversionService conversionService;
+	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+
+	DefaultAsyncNeo4jClient(Driver driver) {
+
+		this.driver = driver;
+		this.typeSystem = driver.defaultTypeSystem();
+
+		this.conversionService = new DefaultConversionService();
+		new Neo4jConversions().registerConvertersIn((ConverterRegistry) conversionService);
+	}
+
+	/**
+	 * Runs the given function inside a new transaction, that is committed when the stage returned by the function
+	 * completes normally and rolled back otherwise. The session is closed in both cases.
+	 */
+	<T> CompletionStage<T> doInQueryRunner(@Nullable String targetDatabase,
+		Function<AsyncQueryRunner, CompletionStage<T>> func) {
+
+		AsyncSession session = driver.asyncSession(defaultSessionConfig(targetDatabase));
+		return session.beginTransactionAsync()
+			.thenCompose(tx -> applySafely(func, tx)
+				.handle((result, error) -> error == null
+					? tx.commitAsync().thenApply(v -> result)
+					: tx.rollbackAsync().handle((v, rollbackError) -> DefaultAsyncNeo4jClient.<T>rethrow(error)))
+				.thenCompose(Function.identity()))
+			.handle((result, error) -> session.closeAsync()
+				.thenApply(v -> error == null ? result : DefaultAsyncNeo4jClient.<T>rethrow(error)))
+			.thenCompose(Function.identity());
+	}
+
+	private static <T> CompletionStage<T> applySafely(Function<AsyncQueryRunner, CompletionStage<T>> func,
+		AsyncQueryRunner queryRunner) {
+
+		try {
+			return func.apply(queryRunner);
+		} catch (RuntimeException e) {
+			CompletableFuture<T> failedStage = new CompletableFuture<>();
+			failedStage.completeExceptionally(e);
+			return failedStage;
+		}
+	}
+
+	private static <T> T rethrow(Throwable error) {
+
+		throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+	}
+
+	/**
+	 * Tries to convert the cause of the given exception into a {@link DataAccessException}.
+	 *
+	 * @param error The error with which a stage completed
+	 * @return An exception that can be rethrown from a stage
+	 */
+	private CompletionException potentiallyConvertException(Throwable error) {
+
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		if (cause instanceof RuntimeException) {
+			RuntimeException resolved = persistenceExceptionTranslator
+				.translateExceptionIfPossible((RuntimeException) cause);
+			if (resolved != null) {
+				cause = resolved;
+			}
+		}
+		return new CompletionException(cause);
+	}
+
+	private <T> CompletionStage<T> withTranslatedExceptions(CompletionStage<T> stage) {
+
+		return stage.handle((result, error) -> {
+			if (error != null) {
+				throw potentiallyConvertException(error);
+			}
+			return result;
+		});
+	}
+
+	@Override
+	public RunnableSpec query(String cypher) {
+		return query(() -> cypher);
+	}
+
+	@Override
+	public RunnableSpec query(Supplier<String> cypherSupplier) {
+		return new DefaultRunnableSpec(cypherSupplier);
+	}
+
+	@Override
+	public <T> OngoingDelegation<T> delegateTo(Function<AsyncQueryRunner, CompletionStage<T>> callback) {
+		return new DefaultRunnableDelegation<>(callback);
+	}
+
+	/**
+	 * Basically a holder of a cypher template supplier and a set of named parameters. It's main purpose is to
+	 * orchestrate the running of things with a bit of logging.
+	 */
+	class RunnableStatement {
+
+		private final Supplier<String> cypherSupplier;
+
+		private final NamedParameters parameters = new NamedParameters();
+
+		RunnableStatement(Supplier<String> cypherSupplier) {
+			this.cypherSupplier = cypherSupplier;
+		}
+
+		CompletionStage<ResultCursor> runWith(AsyncQueryRunner queryRunner) {
+
+			String statementTemplate = cypherSupplier.get();
+
+			if (cypherLog.isDebugEnabled()) {
+				cypherLog.debug(() -> String.format("Executing:%s%s", System.lineSeparator(), statementTemplate));
+
+				if (cypherLog.isTraceEnabled() && !parameters.isEmpty()) {
+					cypherLog.trace(() -> String.format("with parameters:%s%s", System.lineSeparator(), parameters));
+				}
+			}
+
+			return queryRunner.runAsync(statementTemplate, parameters.get());
+		}
+	}
+
+	class DefaultRunnableSpec implements RunnableSpec {
+
+		private final RunnableStatement runnableStatement;
+
+		private String targetDatabase;
+
+		DefaultRunnableSpec(Supplier<String> cypherSupplier) {
+			this.runnableStatement = new RunnableStatement(cypherSupplier);
+		}
+
+		@Override
+		public RunnableSpecTightToDatabase in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		class DefaultOngoingBindSpec<T> implements OngoingBindSpec<T, RunnableSpecTightToDatabase> {
+
+			@Nullable
+			private final T value;
+
+			DefaultOngoingBindSpec(@Nullable T value) {
+				this.value = value;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase to(String name) {
+
+				DefaultRunnableSpec.this.runnableStatement.parameters.add(name, value);
+				return DefaultRunnableSpec.this;
+			}
+
+			@Override
+			public RunnableSpecTightToDatabase with(Function<T, Map<String, Object>> binder) {
+
+				Assert.notNull(binder, "Binder is required.");
+
+				return bindAll(binder.apply(value));
+			}
+		}
+
+		@Override
+		public OngoingBindSpec<?, RunnableSpecTightToDatabase> bind(@Nullable Object value) {
+			return new DefaultOngoingBindSpec(value);
+		}
+
+		@Override
+		public RunnableSpecTightToDatabase bindAll(Map<String, Object> newParameters) {
+			this.runnableStatement.parameters.addAll(newParameters);
+			return this;
+		}
+
+		@Override
+		public <T> MappingSpec<T> fetchAs(Class<T> targetClass) {
+
+			return new DefaultRecordFetchSpec(this.targetDatabase, this.runnableStatement,
+				new SingleValueMappingFunction(conversionService, targetClass));
+		}
+
+		@Override
+		public RecordFetchSpec<Map<String, Object>> fetch() {
+
+			return new DefaultRecordFetchSpec<>(
+				this.targetDatabase,
+				this.runnableStatement, (t, r) -> r.asMap());
+		}
+
+		@Override
+		public CompletionStage<ResultSummary> run() {
+
+			return withTranslatedExceptions(doInQueryRunner(this.targetDatabase,
+				queryRunner -> runnableStatement.runWith(queryRunner).thenCompose(ResultCursor::consumeAsync)));
+		}
+	}
+
+	class DefaultRecordFetchSpec<T> implements RecordFetchSpec<T>, MappingSpec<T> {
+
+		private final String targetDatabase;
+
+		private final RunnableStatement runnableStatement;
+
+		private BiFunction<TypeSystem, Record, T> mappingFunction;
+
+		DefaultRecordFetchSpec(String targetDatabase, RunnableStatement runnableStatement,
+			BiFunction<TypeSystem, Record, T> mappingFunction) {
+			this.targetDatabase = targetDatabase;
+			this.runnableStatement = runnableStatement;
+			this.mappingFunction = mappingFunction;
+		}
+
+		@Override
+		public RecordFetchSpec<T> mappedBy(
+			@SuppressWarnings("HiddenField") BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+			this.mappingFunction = new DelegatingMappingFunctionWithNullCheck<>(mappingFunction);
+			return this;
+		}
+
+		@Override
+		public CompletionStage<Optional<T>> one() {
+
+			return withTranslatedExceptions(doInQueryRunner(this.targetDatabase,
+				queryRunner -> runnableStatement.runWith(queryRunner)
+					.thenCompose(cursor -> cursor.listAsync(r -> mappingFunction.apply(typeSystem, r)))
+					.thenApply(result -> {
+						if (result.size() > 1) {
+							throw new NoSuchRecordException(String.format(
+								"Expected a result with a single record, but this summary contains at least one more. "
+									+ "Ensure your query returns only one record."));
+						}
+						return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+					})));
+		}
+
+		@Override
+		public CompletionStage<Optional<T>> first() {
+
+			return withTranslatedExceptions(doInQueryRunner(this.targetDatabase,
+				queryRunner -> runnableStatement.runWith(queryRunner)
+					.thenCompose(cursor -> cursor.nextAsync()
+						.thenCompose(record -> cursor.consumeAsync()
+							.thenApply(summary -> Optional.ofNullable(record)
+								.map(r -> mappingFunction.apply(typeSystem, r)))))));
+		}
+
+		@Override
+		public CompletionStage<Collection<T>> all() {
+
+			return withTranslatedExceptions(doInQueryRunner(this.targetDatabase,
+				queryRunner -> runnableStatement.runWith(queryRunner)
+					.thenCompose(cursor -> cursor.listAsync(r -> mappingFunction.apply(typeSystem, r)))
+					.thenApply(Function.identity())));
+		}
+	}
+
+	class DefaultRunnableDelegation<T> implements RunnableDelegation<T>, OngoingDelegation<T> {
+
+		private final Function<AsyncQueryRunner, CompletionStage<T>> callback;
+
+		@Nullable private String targetDatabase;
+
+		DefaultRunnableDelegation(Function<AsyncQueryRunner, CompletionStage<T>> callback) {
+			this.callback = callback;
+		}
+
+		@Override
+		public RunnableDelegation<T> in(@Nullable @SuppressWarnings("HiddenField") String targetDatabase) {
+
+			this.targetDatabase = verifyDatabaseName(targetDatabase);
+			return this;
+		}
+
+		@Override
+		public CompletionStage<T> run() {
+			return withTranslatedExceptions(doInQueryRunner(targetDatabase, callback));
+		}
+	}
+}
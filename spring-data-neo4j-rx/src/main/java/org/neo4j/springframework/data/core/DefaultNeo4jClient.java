@@ -29,12 +29,17 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.QueryRunner;
@@ -89,6 +94,25 @@ class DefaultNeo4jClient implements Neo4jClient {
 			new AutoCloseableQueryRunnerHandler(queryRunner));
 	}
 
+	/**
+	 * Runs the given work in a new session and an explicit transaction of its own, regardless of any transaction bound
+	 * to the calling thread. The transaction is committed when the work returns and rolled back when it fails.
+	 *
+	 * @param targetDatabase The database to write to, {@literal null} for the default database
+	 * @param work           The work to run in the transaction
+	 * @param <T>            The type of the result of the work
+	 * @return The result of the work
+	 * @since 1.0.1
+	 */
+	<T> T writeInNewTransaction(@Nullable String targetDatabase, Function<QueryRunner, T> work) {
+
+		try (Session session = driver.session(defaultSessionConfig(targetDatabase))) {
+			return session.writeTransaction(work::apply);
+		} catch (RuntimeException e) {
+			throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+		}
+	}
+
 	/**
 	 * Makes a query runner automatically closeable and aware whether it's session or a transaction
 	 */
@@ -331,6 +355,41 @@ class DefaultNeo4jClient implements Neo4jClient {
 			}
 		}
 
+		@Override
+		public Stream<T> stream() {
+
+			AutoCloseableQueryRunner statementRunner = getQueryRunner(this.targetDatabase);
+			try {
+				Result result = runnableStatement.runWith(statementRunner);
+				Iterator<Record> records = new Iterator<Record>() {
+					@Override
+					public boolean hasNext() {
+						try {
+							return result.hasNext();
+						} catch (RuntimeException e) {
+							throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+						}
+					}
+
+					@Override
+					public Record next() {
+						try {
+							return result.next();
+						} catch (RuntimeException e) {
+							throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+						}
+					}
+				};
+				return StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false)
+					.map(partialMappingFunction(typeSystem))
+					.onClose(statementRunner::close);
+			} catch (RuntimeException e) {
+				statementRunner.close();
+				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+			}
+		}
+
 		/**
 		 * @param typeSystem The actual type system
 		 * @return The partially evaluated mapping function
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.SummaryCounters;
+
+/**
+ * The progress of a delete operation that is executed in batches. An instance is published after each batch has been
+ * committed and contains the numbers of that batch as well as the accumulated numbers of all batches so far.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public final class DeleteProgress {
+
+	private static final DeleteProgress NONE = new DeleteProgress(0, 0, 0, 0, 0);
+
+	private final int batches;
+
+	private final int nodesDeletedInBatch;
+
+	private final int relationshipsDeletedInBatch;
+
+	private final long nodesDeleted;
+
+	private final long relationshipsDeleted;
+
+	/**
+	 * @return The progress before the first batch has been executed.
+	 */
+	public static DeleteProgress none() {
+		return NONE;
+	}
+
+	private DeleteProgress(int batches, int nodesDeletedInBatch, int relationshipsDeletedInBatch, long nodesDeleted,
+		long relationshipsDeleted) {
+
+		this.batches = batches;
+		this.nodesDeletedInBatch = nodesDeletedInBatch;
+		this.relationshipsDeletedInBatch = relationshipsDeletedInBatch;
+		this.nodesDeleted = nodesDeleted;
+		this.relationshipsDeleted = relationshipsDeleted;
+	}
+
+	/**
+	 * Creates the progress after another batch has been executed.
+	 *
+	 * @param counters The counters of the batch
+	 * @return The new progress
+	 */
+	DeleteProgress add(SummaryCounters counters) {
+
+		return new DeleteProgress(batches + 1, counters.nodesDeleted(), counters.relationshipsDeleted(),
+			nodesDeleted + counters.nodesDeleted(), relationshipsDeleted + counters.relationshipsDeleted());
+	}
+
+	/**
+	 * @return The number of batches executed so far
+	 */
+	public int getBatches() {
+		return batches;
+	}
+
+	/**
+	 * @return The number of nodes deleted in the last batch
+	 */
+	public int getNodesDeletedInBatch() {
+		return nodesDeletedInBatch;
+	}
+
+	/**
+	 * @return The number of relationships deleted in the last batch
+	 */
+	public int getRelationshipsDeletedInBatch() {
+		return relationshipsDeletedInBatch;
+	}
+
+	/**
+	 * @return The number of nodes deleted in all batches so far
+	 */
+	public long getNodesDeleted() {
+		return nodesDeleted;
+	}
+
+	/**
+	 * @return The number of relationships deleted in all batches so far
+	 */
+	public long getRelationshipsDeleted() {
+		return relationshipsDeleted;
+	}
+
+	@Override
+	public String toString() {
+		return "DeleteProgress{" +
+			"batches=" + batches +
+			", nodesDeleted=" + nodesDeleted +
+			", relationshipsDeleted=" + relationshipsDeleted +
+			'}';
+	}
+}
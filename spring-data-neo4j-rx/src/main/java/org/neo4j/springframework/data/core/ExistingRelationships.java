@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.types.Relationship;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.lang.Nullable;
+
+/**
+ * The relationships of one kind that exist in the database for a node that is about to be updated. Each relationship
+ * that should still exist after the update is retained, all others are obsolete and can be deleted afterwards.
+ * This allows the templates to write only the difference between the stored and the new state of an association
+ * instead of recreating all of its relationships.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class ExistingRelationships {
+
+	/**
+	 * The existing relationships, indexed by the internal id of the related node and their type.
+	 */
+	private final Map<List<Object>, Deque<Relationship>> relationshipsByTarget = new HashMap<>();
+
+	/**
+	 * The ids of all relationships that haven't been retained so far.
+	 */
+	private final Set<Long> obsoleteRelationshipIds = new LinkedHashSet<>();
+
+	private ExistingRelationships() {
+	}
+
+	/**
+	 * @return An instance that doesn't know about any relationship, so that all relationships are considered to be new.
+	 */
+	static ExistingRelationships empty() {
+		return new ExistingRelationships();
+	}
+
+	/**
+	 * @param rows The rows returned by {@link org.neo4j.springframework.data.core.schema.CypherGenerator#createRelationshipMatchQuery}
+	 * @return The existing relationships contained in the rows
+	 */
+	static ExistingRelationships of(Collection<Map<String, Object>> rows) {
+
+		ExistingRelationships existingRelationships = new ExistingRelationships();
+		for (Map<String, Object> row : rows) {
+			Relationship relationship = (Relationship) row.get(RelationshipDescription.NAME_OF_RELATIONSHIP);
+			Long relatedInternalId = (Long) row.get(NAME_OF_INTERNAL_ID);
+
+			existingRelationships.relationshipsByTarget
+				.computeIfAbsent(Arrays.asList(relatedInternalId, relationship.type()), k -> new ArrayDeque<>())
+				.add(relationship);
+			existingRelationships.obsoleteRelationshipIds.add(relationship.id());
+		}
+		return existingRelationships;
+	}
+
+	/**
+	 * Retains the relationship of the given type to the given node and checks whether it needs to be written.
+	 *
+	 * @param relatedInternalId The internal id of the related node
+	 * @param type              The type of the relationship
+	 * @param properties        The properties the relationship should have, {@literal null} if the properties should
+	 *                          not be compared
+	 * @return True, if the relationship doesn't exist yet or its properties are different
+	 */
+	boolean retainAndCheckForChanges(Long relatedInternalId, String type, @Nullable Map<String, Object> properties) {
+
+		Deque<Relationship> candidates = relationshipsByTarget
+			.getOrDefault(Arrays.asList(relatedInternalId, type), new ArrayDeque<>());
+		if (candidates.isEmpty()) {
+			return true;
+		}
+
+		// Additional relationships between the same nodes are left in the obsolete set.
+		Relationship relationship = candidates.peekFirst();
+		obsoleteRelationshipIds.remove(relationship.id());
+
+		return properties != null && !withoutNullValues(properties)
+			.equals(relationship.asMap(Function.identity()));
+	}
+
+	/**
+	 * @return The ids of all relationships that have not been retained
+	 */
+	Collection<Long> getObsoleteRelationshipIds() {
+		return Collections.unmodifiableSet(obsoleteRelationshipIds);
+	}
+
+	private static Map<String, Object> withoutNullValues(Map<String, Object> properties) {
+
+		Map<String, Object> result = new HashMap<>(properties.size());
+		properties.forEach((k, v) -> {
+			if (v != null && !Values.NULL.equals(v)) {
+				result.put(k, v instanceof Value ? v : Values.value(v));
+			}
+		});
+		return result;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.SummaryCounters;
+
+/**
+ * The statistics of a bulk import, accumulated from the counters of all chunks that have been committed.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public final class ImportStatistics {
+
+	private static final ImportStatistics EMPTY = new ImportStatistics(0, 0, 0, 0, 0);
+
+	private final int chunks;
+
+	private final long entities;
+
+	private final long nodesCreated;
+
+	private final long propertiesSet;
+
+	private final long labelsAdded;
+
+	/**
+	 * @return The statistics of an import that didn't commit any chunk yet.
+	 */
+	public static ImportStatistics empty() {
+		return EMPTY;
+	}
+
+	private ImportStatistics(int chunks, long entities, long nodesCreated, long propertiesSet, long labelsAdded) {
+
+		this.chunks = chunks;
+		this.entities = entities;
+		this.nodesCreated = nodesCreated;
+		this.propertiesSet = propertiesSet;
+		this.labelsAdded = labelsAdded;
+	}
+
+	/**
+	 * Creates the statistics of a single chunk.
+	 *
+	 * @param entities The number of entities in the chunk
+	 * @param counters The counters of the statement that wrote the chunk
+	 * @return The statistics of the chunk
+	 */
+	static ImportStatistics ofChunk(int entities, SummaryCounters counters) {
+
+		return new ImportStatistics(1, entities, counters.nodesCreated(), counters.propertiesSet(),
+			counters.labelsAdded());
+	}
+
+	/**
+	 * @param other The statistics to add to these
+	 * @return The combined statistics
+	 */
+	ImportStatistics merge(ImportStatistics other) {
+
+		return new ImportStatistics(chunks + other.chunks, entities + other.entities,
+			nodesCreated + other.nodesCreated, propertiesSet + other.propertiesSet, labelsAdded + other.labelsAdded);
+	}
+
+	/**
+	 * @return The number of committed chunks
+	 */
+	public int getChunks() {
+		return chunks;
+	}
+
+	/**
+	 * @return The number of entities in all committed chunks
+	 */
+	public long getEntities() {
+		return entities;
+	}
+
+	/**
+	 * @return The number of nodes created
+	 */
+	public long getNodesCreated() {
+		return nodesCreated;
+	}
+
+	/**
+	 * @return The number of properties set
+	 */
+	public long getPropertiesSet() {
+		return propertiesSet;
+	}
+
+	/**
+	 * @return The number of labels added
+	 */
+	public long getLabelsAdded() {
+		return labelsAdded;
+	}
+
+	@Override
+	public String toString() {
+		return "ImportStatistics{" +
+			"chunks=" + chunks +
+			", entities=" + entities +
+			", nodesCreated=" + nodesCreated +
+			", propertiesSet=" + propertiesSet +
+			", labelsAdded=" + labelsAdded +
+			'}';
+	}
+}
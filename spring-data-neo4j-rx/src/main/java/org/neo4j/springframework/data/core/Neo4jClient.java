@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -214,6 +215,16 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Fetches all records lazily. The records are mapped while the stream is consumed, as the driver pulls them from
+		 * the server. The stream must be closed after use, which closes the session that has been opened for it. When
+		 * the query participates in an ongoing transaction, the stream must be consumed before the transaction ends.
+		 *
+		 * @return A stream of all records.
+		 * @since 1.0.1
+		 */
+		Stream<T> stream();
 	}
 
 	/**
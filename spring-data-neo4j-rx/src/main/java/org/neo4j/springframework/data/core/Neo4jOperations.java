@@ -21,11 +21,17 @@ package org.neo4j.springframework.data.core;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.neo4j.springframework.data.repository.NoResultException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 /**
  * Specifies operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -88,6 +94,18 @@ public interface Neo4jOperations {
 	 */
 	<T> List<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all entities of a given type, fetching their relationships according to the given options. Relationships
+	 * not fetched are loaded on first access.
+	 *
+	 * @param domainType   the type of the entities. Must not be {@code null}.
+	 * @param fetchOptions the options describing the relationships to fetch. Must not be {@code null}.
+	 * @param <T>          the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 1.0.1
+	 */
+	<T> List<T> findAll(Class<T> domainType, FetchOptions fetchOptions);
+
 	/**
 	 * Load all entities of a given type by executing given statement.
 	 *
@@ -162,6 +180,19 @@ public interface Neo4jOperations {
 	 */
 	<T> Optional<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Load an entity from the database, fetching its relationships according to the given options. Relationships
+	 * not fetched are loaded on first access.
+	 *
+	 * @param id           the id of the entity to load. Must not be {@code null}.
+	 * @param domainType   the type of the entity. Must not be {@code null}.
+	 * @param fetchOptions the options describing the relationships to fetch. Must not be {@code null}.
+	 * @param <T>          the type of the entity.
+	 * @return the loaded entity. Might return an empty optional.
+	 * @since 1.0.1
+	 */
+	<T> Optional<T> findById(Object id, Class<T> domainType, FetchOptions fetchOptions);
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
@@ -215,6 +246,73 @@ public interface Neo4jOperations {
 	 */
 	void deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in batches of the given size. Each batch is executed in its own transaction
+	 * when no transaction is ongoing, so that the transaction state on the server stays bounded regardless of the number
+	 * of entities to delete. Batches are executed until no more entities are deleted.
+	 * <p>
+	 * When called inside an ongoing transaction, all batches join that transaction and are committed or rolled back
+	 * together with it, so the transaction state is not bounded. Call this method without a surrounding transaction
+	 * (the repositories run it with {@link org.springframework.transaction.annotation.Propagation#NOT_SUPPORTED}) to
+	 * commit each batch on its own.
+	 *
+	 * @param domainType       type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize        the maximum number of entities deleted in one batch. Must be greater than 0.
+	 * @param progressListener notified with the accumulated progress after each batch. Must not be {@code null}.
+	 * @return the accumulated progress of all batches
+	 * @since 1.0.1
+	 */
+	DeleteProgress deleteAllInBatches(Class<?> domainType, int batchSize, Consumer<DeleteProgress> progressListener);
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of the given size, including all entities related to
+	 * that entity. Each batch is executed in its own transaction when no transaction is ongoing, otherwise all batches
+	 * join the ongoing transaction, as described for {@link #deleteAllInBatches}.
+	 *
+	 * @param ids              the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType       the type of the entity
+	 * @param batchSize        the maximum number of ids used in one batch. Must be greater than 0.
+	 * @param progressListener notified with the accumulated progress after each batch. Must not be {@code null}.
+	 * @param <T>              the type of the entity.
+	 * @return the accumulated progress of all batches
+	 * @since 1.0.1
+	 */
+	<T> DeleteProgress deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize,
+		Consumer<DeleteProgress> progressListener);
+
+	/**
+	 * Imports a stream of entities in chunks of 1000 entities, one chunk after another.
+	 *
+	 * @param instances the instances to be imported. Must not be {@code null}.
+	 * @param <T>       the type of the entities.
+	 * @return the statistics of the import
+	 * @see #importAll(Stream, int, int)
+	 * @since 1.0.1
+	 */
+	<T> ImportStatistics importAll(Stream<T> instances);
+
+	/**
+	 * Imports a stream of entities in chunks. Each chunk is written with one batched statement by the import executor
+	 * of the template, each in an explicit session and transaction of its own, regardless of any ongoing transaction.
+	 * The import as a whole is not transactional: Chunks that have been committed stay committed when a later chunk
+	 * fails.
+	 * <p>
+	 * The entities are passed to the before bind callbacks on the calling thread. Only the nodes of the entities are
+	 * written, related entities are not imported, and generated internal ids are not written back into the entities.
+	 * Versioned entities are only written when their version matches the one in the database. Otherwise an
+	 * {@link org.springframework.dao.OptimisticLockingFailureException} is thrown and the chunk containing them is
+	 * rolled back with all its other entities.
+	 *
+	 * @param instances   the instances to be imported. Must not be {@code null}. The stream is consumed, but not closed.
+	 * @param chunkSize   the number of entities written in one chunk. Must be greater than 0.
+	 * @param parallelism the number of chunks written at the same time. Must be greater than 0. Chunks are only written
+	 *                    at the same time when the template is configured with an executor using several threads.
+	 * @param <T>         the type of the entities.
+	 * @return the statistics of the import
+	 * @since 1.0.1
+	 */
+	<T> ImportStatistics importAll(Stream<T> instances, int chunkSize, int parallelism);
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
@@ -238,6 +336,26 @@ public interface Neo4jOperations {
 		 */
 		List<T> getResults();
 
+		/**
+		 * @return A stream of all results, mapped lazily while the stream is consumed. The stream must be closed after use.
+		 * @see Neo4jClient.RecordFetchSpec#stream()
+		 * @since 1.0.1
+		 */
+		Stream<T> stream();
+
+		/**
+		 * Retrieves the results as a page. If the query returns the total number of results without paging in a column
+		 * named {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_TOTAL} next to each result, the
+		 * total is taken from there, so that no separate count statement is necessary. This is the case for statements
+		 * created with {@link org.neo4j.springframework.data.core.schema.CypherGenerator#prepareMatchWithTotalOf}.
+		 *
+		 * @param pageable      The pageable the query has been created with
+		 * @param totalSupplier Supplies the total, if the query doesn't return it or returns no results at all
+		 * @return A page of results
+		 * @since 1.0.1
+		 */
+		Page<T> getPage(Pageable pageable, LongSupplier totalSupplier);
+
 		/**
 		 * @return An optional, single result.
 		 * @throws IncorrectResultSizeDataAccessException when there is more than one result
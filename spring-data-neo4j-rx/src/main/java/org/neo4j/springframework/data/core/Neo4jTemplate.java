@@ -20,25 +20,41 @@ package org.neo4j.springframework.data.core;
 
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
-import static org.neo4j.springframework.data.core.RelationshipStatementHolder.*;
 import static org.neo4j.springframework.data.core.cypher.Cypher.*;
 import static org.neo4j.springframework.data.core.schema.Constants.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
+import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.summary.SummaryCounters;
+import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.cypher.Condition;
 import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
@@ -47,9 +63,9 @@ import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
-import org.neo4j.springframework.data.core.support.Relationships;
 import org.neo4j.springframework.data.repository.NoResultException;
 import org.neo4j.springframework.data.repository.event.BeforeBindCallback;
 import org.springframework.beans.BeansException;
@@ -58,11 +74,17 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.ResourceHolderSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -78,6 +100,9 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jTemplate.class));
 
 	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE = "An entity with the required version does not exist.";
+	private static final String OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE = "Entities with the ids %s and the required versions do not exist.";
+
+	private static final int DEFAULT_IMPORT_CHUNK_SIZE = 1000;
 
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
@@ -87,10 +112,22 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	private final CypherGenerator cypherGenerator;
 
+	private final NestedRelationshipPlanner nestedRelationshipPlanner;
+
 	private Neo4jEvents eventSupport;
 
 	private final DatabaseSelectionProvider databaseSelectionProvider;
 
+	private int batchSize = 1;
+
+	private boolean synchronizeRelationships = false;
+
+	private boolean writeBehind = false;
+
+	private boolean levelOrderSaves = false;
+
+	private Executor importExecutor = Runnable::run;
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext(), DatabaseSelectionProvider.getDefaultSelectionProvider());
 	}
@@ -104,6 +141,7 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
 		this.cypherGenerator = CypherGenerator.INSTANCE;
+		this.nestedRelationshipPlanner = new NestedRelationshipPlanner(neo4jMappingContext);
 		this.eventSupport = new Neo4jEvents(EntityCallbacks.create());
 
 		this.databaseSelectionProvider = databaseSelectionProvider;
@@ -146,11 +184,17 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType) {
+		return findAll(domainType, FetchOptions.defaults());
+	}
+
+	@Override
+	public <T> List<T> findAll(Class<T> domainType, FetchOptions fetchOptions) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData)
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-		return createExecutableQuery(domainType, statement).getResults();
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, null, fetchOptions)).build();
+		return createExecutableQuery(domainType, renderer.render(statement), Collections.emptyMap(), fetchOptions)
+			.getResults();
 	}
 
 	@Override
@@ -185,12 +229,18 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 	@Override
 	public <T> Optional<T> findById(Object id, Class<T> domainType) {
+		return findById(id, domainType, FetchOptions.defaults());
+	}
+
+	@Override
+	public <T> Optional<T> findById(Object id, Class<T> domainType, FetchOptions fetchOptions) {
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = cypherGenerator
 			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
-			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData, null, fetchOptions))
 			.build();
-		return createExecutableQuery(domainType, statement, singletonMap(NAME_OF_ID, convertIdValues(id))).getSingleResult();
+		return createExecutableQuery(domainType, renderer.render(statement),
+			singletonMap(NAME_OF_ID, convertIdValues(id)), fetchOptions).getSingleResult();
 	}
 
 	@Override
@@ -213,6 +263,13 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	@Override
 	public <T> T save(T instance) {
 
+		UnitOfWork unitOfWork = getUnitOfWork();
+		if (unitOfWork != null) {
+			if (canBeWrittenBehind(instance)) {
+				return registerSave(unitOfWork, instance);
+			}
+			flush(unitOfWork);
+		}
 		return saveImpl(instance, getDatabaseName());
 	}
 
@@ -231,13 +288,16 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
 		}
 
+		SavedNodes savedNodes = new SavedNodes(neo4jMappingContext);
 		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 		if (!entityMetaData.isUsingInternalIds()) {
-			processAssociations(entityMetaData, entityToBeSaved, inDatabase);
+			optionalInternalId.ifPresent(internalId -> savedNodes.add(entityToBeSaved, internalId));
+			processAssociations(entityMetaData, singletonList(entityToBeSaved), inDatabase, savedNodes);
 			return entityToBeSaved;
 		} else {
 			propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), optionalInternalId.get());
-			processAssociations(entityMetaData, entityToBeSaved, inDatabase);
+			savedNodes.add(entityToBeSaved, optionalInternalId.get());
+			processAssociations(entityMetaData, singletonList(entityToBeSaved), inDatabase, savedNodes);
 
 			return propertyAccessor.getBean();
 		}
@@ -246,6 +306,37 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	@Override
 	public <T> List<T> saveAll(Iterable<T> instances) {
 
+		UnitOfWork unitOfWork = getUnitOfWork();
+		if (unitOfWork != null) {
+			List<T> entities = new ArrayList<>();
+			instances.forEach(entities::add);
+
+			List<T> entitiesToBeSavedNow = entities.stream()
+				.filter(instance -> !canBeWrittenBehind(instance))
+				.collect(toList());
+			if (!entitiesToBeSavedNow.isEmpty()) {
+				flush(unitOfWork);
+			}
+
+			// Entities that must be saved immediately are replaced by their saved counterparts
+			Iterator<T> savedEntities = saveAllImpl(entitiesToBeSavedNow, true).iterator();
+			for (int i = 0; i < entities.size(); ++i) {
+				T instance = entities.get(i);
+				entities.set(i, canBeWrittenBehind(instance) ? registerSave(unitOfWork, instance) : savedEntities.next());
+			}
+			return entities;
+		}
+		return saveAllImpl(instances, true);
+	}
+
+	/**
+	 * @param instances      The entities to save
+	 * @param callBeforeBind Flag, whether the before bind callbacks must be called, they have already been called for
+	 *                       entities written behind
+	 * @return The saved entities
+	 */
+	private <T> List<T> saveAllImpl(Iterable<T> instances, boolean callBeforeBind) {
+
 		String databaseName = getDatabaseName();
 
 		Collection<T> entities;
@@ -262,45 +353,54 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 
 		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
-		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()) {
-			log.debug("Saving entities using single statements.");
-
-			return entities.stream()
-				.map(e -> saveImpl(e, databaseName))
-				.collect(toList());
-		}
-
-		List<T> entitiesToBeSaved = entities.stream()
-			.map(eventSupport::maybeCallBeforeBind)
-			.collect(toList());
+		List<T> entitiesToBeSaved = callBeforeBind
+			? entities.stream().map(eventSupport::maybeCallBeforeBind).collect(toList())
+			: new ArrayList<>(entities);
 
 		// Save roots
 		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
 		List<Map<String, Object>> entityList = entitiesToBeSaved.stream()
 			.map(binderFunction).collect(toList());
-		ResultSummary resultSummary = neo4jClient
+
+		SavedIds savedIds = SavedIds.of(entityList);
+		savedIds.read(neo4jClient
 			.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
 			.in(databaseName)
-			.bind(entityList).to(NAME_OF_ENTITY_LIST_PARAM)
-			.run();
+			.bind(savedIds.getRows()).to(NAME_OF_ENTITY_LIST_PARAM)
+			.fetch().all());
+
+		if (entityMetaData.hasVersionProperty()) {
+			List<Object> idsOfUnsavedEntities = savedIds.getIdsOfUnsavedEntities(entityMetaData, entitiesToBeSaved);
+			if (!idsOfUnsavedEntities.isEmpty()) {
+				throw new OptimisticLockingFailureException(
+					String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities));
+			}
+		}
 
-		// Save related
-		entitiesToBeSaved.forEach(entityToBeSaved -> {
-			processAssociations(entityMetaData, entityToBeSaved, databaseName);
-		});
+		List<Long> internalIds = savedIds.getInternalIds();
+		List<T> savedEntities = entityMetaData.isUsingInternalIds()
+			? savedIds.applyTo(entityMetaData, entitiesToBeSaved)
+			: entitiesToBeSaved;
 
-		SummaryCounters counters = resultSummary.counters();
-		log.debug(() -> String
-			.format("Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-				counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-				counters.relationshipsDeleted(), counters.propertiesSet()));
+		// Save related, each related node only once, even if it is related to several of the saved entities
+		SavedNodes savedNodes = new SavedNodes(neo4jMappingContext);
+		for (int i = 0; i < savedEntities.size(); ++i) {
+			savedNodes.add(savedEntities.get(i), internalIds.get(i));
+		}
+		processAssociations(entityMetaData, savedEntities, databaseName, savedNodes);
 
-		return entitiesToBeSaved;
+		return savedEntities;
 	}
 
 	@Override
 	public <T> void deleteById(Object id, Class<T> domainType) {
 
+		UnitOfWork unitOfWork = getUnitOfWork();
+		if (unitOfWork != null) {
+			unitOfWork.registerDelete(domainType, id);
+			return;
+		}
+
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "id";
 		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
@@ -320,6 +420,16 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	@Override
 	public <T> void deleteAllById(Iterable<?> ids, Class<T> domainType) {
 
+		UnitOfWork unitOfWork = getUnitOfWork();
+		if (unitOfWork != null) {
+			ids.forEach(id -> unitOfWork.registerDelete(domainType, id));
+			return;
+		}
+		deleteAllByIdImpl(ids, domainType);
+	}
+
+	private void deleteAllByIdImpl(Iterable<?> ids, Class<?> domainType) {
+
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		String nameOfParameter = "ids";
 		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
@@ -339,6 +449,8 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	@Override
 	public void deleteAll(Class<?> domainType) {
 
+		flushUnitOfWork();
+
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
@@ -349,6 +461,178 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 			summary.counters().relationshipsDeleted()));
 	}
 
+	@Override
+	public DeleteProgress deleteAllInBatches(Class<?> domainType, int sizeOfBatch,
+		Consumer<DeleteProgress> progressListener) {
+
+		Assert.notNull(progressListener, "The progress listener is required.");
+
+		flushUnitOfWork();
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		log.debug(() -> String.format("Deleting all nodes with primary label %s in batches of %d",
+			entityMetaData.getPrimaryLabel(), sizeOfBatch));
+
+		String cypher = renderer.render(cypherGenerator.prepareDeleteOf(entityMetaData, null, sizeOfBatch));
+		DeleteProgress progress = DeleteProgress.none();
+		while (true) {
+			SummaryCounters counters = this.neo4jClient.query(cypher).in(getDatabaseName()).run().counters();
+			if (counters.nodesDeleted() == 0) {
+				break;
+			}
+			progress = progress.add(counters);
+			progressListener.accept(progress);
+		}
+
+		DeleteProgress result = progress;
+		log.debug(() -> String.format("Deleted %d nodes and %d relationships.", result.getNodesDeleted(),
+			result.getRelationshipsDeleted()));
+		return result;
+	}
+
+	@Override
+	public <T> DeleteProgress deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int sizeOfBatch,
+		Consumer<DeleteProgress> progressListener) {
+
+		Assert.notNull(ids, "The ids are required.");
+		Assert.isTrue(sizeOfBatch > 0, "The batch size must be greater than 0.");
+		Assert.notNull(progressListener, "The progress listener is required.");
+
+		flushUnitOfWork();
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "ids";
+		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
+		String cypher = renderer.render(cypherGenerator.prepareDeleteOf(entityMetaData, condition));
+
+		DeleteProgress progress = DeleteProgress.none();
+		List<Object> batch = new ArrayList<>(sizeOfBatch);
+		for (Iterator<?> iterator = ids.iterator(); iterator.hasNext(); ) {
+			batch.add(iterator.next());
+			if (batch.size() == sizeOfBatch || !iterator.hasNext()) {
+				log.debug(() -> String.format("Deleting all entities with the following ids: %s ", batch));
+
+				SummaryCounters counters = this.neo4jClient.query(cypher)
+					.in(getDatabaseName())
+					.bind(batch).to(nameOfParameter)
+					.run().counters();
+				progress = progress.add(counters);
+				progressListener.accept(progress);
+				batch.clear();
+			}
+		}
+		return progress;
+	}
+
+	@Override
+	public <T> ImportStatistics importAll(Stream<T> instances) {
+		return importAll(instances, DEFAULT_IMPORT_CHUNK_SIZE, 1);
+	}
+
+	@Override
+	public <T> ImportStatistics importAll(Stream<T> instances, int chunkSize, int parallelism) {
+
+		Assert.notNull(instances, "The instances to import are required.");
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+		Assert.isTrue(parallelism > 0, "The parallelism must be greater than 0.");
+
+		String databaseName = getDatabaseName();
+
+		ImportStatistics statistics = ImportStatistics.empty();
+		Deque<Future<ImportStatistics>> pendingChunks = new ArrayDeque<>(parallelism);
+		Iterator<T> iterator = instances.iterator();
+		while (iterator.hasNext()) {
+			List<T> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext() && chunk.size() < chunkSize) {
+				chunk.add(iterator.next());
+			}
+
+			// Callbacks and binding happen on the calling thread, so that they see its context
+			Supplier<ImportStatistics> chunkImport = prepareChunkImport(chunk, databaseName);
+
+			// Don't read more of the stream than can be written at the same time
+			if (pendingChunks.size() == parallelism) {
+				statistics = statistics.merge(getImportedChunk(pendingChunks.poll()));
+			}
+			pendingChunks.add(CompletableFuture.supplyAsync(chunkImport, importExecutor));
+		}
+		while (!pendingChunks.isEmpty()) {
+			statistics = statistics.merge(getImportedChunk(pendingChunks.poll()));
+		}
+
+		ImportStatistics result = statistics;
+		log.debug(() -> String.format("Imported %d entities in %d chunks.", result.getEntities(),
+			result.getChunks()));
+		return result;
+	}
+
+	/**
+	 * Binds a chunk of entities.
+	 *
+	 * @return The write of the bound chunk, in a transaction of its own
+	 */
+	private <T> Supplier<ImportStatistics> prepareChunkImport(List<T> chunk, @Nullable String inDatabase) {
+
+		List<T> entities = chunk.stream().map(eventSupport::maybeCallBeforeBind).collect(toList());
+
+		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
+
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		List<Map<String, Object>> entityList = entities.stream().map(binderFunction).collect(toList());
+
+		Statement statement = cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData);
+		String cypher = renderer.render(statement);
+		if (!entityMetaData.hasVersionProperty()) {
+			return () -> writeInNewTransaction(inDatabase, queryRunner -> {
+				ResultSummary summary = queryRunner
+					.run(cypher, singletonMap(NAME_OF_ENTITY_LIST_PARAM, entityList))
+					.consume();
+				return ImportStatistics.ofChunk(chunk.size(), summary.counters());
+			});
+		}
+
+		// Versioned entities are only written with a matching version, the others are missing from the result
+		SavedIds savedIds = SavedIds.of(entityList);
+		return () -> writeInNewTransaction(inDatabase, queryRunner -> {
+			Result result = queryRunner.run(cypher, singletonMap(NAME_OF_ENTITY_LIST_PARAM, savedIds.getRows()));
+			savedIds.read(result.list(Record::asMap));
+			ResultSummary summary = result.consume();
+
+			List<Object> idsOfUnsavedEntities = savedIds.getIdsOfUnsavedEntities(entityMetaData, entities);
+			if (!idsOfUnsavedEntities.isEmpty()) {
+				throw new OptimisticLockingFailureException(
+					String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities));
+			}
+			return ImportStatistics.ofChunk(chunk.size(), summary.counters());
+		});
+	}
+
+	/**
+	 * Chunks of imports are written in explicit transactions, not in the transaction bound to the calling thread, so
+	 * that they can be committed independently of it and written on any thread.
+	 */
+	private <R> R writeInNewTransaction(@Nullable String inDatabase, Function<QueryRunner, R> work) {
+
+		Assert.state(neo4jClient instanceof DefaultNeo4jClient,
+			"Imports require a client created through Neo4jClient#create.");
+		return ((DefaultNeo4jClient) neo4jClient).writeInNewTransaction(inDatabase, work);
+	}
+
+	private static ImportStatistics getImportedChunk(Future<ImportStatistics> pendingChunk) {
+
+		try {
+			return pendingChunk.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IllegalStateException("Could not import chunk.", cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while importing entities.", e);
+		}
+	}
+
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, statement, Collections.emptyMap());
 	}
@@ -366,122 +650,327 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, String cypherStatement,
 		Map<String, Object> parameters) {
 
+		return createExecutableQuery(domainType, cypherStatement, parameters, FetchOptions.defaults());
+	}
+
+	private <T> ExecutableQuery<T> createExecutableQuery(Class<T> domainType, String cypherStatement,
+		Map<String, Object> parameters, FetchOptions fetchOptions) {
+
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
 			.withCypherQuery(cypherStatement)
 			.withParameters(parameters)
-			.usingMappingFunction(neo4jMappingContext.getRequiredMappingFunctionFor(domainType))
+			.usingMappingFunction(neo4jMappingContext.getRequiredResultMappingFunctionFor(domainType, fetchOptions))
 			.build();
 		return toExecutableQuery(preparedQuery);
 	}
 
-	private void processAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
+	private void processAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, List<?> parentObjects,
+		@Nullable String inDatabase, SavedNodes savedNodes) {
+
+		if (levelOrderSaves) {
+			processAssociationsInLevelOrder(parentObjects, inDatabase, savedNodes);
+		} else {
+			parentObjects.forEach(parentObject -> processNestedAssociations(neo4jPersistentEntity, parentObject,
+				inDatabase, new HashSet<>(), savedNodes));
+		}
+	}
+
+	/**
+	 * Saves the related nodes of all parents breadth first: All related nodes of one depth level are saved with one
+	 * statement per entity type, all relationships to them with one statement per kind of relationship.
+	 */
+	private void processAssociationsInLevelOrder(List<?> parentObjects, @Nullable String inDatabase,
+		SavedNodes savedNodes) {
+
+		Set<RelationshipDescription> processedRelationshipDescriptions = new HashSet<>();
+		List<?> currentLevel = parentObjects;
+		while (!currentLevel.isEmpty()) {
+			NestedRelationshipLevel level = nestedRelationshipPlanner.collectLevel(currentLevel,
+				processedRelationshipDescriptions, savedNodes, eventSupport::maybeCallBeforeBind);
+			currentLevel = saveLevel(level, inDatabase, savedNodes);
+		}
+	}
+
+	/**
+	 * Writes one level and returns the nodes that have been saved on it, which are the parents of the next level.
+	 */
+	private List<Object> saveLevel(NestedRelationshipLevel level, @Nullable String inDatabase,
+		SavedNodes savedNodes) {
+
+		for (NestedRelationshipLevel.RelationshipsToRemove relationships : level.getRelationshipsToRemove()) {
+			neo4jClient.query(renderer.render(relationships.getStatement()))
+				.in(inDatabase)
+				.bind(relationships.getFromIds()).to(NAME_OF_IDS)
+				.run();
+		}
+
+		List<Object> savedValues = new ArrayList<>();
+		level.getValuesToBeSaved().forEach((targetNodeDescription, values) -> {
+			List<Object> unsavedValues = savedNodes.getUnsaved(values);
+			List<Long> internalIds = saveNodesOfLevel(targetNodeDescription, unsavedValues, inDatabase);
+			NestedRelationshipPlanner.markAsSaved(targetNodeDescription, unsavedValues, internalIds, savedNodes);
+			savedValues.addAll(unsavedValues);
+		});
+
+		for (NestedRelationshipLevel.RelationshipsToCreate relationships : level.getRelationshipsToCreate()) {
+			neo4jClient.query(renderer.render(relationships.getStatement()))
+				.in(inDatabase)
+				.bind(relationships.getRows(neo4jMappingContext, savedNodes)).to(NAME_OF_ENTITY_LIST_PARAM)
+				.run();
+		}
+		return savedValues;
+	}
+
+	private List<Long> saveNodesOfLevel(Neo4jPersistentEntity<?> targetNodeDescription, List<Object> valuesToBeSaved,
 		@Nullable String inDatabase) {
-		processNestedAssociations(neo4jPersistentEntity, parentObject, inDatabase, new HashSet<>());
+
+		if (valuesToBeSaved.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+			.getRequiredBinderFunctionFor((Class<Object>) targetNodeDescription.getType());
+		List<Map<String, Object>> entityList = valuesToBeSaved.stream().map(binderFunction).collect(toList());
+
+		SavedIds savedIds = SavedIds.of(entityList);
+		savedIds.read(neo4jClient
+			.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(targetNodeDescription)))
+			.in(inDatabase)
+			.bind(savedIds.getRows()).to(NAME_OF_ENTITY_LIST_PARAM)
+			.fetch().all());
+		if (targetNodeDescription.hasVersionProperty()) {
+			List<Object> idsOfUnsavedEntities = savedIds.getIdsOfUnsavedEntities(targetNodeDescription, valuesToBeSaved);
+			if (!idsOfUnsavedEntities.isEmpty()) {
+				throw new OptimisticLockingFailureException(
+					String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities));
+			}
+		}
+		return savedIds.getInternalIds();
 	}
 
 	private void processNestedAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
-		@Nullable String inDatabase, Set<RelationshipDescription> processedRelationshipDescriptions) {
+		@Nullable String inDatabase, Set<RelationshipDescription> processedRelationshipDescriptions,
+		SavedNodes savedNodes) {
 
 		PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
 
 		neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) handler -> {
 
-			// create context to bundle parameters
-			NestedRelationshipContext relationshipContext = NestedRelationshipContext
-				.of(handler, propertyAccessor, neo4jPersistentEntity);
-
-			// break recursive procession and deletion of previously created relationships
-			RelationshipDescription relationshipObverse = relationshipContext.getRelationship().getRelationshipObverse();
-			if (hasProcessed(processedRelationshipDescriptions, relationshipObverse)) {
+			Optional<NestedRelationshipContext> optionalRelationshipContext = nestedRelationshipPlanner
+				.getContextToProcess(handler, propertyAccessor, neo4jPersistentEntity,
+					processedRelationshipDescriptions);
+			if (!optionalRelationshipContext.isPresent()) {
 				return;
 			}
+			NestedRelationshipContext relationshipContext = optionalRelationshipContext.get();
 
 			Neo4jPersistentEntity<?> relationshipsToRemoveDescription = neo4jMappingContext
 				.getPersistentEntity(relationshipContext.getAssociationTargetType());
 
 			Object fromId = propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
-			// remove all relationships before creating all new if the entity is not new
-			// this avoids the usage of cache but might have significant impact on overall performance
+			ExistingRelationships existingRelationships = ExistingRelationships.empty();
 			if (!neo4jPersistentEntity.isNew(parentObject)) {
-				Statement relationshipRemoveQuery = cypherGenerator.createRelationshipRemoveQuery(neo4jPersistentEntity,
-					relationshipContext.getRelationship(), relationshipsToRemoveDescription);
-
-				neo4jClient.query(renderer.render(relationshipRemoveQuery))
-					.in(inDatabase)
-					.bind(fromId).to(FROM_ID_PARAMETER_NAME).run();
+				if (synchronizeRelationships) {
+					// only write the difference between the existing and the new relationships
+					Statement relationshipMatchQuery = cypherGenerator.createRelationshipMatchQuery(
+						neo4jPersistentEntity, relationshipContext.getRelationship(), relationshipsToRemoveDescription);
+
+					existingRelationships = ExistingRelationships.of(neo4jClient
+						.query(renderer.render(relationshipMatchQuery))
+						.in(inDatabase)
+						.bind(fromId).to(FROM_ID_PARAMETER_NAME)
+						.fetch().all());
+				} else {
+					// remove all relationships before creating all new if the entity is not new
+					// this avoids the usage of cache but might have significant impact on overall performance
+					Statement relationshipRemoveQuery = cypherGenerator.createRelationshipRemoveQuery(
+						neo4jPersistentEntity, relationshipContext.getRelationship(), relationshipsToRemoveDescription);
+
+					neo4jClient.query(renderer.render(relationshipRemoveQuery))
+						.in(inDatabase)
+						.bind(fromId).to(FROM_ID_PARAMETER_NAME).run();
+				}
 			}
 
 			// nothing to do because there is nothing to map
 			if (relationshipContext.inverseValueIsEmpty()) {
+				deleteRelationships(existingRelationships.getObsoleteRelationshipIds(), inDatabase);
 				return;
 			}
 
 			processedRelationshipDescriptions.add(relationshipContext.getRelationship());
 
-			for (Object relatedValue : Relationships
-				.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
-
-				// here map entry is not always anymore a dynamic association
-				Object valueToBeSaved = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
+			// here map entry is not always anymore a dynamic association
+			List<Object> relatedValues = NestedRelationshipPlanner.getRelatedValues(relationshipContext);
+			List<Object> valuesToBeSaved = NestedRelationshipPlanner.getValuesToBeSaved(relationshipContext,
+				relatedValues, savedNodes, new IdentityHashMap<>(), eventSupport::maybeCallBeforeBind);
 
-				Neo4jPersistentEntity<?> targetNodeDescription = neo4jMappingContext.getPersistentEntity(valueToBeSaved.getClass());
+			for (NestedRelationshipBatch batch : NestedRelationshipBatch
+				.of(neo4jMappingContext, relationshipContext, relatedValues, valuesToBeSaved, batchSize)) {
 
-				valueToBeSaved = eventSupport.maybeCallBeforeBind(valueToBeSaved);
-
-				Long relatedInternalId = saveRelatedNode(valueToBeSaved, relationshipContext.getAssociationTargetType(),
-					targetNodeDescription, inDatabase);
+				Neo4jPersistentEntity<?> targetNodeDescription = batch.getTargetNodeDescription();
+				List<Object> unsavedValues = savedNodes.getUnsaved(batch.getValuesToBeSaved());
+				List<Long> internalIdsOfUnsavedValues = saveRelatedNodes(targetNodeDescription, unsavedValues,
+					relationshipContext.getAssociationTargetType(), inDatabase);
+				NestedRelationshipPlanner
+					.markAsSaved(targetNodeDescription, unsavedValues, internalIdsOfUnsavedValues, savedNodes);
 
 				// handle creation of relationship depending on properties on relationship or not
-				RelationshipStatementHolder statementHolder = relationshipContext.hasRelationshipWithProperties()
-					? createStatementForRelationShipWithProperties(neo4jMappingContext,
-						neo4jPersistentEntity,
-						relationshipContext,
-						relatedInternalId,
-						(Map.Entry) relatedValue)
-					: createStatementForRelationshipWithoutProperties(neo4jPersistentEntity,
-						relationshipContext,
-						relatedInternalId,
-						relatedValue);
-
-				neo4jClient.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
-					.in(inDatabase)
-					.bind(fromId).to(FROM_ID_PARAMETER_NAME)
-					.bindAll(statementHolder.getProperties())
-					.run();
-
-				// if an internal id is used this must get set to link this entity in the next iteration
-				if (targetNodeDescription.isUsingInternalIds()) {
-					PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
-						.getPropertyAccessor(valueToBeSaved);
-					targetPropertyAccessor
-						.setProperty(targetNodeDescription.getRequiredIdProperty(), relatedInternalId);
+				nestedRelationshipPlanner.createStatementForRelationships(neo4jPersistentEntity, relationshipContext,
+					batch, existingRelationships, savedNodes).ifPresent(statementHolder ->
+					neo4jClient.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
+						.in(inDatabase)
+						.bind(fromId).to(FROM_ID_PARAMETER_NAME)
+						.bindAll(statementHolder.getProperties())
+						.run());
+
+				for (Object valueToBeSaved : unsavedValues) {
+					processNestedAssociations(targetNodeDescription, valueToBeSaved, inDatabase,
+						processedRelationshipDescriptions, savedNodes);
 				}
-				processNestedAssociations(targetNodeDescription, valueToBeSaved, inDatabase, processedRelationshipDescriptions);
 			}
+
+			deleteRelationships(existingRelationships.getObsoleteRelationshipIds(), inDatabase);
 		});
 	}
 
-	private boolean hasProcessed(Set<RelationshipDescription> processedRelationshipDescriptions,
-		RelationshipDescription relationshipDescription) {
+	private void deleteRelationships(Collection<Long> relationshipIds, @Nullable String inDatabase) {
+
+		if (relationshipIds.isEmpty()) {
+			return;
+		}
+
+		neo4jClient.query(() -> renderer.render(cypherGenerator.createRelationshipDeleteByIdQuery()))
+			.in(inDatabase)
+			.bind(relationshipIds).to(NAME_OF_IDS)
+			.run();
+	}
+
+	private <Y> List<Long> saveRelatedNodes(Neo4jPersistentEntity<?> targetNodeDescription,
+		List<Object> valuesToBeSaved, Class<Y> entityType, @Nullable String inDatabase) {
+
+		if (valuesToBeSaved.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		if (NestedRelationshipPlanner.isSavedOneByOne(targetNodeDescription, valuesToBeSaved)) {
 
-		if (relationshipDescription != null) {
-			return processedRelationshipDescriptions.contains(relationshipDescription);
+			return valuesToBeSaved.stream()
+				.map(valueToBeSaved -> saveRelatedNode(valueToBeSaved, entityType, targetNodeDescription, inDatabase))
+				.collect(toList());
 		}
-		return false;
+
+		Function<Y, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(entityType);
+		List<Map<String, Object>> entityList = valuesToBeSaved.stream()
+			.map(valueToBeSaved -> binderFunction.apply((Y) valueToBeSaved)).collect(toList());
+
+		SavedIds savedIds = SavedIds.of(entityList);
+		return savedIds.read(neo4jClient
+			.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(targetNodeDescription)))
+			.in(inDatabase)
+			.bind(savedIds.getRows()).to(NAME_OF_ENTITY_LIST_PARAM)
+			.fetch().all()).getInternalIds();
 	}
 
-	private <Y> Long saveRelatedNode(Object entity, Class<Y> entityType, NodeDescription targetNodeDescription, @Nullable String inDatabase) {
+	private <Y> Long saveRelatedNode(Object entity, Class<Y> entityType,
+		Neo4jPersistentEntity<?> targetNodeDescription, @Nullable String inDatabase) {
+
 		Optional<Long> optionalSavedNodeId = neo4jClient
 			.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription)))
 			.in(inDatabase)
 			.bind((Y) entity).with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType))
 			.fetchAs(Long.class).one();
 
-		if (((Neo4jPersistentEntity) targetNodeDescription).hasVersionProperty() && !optionalSavedNodeId.isPresent()) {
-			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		return NestedRelationshipPlanner.getInternalIdOfSavedNode(targetNodeDescription, optionalSavedNodeId);
+	}
+
+	/**
+	 * @return The unit of work of the ongoing transaction or {@literal null} if writes must be executed immediately
+	 */
+	@Nullable
+	private UnitOfWork getUnitOfWork() {
+
+		if (!writeBehind || !TransactionSynchronizationManager.isSynchronizationActive()
+			|| !TransactionSynchronizationManager.isActualTransactionActive()
+			|| TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return null;
 		}
 
-		return optionalSavedNodeId.get();
+		UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+		if (unitOfWork == null) {
+			unitOfWork = new UnitOfWork();
+			unitOfWork.setSynchronizedWithTransaction(true);
+			TransactionSynchronizationManager.registerSynchronization(new UnitOfWorkSynchronization(unitOfWork, this));
+			TransactionSynchronizationManager.bindResource(this, unitOfWork);
+		}
+		return unitOfWork;
+	}
+
+	/**
+	 * Only entities that a save returns as they have been passed in can be written behind. Internal ids are only known
+	 * after the write, immutable entities are replaced by new instances when ids or auditing information are populated
+	 * and versioned entities must be checked for conflicts immediately.
+	 *
+	 * @param instance The entity to be saved
+	 * @return True, if saving the entity can be deferred until the transaction commits
+	 */
+	private boolean canBeWrittenBehind(Object instance) {
+
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(instance.getClass());
+		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()) {
+			return false;
+		}
+
+		// Assigned ids are never changed by a save
+		boolean assignedId = entityMetaData.getIdDescription().isAssignedId();
+		boolean[] hasImmutableProperties = { false };
+		entityMetaData.doWithProperties((PropertyHandler<Neo4jPersistentProperty>) property ->
+			hasImmutableProperties[0] |= property.isImmutable() && !(property.isIdProperty() && assignedId));
+		return !hasImmutableProperties[0];
+	}
+
+	/**
+	 * The callbacks are called when the save is recorded, so that they see the entity in the state it has been passed
+	 * in and the entity returned by the save contains their changes, as it would without write-behind.
+	 *
+	 * @return The entity to be saved
+	 */
+	private <T> T registerSave(UnitOfWork unitOfWork, T instance) {
+
+		T entityToBeSaved = eventSupport.maybeCallBeforeBind(instance);
+		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getPersistentEntity(entityToBeSaved.getClass());
+		unitOfWork.registerSave(entityToBeSaved, entityMetaData.getIdentifierAccessor(entityToBeSaved).getIdentifier());
+		return entityToBeSaved;
+	}
+
+	private void flushUnitOfWork() {
+
+		UnitOfWork unitOfWork = (UnitOfWork) TransactionSynchronizationManager.getResource(this);
+		if (unitOfWork != null) {
+			flush(unitOfWork);
+		}
+	}
+
+	private void flush(UnitOfWork unitOfWork) {
+
+		if (unitOfWork.hasPendingOperations()) {
+			unitOfWork.flush(this::deleteAllByIdImpl, entities -> saveAllImpl(entities, false));
+		}
+	}
+
+	/**
+	 * Loads lazily fetched relationships in the current transaction.
+	 */
+	private List<Record> loadRelationships(NodeDescription<?> nodeDescription,
+		RelationshipDescription relationshipDescription, List<?> ownerIds) {
+
+		flushUnitOfWork();
+		Statement statement = cypherGenerator.createRelationshipLoadQuery(nodeDescription, relationshipDescription);
+		return new ArrayList<>(neo4jClient.query(renderer.render(statement))
+			.in(getDatabaseName())
+			.bind(ownerIds).to(NAME_OF_IDS)
+			.fetchAs(Record.class).mappedBy((typeSystem, record) -> record)
+			.all());
 	}
 
 	private String getDatabaseName() {
@@ -489,6 +978,97 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 		return this.databaseSelectionProvider.getDatabaseSelection().getValue();
 	}
 
+	/**
+	 * Configures how relationships of entities that are not new are updated. By default, all relationships of an
+	 * association are deleted and recreated on each save. When set to {@literal true}, the existing relationships are
+	 * fetched first and only the relationships that have been removed, added or changed are written.
+	 *
+	 * @param synchronizeRelationships Flag, whether to write only the difference of the relationships
+	 * @since 1.0.1
+	 */
+	public void setSynchronizeRelationships(boolean synchronizeRelationships) {
+		this.synchronizeRelationships = synchronizeRelationships;
+	}
+
+	/**
+	 * Configures how many related nodes and relationships of an entity are written together. With the default of
+	 * {@literal 1}, each related node and each relationship is written with a dedicated statement. Larger values group
+	 * related nodes and relationships of the same type and write them with one {@code UNWIND} statement per batch.
+	 * This applies to {@link #save(Object)} as well as {@link #saveAll(Iterable)}.
+	 *
+	 * @param batchSize The maximum number of related nodes respectively relationships written with one statement
+	 * @since 1.0.1
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the order in which the related nodes of saved entities are written. By default, the related nodes are
+	 * saved depth first, one relationship of one entity after another. When set to {@literal true}, the aggregates
+	 * are walked breadth first: All related nodes of one depth level are saved with one statement per entity type,
+	 * followed by one statement per kind of relationship. The number of statements needed to save an aggregate then
+	 * depends on its depth and not on the number of its nodes. The {@link #setBatchSize(int) batch size} doesn't apply
+	 * and the relationships of entities that are not new are always recreated, regardless of
+	 * {@link #setSynchronizeRelationships(boolean)}.
+	 *
+	 * @param levelOrderSaves Flag, whether to save related nodes level by level
+	 * @since 1.0.1
+	 */
+	public void setLevelOrderSaves(boolean levelOrderSaves) {
+		this.levelOrderSaves = levelOrderSaves;
+	}
+
+	/**
+	 * Configures whether saves and deletes inside a Spring transaction are deferred until the transaction commits.
+	 * In write-behind mode, {@link #save(Object)}, {@link #saveAll(Iterable)}, {@link #deleteById(Object, Class)} and
+	 * {@link #deleteAllById(Iterable, Class)} only record the operation in a unit of work bound to the transaction and
+	 * return the entities as they have been passed in. The {@link BeforeBindCallback before bind callbacks} are called
+	 * when the save is recorded, so ids from an external id generator are set on the returned entities. Right before
+	 * the transaction commits, the recorded operations are coalesced and executed in the order they have been recorded
+	 * in, with one statement for consecutive operations of the same kind on entities of the same type. An entity saved
+	 * several times is written only once, at the position of its latest save, and a save followed by a delete of the
+	 * same entity is resolved by discarding the save. Queries and the other deletes executed through this template
+	 * flush the unit of work first, so that they see the pending changes.
+	 * <p>
+	 * Write-behind changes what callers can observe:
+	 * <ul>
+	 * <li>Changes made to an entity after its save has been recorded are written as well, as the entity is only bound
+	 * when the unit of work is flushed.</li>
+	 * <li>Queries executed directly with the {@link Neo4jClient} don't flush the unit of work and don't see the
+	 * pending changes.</li>
+	 * <li>Failures of the deferred writes only surface when the transaction commits.</li>
+	 * </ul>
+	 * <p>
+	 * Only saves that return the entities unchanged are deferred: Entities using internal ids, entities with immutable
+	 * properties other than an assigned id and versioned entities are always saved immediately, after flushing the
+	 * pending operations. Their ids are available and optimistic locking failures are thrown when the save returns.
+	 * Outside a transaction or in read only transactions, all operations are executed immediately.
+	 *
+	 * @param writeBehind Flag, whether to defer writes inside transactions until they commit
+	 * @since 1.0.1
+	 */
+	public void setWriteBehind(boolean writeBehind) {
+		this.writeBehind = writeBehind;
+	}
+
+	/**
+	 * Configures the executor writing the chunks of {@link #importAll(Stream, int, int)}. Defaults to writing the chunks
+	 * on the calling thread, one after another. Chunks are only written at the same time when an executor with
+	 * several threads is configured, the number of threads should be bounded. Each chunk is written in an explicit
+	 * transaction of its own, so it may run on any thread.
+	 *
+	 * @param importExecutor The executor writing the chunks of imports
+	 * @since 1.0.1
+	 */
+	public void setImportExecutor(Executor importExecutor) {
+
+		Assert.notNull(importExecutor, "The import executor is required.");
+		this.importExecutor = importExecutor;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
@@ -498,31 +1078,91 @@ public final class Neo4jTemplate implements Neo4jOperations, BeanFactoryAware {
 	@Override
 	public <T> ExecutableQuery<T> toExecutableQuery(PreparedQuery<T> preparedQuery) {
 
+		// Queries must see the pending writes of the current transaction
+		flushUnitOfWork();
 		Neo4jClient.MappingSpec<T> mappingSpec = this
 			.neo4jClient.query(preparedQuery.getCypherQuery())
 			.in(getDatabaseName())
 			.bindAll(preparedQuery.getParameters())
 			.fetchAs(preparedQuery.getResultType());
-		Neo4jClient.RecordFetchSpec<T> fetchSpec = preparedQuery
-			.getOptionalMappingFunction()
-			.map(f -> mappingSpec.mappedBy(f))
-			.orElse(mappingSpec);
 
-		return new DefaultExecutableQuery<>(preparedQuery, fetchSpec);
+		// Relationships fetched lazily are loaded through this template
+		BiFunction<TypeSystem, Record, T> mappingFunction = preparedQuery.getOptionalMappingFunction()
+			.map(f -> neo4jMappingContext.withRelationshipLoader(f, this::loadRelationships))
+			.orElse(null);
+		return new DefaultExecutableQuery<>(preparedQuery, mappingFunction, mappingSpec);
+	}
+
+	/**
+	 * Flushes the unit of work of a template right before the transaction commits and unbinds it afterwards.
+	 */
+	static final class UnitOfWorkSynchronization extends ResourceHolderSynchronization<UnitOfWork, Object> {
+
+		private final UnitOfWork unitOfWork;
+
+		private final Neo4jTemplate template;
+
+		UnitOfWorkSynchronization(UnitOfWork unitOfWork, Neo4jTemplate template) {
+
+			super(unitOfWork, template);
+			this.unitOfWork = unitOfWork;
+			this.template = template;
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			template.flush(unitOfWork);
+		}
+
+		@Override
+		protected void flushResource(UnitOfWork resourceHolder) {
+			template.flush(resourceHolder);
+		}
 	}
 
 	final class DefaultExecutableQuery<T> implements ExecutableQuery<T> {
 
 		private final PreparedQuery<T> preparedQuery;
+		private final @Nullable BiFunction<TypeSystem, Record, T> mappingFunction;
+		private final Neo4jClient.MappingSpec<T> mappingSpec;
 		private final Neo4jClient.RecordFetchSpec<T> fetchSpec;
 
-		DefaultExecutableQuery(PreparedQuery<T> preparedQuery, Neo4jClient.RecordFetchSpec<T> fetchSpec) {
+		DefaultExecutableQuery(PreparedQuery<T> preparedQuery, @Nullable BiFunction<TypeSystem, Record, T> mappingFunction,
+			Neo4jClient.MappingSpec<T> mappingSpec) {
 			this.preparedQuery = preparedQuery;
-			this.fetchSpec = fetchSpec;
+			this.mappingFunction = mappingFunction;
+			this.mappingSpec = mappingSpec;
+			this.fetchSpec = mappingFunction == null ? mappingSpec : mappingSpec.mappedBy(mappingFunction);
 		}
 
 		public List<T> getResults() {
-			return fetchSpec.all().stream().collect(toList());
+			Collection<T> results = fetchSpec.all();
+			return results instanceof List ? (List<T>) results : new ArrayList<>(results);
+		}
+
+		public Stream<T> stream() {
+			return fetchSpec.stream();
+		}
+
+		public Page<T> getPage(Pageable pageable, LongSupplier totalSupplier) {
+
+			BiFunction<TypeSystem, Record, T> pageMappingFunction = mappingFunction != null ? mappingFunction :
+				neo4jMappingContext.withRelationshipLoader(
+					neo4jMappingContext.getRequiredResultMappingFunctionFor(preparedQuery.getResultType()),
+					Neo4jTemplate.this::loadRelationships);
+
+			// All rows contain the same total, the last one read wins
+			long[] total = { -1L };
+			Collection<T> results = mappingSpec.mappedBy((typeSystem, record) -> {
+				if (record.containsKey(NAME_OF_TOTAL)) {
+					total[0] = record.get(NAME_OF_TOTAL).asLong();
+				}
+				return pageMappingFunction.apply(typeSystem, record);
+			}).all();
+
+			List<T> content = results instanceof List ? (List<T>) results : new ArrayList<>(results);
+			return PageableExecutionUtils
+				.getPage(content, pageable, () -> total[0] < 0 ? totalSupplier.getAsLong() : total[0]);
 		}
 
 		public Optional<T> getSingleResult() {
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A batch of related values of one relationship that can be persisted together: All related nodes in a batch are of
+ * the same entity type and, in case of a dynamic relationship, are related to the parent with the same relationship
+ * type. The batches are shared between the {@link Neo4jTemplate} and the {@link ReactiveNeo4jTemplate}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class NestedRelationshipBatch {
+
+	private final Neo4jPersistentEntity<?> targetNodeDescription;
+
+	private final @Nullable String dynamicRelationshipType;
+
+	/**
+	 * The related values as returned by {@link org.neo4j.springframework.data.core.support.Relationships#unifyRelationshipValue}.
+	 */
+	private final List<Object> relatedValues = new ArrayList<>();
+
+	/**
+	 * The nodes to be saved, derived from the {@link #relatedValues} at the same index.
+	 */
+	private final List<Object> valuesToBeSaved = new ArrayList<>();
+
+	private NestedRelationshipBatch(Neo4jPersistentEntity<?> targetNodeDescription,
+		@Nullable String dynamicRelationshipType) {
+		this.targetNodeDescription = targetNodeDescription;
+		this.dynamicRelationshipType = dynamicRelationshipType;
+	}
+
+	Neo4jPersistentEntity<?> getTargetNodeDescription() {
+		return targetNodeDescription;
+	}
+
+	@Nullable
+	String getDynamicRelationshipType() {
+		return dynamicRelationshipType;
+	}
+
+	List<Object> getRelatedValues() {
+		return relatedValues;
+	}
+
+	List<Object> getValuesToBeSaved() {
+		return valuesToBeSaved;
+	}
+
+	int size() {
+		return relatedValues.size();
+	}
+
+	/**
+	 * Groups the related values of one relationship into batches.
+	 *
+	 * @param neo4jMappingContext The mapping context used to determine the concrete types of the related nodes
+	 * @param relationshipContext The context of the relationship being processed
+	 * @param relatedValues       The unified related values
+	 * @param valuesToBeSaved     The nodes extracted from the related values after the before bind callbacks
+	 * @param batchSize           The maximum size of a batch
+	 * @return The batches in the order of first occurrence of their type
+	 */
+	static List<NestedRelationshipBatch> of(Neo4jMappingContext neo4jMappingContext,
+		NestedRelationshipContext relationshipContext, List<Object> relatedValues, List<Object> valuesToBeSaved,
+		int batchSize) {
+
+		Assert.isTrue(relatedValues.size() == valuesToBeSaved.size(),
+			"Each related value requires exactly one value to be saved.");
+
+		boolean dynamic = relationshipContext.getInverse().isDynamicAssociation();
+		Map<List<Object>, List<NestedRelationshipBatch>> batchesByType = new LinkedHashMap<>();
+		for (int i = 0; i < relatedValues.size(); ++i) {
+			Object relatedValue = relatedValues.get(i);
+			Object valueToBeSaved = valuesToBeSaved.get(i);
+
+			Neo4jPersistentEntity<?> targetNodeDescription = neo4jMappingContext
+				.getPersistentEntity(valueToBeSaved.getClass());
+			String dynamicRelationshipType = dynamic ? ((Map.Entry<String, ?>) relatedValue).getKey() : null;
+
+			List<NestedRelationshipBatch> batches = batchesByType
+				.computeIfAbsent(Arrays.asList(targetNodeDescription, dynamicRelationshipType), k -> new ArrayList<>());
+			NestedRelationshipBatch currentBatch = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+			if (currentBatch == null || currentBatch.size() >= batchSize) {
+				currentBatch = new NestedRelationshipBatch(targetNodeDescription, dynamicRelationshipType);
+				batches.add(currentBatch);
+			}
+			currentBatch.relatedValues.add(relatedValue);
+			currentBatch.valuesToBeSaved.add(valueToBeSaved);
+		}
+
+		List<NestedRelationshipBatch> result = new ArrayList<>();
+		batchesByType.values().forEach(result::addAll);
+		return result;
+	}
+}
@@ -20,6 +20,7 @@ package org.neo4j.springframework.data.core;
 
 import java.util.Map;
 
+import org.neo4j.springframework.data.core.mapping.LazyLoadingProxy;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
@@ -43,13 +44,17 @@ final class NestedRelationshipContext {
 
 	private final boolean inverseValueIsEmpty;
 
+	private final boolean inverseValueIsNotLoaded;
+
 	private NestedRelationshipContext(Neo4jPersistentProperty inverse, Object value,
-		RelationshipDescription relationship, Class<?> associationTargetType, boolean inverseValueIsEmpty) {
+		RelationshipDescription relationship, Class<?> associationTargetType, boolean inverseValueIsEmpty,
+		boolean inverseValueIsNotLoaded) {
 		this.inverse = inverse;
 		this.value = value;
 		this.relationship = relationship;
 		this.associationTargetType = associationTargetType;
 		this.inverseValueIsEmpty = inverseValueIsEmpty;
+		this.inverseValueIsNotLoaded = inverseValueIsNotLoaded;
 	}
 
 	Neo4jPersistentProperty getInverse() {
@@ -72,6 +77,14 @@ final class NestedRelationshipContext {
 		return inverseValueIsEmpty;
 	}
 
+	/**
+	 * @return True, if the value is a lazily fetched relationship that has not been loaded and thus not been changed
+	 * @since 1.0.1
+	 */
+	boolean inverseValueIsNotLoaded() {
+		return inverseValueIsNotLoaded;
+	}
+
 	boolean hasRelationshipWithProperties() {
 		return this.relationship.hasRelationshipProperties();
 	}
@@ -97,8 +110,13 @@ final class NestedRelationshipContext {
 
 		Neo4jPersistentProperty inverse = handler.getInverse();
 
-		boolean inverseValueIsEmpty = propertyAccessor.getProperty(inverse) == null;
 		Object value = propertyAccessor.getProperty(inverse);
+		boolean inverseValueIsNotLoaded = false;
+		if (value instanceof LazyLoadingProxy) {
+			inverseValueIsNotLoaded = !((LazyLoadingProxy) value).isLoaded();
+			value = inverseValueIsNotLoaded ? null : ((LazyLoadingProxy) value).getTarget();
+		}
+		boolean inverseValueIsEmpty = value == null;
 
 		RelationshipDescription relationship = neo4jPersistentEntity
 			.getRelationships().stream()
@@ -111,6 +129,6 @@ final class NestedRelationshipContext {
 			: inverse.getAssociationTargetType();
 
 		return new NestedRelationshipContext(inverse, value, relationship, associationTargetType,
-			inverseValueIsEmpty);
+			inverseValueIsEmpty, inverseValueIsNotLoaded);
 	}
 }
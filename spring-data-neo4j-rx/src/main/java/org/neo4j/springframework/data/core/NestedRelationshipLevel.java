@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.lang.Nullable;
+
+/**
+ * All related nodes and relationships of one depth level of the aggregates being saved in level order. The related
+ * nodes are grouped by their entity type, the relationships by the relationship they belong to, so that each group
+ * can be written with a single statement, regardless of how many parents the level has.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class NestedRelationshipLevel {
+
+	/**
+	 * The related nodes of this level, indexed by their entity type. May contain duplicates.
+	 */
+	private final Map<Neo4jPersistentEntity<?>, List<Object>> valuesToBeSaved = new LinkedHashMap<>();
+
+	private final Map<List<Object>, RelationshipsToRemove> relationshipsToRemove = new LinkedHashMap<>();
+
+	private final Map<List<Object>, RelationshipsToCreate> relationshipsToCreate = new LinkedHashMap<>();
+
+	/**
+	 * Records that the existing relationships of a parent need to be removed before the new ones are created.
+	 *
+	 * @param parentNodeDescription The description of the parent
+	 * @param fromId                The id of the parent
+	 * @param relationship          The relationship to remove
+	 * @param targetNodeDescription The description of the related nodes
+	 */
+	void addRelationshipsToRemove(Neo4jPersistentEntity<?> parentNodeDescription, Object fromId,
+		RelationshipDescription relationship, Neo4jPersistentEntity<?> targetNodeDescription) {
+
+		relationshipsToRemove.computeIfAbsent(
+			Arrays.asList(parentNodeDescription, relationship, targetNodeDescription),
+			k -> new RelationshipsToRemove(parentNodeDescription, relationship, targetNodeDescription))
+			.fromIds.add(fromId);
+	}
+
+	/**
+	 * Records the related nodes of a parent and the relationships to them.
+	 *
+	 * @param parentNodeDescription The description of the parent
+	 * @param fromId                The id of the parent
+	 * @param relationship          The relationship between the parent and the related nodes
+	 * @param batch                 All related values of the parent having the same type
+	 */
+	void addRelationships(Neo4jPersistentEntity<?> parentNodeDescription, Object fromId,
+		RelationshipDescription relationship, NestedRelationshipBatch batch) {
+
+		Neo4jPersistentEntity<?> targetNodeDescription = batch.getTargetNodeDescription();
+		valuesToBeSaved.computeIfAbsent(targetNodeDescription, k -> new ArrayList<>())
+			.addAll(batch.getValuesToBeSaved());
+
+		String dynamicRelationshipType = batch.getDynamicRelationshipType();
+		RelationshipsToCreate relationships = relationshipsToCreate.computeIfAbsent(
+			Arrays.asList(parentNodeDescription, relationship, dynamicRelationshipType, targetNodeDescription),
+			k -> new RelationshipsToCreate(parentNodeDescription, relationship, dynamicRelationshipType,
+				targetNodeDescription));
+		for (int i = 0; i < batch.size(); ++i) {
+			relationships.fromIds.add(fromId);
+			relationships.relatedValues.add(batch.getRelatedValues().get(i));
+			relationships.valuesToBeSaved.add(batch.getValuesToBeSaved().get(i));
+		}
+	}
+
+	Map<Neo4jPersistentEntity<?>, List<Object>> getValuesToBeSaved() {
+		return valuesToBeSaved;
+	}
+
+	Collection<RelationshipsToRemove> getRelationshipsToRemove() {
+		return relationshipsToRemove.values();
+	}
+
+	Collection<RelationshipsToCreate> getRelationshipsToCreate() {
+		return relationshipsToCreate.values();
+	}
+
+	/**
+	 * Relationships of one kind to remove from many parents.
+	 */
+	static final class RelationshipsToRemove {
+
+		private final Neo4jPersistentEntity<?> parentNodeDescription;
+
+		private final RelationshipDescription relationship;
+
+		private final Neo4jPersistentEntity<?> targetNodeDescription;
+
+		private final List<Object> fromIds = new ArrayList<>();
+
+		private RelationshipsToRemove(Neo4jPersistentEntity<?> parentNodeDescription,
+			RelationshipDescription relationship, Neo4jPersistentEntity<?> targetNodeDescription) {
+			this.parentNodeDescription = parentNodeDescription;
+			this.relationship = relationship;
+			this.targetNodeDescription = targetNodeDescription;
+		}
+
+		/**
+		 * @return A statement expecting the ids of the parents as {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_IDS}
+		 */
+		Statement getStatement() {
+			return CypherGenerator.INSTANCE
+				.createRelationshipsOfManyNodesRemoveQuery(parentNodeDescription, relationship, targetNodeDescription);
+		}
+
+		List<Object> getFromIds() {
+			return fromIds;
+		}
+	}
+
+	/**
+	 * Relationships of one kind and type to create between many parents and their related nodes.
+	 */
+	static final class RelationshipsToCreate {
+
+		private final Neo4jPersistentEntity<?> parentNodeDescription;
+
+		private final RelationshipDescription relationship;
+
+		private final @Nullable String dynamicRelationshipType;
+
+		private final Neo4jPersistentEntity<?> targetNodeDescription;
+
+		/**
+		 * The ids of the parents, the related values and the nodes to be saved of one relationship share an index.
+		 */
+		private final List<Object> fromIds = new ArrayList<>();
+
+		private final List<Object> relatedValues = new ArrayList<>();
+
+		private final List<Object> valuesToBeSaved = new ArrayList<>();
+
+		private RelationshipsToCreate(Neo4jPersistentEntity<?> parentNodeDescription,
+			RelationshipDescription relationship, @Nullable String dynamicRelationshipType,
+			Neo4jPersistentEntity<?> targetNodeDescription) {
+			this.parentNodeDescription = parentNodeDescription;
+			this.relationship = relationship;
+			this.dynamicRelationshipType = dynamicRelationshipType;
+			this.targetNodeDescription = targetNodeDescription;
+		}
+
+		/**
+		 * @return A statement expecting the rows as {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_ENTITY_LIST_PARAM}
+		 */
+		Statement getStatement() {
+			return CypherGenerator.INSTANCE.createRelationshipsOfManyNodesCreationQuery(parentNodeDescription,
+				relationship, dynamicRelationshipType, targetNodeDescription);
+		}
+
+		/**
+		 * Creates the rows for the statement. All related nodes must have been saved before.
+		 *
+		 * @param neo4jMappingContext The mapping context used to convert the properties of relationships
+		 * @param savedNodes          The nodes saved during this operation
+		 * @return One row per relationship
+		 */
+		List<Map<String, Object>> getRows(Neo4jMappingContext neo4jMappingContext, SavedNodes savedNodes) {
+
+			boolean withProperties = relationship.hasRelationshipProperties();
+			List<Map<String, Object>> rows = new ArrayList<>(relatedValues.size());
+			for (int i = 0; i < relatedValues.size(); ++i) {
+				Map<String, Object> row = new HashMap<>();
+				if (withProperties) {
+					neo4jMappingContext.getConverter().write(((Map.Entry) relatedValues.get(i)).getValue(), row);
+				}
+				row.put(FROM_ID_PARAMETER_NAME, fromIds.get(i));
+				row.put(NAME_OF_ID, savedNodes.getInternalId(valuesToBeSaved.get(i)));
+				rows.add(row);
+			}
+			return rows;
+		}
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.neo4j.springframework.data.core.support.Relationships;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+
+/**
+ * Plans the saves of related nodes and the relationships to them. The planning is shared by the {@link Neo4jTemplate},
+ * the {@link ReactiveNeo4jTemplate} and the {@link AsyncNeo4jTemplate}, which only execute the planned statements in
+ * their respective programming model.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class NestedRelationshipPlanner {
+
+	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE = "An entity with the required version does not exist.";
+
+	private final Neo4jMappingContext neo4jMappingContext;
+
+	NestedRelationshipPlanner(Neo4jMappingContext neo4jMappingContext) {
+		this.neo4jMappingContext = neo4jMappingContext;
+	}
+
+	/**
+	 * Creates the context of an association if the association needs to be processed. It doesn't need to be processed
+	 * if the opposite direction of the relationship has already been processed or if it is a lazy relationship that
+	 * has never been loaded and therefore cannot have been changed.
+	 *
+	 * @param handler                           The association
+	 * @param propertyAccessor                  The property accessor of the parent
+	 * @param parentNodeDescription             The description of the parent
+	 * @param processedRelationshipDescriptions The relationships that have already been processed
+	 * @return An empty optional if the association doesn't need to be processed
+	 */
+	Optional<NestedRelationshipContext> getContextToProcess(Association<Neo4jPersistentProperty> handler,
+		PersistentPropertyAccessor<?> propertyAccessor, Neo4jPersistentEntity<?> parentNodeDescription,
+		Set<RelationshipDescription> processedRelationshipDescriptions) {
+
+		NestedRelationshipContext relationshipContext = NestedRelationshipContext
+			.of(handler, propertyAccessor, parentNodeDescription);
+
+		// break recursive procession and deletion of previously created relationships
+		RelationshipDescription relationshipObverse = relationshipContext.getRelationship().getRelationshipObverse();
+		if (relationshipObverse != null && processedRelationshipDescriptions.contains(relationshipObverse)) {
+			return Optional.empty();
+		}
+
+		// lazy relationships that have never been loaded cannot have been changed
+		if (relationshipContext.inverseValueIsNotLoaded()) {
+			return Optional.empty();
+		}
+
+		return Optional.of(relationshipContext);
+	}
+
+	/**
+	 * @param relationshipContext The context of a non empty association
+	 * @return The related values, either the related entities or map entries of them and their relationship
+	 */
+	static List<Object> getRelatedValues(NestedRelationshipContext relationshipContext) {
+
+		return new ArrayList<>(Relationships
+			.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue()));
+	}
+
+	/**
+	 * Extracts the nodes to be saved from the related values. The callbacks are invoked only once per related node,
+	 * nodes saved before are kept as they are.
+	 *
+	 * @param relationshipContext The context of the association
+	 * @param relatedValues       The related values of the association
+	 * @param savedNodes          The nodes saved during this operation
+	 * @param boundValues         The nodes the callbacks have been invoked for, indexed by the original node
+	 * @param beforeBind          The callback to invoke before a node is bound
+	 * @return One node to be saved per related value
+	 */
+	static List<Object> getValuesToBeSaved(NestedRelationshipContext relationshipContext, List<Object> relatedValues,
+		SavedNodes savedNodes, Map<Object, Object> boundValues, UnaryOperator<Object> beforeBind) {
+
+		List<Object> valuesToBeSaved = new ArrayList<>(relatedValues.size());
+		for (Object relatedValue : relatedValues) {
+			Object value = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
+			valuesToBeSaved.add(savedNodes.contains(value) ? value : boundValues.computeIfAbsent(value, beforeBind));
+		}
+		return valuesToBeSaved;
+	}
+
+	/**
+	 * Collects the next level of a save in level order: All associations of the given parents that need to be
+	 * processed, with the existing relationships of parents that are not new to be removed before.
+	 *
+	 * @param parentObjects                     The nodes saved on the previous level
+	 * @param processedRelationshipDescriptions The relationships processed on the previous levels, gets the
+	 *                                          relationships of this level added
+	 * @param savedNodes                        The nodes saved during this operation
+	 * @param beforeBind                        The callback to invoke before a node is bound
+	 * @return The level
+	 */
+	NestedRelationshipLevel collectLevel(List<?> parentObjects,
+		Set<RelationshipDescription> processedRelationshipDescriptions, SavedNodes savedNodes,
+		UnaryOperator<Object> beforeBind) {
+
+		NestedRelationshipLevel level = new NestedRelationshipLevel();
+		Set<RelationshipDescription> relationshipDescriptionsOfLevel = new HashSet<>();
+		// the callbacks are invoked only once per related node
+		Map<Object, Object> boundValues = new IdentityHashMap<>();
+		for (Object parentObject : parentObjects) {
+
+			Neo4jPersistentEntity<?> neo4jPersistentEntity = neo4jMappingContext
+				.getPersistentEntity(parentObject.getClass());
+			PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
+			Object fromId = neo4jPersistentEntity.isUsingInternalIds()
+				? savedNodes.getInternalId(parentObject)
+				: propertyAccessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty());
+
+			neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) handler ->
+				getContextToProcess(handler, propertyAccessor, neo4jPersistentEntity, processedRelationshipDescriptions)
+					.ifPresent(relationshipContext -> {
+
+						if (!neo4jPersistentEntity.isNew(parentObject)) {
+							level.addRelationshipsToRemove(neo4jPersistentEntity, fromId,
+								relationshipContext.getRelationship(),
+								neo4jMappingContext.getPersistentEntity(relationshipContext.getAssociationTargetType()));
+						}
+
+						if (relationshipContext.inverseValueIsEmpty()) {
+							return;
+						}
+
+						relationshipDescriptionsOfLevel.add(relationshipContext.getRelationship());
+
+						List<Object> relatedValues = getRelatedValues(relationshipContext);
+						List<Object> valuesToBeSaved = getValuesToBeSaved(relationshipContext, relatedValues,
+							savedNodes, boundValues, beforeBind);
+						for (NestedRelationshipBatch batch : NestedRelationshipBatch.of(neo4jMappingContext,
+							relationshipContext, relatedValues, valuesToBeSaved, Integer.MAX_VALUE)) {
+							level.addRelationships(neo4jPersistentEntity, fromId,
+								relationshipContext.getRelationship(), batch);
+						}
+					}));
+		}
+		processedRelationshipDescriptions.addAll(relationshipDescriptionsOfLevel);
+		return level;
+	}
+
+	/**
+	 * Collects the related nodes of the next level of a save in level order that have not been saved yet. This is
+	 * required when the callbacks to invoke before a node is bound are asynchronous: They are invoked on the nodes
+	 * returned here first and the results are passed to {@link #collectLevel} afterwards.
+	 *
+	 * @param parentObjects                     The nodes saved on the previous level
+	 * @param processedRelationshipDescriptions The relationships processed on the previous levels, stays unchanged
+	 * @param savedNodes                        The nodes saved during this operation
+	 * @return The distinct related nodes that have not been saved yet
+	 */
+	List<Object> collectUnsavedNodesOfLevel(List<?> parentObjects,
+		Set<RelationshipDescription> processedRelationshipDescriptions, SavedNodes savedNodes) {
+
+		Set<Object> unsavedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Object> result = new ArrayList<>();
+		for (Object parentObject : parentObjects) {
+
+			Neo4jPersistentEntity<?> neo4jPersistentEntity = neo4jMappingContext
+				.getPersistentEntity(parentObject.getClass());
+			PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
+
+			neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) handler ->
+				getContextToProcess(handler, propertyAccessor, neo4jPersistentEntity, processedRelationshipDescriptions)
+					.filter(relationshipContext -> !relationshipContext.inverseValueIsEmpty())
+					.ifPresent(relationshipContext -> {
+						for (Object relatedValue : getRelatedValues(relationshipContext)) {
+							Object value = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
+							if (!savedNodes.contains(value) && unsavedNodes.add(value)) {
+								result.add(value);
+							}
+						}
+					}));
+		}
+		return result;
+	}
+
+	/**
+	 * @param targetNodeDescription The description of the related nodes
+	 * @param valuesToBeSaved       The related nodes to be saved
+	 * @return True, if the nodes need to be saved one by one, as their internal ids or versions are required
+	 */
+	static boolean isSavedOneByOne(Neo4jPersistentEntity<?> targetNodeDescription, List<Object> valuesToBeSaved) {
+
+		return valuesToBeSaved.size() == 1 || targetNodeDescription.isUsingInternalIds()
+			|| targetNodeDescription.hasVersionProperty();
+	}
+
+	/**
+	 * @param targetNodeDescription The description of a related node saved on its own
+	 * @param optionalInternalId    The result of saving the node
+	 * @return The internal id of the saved node
+	 * @throws OptimisticLockingFailureException if a versioned node has not been saved
+	 */
+	static Long getInternalIdOfSavedNode(Neo4jPersistentEntity<?> targetNodeDescription,
+		Optional<Long> optionalInternalId) {
+
+		if (targetNodeDescription.hasVersionProperty() && !optionalInternalId.isPresent()) {
+			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		}
+		return optionalInternalId.orElseThrow(() -> new IllegalStateException(
+			"Could not determine the internal id of the saved node of type " + targetNodeDescription.getType()));
+	}
+
+	/**
+	 * Marks the related nodes as saved. If an internal id is used, it gets set on the node to link this entity in the
+	 * next iteration.
+	 *
+	 * @param targetNodeDescription The description of the related nodes
+	 * @param savedValues           The saved nodes
+	 * @param internalIds           The internal ids of the saved nodes, in the same order
+	 * @param savedNodes            The nodes saved during this operation
+	 */
+	static void markAsSaved(Neo4jPersistentEntity<?> targetNodeDescription, List<Object> savedValues,
+		List<Long> internalIds, SavedNodes savedNodes) {
+
+		for (int i = 0; i < savedValues.size(); ++i) {
+			Object savedValue = savedValues.get(i);
+			Long internalId = internalIds.get(i);
+
+			if (targetNodeDescription.isUsingInternalIds()) {
+				targetNodeDescription.getPropertyAccessor(savedValue)
+					.setProperty(targetNodeDescription.getRequiredIdProperty(), internalId);
+			}
+			savedNodes.add(savedValue, internalId);
+		}
+	}
+
+	/**
+	 * Creates the statement for the relationships of a batch whose related nodes all have been saved.
+	 *
+	 * @return An empty optional if there's nothing to write
+	 * @see RelationshipStatementHolder#createStatementForRelationships
+	 */
+	Optional<RelationshipStatementHolder> createStatementForRelationships(
+		Neo4jPersistentEntity<?> parentNodeDescription, NestedRelationshipContext relationshipContext,
+		NestedRelationshipBatch batch, ExistingRelationships existingRelationships, SavedNodes savedNodes) {
+
+		List<Long> relatedInternalIds = new ArrayList<>(batch.size());
+		for (Object valueToBeSaved : batch.getValuesToBeSaved()) {
+			relatedInternalIds.add(savedNodes.getInternalId(valueToBeSaved));
+		}
+		return RelationshipStatementHolder.createStatementForRelationships(neo4jMappingContext, parentNodeDescription,
+			relationshipContext, batch, relatedInternalIds, existingRelationships);
+	}
+}
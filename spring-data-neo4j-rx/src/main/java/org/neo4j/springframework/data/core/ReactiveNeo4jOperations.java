@@ -21,10 +21,13 @@ package org.neo4j.springframework.data.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.apiguardian.api.API;
 import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
+import org.reactivestreams.Publisher;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 
 /**
@@ -87,6 +90,18 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all entities of a given type, fetching their relationships according to the given options. Relationships
+	 * not fetched are loaded on first access.
+	 *
+	 * @param domainType   the type of the entities. Must not be {@code null}.
+	 * @param fetchOptions the options describing the relationships to fetch. Must not be {@code null}.
+	 * @param <T>          the type of the entities. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 1.0.1
+	 */
+	<T> Flux<T> findAll(Class<T> domainType, FetchOptions fetchOptions);
+
 	/**
 	 * Load all entities of a given type by executing given statement.
 	 *
@@ -161,6 +176,19 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Mono<T> findById(Object id, Class<T> domainType);
 
+	/**
+	 * Load an entity from the database, fetching its relationships according to the given options. Relationships
+	 * not fetched are loaded on first access.
+	 *
+	 * @param id           the id of the entity to load. Must not be {@code null}.
+	 * @param domainType   the type of the entity. Must not be {@code null}.
+	 * @param fetchOptions the options describing the relationships to fetch. Must not be {@code null}.
+	 * @param <T>          the type of the entity.
+	 * @return the loaded entity. Might return an empty mono.
+	 * @since 1.0.1
+	 */
+	<T> Mono<T> findById(Object id, Class<T> domainType, FetchOptions fetchOptions);
+
 	/**
 	 * Load all entities of a given type that are identified by the given ids.
 	 *
@@ -189,6 +217,24 @@ public interface ReactiveNeo4jOperations {
 	 */
 	<T> Flux<T> saveAll(Iterable<T> instances);
 
+	/**
+	 * Saves a stream of entities in batches, including all the related entities of the entities. The stream is consumed
+	 * with backpressure and cut into batches of at most {@code maxBatchSize} entities. A batch is closed earlier when
+	 * {@code maxBatchDuration} has passed since its first entity arrived. Each batch is written like
+	 * {@link #saveAll(Iterable)}, so that the memory needed doesn't depend on the length of the stream. Entities of
+	 * different classes within one batch are written one class after another, in the order the classes first appear in
+	 * the batch.
+	 *
+	 * @param instances        the instances to be saved. Must not be {@code null}.
+	 * @param maxBatchSize     the maximum number of entities written in one batch. Must be greater than 0.
+	 * @param maxBatchDuration the maximum time a batch waits for more entities after its first entity. Must not be
+	 *                         {@code null}.
+	 * @param <T>              the type of the entity.
+	 * @return the saved instances, emitted as their batches have been written.
+	 * @since 1.0.1
+	 */
+	<T> Flux<T> saveAll(Publisher<T> instances, int maxBatchSize, Duration maxBatchDuration);
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -214,6 +260,65 @@ public interface ReactiveNeo4jOperations {
 	 */
 	Mono<Void> deleteAll(Class<?> domainType);
 
+	/**
+	 * Deletes all entities of a given type in batches of the given size. Each batch is executed in its own transaction
+	 * when no transaction is ongoing, so that the transaction state on the server stays bounded regardless of the number
+	 * of entities to delete. Batches are executed until no more entities are deleted.
+	 * <p>
+	 * When called inside an ongoing transaction, all batches join that transaction and are committed or rolled back
+	 * together with it, so the transaction state is not bounded. Call this method without a surrounding transaction
+	 * (the repositories run it with {@link org.springframework.transaction.annotation.Propagation#NOT_SUPPORTED}) to
+	 * commit each batch on its own.
+	 *
+	 * @param domainType type of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize  the maximum number of entities deleted in one batch. Must be greater than 0.
+	 * @return the accumulated progress, emitted after each batch
+	 * @since 1.0.1
+	 */
+	Flux<DeleteProgress> deleteAllInBatches(Class<?> domainType, int batchSize);
+
+	/**
+	 * Deletes all entities with one of the given ids in batches of the given size, including all entities related to
+	 * that entity. Each batch is executed in its own transaction when no transaction is ongoing, otherwise all batches
+	 * join the ongoing transaction, as described for {@link #deleteAllInBatches}.
+	 *
+	 * @param ids        the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the entity
+	 * @param batchSize  the maximum number of ids used in one batch. Must be greater than 0.
+	 * @param <T>        the type of the entity.
+	 * @return the accumulated progress, emitted after each batch
+	 * @since 1.0.1
+	 */
+	<T> Flux<DeleteProgress> deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int batchSize);
+
+	/**
+	 * Imports a stream of entities in chunks of 1000 entities, one chunk after another.
+	 *
+	 * @param instances the instances to be imported. Must not be {@code null}.
+	 * @param <T>       the type of the entities.
+	 * @return the statistics of the import
+	 * @see #importAll(Publisher, int, int)
+	 * @since 1.0.1
+	 */
+	<T> Mono<ImportStatistics> importAll(Publisher<T> instances);
+
+	/**
+	 * Imports a stream of entities in chunks. Each chunk is written with one batched statement and committed in its own
+	 * transaction, regardless of any ongoing transaction. Chunks that have been committed stay committed when a later
+	 * chunk fails. Only the nodes of the entities are written, related entities are not imported, and generated
+	 * internal ids are not written back into the entities. Versioned entities are only written when their version
+	 * matches the one in the database. Otherwise an {@link org.springframework.dao.OptimisticLockingFailureException}
+	 * is emitted and the chunk containing them is rolled back.
+	 *
+	 * @param instances   the instances to be imported. Must not be {@code null}.
+	 * @param chunkSize   the number of entities written in one chunk. Must be greater than 0.
+	 * @param parallelism the number of chunks written at the same time, each in its own session. Must be greater than 0.
+	 * @param <T>         the type of the entities.
+	 * @return the statistics of the import
+	 * @since 1.0.1
+	 */
+	<T> Mono<ImportStatistics> importAll(Publisher<T> instances, int chunkSize, int parallelism);
+
 	/**
 	 * Takes a prepared query, containing all the information about the cypher template to be used, needed parameters and
 	 * an optional mapping function, and turns it into an executable query.
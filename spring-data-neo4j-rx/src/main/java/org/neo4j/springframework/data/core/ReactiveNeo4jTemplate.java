@@ -21,28 +21,31 @@ package org.neo4j.springframework.data.core;
 import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 import static org.neo4j.springframework.data.core.DatabaseSelection.*;
-import static org.neo4j.springframework.data.core.RelationshipStatementHolder.*;
 import static org.neo4j.springframework.data.core.cypher.Cypher.*;
 import static org.neo4j.springframework.data.core.schema.Constants.*;
-import static org.neo4j.springframework.data.core.support.Relationships.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
+import org.neo4j.driver.reactive.RxResult;
 import org.neo4j.driver.summary.ResultSummary;
-import org.neo4j.driver.summary.SummaryCounters;
 import org.neo4j.springframework.data.core.cypher.Condition;
 import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
@@ -51,9 +54,10 @@ import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
-import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.neo4j.springframework.data.repository.event.ReactiveBeforeBindCallback;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
@@ -65,6 +69,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionContextManager;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -80,6 +85,9 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(ReactiveNeo4jTemplate.class));
 
 	private static final String OPTIMISTIC_LOCKING_ERROR_MESSAGE = "An entity with the required version does not exist.";
+	private static final String OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE = "Entities with the ids %s and the required versions do not exist.";
+
+	private static final int DEFAULT_IMPORT_CHUNK_SIZE = 1000;
 
 	private static final Renderer renderer = Renderer.getDefaultRenderer();
 
@@ -89,10 +97,18 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	private final CypherGenerator statementBuilder;
 
+	private final NestedRelationshipPlanner nestedRelationshipPlanner;
+
 	private ReactiveNeo4jEvents eventSupport;
 
 	private final ReactiveDatabaseSelectionProvider databaseSelectionProvider;
 
+	private int batchSize = 1;
+
+	private boolean synchronizeRelationships = false;
+
+	private boolean levelOrderSaves = false;
+
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext,
 		ReactiveDatabaseSelectionProvider databaseSelectionProvider) {
 
@@ -103,6 +119,7 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		this.neo4jClient = neo4jClient;
 		this.neo4jMappingContext = neo4jMappingContext;
 		this.statementBuilder = CypherGenerator.INSTANCE;
+		this.nestedRelationshipPlanner = new NestedRelationshipPlanner(neo4jMappingContext);
 		this.eventSupport = new ReactiveNeo4jEvents(ReactiveEntityCallbacks.create());
 		this.databaseSelectionProvider = databaseSelectionProvider;
 	}
@@ -143,11 +160,17 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	@Override
 	public <T> Flux<T> findAll(Class<T> domainType) {
+		return findAll(domainType, FetchOptions.defaults());
+	}
+
+	@Override
+	public <T> Flux<T> findAll(Class<T> domainType, FetchOptions fetchOptions) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = statementBuilder.prepareMatchOf(entityMetaData)
-			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData)).build();
-		return createExecutableQuery(domainType, statement).flatMapMany(ExecutableQuery::getResults);
+			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData, null, fetchOptions)).build();
+		return createExecutableQuery(domainType, renderer.render(statement), Collections.emptyMap(), fetchOptions)
+			.flatMapMany(ExecutableQuery::getResults);
 	}
 
 	@Override
@@ -184,14 +207,20 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 	@Override
 	public <T> Mono<T> findById(Object id, Class<T> domainType) {
+		return findById(id, domainType, FetchOptions.defaults());
+	}
+
+	@Override
+	public <T> Mono<T> findById(Object id, Class<T> domainType, FetchOptions fetchOptions) {
 
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
 		Statement statement = statementBuilder
 			.prepareMatchOf(entityMetaData, entityMetaData.getIdExpression().isEqualTo(parameter(NAME_OF_ID)))
-			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData))
+			.returning(statementBuilder.createReturnStatementForMatch(entityMetaData, null, fetchOptions))
 			.build();
 
-		return createExecutableQuery(domainType, statement, singletonMap(NAME_OF_ID, convertIdValues(id)))
+		return createExecutableQuery(domainType, renderer.render(statement),
+			singletonMap(NAME_OF_ID, convertIdValues(id)), fetchOptions)
 			.flatMap(ExecutableQuery::getSingleResult);
 	}
 
@@ -242,17 +271,20 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 						}));
 
 
+				SavedNodes savedNodes = new SavedNodes(neo4jMappingContext);
 				if (!entityMetaData.isUsingInternalIds()) {
-					return idMono.then(processAssociations(entityMetaData, entity, inDatabase))
+					return idMono.doOnNext(internalId -> savedNodes.add(entity, internalId))
+						.then(processAssociations(entityMetaData, singletonList(entity), inDatabase, savedNodes))
 						.thenReturn(entity);
 				} else {
 					return idMono.map(internalId -> {
 						PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
 						propertyAccessor.setProperty(entityMetaData.getRequiredIdProperty(), internalId);
+						savedNodes.add(entity, internalId);
 
 						return propertyAccessor.getBean();
-					}).flatMap(savedEntity -> processAssociations(entityMetaData, savedEntity, inDatabase)
-						.thenReturn(savedEntity));
+					}).flatMap(savedEntity -> processAssociations(entityMetaData, singletonList(savedEntity), inDatabase,
+						savedNodes).thenReturn(savedEntity));
 				}
 			});
 	}
@@ -275,40 +307,157 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(entities);
 		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
 
-		if (entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()) {
-			log.debug("Saving entities using single statements.");
-
-			return getDatabaseName().flatMapMany(databaseName ->
-				Flux.fromIterable(entities).flatMap(e -> this.saveImpl(e, databaseName.getValue())));
-		}
-
 		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
 		return getDatabaseName().flatMapMany(databaseName ->
 			Flux.fromIterable(entities)
 				.flatMap(eventSupport::maybeCallBeforeBind)
 				.collectList()
-				.flatMapMany(
-					entitiesToBeSaved -> Mono
+				.flatMapMany(entitiesToBeSaved -> {
+					// each related node is saved only once, even if it is related to several of the saved entities
+					SavedNodes savedNodes = new SavedNodes(neo4jMappingContext);
+					return Mono
 						.defer(() -> { // Defer the actual save statement until the previous flux completes
 							List<Map<String, Object>> boundedEntityList = entitiesToBeSaved.stream()
 								.map(binderFunction)
 								.collect(toList());
 
+							SavedIds ids = SavedIds.of(boundedEntityList);
 							return neo4jClient
 								.query(() -> renderer
 									.render(statementBuilder.prepareSaveOfMultipleInstancesOf(entityMetaData)))
 								.in(databaseName.getValue())
-								.bind(boundedEntityList).to(NAME_OF_ENTITY_LIST_PARAM).run();
-						})
-						.doOnNext(resultSummary -> {
-							SummaryCounters counters = resultSummary.counters();
-							log.debug(() -> String.format(
-								"Created %d and deleted %d nodes, created %d and deleted %d relationships and set %d properties.",
-								counters.nodesCreated(), counters.nodesDeleted(), counters.relationshipsCreated(),
-								counters.relationshipsDeleted(), counters.propertiesSet()));
+								.bind(ids.getRows()).to(NAME_OF_ENTITY_LIST_PARAM)
+								.fetch().all().collectList()
+								.map(ids::read)
+								.flatMap(savedIds -> {
+									if (entityMetaData.hasVersionProperty()) {
+										List<Object> idsOfUnsavedEntities = savedIds
+											.getIdsOfUnsavedEntities(entityMetaData, entitiesToBeSaved);
+										if (!idsOfUnsavedEntities.isEmpty()) {
+											return Mono.error(() -> new OptimisticLockingFailureException(
+												String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE,
+													idsOfUnsavedEntities)));
+										}
+									}
+
+									List<T> savedEntities = entityMetaData.isUsingInternalIds()
+										? savedIds.applyTo(entityMetaData, entitiesToBeSaved)
+										: entitiesToBeSaved;
+									addAll(savedNodes, savedEntities, savedIds.getInternalIds());
+									return Mono.just(savedEntities);
+								});
 						})
-						.thenMany(Flux.fromIterable(entitiesToBeSaved))
-				));
+						.flatMapMany(savedEntities -> processAssociations(entityMetaData, savedEntities,
+							databaseName.getValue(), savedNodes).thenMany(Flux.fromIterable(savedEntities)));
+				}));
+	}
+
+	private static void addAll(SavedNodes savedNodes, List<?> savedEntities, List<Long> internalIds) {
+
+		for (int i = 0; i < savedEntities.size(); ++i) {
+			savedNodes.add(savedEntities.get(i), internalIds.get(i));
+		}
+	}
+
+	@Override
+	public <T> Flux<T> saveAll(Publisher<T> instances, int maxBatchSize, Duration maxBatchDuration) {
+
+		Assert.notNull(instances, "The instances to save are required.");
+		Assert.isTrue(maxBatchSize > 0, "The batch size must be greater than 0.");
+		Assert.notNull(maxBatchDuration, "The maximum duration of a batch is required.");
+
+		// A batch may contain entities of several subtypes, each of them is saved with its own statement
+		return batch(instances, maxBatchSize, maxBatchDuration)
+			.concatMap(batch -> Flux.fromIterable(groupByClass(batch)).concatMap(this::saveAll));
+	}
+
+	/**
+	 * Groups the given entities by their concrete class, keeping the order of the classes and the order of the entities
+	 * of each class.
+	 */
+	private static <T> Collection<List<T>> groupByClass(List<T> entities) {
+
+		return entities.stream().collect(groupingBy(Object::getClass, LinkedHashMap::new, toList())).values();
+	}
+
+	/**
+	 * Cuts a stream into batches of at most {@code maxBatchSize} elements. A batch is closed earlier when
+	 * {@code maxBatchDuration} has passed since its first element arrived. All batches share the upstream, which is
+	 * only requested as far as the current batch needs it. Unlike with {@link Flux#bufferTimeout(int, Duration)}, a
+	 * batch closed by its timeout is never emitted without demand.
+	 */
+	static <T> Flux<List<T>> batch(Publisher<T> instances, int maxBatchSize, Duration maxBatchDuration) {
+
+		// Synchronously fused sources would lose their remaining elements when the subscriber of a batch cancels
+		return Flux.from(instances).hide().publish(sharedInstances -> Mono
+			.defer(() -> sharedInstances.take(maxBatchSize)
+				// The timer of a batch starts with its first element, not when the batch is opened
+				.switchOnFirst((firstSignal, batch) -> firstSignal.hasValue() ? batch.take(maxBatchDuration) : batch)
+				.collectList())
+			.repeat()
+			// Only a completed upstream closes a batch before its first element
+			.takeWhile(batch -> !batch.isEmpty()), maxBatchSize);
+	}
+
+	@Override
+	public <T> Mono<ImportStatistics> importAll(Publisher<T> instances) {
+		return importAll(instances, DEFAULT_IMPORT_CHUNK_SIZE, 1);
+	}
+
+	@Override
+	public <T> Mono<ImportStatistics> importAll(Publisher<T> instances, int chunkSize, int parallelism) {
+
+		Assert.notNull(instances, "The instances to import are required.");
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+		Assert.isTrue(parallelism > 0, "The parallelism must be greater than 0.");
+
+		return getDatabaseName().flatMap(databaseName -> Flux.from(instances)
+			.concatMap(eventSupport::maybeCallBeforeBind)
+			.buffer(chunkSize)
+			// A new, inactive transaction context hides any ongoing transaction, so the client commits each chunk on its
+			// own. All other entries of the subscriber context are kept.
+			.flatMap(chunk -> importChunk(chunk, databaseName.getValue())
+				.subscriberContext(TransactionContextManager.createTransactionContext()), parallelism)
+			.reduce(ImportStatistics.empty(), ImportStatistics::merge)
+			.doOnNext(statistics -> log.debug(() -> String.format("Imported %d entities in %d chunks.",
+				statistics.getEntities(), statistics.getChunks()))));
+	}
+
+	private <T> Mono<ImportStatistics> importChunk(List<T> chunk, @Nullable String inDatabase) {
+
+		Class<T> domainClass = (Class<T>) CollectionUtils.findCommonElementType(chunk);
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainClass);
+
+		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(domainClass);
+		List<Map<String, Object>> entityList = chunk.stream().map(binderFunction).collect(toList());
+
+		Statement statement = statementBuilder.prepareSaveOfMultipleInstancesOf(entityMetaData);
+		if (!entityMetaData.hasVersionProperty()) {
+			return neo4jClient
+				.query(() -> renderer.render(statement))
+				.in(inDatabase)
+				.bind(entityList).to(NAME_OF_ENTITY_LIST_PARAM)
+				.run()
+				.map(summary -> ImportStatistics.ofChunk(chunk.size(), summary.counters()));
+		}
+
+		// Versioned entities are only written with a matching version, the others are missing from the result
+		SavedIds savedIds = SavedIds.of(entityList);
+		return neo4jClient.delegateTo(queryRunner -> {
+			RxResult result = queryRunner
+				.run(renderer.render(statement), singletonMap(NAME_OF_ENTITY_LIST_PARAM, savedIds.getRows()));
+			return Flux.from(result.records()).map(Record::asMap).collectList()
+				.map(savedIds::read)
+				.flatMap(ids -> {
+					List<Object> idsOfUnsavedEntities = ids.getIdsOfUnsavedEntities(entityMetaData, chunk);
+					if (!idsOfUnsavedEntities.isEmpty()) {
+						return Mono.error(() -> new OptimisticLockingFailureException(
+							String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities)));
+					}
+					return Mono.from(result.consume());
+				})
+				.map(summary -> ImportStatistics.ofChunk(chunk.size(), summary.counters()));
+		}).in(inDatabase).run();
 	}
 
 	@Override
@@ -351,6 +500,43 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 				.in(databaseName.getValue()).run().then());
 	}
 
+	@Override
+	public Flux<DeleteProgress> deleteAllInBatches(Class<?> domainType, int sizeOfBatch) {
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		Statement statement = statementBuilder.prepareDeleteOf(entityMetaData, null, sizeOfBatch);
+		return getDatabaseName().flatMapMany(databaseName ->
+			Mono.defer(() -> this.neo4jClient.query(() -> renderer.render(statement))
+				.in(databaseName.getValue()).run())
+				.map(ResultSummary::counters)
+				.repeat()
+				.takeWhile(counters -> counters.nodesDeleted() > 0))
+			.scan(DeleteProgress.none(), DeleteProgress::add)
+			.skip(1);
+	}
+
+	@Override
+	public <T> Flux<DeleteProgress> deleteAllByIdInBatches(Iterable<?> ids, Class<T> domainType, int sizeOfBatch) {
+
+		Assert.notNull(ids, "The ids are required.");
+		Assert.isTrue(sizeOfBatch > 0, "The batch size must be greater than 0.");
+
+		Neo4jPersistentEntity entityMetaData = neo4jMappingContext.getPersistentEntity(domainType);
+		String nameOfParameter = "ids";
+		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
+
+		Statement statement = statementBuilder.prepareDeleteOf(entityMetaData, condition);
+		return getDatabaseName().flatMapMany(databaseName ->
+			Flux.fromIterable(ids)
+				.buffer(sizeOfBatch)
+				.concatMap(batch -> this.neo4jClient.query(() -> renderer.render(statement))
+					.in(databaseName.getValue())
+					.bind(batch).to(nameOfParameter).run()
+					.map(ResultSummary::counters)))
+			.scan(DeleteProgress.none(), DeleteProgress::add)
+			.skip(1);
+	}
+
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
 		return createExecutableQuery(domainType, statement, Collections.emptyMap());
 	}
@@ -368,22 +554,120 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, String cypherQuery,
 		Map<String, Object> parameters) {
 
+		return createExecutableQuery(domainType, cypherQuery, parameters, FetchOptions.defaults());
+	}
+
+	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, String cypherQuery,
+		Map<String, Object> parameters, FetchOptions fetchOptions) {
+
 		PreparedQuery<T> preparedQuery = PreparedQuery.queryFor(domainType)
 			.withCypherQuery(cypherQuery)
 			.withParameters(parameters)
-			.usingMappingFunction(this.neo4jMappingContext.getRequiredMappingFunctionFor(domainType))
+			.usingMappingFunction(
+				this.neo4jMappingContext.getRequiredResultMappingFunctionFor(domainType, fetchOptions))
 			.build();
 		return this.toExecutableQuery(preparedQuery);
 	}
 
-	private Mono<Void> processAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
-		@Nullable String inDatabase) {
+	private Mono<Void> processAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, List<?> parentObjects,
+		@Nullable String inDatabase, SavedNodes savedNodes) {
+
+		if (levelOrderSaves) {
+			return processAssociationsInLevelOrder(parentObjects, inDatabase, new HashSet<>(), savedNodes);
+		}
+		return Flux.fromIterable(parentObjects)
+			.concatMap(parentObject -> processNestedAssociations(neo4jPersistentEntity, parentObject, inDatabase,
+				new HashSet<>(), savedNodes))
+			.then();
+	}
+
+	/**
+	 * Saves the related nodes of all parents breadth first, one level after another.
+	 */
+	private Mono<Void> processAssociationsInLevelOrder(List<?> parentObjects, @Nullable String inDatabase,
+		Set<RelationshipDescription> processedRelationshipDescriptions, SavedNodes savedNodes) {
+
+		return Mono.defer(() -> {
+			if (parentObjects.isEmpty()) {
+				return Mono.empty();
+			}
+
+			// the callbacks are asynchronous, so they are invoked on the new nodes before the level is collected
+			Map<Object, Object> boundValues = new IdentityHashMap<>();
+			return Flux.fromIterable(nestedRelationshipPlanner
+				.collectUnsavedNodesOfLevel(parentObjects, processedRelationshipDescriptions, savedNodes))
+				.concatMap(value -> eventSupport.maybeCallBeforeBind(value)
+					.doOnNext(boundValue -> boundValues.put(value, boundValue)))
+				.then(Mono.defer(() -> saveLevel(nestedRelationshipPlanner.collectLevel(parentObjects,
+					processedRelationshipDescriptions, savedNodes, value -> boundValues.getOrDefault(value, value)),
+					inDatabase, savedNodes)))
+				.flatMap(savedValues -> processAssociationsInLevelOrder(savedValues, inDatabase,
+					processedRelationshipDescriptions, savedNodes));
+		});
+	}
+
+	/**
+	 * Writes one level and returns the nodes that have been saved on it, which are the parents of the next level.
+	 */
+	private Mono<List<Object>> saveLevel(NestedRelationshipLevel level, @Nullable String inDatabase,
+		SavedNodes savedNodes) {
+
+		List<Object> savedValues = new ArrayList<>();
+		return Flux.fromIterable(level.getRelationshipsToRemove())
+			.concatMap(relationships -> neo4jClient.query(renderer.render(relationships.getStatement()))
+				.in(inDatabase)
+				.bind(relationships.getFromIds()).to(NAME_OF_IDS)
+				.run())
+			.thenMany(Flux.fromIterable(level.getValuesToBeSaved().entrySet()).concatMap(entry -> {
+				Neo4jPersistentEntity<?> targetNodeDescription = entry.getKey();
+				List<Object> unsavedValues = savedNodes.getUnsaved(entry.getValue());
+				return saveNodesOfLevel(targetNodeDescription, unsavedValues, inDatabase).doOnNext(internalIds -> {
+					NestedRelationshipPlanner.markAsSaved(targetNodeDescription, unsavedValues, internalIds, savedNodes);
+					savedValues.addAll(unsavedValues);
+				});
+			}))
+			.thenMany(Flux.fromIterable(level.getRelationshipsToCreate())
+				.concatMap(relationships -> neo4jClient.query(renderer.render(relationships.getStatement()))
+					.in(inDatabase)
+					.bind(relationships.getRows(neo4jMappingContext, savedNodes)).to(NAME_OF_ENTITY_LIST_PARAM)
+					.run()))
+			.then(Mono.fromSupplier(() -> savedValues));
+	}
+
+	private Mono<List<Long>> saveNodesOfLevel(Neo4jPersistentEntity<?> targetNodeDescription,
+		List<Object> valuesToBeSaved, @Nullable String inDatabase) {
+
+		if (valuesToBeSaved.isEmpty()) {
+			return Mono.just(Collections.emptyList());
+		}
+
+		Function<Object, Map<String, Object>> binderFunction = neo4jMappingContext
+			.getRequiredBinderFunctionFor((Class<Object>) targetNodeDescription.getType());
+		List<Map<String, Object>> entityList = valuesToBeSaved.stream().map(binderFunction).collect(toList());
 
-		return processNestedAssociations(neo4jPersistentEntity, parentObject, inDatabase, new HashSet<>());
+		SavedIds savedIds = SavedIds.of(entityList);
+		return neo4jClient
+			.query(() -> renderer.render(statementBuilder.prepareSaveOfMultipleInstancesOf(targetNodeDescription)))
+			.in(inDatabase)
+			.bind(savedIds.getRows()).to(NAME_OF_ENTITY_LIST_PARAM)
+			.fetch().all().collectList()
+			.map(savedIds::read)
+			.flatMap(ids -> {
+				if (targetNodeDescription.hasVersionProperty()) {
+					List<Object> idsOfUnsavedEntities = ids.getIdsOfUnsavedEntities(targetNodeDescription,
+						valuesToBeSaved);
+					if (!idsOfUnsavedEntities.isEmpty()) {
+						return Mono.error(() -> new OptimisticLockingFailureException(
+							String.format(OPTIMISTIC_LOCKING_BATCH_ERROR_MESSAGE, idsOfUnsavedEntities)));
+					}
+				}
+				return Mono.just(ids.getInternalIds());
+			});
 	}
 
 	private Mono<Void> processNestedAssociations(Neo4jPersistentEntity<?> neo4jPersistentEntity, Object parentObject,
-		@Nullable String inDatabase, Set<RelationshipDescription> processedRelationshipDescriptions) {
+		@Nullable String inDatabase, Set<RelationshipDescription> processedRelationshipDescriptions,
+		SavedNodes savedNodes) {
 
 		return Mono.defer(() -> {
 			PersistentPropertyAccessor<?> propertyAccessor = neo4jPersistentEntity.getPropertyAccessor(parentObject);
@@ -392,114 +676,157 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 
 			neo4jPersistentEntity.doWithAssociations((AssociationHandler<Neo4jPersistentProperty>) handler -> {
 
-				// create context to bundle parameters
-				NestedRelationshipContext relationshipContext = NestedRelationshipContext
-					.of(handler, propertyAccessor, neo4jPersistentEntity);
-
-				// break recursive procession and deletion of previously created relationships
-				RelationshipDescription relationshipObverse = relationshipContext.getRelationship().getRelationshipObverse();
-				if (hasProcessed(processedRelationshipDescriptions, relationshipObverse)) {
+				Optional<NestedRelationshipContext> optionalRelationshipContext = nestedRelationshipPlanner
+					.getContextToProcess(handler, propertyAccessor, neo4jPersistentEntity,
+						processedRelationshipDescriptions);
+				if (!optionalRelationshipContext.isPresent()) {
 					return;
 				}
+				NestedRelationshipContext relationshipContext = optionalRelationshipContext.get();
 
 				Neo4jPersistentEntity<?> targetNodeDescription = (Neo4jPersistentEntity<?>) neo4jMappingContext
 					.getRequiredNodeDescription(relationshipContext.getAssociationTargetType());
 
-				// remove all relationships before creating all new if the entity is not new
-				// this avoids the usage of cache but might have significant impact on overall performance
+				Mono<ExistingRelationships> existingRelationshipsMono = Mono.just(ExistingRelationships.empty());
 				if (!neo4jPersistentEntity.isNew(parentObject)) {
-					Statement relationshipRemoveQuery = statementBuilder
-						.createRelationshipRemoveQuery(neo4jPersistentEntity, relationshipContext.getRelationship(),
-							targetNodeDescription);
-					relationshipCreationMonos.add(
-						neo4jClient.query(renderer.render(relationshipRemoveQuery))
+					if (synchronizeRelationships) {
+						// only write the difference between the existing and the new relationships
+						Statement relationshipMatchQuery = statementBuilder
+							.createRelationshipMatchQuery(neo4jPersistentEntity, relationshipContext.getRelationship(),
+								targetNodeDescription);
+						existingRelationshipsMono = neo4jClient.query(renderer.render(relationshipMatchQuery))
 							.in(inDatabase)
 							.bind(fromId).to(FROM_ID_PARAMETER_NAME)
-							.run().checkpoint("delete relationships").then());
+							.fetch().all().collectList()
+							.map(ExistingRelationships::of)
+							.checkpoint("match relationships");
+					} else {
+						// remove all relationships before creating all new if the entity is not new
+						// this avoids the usage of cache but might have significant impact on overall performance
+						Statement relationshipRemoveQuery = statementBuilder
+							.createRelationshipRemoveQuery(neo4jPersistentEntity, relationshipContext.getRelationship(),
+								targetNodeDescription);
+						relationshipCreationMonos.add(
+							neo4jClient.query(renderer.render(relationshipRemoveQuery))
+								.in(inDatabase)
+								.bind(fromId).to(FROM_ID_PARAMETER_NAME)
+								.run().checkpoint("delete relationships").then());
+					}
 				}
 
 				// nothing to do because there is nothing to map
 				if (relationshipContext.inverseValueIsEmpty()) {
+					relationshipCreationMonos.add(existingRelationshipsMono.flatMap(existingRelationships ->
+						deleteRelationships(existingRelationships.getObsoleteRelationshipIds(), inDatabase)));
 					return;
 				}
 
 				processedRelationshipDescriptions.add(relationshipContext.getRelationship());
 
-				for (Object relatedValue : unifyRelationshipValue(relationshipContext.getInverse(),
-					relationshipContext.getValue())) {
-
-					Object valueToBeSavedPreEvt = relationshipContext.identifyAndExtractRelationshipValue(relatedValue);
-					Mono<Object> valueToBeSavedMono = eventSupport.maybeCallBeforeBind(valueToBeSavedPreEvt);
-
-					relationshipCreationMonos.add(
-						valueToBeSavedMono
-							.flatMap(valueToBeSaved ->
-								saveRelatedNode(valueToBeSaved, relationshipContext.getAssociationTargetType(),
-									targetNodeDescription, inDatabase)
-									.flatMap(relatedInternalId -> {
-
-										// if an internal id is used this must get set to link this entity in the next iteration
-										if (targetNodeDescription.isUsingInternalIds()) {
-											PersistentPropertyAccessor<?> targetPropertyAccessor = targetNodeDescription
-												.getPropertyAccessor(valueToBeSaved);
-											targetPropertyAccessor
-												.setProperty(targetNodeDescription.getRequiredIdProperty(),
-													relatedInternalId);
-										}
-
-										// handle creation of relationship depending on properties on relationship or not
-										RelationshipStatementHolder statementHolder = relationshipContext
-											.hasRelationshipWithProperties()
-											? createStatementForRelationShipWithProperties(neo4jMappingContext,
-												neo4jPersistentEntity,
-												relationshipContext,
-												relatedInternalId,
-												(Map.Entry) relatedValue)
-											: createStatementForRelationshipWithoutProperties(neo4jPersistentEntity,
-												relationshipContext,
-												relatedInternalId,
-												relatedValue);
-
-										// in case of no properties the bind will just return an empty map
-										Mono<ResultSummary> relationshipCreationMonoNested = neo4jClient
+				List<Object> relatedValues = NestedRelationshipPlanner.getRelatedValues(relationshipContext);
+
+				// the callbacks are invoked only once per related node, nodes saved before are kept as they are
+				Map<Object, Mono<Object>> boundValues = new IdentityHashMap<>();
+				relationshipCreationMonos.add(existingRelationshipsMono.flatMap(existingRelationships ->
+					Flux.fromIterable(relatedValues)
+						.map(relationshipContext::identifyAndExtractRelationshipValue)
+						.concatMap(value -> savedNodes.contains(value) ? Mono.just(value)
+							: boundValues.computeIfAbsent(value, v -> eventSupport.maybeCallBeforeBind(v).cache()))
+						.collectList()
+						.flatMapMany(valuesToBeSaved -> Flux.fromIterable(NestedRelationshipBatch
+							.of(neo4jMappingContext, relationshipContext, relatedValues, valuesToBeSaved, batchSize)))
+						.concatMap(batch -> {
+
+							Neo4jPersistentEntity<?> relatedNodeDescription = batch.getTargetNodeDescription();
+							List<Object> unsavedValues = savedNodes.getUnsaved(batch.getValuesToBeSaved());
+
+							return saveRelatedNodes(relatedNodeDescription, unsavedValues,
+								relationshipContext.getAssociationTargetType(), inDatabase)
+								.flatMap(internalIdsOfUnsavedValues -> {
+
+									NestedRelationshipPlanner.markAsSaved(relatedNodeDescription, unsavedValues,
+										internalIdsOfUnsavedValues, savedNodes);
+
+									// handle creation of relationship depending on properties on relationship or not
+									// in case of no properties the bind will just return an empty map
+									Mono<Void> relationshipCreationMonoNested = Mono.justOrEmpty(
+										nestedRelationshipPlanner.createStatementForRelationships(
+											neo4jPersistentEntity, relationshipContext, batch, existingRelationships,
+											savedNodes))
+										.flatMap(statementHolder -> neo4jClient
 											.query(renderer.render(statementHolder.getRelationshipCreationQuery()))
 											.in(inDatabase)
 											.bind(fromId).to(FROM_ID_PARAMETER_NAME)
 											.bindAll(statementHolder.getProperties())
-											.run();
-
-										return relationshipCreationMonoNested.checkpoint()
-											.then(processNestedAssociations(targetNodeDescription, valueToBeSaved, inDatabase, processedRelationshipDescriptions));
-									}).checkpoint()));
-				}
+											.run())
+										.then();
+
+									return relationshipCreationMonoNested.checkpoint()
+										.thenMany(Flux.fromIterable(unsavedValues).concatMap(valueToBeSaved ->
+											processNestedAssociations(relatedNodeDescription, valueToBeSaved,
+												inDatabase, processedRelationshipDescriptions, savedNodes)))
+										.then();
+								}).checkpoint();
+						})
+						.then(Mono.defer(() -> deleteRelationships(existingRelationships.getObsoleteRelationshipIds(),
+							inDatabase)))));
 			});
 
 			return Flux.concat(relationshipCreationMonos).checkpoint().then();
 		});
 	}
 
-	private boolean hasProcessed(Set<RelationshipDescription> processedRelationshipDescriptions,
-		RelationshipDescription relationshipDescription) {
+	private Mono<Void> deleteRelationships(Collection<Long> relationshipIds, @Nullable String inDatabase) {
+
+		if (relationshipIds.isEmpty()) {
+			return Mono.empty();
+		}
+
+		return neo4jClient.query(() -> renderer.render(statementBuilder.createRelationshipDeleteByIdQuery()))
+			.in(inDatabase)
+			.bind(relationshipIds).to(NAME_OF_IDS)
+			.run().checkpoint("delete obsolete relationships").then();
+	}
+
+	private <Y> Mono<List<Long>> saveRelatedNodes(Neo4jPersistentEntity<?> targetNodeDescription,
+		List<Object> valuesToBeSaved, Class<Y> entityType, @Nullable String inDatabase) {
+
+		if (valuesToBeSaved.isEmpty()) {
+			return Mono.just(Collections.emptyList());
+		}
+
+		if (NestedRelationshipPlanner.isSavedOneByOne(targetNodeDescription, valuesToBeSaved)) {
 
-		if (relationshipDescription != null) {
-			return processedRelationshipDescriptions.contains(relationshipDescription);
+			return Flux.fromIterable(valuesToBeSaved)
+				.concatMap(valueToBeSaved -> saveRelatedNode(valueToBeSaved, entityType, targetNodeDescription,
+					inDatabase))
+				.collectList();
 		}
-		return false;
+
+		Function<Y, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor(entityType);
+		List<Map<String, Object>> entityList = valuesToBeSaved.stream()
+			.map(valueToBeSaved -> binderFunction.apply((Y) valueToBeSaved)).collect(toList());
+
+		SavedIds savedIds = SavedIds.of(entityList);
+		return neo4jClient
+			.query(() -> renderer.render(statementBuilder.prepareSaveOfMultipleInstancesOf(targetNodeDescription)))
+			.in(inDatabase)
+			.bind(savedIds.getRows()).to(NAME_OF_ENTITY_LIST_PARAM)
+			.fetch().all().collectList()
+			.map(result -> savedIds.read(result).getInternalIds());
 	}
 
-	private <Y> Mono<Long> saveRelatedNode(Object entity, Class<Y> entityType, NodeDescription targetNodeDescription,
-		@Nullable String inDatabase) {
+	private <Y> Mono<Long> saveRelatedNode(Object entity, Class<Y> entityType,
+		Neo4jPersistentEntity<?> targetNodeDescription, @Nullable String inDatabase) {
 
 		return neo4jClient.query(() -> renderer.render(statementBuilder.prepareSaveOf(targetNodeDescription)))
 			.in(inDatabase)
 			.bind((Y) entity)
 			.with(neo4jMappingContext.getRequiredBinderFunctionFor(entityType)).fetchAs(Long.class).one()
-			.switchIfEmpty(Mono.defer(() -> {
-			if (((Neo4jPersistentEntity) targetNodeDescription).hasVersionProperty()) {
-				return Mono.error(() -> new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE));
-			}
-			return Mono.empty();
-		}));
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty())
+			.map(optionalInternalId -> NestedRelationshipPlanner
+				.getInternalIdOfSavedNode(targetNodeDescription, optionalInternalId));
 	}
 
 	private Mono<DatabaseSelection> getDatabaseName() {
@@ -527,6 +854,46 @@ public final class ReactiveNeo4jTemplate implements ReactiveNeo4jOperations, Bea
 		});
 	}
 
+	/**
+	 * Configures how relationships of entities that are not new are updated. By default, all relationships of an
+	 * association are deleted and recreated on each save. When set to {@literal true}, the existing relationships are
+	 * fetched first and only the relationships that have been removed, added or changed are written.
+	 *
+	 * @param synchronizeRelationships Flag, whether to write only the difference of the relationships
+	 * @since 1.0.1
+	 */
+	public void setSynchronizeRelationships(boolean synchronizeRelationships) {
+		this.synchronizeRelationships = synchronizeRelationships;
+	}
+
+	/**
+	 * Configures how many related nodes and relationships of an entity are written together. With the default of
+	 * {@literal 1}, each related node and each relationship is written with a dedicated statement. Larger values group
+	 * related nodes and relationships of the same type and write them with one {@code UNWIND} statement per batch.
+	 * This applies to {@link #save(Object)} as well as {@link #saveAll(Iterable)}.
+	 *
+	 * @param batchSize The maximum number of related nodes respectively relationships written with one statement
+	 * @since 1.0.1
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Configures the order in which the related nodes of saved entities are written. When set to {@literal true}, all
+	 * related nodes of one depth level are saved with one statement per entity type, followed by one statement per
+	 * kind of relationship, as with {@link Neo4jTemplate#setLevelOrderSaves(boolean)}. The statements of a level are
+	 * still executed one after another, as statements of the same transaction cannot run concurrently.
+	 *
+	 * @param levelOrderSaves Flag, whether to save related nodes level by level
+	 * @since 1.0.1
+	 */
+	public void setLevelOrderSaves(boolean levelOrderSaves) {
+		this.levelOrderSaves = levelOrderSaves;
+	}
+
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
@@ -18,15 +18,23 @@
  */
 package org.neo4j.springframework.data.core;
 
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 /**
  * The {@link RelationshipStatementHolder} holds the Cypher Statement to create a relationship as well as the optional
@@ -41,11 +49,6 @@ final class RelationshipStatementHolder {
 	private final Statement relationshipCreationQuery;
 	private final Map<String, Object> properties;
 
-	private RelationshipStatementHolder(@NonNull Statement relationshipCreationQuery) {
-		this.relationshipCreationQuery = relationshipCreationQuery;
-		this.properties = Collections.emptyMap();
-	}
-
 	private RelationshipStatementHolder(
 		@NonNull Statement relationshipCreationQuery,
 		@NonNull Map<String, Object> properties) {
@@ -62,20 +65,21 @@ final class RelationshipStatementHolder {
 	}
 
 	static RelationshipStatementHolder createStatementForRelationShipWithProperties(
-		Neo4jMappingContext neo4jMappingContext,
 		Neo4jPersistentEntity<?> neo4jPersistentEntity,
 		NestedRelationshipContext relationshipContext,
+		NodeDescription<?> relatedNodeDescription,
 		Long relatedInternalId,
-		Map.Entry relatedValue) {
+		Map<String, Object> relationshipProperties) {
 
 		Statement relationshipCreationQuery = CypherGenerator.INSTANCE
 			.createRelationshipWithPropertiesCreationQuery(
 				neo4jPersistentEntity,
 				relationshipContext.getRelationship(),
-				relatedInternalId
+				relatedNodeDescription
 			);
 		Map<String, Object> propMap = new HashMap<>();
-		neo4jMappingContext.getConverter().write(relatedValue.getValue(), propMap);
+		propMap.put(NAME_OF_PROPERTIES_PARAM, relationshipProperties);
+		propMap.put(TO_ID_PARAMETER_NAME, relatedInternalId);
 
 		return new RelationshipStatementHolder(relationshipCreationQuery, propMap);
 	}
@@ -83,15 +87,73 @@ final class RelationshipStatementHolder {
 	static RelationshipStatementHolder createStatementForRelationshipWithoutProperties(
 		Neo4jPersistentEntity<?> neo4jPersistentEntity,
 		NestedRelationshipContext relationshipContext,
+		NodeDescription<?> relatedNodeDescription,
 		Long relatedInternalId,
-		Object relatedValue) {
+		@Nullable String dynamicRelationshipType) {
 
 		Statement relationshipCreationQuery = CypherGenerator.INSTANCE
 			.createRelationshipCreationQuery(neo4jPersistentEntity,
 				relationshipContext.getRelationship(),
-				relatedValue instanceof Map.Entry ? ((Map.Entry<String, ?>) relatedValue).getKey() : null,
-				relatedInternalId);
-		return new RelationshipStatementHolder(relationshipCreationQuery);
+				dynamicRelationshipType,
+				relatedNodeDescription);
+		return new RelationshipStatementHolder(relationshipCreationQuery,
+			Collections.singletonMap(TO_ID_PARAMETER_NAME, relatedInternalId));
 	}
-}
 
+	/**
+	 * Creates the statement for all relationships of a batch that need to be written. Relationships that already exist
+	 * with the same properties are skipped.
+	 *
+	 * @return An empty optional if there's nothing to write
+	 */
+	static Optional<RelationshipStatementHolder> createStatementForRelationships(
+		Neo4jMappingContext neo4jMappingContext,
+		Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		NestedRelationshipContext relationshipContext,
+		NestedRelationshipBatch batch,
+		List<Long> relatedInternalIds,
+		ExistingRelationships existingRelationships) {
+
+		RelationshipDescription relationship = relationshipContext.getRelationship();
+		String type = relationship.isDynamic() ? batch.getDynamicRelationshipType() : relationship.getType();
+		boolean withProperties = relationshipContext.hasRelationshipWithProperties();
+
+		List<Object> relatedValues = batch.getRelatedValues();
+		List<Map<String, Object>> rows = new ArrayList<>(relatedValues.size());
+		for (int i = 0; i < relatedValues.size(); ++i) {
+			Map<String, Object> row = new HashMap<>();
+			if (withProperties) {
+				neo4jMappingContext.getConverter().write(((Map.Entry) relatedValues.get(i)).getValue(), row);
+			}
+
+			Long relatedInternalId = relatedInternalIds.get(i);
+			Map<String, Object> relationshipProperties = (Map<String, Object>) row.get(NAME_OF_PROPERTIES_PARAM);
+			if (existingRelationships.retainAndCheckForChanges(relatedInternalId, type, relationshipProperties)) {
+				row.put(NAME_OF_ID, relatedInternalId);
+				rows.add(row);
+			}
+		}
+
+		NodeDescription<?> relatedNodeDescription = batch.getTargetNodeDescription();
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		} else if (rows.size() == 1) {
+			Map<String, Object> row = rows.get(0);
+			Long relatedInternalId = (Long) row.get(NAME_OF_ID);
+			return Optional.of(withProperties
+				? createStatementForRelationShipWithProperties(neo4jPersistentEntity, relationshipContext,
+					relatedNodeDescription, relatedInternalId, (Map<String, Object>) row.get(NAME_OF_PROPERTIES_PARAM))
+				: createStatementForRelationshipWithoutProperties(neo4jPersistentEntity, relationshipContext,
+					relatedNodeDescription, relatedInternalId, batch.getDynamicRelationshipType()));
+		}
+
+		Statement relationshipCreationQuery = CypherGenerator.INSTANCE
+			.createBatchRelationshipCreationQuery(neo4jPersistentEntity,
+				relationship,
+				batch.getDynamicRelationshipType(),
+				relatedNodeDescription);
+
+		return Optional.of(new RelationshipStatementHolder(relationshipCreationQuery,
+			Collections.singletonMap(NAME_OF_ENTITY_LIST_PARAM, rows)));
+	}
+}
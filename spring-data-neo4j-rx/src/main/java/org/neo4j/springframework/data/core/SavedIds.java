@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+
+/**
+ * The ids returned by {@link org.neo4j.springframework.data.core.schema.CypherGenerator#prepareSaveOfMultipleInstancesOf}.
+ * Each entity is passed to the statement as one row together with the index of that row, and the ids of the saved nodes
+ * are identified by that index, regardless of the order in which the rows are returned.
+ * <p>
+ * Several entities with the same id are passed only once, the last of them wins. All of them get the internal id of
+ * the node saved for the last one, as if they had been saved one after another.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class SavedIds {
+
+	/**
+	 * The rows to pass to the statement, each with its index.
+	 */
+	private final List<Map<String, Object>> rows;
+
+	/**
+	 * The index of the row each entity has been passed to the statement with.
+	 */
+	private final int[] rowOfEntity;
+
+	/**
+	 * The internal ids of the saved nodes, indexed by the row they have been saved for.
+	 */
+	private final Map<Integer, Long> internalIdsByRow = new HashMap<>();
+
+	private SavedIds(List<Map<String, Object>> rows, int[] rowOfEntity) {
+		this.rows = rows;
+		this.rowOfEntity = rowOfEntity;
+	}
+
+	/**
+	 * @param boundEntities The parameters the entities have been bound to
+	 * @return The ids of the entities, yet to be {@link #read(Collection) read}
+	 */
+	static SavedIds of(List<Map<String, Object>> boundEntities) {
+
+		// The last entity with a given id is the one being saved
+		Map<Object, Integer> lastEntityWithId = new HashMap<>();
+		for (int i = 0; i < boundEntities.size(); ++i) {
+			Object id = getId(boundEntities.get(i));
+			if (id != null) {
+				lastEntityWithId.put(id, i);
+			}
+		}
+
+		List<Map<String, Object>> rows = new ArrayList<>(boundEntities.size());
+		int[] rowOfEntity = new int[boundEntities.size()];
+		for (int i = 0; i < boundEntities.size(); ++i) {
+			Object id = getId(boundEntities.get(i));
+			if (id != null && lastEntityWithId.get(id) != i) {
+				continue;
+			}
+
+			Map<String, Object> row = new HashMap<>(boundEntities.get(i));
+			row.put(NAME_OF_ROW_INDEX, rows.size());
+			rowOfEntity[i] = rows.size();
+			rows.add(row);
+		}
+		for (int i = 0; i < boundEntities.size(); ++i) {
+			Object id = getId(boundEntities.get(i));
+			if (id != null) {
+				rowOfEntity[i] = rowOfEntity[lastEntityWithId.get(id)];
+			}
+		}
+		return new SavedIds(rows, rowOfEntity);
+	}
+
+	@Nullable
+	private static Object getId(Map<String, Object> boundEntity) {
+
+		Object id = boundEntity.get(NAME_OF_ID);
+		return id instanceof Value ? ((Value) id).asObject() : id;
+	}
+
+	/**
+	 * @return The rows to pass to the statement as {@link org.neo4j.springframework.data.core.schema.Constants#NAME_OF_ENTITY_LIST_PARAM}
+	 */
+	List<Map<String, Object>> getRows() {
+		return rows;
+	}
+
+	/**
+	 * @param result The rows returned from saving the entities
+	 * @return These ids, containing the ids read from the result
+	 */
+	SavedIds read(Collection<Map<String, Object>> result) {
+
+		for (Map<String, Object> row : result) {
+			internalIdsByRow.put(((Number) row.get(NAME_OF_ROW_INDEX)).intValue(), (Long) row.get(NAME_OF_INTERNAL_ID));
+		}
+		return this;
+	}
+
+	/**
+	 * Determines the entities that have not been saved, i.e. whose version didn't match the version in the database.
+	 *
+	 * @param entityMetaData The entity description of all entities
+	 * @param entities       The entities whose parameters have been passed to {@link #of(List)}, in the same order
+	 * @param <T>            The type of the entities
+	 * @return The ids of all entities that have not been saved
+	 */
+	<T> List<Object> getIdsOfUnsavedEntities(Neo4jPersistentEntity<?> entityMetaData, List<T> entities) {
+
+		List<Object> idsOfUnsavedEntities = new ArrayList<>();
+		for (int i = 0; i < entities.size(); ++i) {
+			if (!internalIdsByRow.containsKey(rowOfEntity[i])) {
+				idsOfUnsavedEntities.add(entityMetaData.getIdentifierAccessor(entities.get(i)).getIdentifier());
+			}
+		}
+		return idsOfUnsavedEntities;
+	}
+
+	/**
+	 * Determines the internal ids of the saved nodes without modifying the entities. All entities must have been saved.
+	 *
+	 * @return The internal ids of the nodes, in the order of the parameters passed to {@link #of(List)}
+	 */
+	List<Long> getInternalIds() {
+
+		List<Long> result = new ArrayList<>(rowOfEntity.length);
+		for (int i = 0; i < rowOfEntity.length; ++i) {
+			result.add(getInternalId(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the internal ids back into the saved entities.
+	 *
+	 * @param entityMetaData The entity description of all entities
+	 * @param entities       The entities whose parameters have been passed to {@link #of(List)}, in the same order
+	 * @param <T>            The type of the entities
+	 * @return The entities with their internal ids set, in the same order as {@code entities}
+	 */
+	<T> List<T> applyTo(Neo4jPersistentEntity<?> entityMetaData, List<T> entities) {
+
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+
+		List<T> result = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); ++i) {
+			PersistentPropertyAccessor<T> propertyAccessor = (PersistentPropertyAccessor<T>) entityMetaData
+				.getPropertyAccessor(entities.get(i));
+			propertyAccessor.setProperty(idProperty, getInternalId(i));
+			result.add(propertyAccessor.getBean());
+		}
+		return result;
+	}
+
+	private Long getInternalId(int entity) {
+
+		Long internalId = internalIdsByRow.get(rowOfEntity[entity]);
+		if (internalId == null) {
+			throw new IllegalStateException("Could not determine the internal id of the saved entity " + rows
+				.get(rowOfEntity[entity]));
+		}
+		return internalId;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.springframework.lang.Nullable;
+
+/**
+ * The nodes that have already been written during one save operation, identified by the instance of the entity as well
+ * as by the id of the entity. Each node is written only once per operation, all further references to the same entity
+ * just reuse the internal id of the node. This instance is shared by all entities of one call to {@code save} or
+ * {@code saveAll} and must not be shared between operations.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class SavedNodes {
+
+	private final Neo4jMappingContext neo4jMappingContext;
+
+	private final Map<Object, Long> internalIdsByInstance = new IdentityHashMap<>();
+
+	/**
+	 * The internal ids of the saved nodes, indexed by their primary label and the id of the entity.
+	 */
+	private final Map<List<Object>, Long> internalIdsById = new HashMap<>();
+
+	SavedNodes(Neo4jMappingContext neo4jMappingContext) {
+		this.neo4jMappingContext = neo4jMappingContext;
+	}
+
+	/**
+	 * Marks an entity as saved.
+	 *
+	 * @param instance   The saved entity
+	 * @param internalId The internal id of the node the entity has been saved to
+	 */
+	synchronized void add(Object instance, Long internalId) {
+
+		internalIdsByInstance.put(instance, internalId);
+		List<Object> id = getId(instance);
+		if (id != null) {
+			internalIdsById.put(id, internalId);
+		}
+	}
+
+	/**
+	 * @param instance An entity
+	 * @return True, if the entity or another instance with the same id has already been saved
+	 */
+	synchronized boolean contains(Object instance) {
+		return getInternalId(instance) != null;
+	}
+
+	/**
+	 * @param instance An entity
+	 * @return The internal id of the node the entity or another instance with the same id has been saved to
+	 */
+	@Nullable
+	synchronized Long getInternalId(Object instance) {
+
+		Long internalId = internalIdsByInstance.get(instance);
+		if (internalId == null) {
+			List<Object> id = getId(instance);
+			internalId = id == null ? null : internalIdsById.get(id);
+		}
+		return internalId;
+	}
+
+	/**
+	 * Determines the entities that still need to be saved. Entities occurring several times in {@code instances} are
+	 * only returned once.
+	 *
+	 * @param instances The entities to check
+	 * @return The entities that have not been saved yet, in the order of their first occurrence
+	 */
+	synchronized List<Object> getUnsaved(List<Object> instances) {
+
+		List<Object> unsavedInstances = new ArrayList<>();
+		Set<Object> seenInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+		Set<List<Object>> seenIds = new HashSet<>();
+		for (Object instance : instances) {
+			if (getInternalId(instance) != null || !seenInstances.add(instance)) {
+				continue;
+			}
+			List<Object> id = getId(instance);
+			if (id == null || seenIds.add(id)) {
+				unsavedInstances.add(instance);
+			}
+		}
+		return unsavedInstances;
+	}
+
+	@Nullable
+	private List<Object> getId(Object instance) {
+
+		Neo4jPersistentEntity<?> nodeDescription = neo4jMappingContext.getPersistentEntity(instance.getClass());
+		if (nodeDescription == null) {
+			return null;
+		}
+		Object id = nodeDescription.getIdentifierAccessor(instance).getIdentifier();
+		return id == null ? null : Arrays.asList(nodeDescription.getPrimaryLabel(), id);
+	}
+}
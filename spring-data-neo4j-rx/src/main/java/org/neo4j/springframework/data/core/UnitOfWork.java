@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.ResourceHolderSupport;
+
+/**
+ * The saves and deletes recorded by a {@link Neo4jTemplate} in write-behind mode during one Spring transaction. The
+ * operations are coalesced: An entity saved several times is written only once with its latest state, at the position
+ * of its latest save, and a delete discards all pending saves of the same entity. When flushed, the pending operations
+ * are executed in the order they have been recorded in. Consecutive operations of the same kind on entities of the
+ * same type are executed together.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class UnitOfWork extends ResourceHolderSupport {
+
+	/**
+	 * The pending operations, in the order they have been recorded in.
+	 */
+	private final List<PendingOperation> operations = new ArrayList<>();
+
+	/**
+	 * The pending saves of entities that already have an id, indexed by their type and their id.
+	 */
+	private final Map<Class<?>, Map<Object, PendingOperation>> savesById = new HashMap<>();
+
+	/**
+	 * Records the save of an entity, replacing all previously recorded saves of the same entity.
+	 *
+	 * @param entity The entity to save
+	 * @param id     The id of the entity, may be {@literal null} for new entities
+	 */
+	void registerSave(Object entity, @Nullable Object id) {
+
+		Class<?> domainType = entity.getClass();
+		if (id == null) {
+			getLastOperation(domainType, false).newEntities.add(entity);
+		} else {
+			discardSave(domainType, id);
+			PendingOperation operation = getLastOperation(domainType, false);
+			operation.elementsById.put(id, entity);
+			savesById.computeIfAbsent(domainType, k -> new HashMap<>()).put(id, operation);
+		}
+	}
+
+	/**
+	 * Records the delete of an entity, discarding all previously recorded saves of the same entity.
+	 *
+	 * @param domainType The type of the entity to delete
+	 * @param id         The id of the entity to delete
+	 */
+	void registerDelete(Class<?> domainType, Object id) {
+
+		discardSave(domainType, id);
+		getLastOperation(domainType, true).elementsById.put(id, id);
+	}
+
+	private void discardSave(Class<?> domainType, Object id) {
+
+		Map<Object, PendingOperation> savesOfType = savesById.get(domainType);
+		PendingOperation operation = savesOfType == null ? null : savesOfType.remove(id);
+		if (operation != null) {
+			operation.elementsById.remove(id);
+		}
+	}
+
+	/**
+	 * @return The last operation if it is of the given kind and type, otherwise a new operation appended after it
+	 */
+	private PendingOperation getLastOperation(Class<?> domainType, boolean delete) {
+
+		// Operations emptied by discarded saves don't separate the operations around them
+		while (!operations.isEmpty() && operations.get(operations.size() - 1).isEmpty()) {
+			operations.remove(operations.size() - 1);
+		}
+
+		PendingOperation lastOperation = operations.isEmpty() ? null : operations.get(operations.size() - 1);
+		if (lastOperation == null || lastOperation.delete != delete || !lastOperation.domainType.equals(domainType)) {
+			lastOperation = new PendingOperation(domainType, delete);
+			operations.add(lastOperation);
+		}
+		return lastOperation;
+	}
+
+	boolean hasPendingOperations() {
+		return operations.stream().anyMatch(operation -> !operation.isEmpty());
+	}
+
+	/**
+	 * Executes and clears all pending operations. Operations recorded while flushing are kept for the next flush.
+	 *
+	 * @param deleteAllById Deletes all entities of one type with the given ids
+	 * @param saveAll       Saves all entities of one type
+	 */
+	void flush(BiConsumer<List<Object>, Class<?>> deleteAllById, Consumer<List<Object>> saveAll) {
+
+		List<PendingOperation> pendingOperations = new ArrayList<>(operations);
+		operations.clear();
+		savesById.clear();
+
+		for (PendingOperation operation : pendingOperations) {
+			if (operation.isEmpty()) {
+				continue;
+			}
+			List<Object> elements = new ArrayList<>(operation.elementsById.values());
+			if (operation.delete) {
+				deleteAllById.accept(elements, operation.domainType);
+			} else {
+				elements.addAll(operation.newEntities);
+				saveAll.accept(elements);
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+
+		super.clear();
+		operations.clear();
+		savesById.clear();
+	}
+
+	/**
+	 * Consecutive saves or deletes of entities of one type.
+	 */
+	private static final class PendingOperation {
+
+		private final Class<?> domainType;
+
+		private final boolean delete;
+
+		/**
+		 * The ids to delete or the entities to save that already have an id, indexed by their id.
+		 */
+		private final Map<Object, Object> elementsById = new LinkedHashMap<>();
+
+		/**
+		 * Entities to be saved that don't have an id yet. Those can only be identified by their instance.
+		 */
+		private final Set<Object> newEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		PendingOperation(Class<?> domainType, boolean delete) {
+			this.domainType = domainType;
+			this.delete = delete;
+		}
+
+		boolean isEmpty() {
+			return elementsById.isEmpty() && newEntities.isEmpty();
+		}
+	}
+}
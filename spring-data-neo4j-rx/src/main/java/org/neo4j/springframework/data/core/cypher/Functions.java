@@ -80,6 +80,36 @@ public final class Functions {
 		return new FunctionInvocation("labels", node.getRequiredSymbolicName());
 	}
 
+	/**
+	 * Creates a function invocation for {@code properties{}}.
+	 * See <a href="https://neo4j.com/docs/cypher-manual/current/functions/scalar/#functions-properties">properties</a>.
+	 *
+	 * @param node The node for which the properties should be retrieved
+	 * @return A function call for {@code properties()} on a node.
+	 * @since 1.0.1
+	 */
+	public static FunctionInvocation properties(Node node) {
+
+		Assert.notNull(node, "The node parameter is required.");
+
+		return new FunctionInvocation("properties", node.getRequiredSymbolicName());
+	}
+
+	/**
+	 * Creates a function invocation for {@code properties{}}.
+	 * See <a href="https://neo4j.com/docs/cypher-manual/current/functions/scalar/#functions-properties">properties</a>.
+	 *
+	 * @param relationship The relationship for which the properties should be retrieved
+	 * @return A function call for {@code properties()} on a relationship.
+	 * @since 1.0.1
+	 */
+	public static FunctionInvocation properties(Relationship relationship) {
+
+		Assert.notNull(relationship, "The relationship parameter is required.");
+
+		return new FunctionInvocation("properties", relationship.getRequiredSymbolicName());
+	}
+
 	/**
 	 * Creates a function invocation for {@code type{}}.
 	 * See <a href="https://neo4j.com/docs/cypher-manual/current/functions/scalar/#functions-type">type</a>.
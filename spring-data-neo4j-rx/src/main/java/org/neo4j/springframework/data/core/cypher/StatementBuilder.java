@@ -146,7 +146,8 @@ public interface StatementBuilder extends ExposesMatch, ExposesCreate, ExposesMe
 	 * where part has been used or note.
 	 * @since 1.0
 	 */
-	interface OngoingReading extends ExposesReturning, ExposesWith, ExposesUpdatingClause, ExposesUnwind, ExposesCreate {
+	interface OngoingReading extends ExposesReturning, ExposesWith, ExposesUpdatingClause, ExposesUnwind, ExposesCreate,
+		ExposesMatch {
 	}
 
 	/**
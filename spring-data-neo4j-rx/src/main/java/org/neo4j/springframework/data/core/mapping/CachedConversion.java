@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.lang.Nullable;
+
+/**
+ * A conversion of the values of one property in one direction. The converter is resolved through the conversion
+ * service once for the type of the source values and then invoked directly, without looking it up again for every
+ * value. Only the converter of the last source type is kept, as the values of one property are almost always of the
+ * same type. Values the cached converter cannot handle are converted through the conversion service.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class CachedConversion {
+
+	private final TypeDescriptor targetType;
+
+	private volatile ResolvedConverter resolvedConverter;
+
+	CachedConversion(Class<?> targetType) {
+		this.targetType = TypeDescriptor.valueOf(targetType);
+	}
+
+	@Nullable
+	Object convert(@Nullable Object source, ConverterLookup conversionService) {
+
+		if (source == null) {
+			return conversionService.convert(null, targetType);
+		}
+
+		Class<?> sourceClass = source.getClass();
+		ResolvedConverter converter = this.resolvedConverter;
+		if (converter == null || converter.sourceClass != sourceClass) {
+			TypeDescriptor sourceType = TypeDescriptor.valueOf(sourceClass);
+			converter = new ResolvedConverter(sourceClass, sourceType,
+				conversionService.lookup(sourceType, targetType));
+			this.resolvedConverter = converter;
+		}
+
+		Object result = converter.converter == null ?
+			null : converter.converter.convert(source, converter.sourceType, targetType);
+		// Let the conversion service deal with missing converters and null results
+		return result == null ? conversionService.convert(source, targetType) : result;
+	}
+
+	private static final class ResolvedConverter {
+
+		private final Class<?> sourceClass;
+
+		private final TypeDescriptor sourceType;
+
+		private final @Nullable GenericConverter converter;
+
+		ResolvedConverter(Class<?> sourceClass, TypeDescriptor sourceType, @Nullable GenericConverter converter) {
+			this.sourceClass = sourceClass;
+			this.sourceType = sourceType;
+			this.converter = converter;
+		}
+	}
+
+	/**
+	 * A conversion service that exposes the converter it would use for a given pair of types.
+	 */
+	static final class ConverterLookup extends DefaultConversionService {
+
+		@Nullable
+		GenericConverter lookup(TypeDescriptor sourceType, TypeDescriptor targetType) {
+			return getConverter(sourceType, targetType);
+		}
+	}
+}
@@ -18,26 +18,26 @@
  */
 package org.neo4j.springframework.data.core.mapping;
 
-import static java.util.stream.Collectors.*;
 import static org.neo4j.springframework.data.core.schema.Constants.*;
 import static org.neo4j.springframework.data.core.schema.RelationshipDescription.*;
 import static org.springframework.core.CollectionFactory.*;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.StreamSupport;
 
 import org.apache.commons.logging.LogFactory;
 import org.neo4j.driver.Record;
@@ -49,19 +49,22 @@ import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.mapping.CachedConversion.ConverterLookup;
+import org.neo4j.springframework.data.core.mapping.EntityReadPlan.PropertySlot;
+import org.neo4j.springframework.data.core.mapping.ProjectionReadPlan.ProjectedProperty;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
+import org.neo4j.springframework.data.core.schema.Relationship.FetchMode;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
-import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.support.ConfigurableConversionService;
-import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.beans.BeanUtils;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.data.convert.EntityInstantiators;
-import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PreferredConstructor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -86,7 +89,27 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 	private static final EntityInstantiators INSTANTIATORS = new EntityInstantiators();
 
 	private final NodeDescriptionStore nodeDescriptionStore;
-	private final ConversionService conversionService;
+	private final ConverterLookup conversionService;
+
+	/**
+	 * The conversions of property values into driver values, resolved once per property.
+	 */
+	private final Map<Neo4jPersistentProperty, CachedConversion> writeConversions = new ConcurrentHashMap<>();
+
+	/**
+	 * The read plans of all entities read so far.
+	 */
+	private final Map<Neo4jPersistentEntity<?>, EntityReadPlan<?>> readPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * The plans to read projections, indexed by the type of the projection and the projected entity.
+	 */
+	private final Map<List<Object>, ProjectionReadPlan<?>> projectionReadPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the instances of interface projections from the projected values.
+	 */
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
 	private TypeSystem typeSystem;
 
@@ -94,7 +117,7 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 		Assert.notNull(neo4jConversions, "Neo4jConversions must not be null!");
 
-		final ConfigurableConversionService configurableConversionService = new DefaultConversionService();
+		final ConverterLookup configurableConversionService = new ConverterLookup();
 		neo4jConversions.registerConvertersIn(configurableConversionService);
 
 		this.conversionService = configurableConversionService;
@@ -104,44 +127,103 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 	@Override
 	public <R> R read(Class<R> targetType, Record record) {
 
+		return read(targetType, record, new KnownObjects(Integer.MAX_VALUE, FetchOptions.defaults(), null));
+	}
+
+	/**
+	 * Reads a record, sharing related entities with all other records read with the same known objects.
+	 *
+	 * @param targetType   The type of the root entity
+	 * @param record       The record to read
+	 * @param knownObjects The related entities already mapped
+	 * @param <R>          The type of the root entity
+	 * @return The root entity
+	 */
+	<R> R read(Class<R> targetType, Record record, KnownObjects knownObjects) {
+
 		Neo4jPersistentEntity<R> rootNodeDescription =
 			(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(targetType);
 
 		try {
-			List<Value> recordValues = record.values();
-			String nodeLabel = rootNodeDescription.getPrimaryLabel();
-			MapAccessor queryRoot = null;
-			for (Value value : recordValues) {
-				if (value.hasType(typeSystem.NODE()) && value.asNode().hasLabel(nodeLabel)) {
-					if (recordValues.size() > 1) {
-						queryRoot = mergeRootNodeWithRecord(value.asNode(), record);
-					} else {
-						queryRoot = value.asNode();
-					}
-					break;
-				}
-			}
+			MapAccessor queryRoot = findQueryRoot(rootNodeDescription, record);
 			if (queryRoot == null) {
-				for (Value value : recordValues) {
-					if (value.hasType(typeSystem.MAP())) {
-						queryRoot = value;
-						break;
-					}
-				}
+				log.warn(() -> String.format("Could not find mappable nodes or relationships inside %s for %s", record,
+					rootNodeDescription));
+				return null; // todo should not be null because of the @nonnullapi annotation in the EntityReader. Fail?
+			} else {
+				return map(queryRoot, rootNodeDescription, knownObjects, "");
 			}
+		} catch (Exception e) {
+			throw new MappingException("Error mapping " + record.toString(), e);
+		}
+	}
 
+	/**
+	 * Reads a projection of an entity from a record, without instantiating the entity.
+	 *
+	 * @param plan         The plan of the projection
+	 * @param record       The record to read
+	 * @param knownObjects The related entities already mapped
+	 * @param <R>          The type of the projection
+	 * @return The projection
+	 */
+	<R> R readProjection(ProjectionReadPlan<R> plan, Record record, KnownObjects knownObjects) {
+
+		try {
+			MapAccessor queryRoot = findQueryRoot(plan.getSource(), record);
 			if (queryRoot == null) {
 				log.warn(() -> String.format("Could not find mappable nodes or relationships inside %s for %s", record,
-					rootNodeDescription));
-				return null; // todo should not be null because of the @nonnullapi annotation in the EntityReader. Fail?
+					plan.getType()));
+				return null;
 			} else {
-				return map(queryRoot, rootNodeDescription, new KnownObjects());
+				return project(plan, queryRoot, knownObjects, "");
 			}
 		} catch (Exception e) {
 			throw new MappingException("Error mapping " + record.toString(), e);
 		}
 	}
 
+	/**
+	 * @param type   The type of a projection
+	 * @param source The entity projected
+	 * @return True, if the projection can be read directly from the records of a query for the entity
+	 */
+	boolean isDirectProjection(Class<?> type, Neo4jPersistentEntity<?> source) {
+		return ProjectionReadPlan.isDirectProjection(type, source, projectionFactory, this::isEntity);
+	}
+
+	<R> ProjectionReadPlan<R> getProjectionReadPlan(Class<R> type, Neo4jPersistentEntity<?> source) {
+
+		return (ProjectionReadPlan<R>) projectionReadPlans.computeIfAbsent(Arrays.asList(type, source),
+			key -> ProjectionReadPlan.of(type, source, projectionFactory, this::isEntity));
+	}
+
+	private boolean isEntity(Class<?> type) {
+		return nodeDescriptionStore.getNodeDescription(type) != null;
+	}
+
+	@Nullable
+	private MapAccessor findQueryRoot(Neo4jPersistentEntity<?> rootNodeDescription, Record record) {
+
+		List<Value> recordValues = record.values();
+		String nodeLabel = rootNodeDescription.getPrimaryLabel();
+		for (Value value : recordValues) {
+			if (value.hasType(typeSystem.NODE()) && value.asNode().hasLabel(nodeLabel)) {
+				if (recordValues.size() > 1) {
+					return mergeRootNodeWithRecord(value.asNode(), record);
+				} else {
+					return value.asNode();
+				}
+			}
+		}
+		for (Value value : recordValues) {
+			if (value.hasType(typeSystem.MAP())) {
+				return value;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	@Nullable
 	public Object readValueForProperty(@Nullable Value value, TypeInformation<?> type) {
@@ -165,6 +247,36 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		}
 	}
 
+	/**
+	 * Reads the value of a property like {@link #readValueForProperty(Value, TypeInformation)}, using the converters
+	 * already resolved for the property.
+	 */
+	@Nullable
+	private Object readValueForProperty(@Nullable Value value, PropertySlot slot) {
+
+		boolean valueIsLiteralNullOrNullValue = value == null || value == Values.NULL;
+
+		try {
+			CachedConversion conversion = slot.getConversion();
+			if (!valueIsLiteralNullOrNullValue && slot.isCollection()) {
+				TypeInformation<?> type = slot.getTargetType();
+				Collection<Object> target = createCollection(type.getType(), type.getComponentType().getType(),
+					value.size());
+				for (Value element : value.values()) {
+					target.add(conversion.convert(element, conversionService));
+				}
+				return target;
+			}
+
+			return valueIsLiteralNullOrNullValue ?
+				conversionService.convert(null, slot.getTargetType().getType()) :
+				conversion.convert(value, conversionService);
+		} catch (Exception e) {
+			String msg = String.format("Could not convert %s into %s", value, slot.getTargetType().toString());
+			throw new TypeMismatchDataAccessException(msg, e);
+		}
+	}
+
 	@Override
 	public void write(Object source, Map<String, Object> parameters) {
 		Map<String, Object> properties = new HashMap<>();
@@ -173,6 +285,7 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 			(Neo4jPersistentEntity<?>) nodeDescriptionStore.getNodeDescription(source.getClass());
 
 		PersistentPropertyAccessor propertyAccessor = nodeDescription.getPropertyAccessor(source);
+		boolean skipNullValues = nodeDescription.isSkippingUnchangedUpdates();
 		nodeDescription.doWithProperties((Neo4jPersistentProperty p) -> {
 
 			// Skip the internal properties, we don't want them to end up stored as properties
@@ -180,8 +293,12 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 				return;
 			}
 
-			final Object value = writeValueFromProperty(propertyAccessor.getProperty(p), p.getTypeInformation());
-			properties.put(p.getPropertyName(), value);
+			final Value value = writeValueFromProperty(propertyAccessor.getProperty(p), p);
+			// Null values are not stored in the database. They are left out for entities skipping unchanged updates,
+			// so that the properties can be compared directly with the ones of an existing node
+			if (!(skipNullValues && Values.NULL.equals(value))) {
+				properties.put(p.getPropertyName(), value);
+			}
 		});
 
 		parameters.put(NAME_OF_PROPERTIES_PARAM, properties);
@@ -190,7 +307,7 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		if (nodeDescription.hasIdProperty()) {
 			Neo4jPersistentProperty idProperty = nodeDescription.getRequiredIdProperty();
 			parameters.put(NAME_OF_ID,
-				writeValueFromProperty(propertyAccessor.getProperty(idProperty), idProperty.getTypeInformation()));
+				writeValueFromProperty(propertyAccessor.getProperty(idProperty), idProperty));
 		}
 		// in case of relationship properties ignore internal id property
 		if (nodeDescription.hasVersionProperty()) {
@@ -218,6 +335,35 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		return conversionService.convert(value, Value.class);
 	}
 
+	/**
+	 * Writes the value of a property like {@link #writeValueFromProperty(Object, TypeInformation)}, using the
+	 * converters already resolved for the property.
+	 */
+	private Value writeValueFromProperty(@Nullable Object value, Neo4jPersistentProperty property) {
+
+		if (value == null) {
+			return Values.NULL;
+		}
+
+		CachedConversion conversion = writeConversions.get(property);
+		if (conversion == null) {
+			writeConversions.putIfAbsent(property, new CachedConversion(Value.class));
+			conversion = writeConversions.get(property);
+		}
+
+		if (isCollection(property.getTypeInformation())) {
+			Collection<?> sourceCollection = (Collection<?>) value;
+			Object[] targetCollection = new Object[sourceCollection.size()];
+			int i = 0;
+			for (Object element : sourceCollection) {
+				targetCollection[i++] = conversion.convert(element, conversionService);
+			}
+			return Values.value(targetCollection);
+		}
+
+		return (Value) conversion.convert(value, conversionService);
+	}
+
 	private static boolean isCollection(TypeInformation<?> type) {
 		return Collection.class.isAssignableFrom(type.getType());
 	}
@@ -248,35 +394,123 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 	 * @param queryResult     The original query result
 	 * @param nodeDescription The node description of the current entity to be mapped from the result
 	 * @param knownObjects    The current list of known objects
+	 * @param path            The path of the relationship through which the entity has been reached
 	 * @param <ET>            As in entity type
 	 * @return
 	 */
 	private <ET> ET map(MapAccessor queryResult,
 		Neo4jPersistentEntity<ET> nodeDescription,
-		KnownObjects knownObjects) {
+		KnownObjects knownObjects, String path) {
 
 		Neo4jPersistentEntity<ET> concreteNodeDescription = getConcreteNodeDescription(queryResult, nodeDescription);
+		EntityReadPlan<ET> readPlan = getReadPlan(concreteNodeDescription);
+		GraphElements graphElements = new GraphElements(queryResult);
 
-		Collection<RelationshipDescription> relationships = concreteNodeDescription.getRelationships();
-
-		ET instance = instantiate(concreteNodeDescription, queryResult, knownObjects, relationships);
+		ET instance = instantiate(concreteNodeDescription, readPlan, queryResult, graphElements, knownObjects, path);
 
-		PersistentPropertyAccessor<ET> propertyAccessor = concreteNodeDescription.getPropertyAccessor(instance);
+		if (readPlan.requiresPropertyPopulation()) {
 
-		if (concreteNodeDescription.requiresPropertyPopulation()) {
+			PersistentPropertyAccessor<ET> propertyAccessor = concreteNodeDescription.getPropertyAccessor(instance);
 
 			// Fill simple properties
-			Predicate<Neo4jPersistentProperty> isConstructorParameter = concreteNodeDescription
-				.getPersistenceConstructor()::isConstructorParameter;
-			concreteNodeDescription.doWithProperties(populateFrom(queryResult, propertyAccessor, isConstructorParameter));
+			for (PropertySlot slot : readPlan.getProperties()) {
+				propertyAccessor.setProperty(slot.getProperty(),
+					readValueForProperty(extractValueOf(slot, queryResult), slot));
+			}
 
 			// Fill associations
-			concreteNodeDescription.doWithAssociations(
-				populateFrom(queryResult, propertyAccessor, isConstructorParameter, relationships, knownObjects));
+			for (PropertySlot slot : readPlan.getAssociations()) {
+				readRelationship(slot, concreteNodeDescription, readPlan, queryResult, graphElements, knownObjects, path)
+					.ifPresent(value -> propertyAccessor.setProperty(slot.getProperty(), value));
+			}
+		}
+		return instance;
+	}
+
+	private <R> R project(ProjectionReadPlan<R> plan, MapAccessor values, KnownObjects knownObjects, String path) {
+
+		GraphElements graphElements = new GraphElements(values);
+
+		if (plan.isInterfaceProjection()) {
+			Map<String, Object> projectedValues = new HashMap<>();
+			for (ProjectedProperty property : plan.getProperties()) {
+				projectedValues.put(property.getName(),
+					readProjectedValue(property, values, graphElements, knownObjects, path));
+			}
+			return projectionFactory.createProjection(plan.getType(), projectedValues);
+		}
+
+		List<ProjectedProperty> constructorArguments = plan.getConstructorArguments();
+		Object[] arguments = new Object[constructorArguments.size()];
+		for (int i = 0; i < arguments.length; ++i) {
+			ProjectedProperty property = constructorArguments.get(i);
+			Object value = readProjectedValue(property, values, graphElements, knownObjects, path);
+			Class<?> parameterType = property.getTargetType().getType();
+			// Don't pass null to primitive parameters
+			arguments[i] = value == null && parameterType.isPrimitive() ?
+				Array.get(Array.newInstance(parameterType, 1), 0) : value;
+		}
+
+		R instance = BeanUtils.instantiateClass(plan.getRequiredConstructor().getConstructor(), arguments);
+		for (ProjectedProperty property : plan.getProperties()) {
+			Object value = readProjectedValue(property, values, graphElements, knownObjects, path);
+			// Keep the defaults of the projection
+			if (value != null) {
+				property.setValue(instance, value);
+			}
 		}
 		return instance;
 	}
 
+	@Nullable
+	private Object readProjectedValue(ProjectedProperty property, MapAccessor values, GraphElements graphElements,
+		KnownObjects knownObjects, String path) {
+
+		PropertySlot slot = property.getSlot();
+		if (!property.isRelationship()) {
+			return readValueForProperty(extractValueOf(slot, values), slot);
+		}
+
+		RelationshipDescription relationshipDescription = slot.getRequiredRelationship();
+		String relationshipPath = FetchOptions.pathOf(path, relationshipDescription.getFieldName());
+		ProjectionReadPlan<?> nestedPlan = property.getNestedPlan();
+
+		Object relatedValues;
+		if (nestedPlan == null) {
+			relatedValues = createInstanceOfRelationships(slot, values, graphElements, knownObjects, relationshipPath)
+				.orElse(null);
+		} else {
+			Value list = values.get(relationshipDescription.generateRelatedNodesCollectionName());
+			if (list.isNull()) {
+				relatedValues = null;
+			} else {
+				List<Object> projections = new ArrayList<>(list.size());
+				for (Value relatedEntity : list.values()) {
+					projections.add(project(nestedPlan, relatedEntity, knownObjects, relationshipPath));
+				}
+				relatedValues = projections;
+			}
+		}
+
+		TypeInformation<?> targetType = property.getTargetType();
+		if (!(relatedValues instanceof Collection) || targetType.getType().isInstance(relatedValues)) {
+			return relatedValues;
+		}
+
+		Collection<?> relatedCollection = (Collection<?>) relatedValues;
+		if (isCollection(targetType)) {
+			Collection<Object> target = createCollection(targetType.getType(),
+				targetType.getRequiredComponentType().getType(), relatedCollection.size());
+			target.addAll(relatedCollection);
+			return target;
+		}
+		return relatedCollection.isEmpty() ? null : relatedCollection.iterator().next();
+	}
+
+	private <ET> EntityReadPlan<ET> getReadPlan(Neo4jPersistentEntity<ET> nodeDescription) {
+		return (EntityReadPlan<ET>) readPlans.computeIfAbsent(nodeDescription, EntityReadPlan::of);
+	}
+
 	@NonNull
 	private <ET> Neo4jPersistentEntity<ET> getConcreteNodeDescription(MapAccessor queryResult,
 		Neo4jPersistentEntity<ET> nodeDescription) {
@@ -294,74 +528,84 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 	}
 
 	private <ET> ET instantiate(Neo4jPersistentEntity<ET> nodeDescription,
+		EntityReadPlan<ET> readPlan,
 		MapAccessor values,
-		KnownObjects knownObjects,
-		Collection<RelationshipDescription> relationships) {
+		GraphElements graphElements,
+		KnownObjects knownObjects, String path) {
 
 		ParameterValueProvider<Neo4jPersistentProperty> parameterValueProvider = new ParameterValueProvider<Neo4jPersistentProperty>() {
 			@Override
 			public Object getParameterValue(PreferredConstructor.Parameter parameter) {
 
-				Neo4jPersistentProperty matchingProperty = nodeDescription
-					.getRequiredPersistentProperty(parameter.getName());
+				PropertySlot slot = readPlan.getConstructorArgument(parameter.getName());
 
-				if (matchingProperty.isRelationship()) {
+				if (slot.isRelationship()) {
 
-					return createInstanceOfRelationships(matchingProperty, values, knownObjects, relationships)
-						.orElse(null);
+					return readRelationship(slot, nodeDescription, readPlan, values, graphElements, knownObjects,
+						path).orElse(null);
 				}
-				return readValueForProperty(extractValueOf(matchingProperty, values), parameter.getType());
+				return readValueForProperty(extractValueOf(slot, values), slot);
 			}
 		};
 
-
 		return INSTANTIATORS.getInstantiatorFor(nodeDescription)
 			.createInstance(nodeDescription, parameterValueProvider);
 	}
 
-	private PropertyHandler<Neo4jPersistentProperty> populateFrom(
-		MapAccessor queryResult,
-		PersistentPropertyAccessor<?> propertyAccessor,
-		Predicate<Neo4jPersistentProperty> isConstructorParameter
-	) {
-		return property -> {
-			if (isConstructorParameter.test(property)) {
-				return;
-			}
-
-			propertyAccessor.setProperty(property,
-				readValueForProperty(extractValueOf(property, queryResult), property.getTypeInformation()));
+	/**
+	 * Reads the related entities of a relationship. If they are not part of the values and the relationship has not
+	 * been fetched, either because it is fetched lazily or because it is not part of the fetch options, a proxy
+	 * loading them on first access is returned.
+	 */
+	private Optional<Object> readRelationship(PropertySlot slot,
+		Neo4jPersistentEntity<?> nodeDescription,
+		EntityReadPlan<?> readPlan,
+		MapAccessor values,
+		GraphElements graphElements,
+		KnownObjects knownObjects, String ownerPath) {
+
+		RelationshipDescription relationshipDescription = slot.getRequiredRelationship();
+		String path = FetchOptions.pathOf(ownerPath, relationshipDescription.getFieldName());
+		Optional<Object> relatedEntities = createInstanceOfRelationships(slot, values, graphElements, knownObjects,
+			path);
+		if (relatedEntities.isPresent() || knownObjects.getFetchOptions().includes(path, relationshipDescription)) {
+			return relatedEntities;
+		}
 
-		};
-	}
+		PropertySlot idSlot = readPlan.getIdSlot();
+		Value ownerId = idSlot == null ? Values.NULL : extractValueOf(idSlot, values);
+		if (ownerId.isNull()) {
+			return Optional.empty();
+		}
 
-	private AssociationHandler<Neo4jPersistentProperty> populateFrom(
-		MapAccessor queryResult,
-		PersistentPropertyAccessor<?> propertyAccessor,
-		Predicate<Neo4jPersistentProperty> isConstructorParameter,
-		Collection<RelationshipDescription> relationships,
-		KnownObjects knownObjects
-	) {
-		return association -> {
-
-			Neo4jPersistentProperty persistentProperty = association.getInverse();
-			if (isConstructorParameter.test(persistentProperty)) {
-				return;
-			}
+		Supplier<LazyRelationships.Batch> batchSupplier = () -> new LazyRelationships.Batch(
+			nodeDescription, relationshipDescription, knownObjects.getRelationshipLoader(),
+			row -> createInstanceOfRelationships(slot, row, new GraphElements(row), knownObjects, path).orElse(null));
+
+		// Relationships only left out by the fetch options are loaded for all owners together
+		LazyRelationships.Batch batch;
+		if (relationshipDescription.getFetchMode() != FetchMode.LAZY) {
+			List<Object> key = Arrays.asList(nodeDescription, relationshipDescription);
+			do {
+				batch = knownObjects.getBatch(key, batchSupplier);
+			} while (!batch.add(ownerId));
+		} else {
+			batch = batchSupplier.get();
+			batch.add(ownerId);
+		}
 
-			createInstanceOfRelationships(persistentProperty, queryResult, knownObjects, relationships)
-				.ifPresent(value -> propertyAccessor.setProperty(persistentProperty, value));
-		};
+		String description = String.format("%s of %s with id %s", slot.getProperty().getName(),
+			nodeDescription.getUnderlyingClass().getName(), ownerId);
+		return Optional.of(LazyRelationships.createProxy(slot.getTargetType().getType(), batch, ownerId, description));
 	}
 
-	private Optional<Object> createInstanceOfRelationships(Neo4jPersistentProperty persistentProperty,
+	private Optional<Object> createInstanceOfRelationships(PropertySlot slot,
 		MapAccessor values,
-		KnownObjects knownObjects,
-		Collection<RelationshipDescription> relationshipDescriptions) {
+		GraphElements graphElements,
+		KnownObjects knownObjects, String path) {
 
-		RelationshipDescription relationshipDescription = relationshipDescriptions.stream()
-			.filter(r -> r.getFieldName().equals(persistentProperty.getName()))
-			.findFirst().get();
+		Neo4jPersistentProperty persistentProperty = slot.getProperty();
+		RelationshipDescription relationshipDescription = slot.getRequiredRelationship();
 
 		String relationshipType = relationshipDescription.getType();
 		String targetLabel = relationshipDescription.getTarget().getPrimaryLabel();
@@ -398,54 +642,33 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 		// if the list is null the mapping is based on a custom query
 		if (list == Values.NULL) {
 
-			Predicate<Value> isList = entry -> entry instanceof Value && typeSystem.LIST().isTypeOf(entry);
+			// find nodes and relationships in the result
+			Collection<Node> allNodesWithMatchingLabelInResult = graphElements.getNodesWithLabel(targetLabel);
+			boolean hasMatchingTypeRelationshipsInResult = graphElements.hasRelationshipsWithType(relationshipType);
 
-			Predicate<Value> containsOnlyRelationships = entry -> entry.asList(Function.identity())
-				.stream()
-				.allMatch(listEntry -> typeSystem.RELATIONSHIP().isTypeOf(listEntry));
-
-			Predicate<Value> containsOnlyNodes = entry -> entry.asList(Function.identity())
-				.stream()
-				.allMatch(listEntry -> typeSystem.NODE().isTypeOf(listEntry));
-
-			// find relationships in the result
-			List<Relationship> allMatchingTypeRelationshipsInResult = StreamSupport
-				.stream(values.values().spliterator(), false)
-				.filter(isList.and(containsOnlyRelationships))
-				.flatMap(entry -> entry.asList(Value::asRelationship).stream())
-				.filter(r -> r.type().equals(relationshipType))
-				.collect(toList());
-
-			List<Node> allNodesWithMatchingLabelInResult = StreamSupport
-				.stream(values.values().spliterator(), false)
-				.filter(isList.and(containsOnlyNodes))
-				.flatMap(entry -> entry.asList(Value::asNode).stream())
-				.filter(n -> n.hasLabel(targetLabel))
-				.collect(toList());
-
-			if (allNodesWithMatchingLabelInResult.isEmpty() && allMatchingTypeRelationshipsInResult.isEmpty()) {
+			if (allNodesWithMatchingLabelInResult.isEmpty() && !hasMatchingTypeRelationshipsInResult) {
 				return Optional.empty();
 			}
 
+			Long ownerId = getInternalIdOf(values);
 			for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
-				long nodeId = possibleValueNode.id();
+				Relationship possibleRelationship = graphElements.getRelationship(relationshipType, ownerId,
+					possibleValueNode.id(), relationshipDescription.isOutgoing());
+				if (possibleRelationship == null) {
+					continue;
+				}
 
-				for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-					if (possibleRelationship.endNodeId() == nodeId) {
-						Object mappedObject = map(possibleValueNode, concreteTargetNodeDescription, knownObjects);
-						if (relationshipDescription.hasRelationshipProperties()) {
+				Object mappedObject = map(possibleValueNode, concreteTargetNodeDescription, knownObjects, path);
+				if (relationshipDescription.hasRelationshipProperties()) {
 
-							Class<?> propertiesClass = relationshipDescription.getRelationshipPropertiesClass();
+					Class<?> propertiesClass = relationshipDescription.getRelationshipPropertiesClass();
 
-							Object relationshipProperties = map(possibleRelationship,
-								(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(propertiesClass),
-								knownObjects);
-							relationshipsAndProperties.put(mappedObject, relationshipProperties);
-						} else {
-							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
-						}
-						break;
-					}
+					Object relationshipProperties = map(possibleRelationship,
+						(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(propertiesClass),
+						knownObjects, path);
+					relationshipsAndProperties.put(mappedObject, relationshipProperties);
+				} else {
+					mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 				}
 			}
 		} else {
@@ -456,8 +679,9 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 				Object idValue = idProperty.isInternalIdProperty()
 					? relatedEntity.get(NAME_OF_INTERNAL_ID)
 					: relatedEntity.get(idProperty.getName());
-				Object valueEntry = knownObjects.computeIfAbsent(idValue,
-					() -> map(relatedEntity, concreteTargetNodeDescription, knownObjects));
+				Object valueEntry = knownObjects.computeIfAbsent(
+					knownObjects.keyOf(concreteTargetNodeDescription, idValue, path),
+					() -> map(relatedEntity, concreteTargetNodeDescription, knownObjects, path));
 
 				if (relationshipDescription.hasRelationshipProperties()) {
 					Relationship relatedEntityRelationship = relatedEntity.get(NAME_OF_RELATIONSHIP).asRelationship();
@@ -465,7 +689,7 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 					Object relationshipProperties = map(relatedEntityRelationship,
 						(Neo4jPersistentEntity) nodeDescriptionStore.getNodeDescription(propertiesClass),
-						knownObjects);
+						knownObjects, path);
 					relationshipsAndProperties.put(valueEntry, relationshipProperties);
 				} else {
 					mappedObjectHandler.accept(relatedEntity.get(NAME_OF_RELATIONSHIP_TYPE).asString(), valueEntry);
@@ -491,48 +715,199 @@ final class DefaultNeo4jConverter implements Neo4jConverter {
 
 	}
 
-	private static Value extractValueOf(Neo4jPersistentProperty property, MapAccessor propertyContainer) {
-		if (property.isInternalIdProperty()) {
+	/**
+	 * @return The internal id of the node the values belong to, if known
+	 */
+	@Nullable
+	private static Long getInternalIdOf(MapAccessor values) {
+
+		if (values instanceof Node) {
+			return ((Node) values).id();
+		}
+		Value internalId = values.get(NAME_OF_INTERNAL_ID);
+		return internalId == null || internalId.isNull() ? null : internalId.asLong();
+	}
+
+	private static Value extractValueOf(PropertySlot slot, MapAccessor propertyContainer) {
+		if (slot.isInternalIdProperty()) {
 			return propertyContainer instanceof Node ?
 				Values.value(((Node) propertyContainer).id()) :
 				propertyContainer.get(NAME_OF_INTERNAL_ID);
 		} else {
-			String graphPropertyName = property.getPropertyName();
-			return propertyContainer.get(graphPropertyName);
+			return propertyContainer.get(slot.getGraphPropertyName());
 		}
 	}
 
-	static class KnownObjects {
+	/**
+	 * An index of the lists of nodes and relationships contained in a map accessor, as returned by custom queries. The
+	 * index is built in one pass over all values the first time it is needed, so that every association of an entity
+	 * can be resolved without scanning the result again.
+	 */
+	final class GraphElements {
 
-		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-		private final Lock read = lock.readLock();
-		private final Lock write = lock.writeLock();
+		private final MapAccessor values;
 
-		private Map<Object, Object> store = new HashMap<>();
+		/**
+		 * The distinct nodes with a given label, indexed by label and id.
+		 */
+		private Map<String, Map<Long, Node>> nodesByLabel;
 
-		Object computeIfAbsent(Object key, Supplier<Object> entitySupplier) {
-			try {
+		/**
+		 * The first relationship of a given type between two nodes, indexed by type and the ids of the start and the
+		 * end node.
+		 */
+		private Map<String, Map<List<Long>, Relationship>> relationshipsByTypeAndNodeIds;
+
+		GraphElements(MapAccessor values) {
+			this.values = values;
+		}
 
-				read.lock();
+		Collection<Node> getNodesWithLabel(String label) {
+			buildIndexIfNecessary();
+			return nodesByLabel.getOrDefault(label, Collections.emptyMap()).values();
+		}
 
-				Object knownEntity = store.get(key);
+		boolean hasRelationshipsWithType(String type) {
+			buildIndexIfNecessary();
+			return relationshipsByTypeAndNodeIds.containsKey(type);
+		}
 
-				if (knownEntity != null) {
-					return knownEntity;
+		/**
+		 * Finds the relationship of the given type between the owner of a relationship and a related node. If the owner
+		 * is unknown, the first relationship of the type pointing to the related node is returned.
+		 *
+		 * @param type          The type of the relationship
+		 * @param ownerId       The internal id of the owning node, may be {@literal null}
+		 * @param relatedNodeId The internal id of the related node
+		 * @param outgoing      True, if the relationship starts at the owning node
+		 * @return The relationship or {@literal null}
+		 */
+		@Nullable
+		Relationship getRelationship(String type, @Nullable Long ownerId, long relatedNodeId, boolean outgoing) {
+
+			buildIndexIfNecessary();
+			Map<List<Long>, Relationship> relationships = relationshipsByTypeAndNodeIds
+				.getOrDefault(type, Collections.emptyMap());
+			if (ownerId != null) {
+				return relationships.get(outgoing ?
+					Arrays.asList(ownerId, relatedNodeId) : Arrays.asList(relatedNodeId, ownerId));
+			}
+			return relationships.values().stream()
+				.filter(r -> (outgoing ? r.endNodeId() : r.startNodeId()) == relatedNodeId)
+				.findFirst().orElse(null);
+		}
+
+		private void buildIndexIfNecessary() {
+
+			if (nodesByLabel != null) {
+				return;
+			}
+
+			nodesByLabel = new HashMap<>();
+			relationshipsByTypeAndNodeIds = new HashMap<>();
+			for (Value entry : values.values()) {
+				if (!typeSystem.LIST().isTypeOf(entry)) {
+					continue;
+				}
+
+				List<Value> elements = entry.asList(Function.identity());
+				if (elements.stream().allMatch(typeSystem.RELATIONSHIP()::isTypeOf)) {
+					for (Value element : elements) {
+						Relationship relationship = element.asRelationship();
+						relationshipsByTypeAndNodeIds.computeIfAbsent(relationship.type(), k -> new LinkedHashMap<>())
+							.putIfAbsent(Arrays.asList(relationship.startNodeId(), relationship.endNodeId()),
+								relationship);
+					}
+				} else if (elements.stream().allMatch(typeSystem.NODE()::isTypeOf)) {
+					for (Value element : elements) {
+						Node node = element.asNode();
+						for (String label : node.labels()) {
+							nodesByLabel.computeIfAbsent(label, k -> new LinkedHashMap<>()).putIfAbsent(node.id(), node);
+						}
+					}
 				}
+			}
+		}
+	}
+
+	/**
+	 * The related entities mapped so far, indexed by their entity, id and the fetch options relative to the path they
+	 * have been reached through. An instance is only reused for a path with the same relationships fetched and may be
+	 * shared by all records of a result. The entities are mapped outside of any lock; if two threads map the same
+	 * entity concurrently, the first one stored wins. Once the capacity is reached, newly mapped entities are not
+	 * remembered anymore.
+	 * <p>
+	 * The known objects also hold the batches of relationships fetched with {@link FetchMode#BATCH}, so that the
+	 * relationships of all entities of a result are loaded together, and the fetch options of the result.
+	 */
+	static final class KnownObjects {
+
+		private final int capacity;
 
-			} finally {
-				read.unlock();
+		private final Map<Object, Object> store = new ConcurrentHashMap<>();
+
+		private final Map<Object, LazyRelationships.Batch> batches = new ConcurrentHashMap<>();
+
+		private final FetchOptions fetchOptions;
+
+		/**
+		 * The fetch options relative to the paths entities have been reached through.
+		 */
+		private final Map<String, FetchOptions> relativeFetchOptions = new ConcurrentHashMap<>();
+
+		private final @Nullable RelationshipLoader relationshipLoader;
+
+		KnownObjects(int capacity, FetchOptions fetchOptions, @Nullable RelationshipLoader relationshipLoader) {
+			this.capacity = capacity;
+			this.fetchOptions = fetchOptions;
+			this.relationshipLoader = relationshipLoader;
+		}
+
+		FetchOptions getFetchOptions() {
+			return fetchOptions;
+		}
+
+		@Nullable
+		RelationshipLoader getRelationshipLoader() {
+			return relationshipLoader;
+		}
+
+		/**
+		 * @param nodeDescription The description of an entity
+		 * @param id              The id of the entity
+		 * @param path            The path of the relationship the entity has been reached through
+		 * @return The key of the entity reached through the path
+		 */
+		Object keyOf(Neo4jPersistentEntity<?> nodeDescription, Object id, String path) {
+
+			FetchOptions optionsOfPath = fetchOptions.isDefault()
+				? fetchOptions
+				: relativeFetchOptions.computeIfAbsent(path, fetchOptions::relativeTo);
+			return Arrays.asList(nodeDescription, id, optionsOfPath);
+		}
+
+		Object computeIfAbsent(Object key, Supplier<Object> entitySupplier) {
+
+			Object knownEntity = store.get(key);
+			if (knownEntity != null) {
+				return knownEntity;
 			}
 
-			try {
-				write.lock();
-				Object computedEntity = entitySupplier.get();
-				store.put(key, computedEntity);
+			Object computedEntity = entitySupplier.get();
+			if (store.size() >= capacity) {
 				return computedEntity;
-			} finally {
-				write.unlock();
 			}
+
+			knownEntity = store.putIfAbsent(key, computedEntity);
+			return knownEntity == null ? computedEntity : knownEntity;
+		}
+
+		/**
+		 * @return The batch owners of the relationship identified by the key are added to, a new one if the current
+		 * batch has already been loaded
+		 */
+		LazyRelationships.Batch getBatch(Object key, Supplier<LazyRelationships.Batch> batchSupplier) {
+			return batches.compute(key, (k, batch) -> batch == null || batch.isLoaded() ? batchSupplier.get() : batch);
 		}
 	}
 }
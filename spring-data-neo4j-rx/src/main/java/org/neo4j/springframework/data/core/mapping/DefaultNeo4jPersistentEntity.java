@@ -37,6 +37,7 @@ import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.Property;
 import org.neo4j.springframework.data.core.schema.Relationship;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.neo4j.springframework.data.core.schema.SkipUnchangedUpdates;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
@@ -102,6 +103,15 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		return primaryLabel;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see Neo4jPersistentEntity#isSkippingUnchangedUpdates()
+	 */
+	@Override
+	public boolean isSkippingUnchangedUpdates() {
+		return this.isAnnotationPresent(SkipUnchangedUpdates.class) && !this.hasVersionProperty();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see NodeDescription#getUnderlyingClass()
@@ -159,6 +169,7 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		this.idDescription = computeIdDescription();
 		verifyNoDuplicatedGraphProperties();
 		verifyDynamicAssociations();
+		verifyLazyAssociations();
 	}
 
 	private void verifyNoDuplicatedGraphProperties() {
@@ -197,6 +208,26 @@ class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo4jPers
 		});
 	}
 
+	/**
+	 * Lazy relationships are represented by interface based proxies, which are only available for collections and maps
+	 * declared with their interface.
+	 */
+	private void verifyLazyAssociations() {
+
+		this.doWithAssociations((Association<Neo4jPersistentProperty> association) -> {
+			Neo4jPersistentProperty inverse = association.getInverse();
+			Relationship relationship = inverse.findAnnotation(Relationship.class);
+			if (relationship == null || relationship.fetch() == Relationship.FetchMode.EAGER) {
+				return;
+			}
+
+			Assert.state((inverse.isCollectionLike() || inverse.isMap()) && inverse.getType().isInterface(),
+				() -> "Only relationships declared as a collection or map interface can be fetched "
+					+ relationship.fetch().name() + " in " + this.getUnderlyingClass() + " on field "
+					+ inverse.getFieldName() + ".");
+		});
+	}
+
 	/**
 	 * The primary label will get computed and returned by following rules:<br>
 	 * 1. If there is no {@link Node} annotation, use the class name.<br>
@@ -45,6 +45,8 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 
 	private final Relationship.Direction direction;
 
+	private final Relationship.FetchMode fetchMode;
+
 	private Class<?> relationshipPropertiesClass;
 
 	private RelationshipDescription relationshipObverse;
@@ -52,7 +54,8 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 	DefaultRelationshipDescription(Neo4jPersistentProperty inverse,
 		@Nullable RelationshipDescription relationshipObverse,
 		String type, boolean dynamic, NodeDescription<?> source, String fieldName, NodeDescription<?> target,
-		Relationship.Direction direction, @Nullable Class<?> relationshipPropertiesClass) {
+		Relationship.Direction direction, Relationship.FetchMode fetchMode,
+		@Nullable Class<?> relationshipPropertiesClass) {
 
 		// the immutable obverse association-wise is always null because we cannot determine them on both sides
 		// if we consider to support bidirectional relationships.
@@ -65,6 +68,7 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 		this.fieldName = fieldName;
 		this.target = target;
 		this.direction = direction;
+		this.fetchMode = fetchMode;
 		this.relationshipPropertiesClass = relationshipPropertiesClass;
 	}
 
@@ -98,6 +102,18 @@ class DefaultRelationshipDescription extends Association<Neo4jPersistentProperty
 		return direction;
 	}
 
+	@Override
+	public Relationship.FetchMode getFetchMode() {
+		return fetchMode;
+	}
+
+	@Override
+	public boolean canBeLoadedLazily() {
+
+		Neo4jPersistentProperty inverse = getInverse();
+		return (inverse.isCollectionLike() || inverse.isMap()) && inverse.getType().isInterface();
+	}
+
 	@Override
 	public Class<?> getRelationshipPropertiesClass() {
 		return relationshipPropertiesClass;
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Everything the {@link DefaultNeo4jConverter} needs to know to read an entity from a record, resolved once per entity.
+ * Mapping a record just runs through the slots of the plan instead of looking up properties, constructor parameters
+ * and relationships for each record again.
+ *
+ * @author agent
+ * @param <ET> As in entity type
+ * @since 1.0.1
+ */
+final class EntityReadPlan<ET> {
+
+	/**
+	 * The slots of the constructor arguments, indexed by the name of the parameter.
+	 */
+	private final Map<String, PropertySlot> constructorArguments;
+
+	/**
+	 * Simple properties to populate after instantiation, that is all properties that are no constructor arguments.
+	 */
+	private final List<PropertySlot> properties;
+
+	/**
+	 * Associations to populate after instantiation, that is all associations that are no constructor arguments.
+	 */
+	private final List<PropertySlot> associations;
+
+	private final boolean requiresPropertyPopulation;
+
+	/**
+	 * The slot of the id property, used to identify the owner of lazily fetched relationships.
+	 */
+	private final @Nullable PropertySlot idSlot;
+
+	static <ET> EntityReadPlan<ET> of(Neo4jPersistentEntity<ET> nodeDescription) {
+
+		Collection<RelationshipDescription> relationships = nodeDescription.getRelationships();
+		PreferredConstructor<ET, Neo4jPersistentProperty> persistenceConstructor = nodeDescription
+			.getPersistenceConstructor();
+
+		Map<String, PropertySlot> constructorArguments = new HashMap<>();
+		if (persistenceConstructor != null) {
+			for (PreferredConstructor.Parameter<Object, Neo4jPersistentProperty> parameter : persistenceConstructor
+				.getParameters()) {
+				Neo4jPersistentProperty property = nodeDescription.getRequiredPersistentProperty(parameter.getName());
+				constructorArguments.put(parameter.getName(),
+					new PropertySlot(property, parameter.getType(), findRelationship(property, relationships)));
+			}
+		}
+
+		List<PropertySlot> properties = new ArrayList<>();
+		List<PropertySlot> associations = new ArrayList<>();
+		if (nodeDescription.requiresPropertyPopulation()) {
+			nodeDescription.doWithProperties((Neo4jPersistentProperty property) -> {
+				if (!isConstructorParameter(persistenceConstructor, property)) {
+					properties.add(new PropertySlot(property, property.getTypeInformation(), null));
+				}
+			});
+			nodeDescription.doWithAssociations((Association<Neo4jPersistentProperty> association) -> {
+				Neo4jPersistentProperty property = association.getInverse();
+				if (!isConstructorParameter(persistenceConstructor, property)) {
+					associations.add(new PropertySlot(property, property.getTypeInformation(),
+						findRelationship(property, relationships)));
+				}
+			});
+		}
+
+		Neo4jPersistentProperty idProperty = nodeDescription.getIdProperty();
+		PropertySlot idSlot = idProperty == null ?
+			null : new PropertySlot(idProperty, idProperty.getTypeInformation(), null);
+
+		return new EntityReadPlan<>(constructorArguments, properties, associations,
+			nodeDescription.requiresPropertyPopulation(), idSlot);
+	}
+
+	private static boolean isConstructorParameter(
+		@Nullable PreferredConstructor<?, Neo4jPersistentProperty> persistenceConstructor,
+		Neo4jPersistentProperty property) {
+
+		return persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property);
+	}
+
+	@Nullable
+	static RelationshipDescription findRelationship(Neo4jPersistentProperty property,
+		Collection<RelationshipDescription> relationships) {
+
+		if (!property.isRelationship()) {
+			return null;
+		}
+		return relationships.stream()
+			.filter(r -> r.getFieldName().equals(property.getName()))
+			.findFirst().orElse(null);
+	}
+
+	private EntityReadPlan(Map<String, PropertySlot> constructorArguments, List<PropertySlot> properties,
+		List<PropertySlot> associations, boolean requiresPropertyPopulation, @Nullable PropertySlot idSlot) {
+
+		this.constructorArguments = Collections.unmodifiableMap(constructorArguments);
+		this.properties = Collections.unmodifiableList(properties);
+		this.associations = Collections.unmodifiableList(associations);
+		this.requiresPropertyPopulation = requiresPropertyPopulation;
+		this.idSlot = idSlot;
+	}
+
+	/**
+	 * @param parameterName The name of a parameter of the persistence constructor
+	 * @return The slot of the constructor argument
+	 */
+	PropertySlot getConstructorArgument(String parameterName) {
+
+		PropertySlot slot = constructorArguments.get(parameterName);
+		if (slot == null) {
+			throw new IllegalStateException("No property for constructor parameter " + parameterName);
+		}
+		return slot;
+	}
+
+	List<PropertySlot> getProperties() {
+		return properties;
+	}
+
+	List<PropertySlot> getAssociations() {
+		return associations;
+	}
+
+	boolean requiresPropertyPopulation() {
+		return requiresPropertyPopulation;
+	}
+
+	@Nullable
+	PropertySlot getIdSlot() {
+		return idSlot;
+	}
+
+	/**
+	 * A property together with everything needed to read its value from a record.
+	 */
+	static final class PropertySlot {
+
+		/**
+		 * The property of the entity, {@literal null} for values of projections that are not part of the entity.
+		 */
+		private final @Nullable Neo4jPersistentProperty property;
+
+		/**
+		 * The name of the property inside the graph or {@literal null} for the internal id and relationships.
+		 */
+		private final @Nullable String graphPropertyName;
+
+		private final boolean internalIdProperty;
+
+		private final TypeInformation<?> targetType;
+
+		private final @Nullable RelationshipDescription relationship;
+
+		private final boolean collection;
+
+		private final boolean relationshipProperty;
+
+		/**
+		 * The conversion of the value or of the elements of a collection valued property.
+		 */
+		private final CachedConversion conversion;
+
+		PropertySlot(Neo4jPersistentProperty property, TypeInformation<?> targetType,
+			@Nullable RelationshipDescription relationship) {
+
+			this(property, property.getName(), targetType, relationship);
+		}
+
+		/**
+		 * Creates a slot for a value of a projection. Values that are no properties of the entity are read by the
+		 * name given.
+		 */
+		PropertySlot(@Nullable Neo4jPersistentProperty property, String name, TypeInformation<?> targetType,
+			@Nullable RelationshipDescription relationship) {
+
+			this.property = property;
+			this.internalIdProperty = property != null && property.isInternalIdProperty();
+			this.relationshipProperty = property != null && property.isRelationship();
+			if (property == null) {
+				this.graphPropertyName = name;
+			} else {
+				this.graphPropertyName = internalIdProperty || relationshipProperty ? null : property.getPropertyName();
+			}
+			this.targetType = targetType;
+			this.relationship = relationship;
+			this.collection = Collection.class.isAssignableFrom(targetType.getType());
+			this.conversion = new CachedConversion(
+				collection ? targetType.getRequiredComponentType().getType() : targetType.getType());
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			if (property == null) {
+				throw new IllegalStateException("Value " + graphPropertyName + " is not a property of the entity");
+			}
+			return property;
+		}
+
+		boolean isInternalIdProperty() {
+			return internalIdProperty;
+		}
+
+		@Nullable
+		String getGraphPropertyName() {
+			return graphPropertyName;
+		}
+
+		TypeInformation<?> getTargetType() {
+			return targetType;
+		}
+
+		boolean isCollection() {
+			return collection;
+		}
+
+		CachedConversion getConversion() {
+			return conversion;
+		}
+
+		boolean isRelationship() {
+			return relationshipProperty;
+		}
+
+		RelationshipDescription getRequiredRelationship() {
+			if (relationship == null) {
+				throw new IllegalStateException("Property " + getProperty().getName() + " is not a relationship");
+			}
+			return relationship;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import org.apiguardian.api.API;
+import org.springframework.lang.Nullable;
+
+/**
+ * Implemented by the proxies representing lazily fetched relationships.
+ *
+ * @author agent
+ * @see org.neo4j.springframework.data.core.schema.Relationship#fetch()
+ * @since 1.0.1
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.1")
+public interface LazyLoadingProxy {
+
+	/**
+	 * @return True, if the related nodes have already been loaded
+	 */
+	boolean isLoaded();
+
+	/**
+	 * Loads the related nodes if they have not been loaded yet.
+	 *
+	 * @return The value represented by this proxy
+	 */
+	@Nullable
+	Object getTarget();
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.CollectionFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates the proxies representing lazily fetched relationships. Each proxy belongs to a {@link Batch} of owners,
+ * whose related nodes are loaded together on first access of any of the proxies of the batch. Only collections and
+ * maps are represented by proxies, which implement the interface the relationship has been declared with.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class LazyRelationships {
+
+	/**
+	 * Creates a proxy for the value of a relationship of the given owner.
+	 *
+	 * @param type        The collection or map interface of the property holding the relationship
+	 * @param batch       The batch the owner has been added to
+	 * @param ownerId     The id of the owner
+	 * @param description Describes the relationship in error messages
+	 * @return A proxy of the given type, also implementing {@link LazyLoadingProxy}
+	 */
+	static Object createProxy(Class<?> type, Batch batch, Value ownerId, String description) {
+
+		Assert.isTrue(
+			type.isInterface() && (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)),
+			() -> "Cannot create a lazy loading proxy for " + description + " of type " + type.getName());
+
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.addInterface(LazyLoadingProxy.class);
+		proxyFactory.addInterface(type);
+		proxyFactory.setOpaque(true);
+		proxyFactory.addAdvice(new Interceptor(type, batch, ownerId, description));
+
+		ClassLoader classLoader = type.getClassLoader();
+		return proxyFactory.getProxy(classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader);
+	}
+
+	/**
+	 * The owners of a relationship whose related nodes are loaded with one query. Owners can only be added as long as
+	 * the batch has not been loaded.
+	 */
+	static final class Batch {
+
+		private final NodeDescription<?> nodeDescription;
+
+		private final RelationshipDescription relationshipDescription;
+
+		private final @Nullable RelationshipLoader relationshipLoader;
+
+		/**
+		 * Reads the value of the relationship from a row returned by the statement.
+		 */
+		private final Function<MapAccessor, Object> valueReader;
+
+		private final List<Value> ownerIds = new ArrayList<>();
+
+		private @Nullable Map<Value, Object> values;
+
+		Batch(NodeDescription<?> nodeDescription, RelationshipDescription relationshipDescription,
+			@Nullable RelationshipLoader relationshipLoader, Function<MapAccessor, Object> valueReader) {
+
+			this.nodeDescription = nodeDescription;
+			this.relationshipDescription = relationshipDescription;
+			this.relationshipLoader = relationshipLoader;
+			this.valueReader = valueReader;
+		}
+
+		/**
+		 * @param ownerId The id of the owner to add
+		 * @return False, if the batch has already been loaded and the owner could not be added
+		 */
+		synchronized boolean add(Value ownerId) {
+
+			if (values != null) {
+				return false;
+			}
+			ownerIds.add(ownerId);
+			return true;
+		}
+
+		synchronized boolean isLoaded() {
+			return values != null;
+		}
+
+		@Nullable
+		synchronized Object getValue(Value ownerId, String description) {
+
+			if (values == null) {
+				if (relationshipLoader == null) {
+					throw new IllegalStateException(
+						"Cannot load " + description + ", lazy relationships are only loaded through a Neo4jTemplate");
+				}
+
+				Map<Value, Object> loadedValues = new HashMap<>();
+				List<Record> records = relationshipLoader.load(nodeDescription, relationshipDescription, ownerIds);
+				for (Record record : records) {
+					loadedValues.put(record.get(NAME_OF_ID), valueReader.apply(record.get(1)));
+				}
+				values = loadedValues;
+				ownerIds.clear();
+			}
+			return values.get(ownerId);
+		}
+	}
+
+	private static final class Interceptor implements MethodInterceptor {
+
+		private final Class<?> type;
+
+		private final Batch batch;
+
+		private final Value ownerId;
+
+		private final String description;
+
+		private volatile boolean loaded;
+
+		private @Nullable Object target;
+
+		Interceptor(Class<?> type, Batch batch, Value ownerId, String description) {
+			this.type = type;
+			this.batch = batch;
+			this.ownerId = ownerId;
+			this.description = description;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+			if (method.getDeclaringClass() == LazyLoadingProxy.class) {
+				return "isLoaded".equals(method.getName()) ? loaded || batch.isLoaded() : getTarget();
+			}
+
+			ReflectionUtils.makeAccessible(method);
+			try {
+				return method.invoke(getTarget(), invocation.getArguments());
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+
+		private Object getTarget() {
+
+			if (!loaded) {
+				synchronized (this) {
+					if (!loaded) {
+						Object value = batch.getValue(ownerId, description);
+						if (value == null) {
+							value = Collection.class.isAssignableFrom(type)
+								? CollectionFactory.createCollection(type, 0)
+								: CollectionFactory.createMap(type, 0);
+						}
+						target = value;
+						loaded = true;
+					}
+				}
+			}
+			return target;
+		}
+	}
+
+	private LazyRelationships() {
+	}
+}
@@ -19,21 +19,27 @@
 package org.neo4j.springframework.data.core.mapping;
 
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.core.convert.Neo4jConverter;
 import org.neo4j.springframework.data.core.convert.Neo4jSimpleTypes;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.neo4j.springframework.data.core.schema.IdGenerator;
 import org.neo4j.springframework.data.core.schema.Node;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.Schema;
+import org.neo4j.springframework.data.core.schema.UnknownEntityException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -45,6 +51,7 @@ import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * An implementation of both a {@link Schema} as well as a Neo4j version of Spring Data's
@@ -78,6 +85,11 @@ public final class Neo4jMappingContext
 
 	private @Nullable AutowireCapableBeanFactory beanFactory;
 
+	/**
+	 * The maximum number of related entities a mapping function for one result remembers.
+	 */
+	private int maxKnownObjectsPerResult = Integer.MAX_VALUE;
+
 	public Neo4jMappingContext() {
 
 		this(new Neo4jConversions());
@@ -94,6 +106,124 @@ public final class Neo4jMappingContext
 		return converter;
 	}
 
+	/**
+	 * Configures how many related entities a mapping function retrieved through
+	 * {@link #getRequiredResultMappingFunctionFor(Class)} remembers. Once that number has been reached, related
+	 * entities are still mapped, but not shared between records of the result anymore. A lower number trades the
+	 * uniqueness of related entities for less memory held while a large or streamed result is being processed.
+	 * Defaults to {@link Integer#MAX_VALUE}.
+	 *
+	 * @param maxKnownObjectsPerResult The maximum number of related entities to remember per result
+	 * @since 1.0.1
+	 */
+	public void setMaxKnownObjectsPerResult(int maxKnownObjectsPerResult) {
+
+		Assert.isTrue(maxKnownObjectsPerResult >= 0, "The maximum number of known objects must not be negative.");
+		this.maxKnownObjectsPerResult = maxKnownObjectsPerResult;
+	}
+
+	@Override
+	public <T> BiFunction<TypeSystem, Record, T> getRequiredResultMappingFunctionFor(Class<T> targetClass) {
+		return getRequiredResultMappingFunctionFor(targetClass, FetchOptions.defaults());
+	}
+
+	/**
+	 * Retrieves a mapping function like {@link #getRequiredResultMappingFunctionFor(Class)} for a result whose
+	 * relationships have been fetched according to the given options. Relationships left out by the options are
+	 * loaded on first access.
+	 *
+	 * @param targetClass  The target class to which to map to.
+	 * @param fetchOptions The options the relationships of the result have been fetched with
+	 * @param <T>          Type of the target class
+	 * @return A new mapping function for the given target class that must be used for one result only
+	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
+	 * @since 1.0.1
+	 */
+	public <T> BiFunction<TypeSystem, Record, T> getRequiredResultMappingFunctionFor(Class<T> targetClass,
+		FetchOptions fetchOptions) {
+
+		if (getNodeDescription(targetClass) == null) {
+			throw new UnknownEntityException(targetClass);
+		}
+
+		DefaultNeo4jConverter defaultConverter = (DefaultNeo4jConverter) converter;
+		return new ResultMappingFunction<>(maxKnownObjectsPerResult, fetchOptions, null,
+			(record, knownObjects) -> defaultConverter.read(targetClass, record, knownObjects));
+	}
+
+	/**
+	 * Binds a loader for relationships fetched lazily to a mapping function retrieved from this context. Without a
+	 * loader, accessing such a relationship fails. The loader is used for the result of one query only, so templates
+	 * bind themselves to the mapping functions of the queries they execute.
+	 *
+	 * @param mappingFunction    A mapping function
+	 * @param relationshipLoader The loader for the relationships fetched lazily
+	 * @param <T>                Type of the mapped objects
+	 * @return A new mapping function using the given loader, or the mapping function passed in, if it has not been
+	 * retrieved from this context
+	 * @since 1.0.1
+	 */
+	public <T> BiFunction<TypeSystem, Record, T> withRelationshipLoader(BiFunction<TypeSystem, Record, T> mappingFunction,
+		RelationshipLoader relationshipLoader) {
+
+		if (mappingFunction instanceof ResultMappingFunction) {
+			return ((ResultMappingFunction<T>) mappingFunction).withRelationshipLoader(relationshipLoader);
+		}
+		return mappingFunction;
+	}
+
+	/**
+	 * Checks whether instances of a projection can be read directly from the records of a query for the given domain
+	 * type, without instantiating the domain type. This is the case for closed interface projections and DTOs.
+	 *
+	 * @param domainType     The type of the entity projected
+	 * @param projectionType The type of the projection
+	 * @return True, if the projection can be read directly
+	 * @since 1.0.1
+	 */
+	public boolean supportsDirectProjection(Class<?> domainType, Class<?> projectionType) {
+
+		return ((DefaultNeo4jConverter) converter)
+			.isDirectProjection(projectionType, getRequiredPersistentEntity(domainType));
+	}
+
+	/**
+	 * Retrieves the properties of the domain type read by a projection. Properties of related entities read by nested
+	 * projections are given by the name of the relationship, a dot and the name of the property of the related entity.
+	 *
+	 * @param domainType     The type of the entity projected
+	 * @param projectionType The type of a projection {@link #supportsDirectProjection(Class, Class) read directly}
+	 * @return The paths of the properties read by the projection
+	 * @since 1.0.1
+	 */
+	public List<String> getProjectedPropertyPaths(Class<?> domainType, Class<?> projectionType) {
+
+		return ((DefaultNeo4jConverter) converter)
+			.getProjectionReadPlan(projectionType, getRequiredPersistentEntity(domainType)).getPropertyPaths();
+	}
+
+	/**
+	 * Retrieves a mapping function like {@link #getRequiredResultMappingFunctionFor(Class, FetchOptions)}, that reads
+	 * projections of the domain type directly from the records, without instantiating the domain type.
+	 *
+	 * @param domainType     The type of the entity projected
+	 * @param projectionType The type of a projection {@link #supportsDirectProjection(Class, Class) read directly}
+	 * @param fetchOptions   The options the relationships of the result have been fetched with
+	 * @param <T>            Type of the projection
+	 * @return A new mapping function for the given projection that must be used for one result only
+	 * @since 1.0.1
+	 */
+	public <T> BiFunction<TypeSystem, Record, T> getRequiredProjectionMappingFunctionFor(Class<?> domainType,
+		Class<T> projectionType, FetchOptions fetchOptions) {
+
+		DefaultNeo4jConverter defaultConverter = (DefaultNeo4jConverter) converter;
+		ProjectionReadPlan<T> plan = defaultConverter
+			.getProjectionReadPlan(projectionType, getRequiredPersistentEntity(domainType));
+
+		return new ResultMappingFunction<>(maxKnownObjectsPerResult, fetchOptions, null,
+			(record, knownObjects) -> defaultConverter.readProjection(plan, record, knownObjects));
+	}
+
 	boolean hasCustomWriteTarget(Class<?> targetType) {
 		return neo4jConversions.hasCustomWriteTarget(targetType);
 	}
@@ -144,6 +274,7 @@ public final class Neo4jMappingContext
 			if (parentNodeDescription != null) {
 				parentNodeDescription.addChildNodeDescription(newEntity);
 				newEntity.setParentNodeDescription(parentNodeDescription);
+				this.nodeDescriptionStore.hierarchyChanged();
 			}
 		}
 
@@ -38,4 +38,13 @@ import org.springframework.data.mapping.model.MutablePersistentEntity;
 @API(status = API.Status.INTERNAL, since = "1.0")
 public interface Neo4jPersistentEntity<T>
 	extends MutablePersistentEntity<T, Neo4jPersistentProperty>, NodeDescription<T> {
+
+	/**
+	 * @return True, if existing nodes of this entity are only updated when their properties changed.
+	 * @see org.neo4j.springframework.data.core.schema.SkipUnchangedUpdates
+	 * @since 1.0.1
+	 */
+	default boolean isSkippingUnchangedUpdates() {
+		return false;
+	}
 }
@@ -19,11 +19,13 @@
 package org.neo4j.springframework.data.core.mapping;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.springframework.data.mapping.context.AbstractMappingContext;
@@ -39,9 +41,21 @@ class NodeDescriptionStore {
 
 	/**
 	 * A lookup of entities based on their primary label. We depend on the locking mechanism provided by the
-	 * {@link AbstractMappingContext}, so this lookup is not synchronized further.
+	 * {@link AbstractMappingContext} for adding entities, the lookup itself is safe for concurrent reads.
 	 */
-	private final Map<String, NodeDescription<?>> nodeDescriptionsByPrimaryLabel = new HashMap<>();
+	private final Map<String, NodeDescription<?>> nodeDescriptionsByPrimaryLabel = new ConcurrentHashMap<>();
+
+	/**
+	 * A lookup of entities based on their underlying class, maintained together with the lookup by primary label.
+	 */
+	private final Map<Class<?>, NodeDescription<?>> nodeDescriptionsByUnderlyingClass = new ConcurrentHashMap<>();
+
+	/**
+	 * The concrete descriptions derived so far for an entity and the set of labels of a node. Replaced whenever the
+	 * hierarchy of the entities changes, so that a description derived concurrently from the old hierarchy is stored
+	 * only in the discarded cache.
+	 */
+	private volatile Map<List<Object>, NodeDescription<?>> concreteNodeDescriptions = new ConcurrentHashMap<>();
 
 	public boolean containsKey(String primaryLabel) {
 		return nodeDescriptionsByPrimaryLabel.containsKey(primaryLabel);
@@ -53,6 +67,15 @@ class NodeDescriptionStore {
 
 	public <T> void put(String primaryLabel, DefaultNeo4jPersistentEntity<T> newEntity) {
 		nodeDescriptionsByPrimaryLabel.put(primaryLabel, newEntity);
+		nodeDescriptionsByUnderlyingClass.putIfAbsent(newEntity.getUnderlyingClass(), newEntity);
+		hierarchyChanged();
+	}
+
+	/**
+	 * Must be called after a child description has been added to one of the stored entities.
+	 */
+	public void hierarchyChanged() {
+		concreteNodeDescriptions = new ConcurrentHashMap<>();
 	}
 
 	public Set<Map.Entry<String, NodeDescription<?>>> entrySet() {
@@ -70,18 +93,27 @@ class NodeDescriptionStore {
 
 	@Nullable
 	public NodeDescription<?> getNodeDescription(Class<?> targetType) {
-		for (NodeDescription<?> nodeDescription : values()) {
-			if (nodeDescription.getUnderlyingClass().equals(targetType)) {
-				return nodeDescription;
-			}
-		}
-		return null;
+		return nodeDescriptionsByUnderlyingClass.get(targetType);
 	}
 
 	public NodeDescription<?> deriveConcreteNodeDescription(Neo4jPersistentEntity<?> entityDescription, List<String> labels) {
 		if (labels == null || labels.isEmpty()) {
 			return entityDescription;
 		}
+
+		Map<List<Object>, NodeDescription<?>> cache = concreteNodeDescriptions;
+		List<Object> key = Arrays.asList(entityDescription, new HashSet<>(labels));
+		NodeDescription<?> concreteNodeDescription = cache.get(key);
+		if (concreteNodeDescription == null) {
+			concreteNodeDescription = computeConcreteNodeDescription(entityDescription, labels);
+			cache.put(key, concreteNodeDescription);
+		}
+		return concreteNodeDescription;
+	}
+
+	private static NodeDescription<?> computeConcreteNodeDescription(Neo4jPersistentEntity<?> entityDescription,
+		List<String> labels) {
+
 		for (NodeDescription<?> childNodeDescription : entityDescription.getChildNodeDescriptionsInHierarchy()) {
 
 			String primaryLabel = childNodeDescription.getPrimaryLabel();
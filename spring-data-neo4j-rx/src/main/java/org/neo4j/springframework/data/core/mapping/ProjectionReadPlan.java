@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.neo4j.springframework.data.core.mapping.EntityReadPlan.PropertySlot;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Everything the {@link DefaultNeo4jConverter} needs to know to read a projection of an entity directly from a record,
+ * without instantiating the entity. A projection is either a closed interface projection, whose instances are backed
+ * by a map of the projected values, or a DTO, which is instantiated through its preferred constructor and whose
+ * remaining properties are populated through setters or fields. Relationships can be projected onto nested
+ * projections as well.
+ *
+ * @author agent
+ * @param <T> The type of the projection
+ * @since 1.0.1
+ */
+final class ProjectionReadPlan<T> {
+
+	private final Class<T> type;
+
+	private final Neo4jPersistentEntity<?> source;
+
+	/**
+	 * The constructor of a DTO or {@literal null} for interface projections.
+	 */
+	private final @Nullable PreferredConstructor<T, ?> constructor;
+
+	/**
+	 * The arguments of the constructor of a DTO, in the order of the parameters.
+	 */
+	private final List<ProjectedProperty> constructorArguments;
+
+	/**
+	 * All properties of an interface projection respectively the properties of a DTO that are populated after
+	 * instantiation.
+	 */
+	private final List<ProjectedProperty> properties;
+
+	/**
+	 * Checks whether instances of a type can be read directly from the records of a query for the given entity.
+	 *
+	 * @param type              The type of the projection
+	 * @param source            The entity projected
+	 * @param projectionFactory Used to inspect interface projections
+	 * @param isEntity          Checks whether a type is an entity
+	 * @return True, if the type is a closed interface projection or a DTO
+	 */
+	static boolean isDirectProjection(Class<?> type, Neo4jPersistentEntity<?> source,
+		ProjectionFactory projectionFactory, Predicate<Class<?>> isEntity) {
+
+		if (type.isAssignableFrom(source.getType())) {
+			return false;
+		}
+		if (type.isInterface()) {
+			return projectionFactory.getProjectionInformation(type).isClosed();
+		}
+		return !(type.isArray() || type.isEnum() || type.isPrimitive() || isEntity.test(type));
+	}
+
+	static <T> ProjectionReadPlan<T> of(Class<T> type, Neo4jPersistentEntity<?> source,
+		ProjectionFactory projectionFactory, Predicate<Class<?>> isEntity) {
+
+		return of(type, source, projectionFactory, isEntity, new HashSet<>());
+	}
+
+	private static <T> ProjectionReadPlan<T> of(Class<T> type, Neo4jPersistentEntity<?> source,
+		ProjectionFactory projectionFactory, Predicate<Class<?>> isEntity, Set<Class<?>> typesOnPath) {
+
+		if (!typesOnPath.add(type)) {
+			throw new MappingException("Cannot project " + source.getType().getName() + " onto " + type.getName()
+				+ ", the projection contains itself.");
+		}
+
+		ClassTypeInformation<T> typeInformation = ClassTypeInformation.from(type);
+		PropertyFactory propertyFactory = new PropertyFactory(source, projectionFactory, isEntity, typesOnPath);
+
+		ProjectionReadPlan<T> plan;
+		if (type.isInterface()) {
+			ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(type);
+			List<ProjectedProperty> properties = new ArrayList<>();
+			for (PropertyDescriptor descriptor : projectionInformation.getInputProperties()) {
+				properties.add(propertyFactory.create(descriptor.getName(),
+					typeInformation.getReturnType(descriptor.getReadMethod()), null, null));
+			}
+			plan = new ProjectionReadPlan<>(type, source, null, Collections.emptyList(), properties);
+		} else {
+			PreferredConstructor<T, ?> constructor = PreferredConstructorDiscoverer.discover(type);
+			if (constructor == null) {
+				throw new MappingException("No constructor to instantiate the projection " + type.getName());
+			}
+
+			List<ProjectedProperty> constructorArguments = new ArrayList<>();
+			Set<String> constructorParameterNames = new HashSet<>();
+			for (PreferredConstructor.Parameter<Object, ?> parameter : constructor.getParameters()) {
+				String name = parameter.getName();
+				if (name == null) {
+					throw new MappingException("The names of the constructor parameters of the projection "
+						+ type.getName() + " are not available, please compile with debug information.");
+				}
+				constructorParameterNames.add(name);
+				constructorArguments.add(propertyFactory.create(name, parameter.getType(), null, null));
+			}
+
+			Map<String, ProjectedProperty> properties = new LinkedHashMap<>();
+			for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+				Method writeMethod = descriptor.getWriteMethod();
+				String name = descriptor.getName();
+				if (writeMethod != null && !constructorParameterNames.contains(name)) {
+					ReflectionUtils.makeAccessible(writeMethod);
+					properties.put(name, propertyFactory.create(name,
+						typeInformation.getParameterTypes(writeMethod).get(0), writeMethod, null));
+				}
+			}
+			ReflectionUtils.doWithFields(type, field -> {
+				String name = field.getName();
+				if (!(constructorParameterNames.contains(name) || properties.containsKey(name))) {
+					ReflectionUtils.makeAccessible(field);
+					properties.put(name, propertyFactory.create(name,
+						typeInformation.getRequiredProperty(name), null, field));
+				}
+			}, field -> !(Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())
+				|| Modifier.isTransient(field.getModifiers()) || field.isSynthetic()));
+
+			plan = new ProjectionReadPlan<>(type, source, constructor, constructorArguments,
+				new ArrayList<>(properties.values()));
+		}
+
+		typesOnPath.remove(type);
+		return plan;
+	}
+
+	private ProjectionReadPlan(Class<T> type, Neo4jPersistentEntity<?> source,
+		@Nullable PreferredConstructor<T, ?> constructor, List<ProjectedProperty> constructorArguments,
+		List<ProjectedProperty> properties) {
+
+		this.type = type;
+		this.source = source;
+		this.constructor = constructor;
+		this.constructorArguments = Collections.unmodifiableList(constructorArguments);
+		this.properties = Collections.unmodifiableList(properties);
+	}
+
+	Class<T> getType() {
+		return type;
+	}
+
+	Neo4jPersistentEntity<?> getSource() {
+		return source;
+	}
+
+	boolean isInterfaceProjection() {
+		return constructor == null;
+	}
+
+	PreferredConstructor<T, ?> getRequiredConstructor() {
+		if (constructor == null) {
+			throw new IllegalStateException(type.getName() + " is an interface projection");
+		}
+		return constructor;
+	}
+
+	List<ProjectedProperty> getConstructorArguments() {
+		return constructorArguments;
+	}
+
+	List<ProjectedProperty> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @return The paths of all properties of the projected entity read by this projection, the properties of related
+	 * entities read by nested projections given by the name of the relationship, a dot and their own path.
+	 */
+	List<String> getPropertyPaths() {
+
+		List<String> paths = new ArrayList<>();
+		addPropertyPaths(constructorArguments, paths);
+		addPropertyPaths(properties, paths);
+		return paths;
+	}
+
+	private static void addPropertyPaths(List<ProjectedProperty> projectedProperties, List<String> paths) {
+
+		for (ProjectedProperty property : projectedProperties) {
+			String name = property.getName();
+			if (property.getSourceProperty() == null || paths.contains(name)) {
+				continue;
+			}
+			paths.add(name);
+			if (property.getNestedPlan() != null) {
+				for (String nestedPath : property.getNestedPlan().getPropertyPaths()) {
+					paths.add(name + "." + nestedPath);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A property of a projection together with everything needed to read its value from a record.
+	 */
+	static final class ProjectedProperty {
+
+		private final String name;
+
+		private final TypeInformation<?> targetType;
+
+		/**
+		 * The property of the projected entity, {@literal null} if the projected entity has no property of that name.
+		 */
+		private final @Nullable Neo4jPersistentProperty sourceProperty;
+
+		/**
+		 * The slot to read the value of a simple property, respectively to read related entities as entities.
+		 */
+		private final PropertySlot slot;
+
+		/**
+		 * The projection of related entities, if they are not read as entities.
+		 */
+		private final @Nullable ProjectionReadPlan<?> nestedPlan;
+
+		private final @Nullable Method writeMethod;
+
+		private final @Nullable Field field;
+
+		ProjectedProperty(String name, TypeInformation<?> targetType, @Nullable Neo4jPersistentProperty sourceProperty,
+			PropertySlot slot, @Nullable ProjectionReadPlan<?> nestedPlan, @Nullable Method writeMethod,
+			@Nullable Field field) {
+
+			this.name = name;
+			this.targetType = targetType;
+			this.sourceProperty = sourceProperty;
+			this.slot = slot;
+			this.nestedPlan = nestedPlan;
+			this.writeMethod = writeMethod;
+			this.field = field;
+		}
+
+		String getName() {
+			return name;
+		}
+
+		TypeInformation<?> getTargetType() {
+			return targetType;
+		}
+
+		@Nullable
+		Neo4jPersistentProperty getSourceProperty() {
+			return sourceProperty;
+		}
+
+		PropertySlot getSlot() {
+			return slot;
+		}
+
+		boolean isRelationship() {
+			return sourceProperty != null && sourceProperty.isRelationship();
+		}
+
+		@Nullable
+		ProjectionReadPlan<?> getNestedPlan() {
+			return nestedPlan;
+		}
+
+		/**
+		 * Populates the property of a DTO after instantiation.
+		 */
+		void setValue(Object instance, @Nullable Object value) {
+
+			if (writeMethod != null) {
+				ReflectionUtils.invokeMethod(writeMethod, instance, value);
+			} else if (field != null) {
+				ReflectionUtils.setField(field, instance, value);
+			}
+		}
+	}
+
+	/**
+	 * Creates the properties of one projection, projecting relationships onto nested projections where necessary.
+	 */
+	private static final class PropertyFactory {
+
+		private final Neo4jPersistentEntity<?> source;
+
+		private final ProjectionFactory projectionFactory;
+
+		private final Predicate<Class<?>> isEntity;
+
+		private final Set<Class<?>> typesOnPath;
+
+		PropertyFactory(Neo4jPersistentEntity<?> source, ProjectionFactory projectionFactory,
+			Predicate<Class<?>> isEntity, Set<Class<?>> typesOnPath) {
+
+			this.source = source;
+			this.projectionFactory = projectionFactory;
+			this.isEntity = isEntity;
+			this.typesOnPath = typesOnPath;
+		}
+
+		ProjectedProperty create(String name, TypeInformation<?> targetType, @Nullable Method writeMethod,
+			@Nullable Field field) {
+
+			Neo4jPersistentProperty sourceProperty = source.getPersistentProperty(name);
+			if (sourceProperty == null || !sourceProperty.isRelationship()) {
+				// Properties of the entity are read by their name in the graph, all others by their own name
+				PropertySlot slot = new PropertySlot(sourceProperty, name, targetType, null);
+				return new ProjectedProperty(name, targetType, sourceProperty, slot, null, writeMethod, field);
+			}
+
+			RelationshipDescription relationship = EntityReadPlan
+				.findRelationship(sourceProperty, source.getRelationships());
+			PropertySlot slot = new PropertySlot(sourceProperty, sourceProperty.getTypeInformation(), relationship);
+
+			ProjectionReadPlan<?> nestedPlan = null;
+			Class<?> elementType = getElementType(targetType);
+			if (relationship != null && !sourceProperty.isDynamicAssociation()
+				&& !relationship.hasRelationshipProperties()) {
+
+				Neo4jPersistentEntity<?> target = (Neo4jPersistentEntity<?>) relationship.getTarget();
+				if (isDirectProjection(elementType, target, projectionFactory, isEntity)) {
+					nestedPlan = ProjectionReadPlan.of(elementType, target, projectionFactory, isEntity, typesOnPath);
+				}
+			}
+			return new ProjectedProperty(name, targetType, sourceProperty, slot, nestedPlan, writeMethod, field);
+		}
+
+		private static Class<?> getElementType(TypeInformation<?> targetType) {
+
+			return Collection.class.isAssignableFrom(targetType.getType()) ?
+				targetType.getRequiredComponentType().getType() :
+				targetType.getType();
+		}
+	}
+}
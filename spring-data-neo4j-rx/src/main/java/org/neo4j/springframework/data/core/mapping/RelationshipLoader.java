@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
+import org.neo4j.springframework.data.core.schema.NodeDescription;
+import org.neo4j.springframework.data.core.schema.RelationshipDescription;
+
+/**
+ * Loads lazily fetched relationships. The imperative template binds itself as loader to the mapping functions of the
+ * queries it executes, see {@link Neo4jMappingContext#withRelationshipLoader}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.INTERNAL, since = "1.0.1")
+@FunctionalInterface
+public interface RelationshipLoader {
+
+	/**
+	 * Loads the related nodes of one relationship for many owners with the statement created by
+	 * {@link org.neo4j.springframework.data.core.schema.CypherGenerator#createRelationshipLoadQuery}.
+	 *
+	 * @param nodeDescription         The description of the owners
+	 * @param relationshipDescription The relationship to load
+	 * @param ownerIds                The ids of the owners
+	 * @return All records returned by the statement
+	 */
+	List<Record> load(NodeDescription<?> nodeDescription, RelationshipDescription relationshipDescription,
+		List<?> ownerIds);
+}
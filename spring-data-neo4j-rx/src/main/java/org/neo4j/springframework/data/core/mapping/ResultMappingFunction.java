@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import java.util.function.BiFunction;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.springframework.data.core.mapping.DefaultNeo4jConverter.KnownObjects;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
+import org.springframework.lang.Nullable;
+
+/**
+ * The mapping function for one result. It holds the related entities known inside the result and the loader of the
+ * relationships fetched lazily, which is bound by the template executing the query.
+ *
+ * @author agent
+ * @param <T> The type of the mapped objects
+ * @since 1.0.1
+ */
+final class ResultMappingFunction<T> implements BiFunction<TypeSystem, Record, T> {
+
+	private final int maxKnownObjects;
+
+	private final FetchOptions fetchOptions;
+
+	private final BiFunction<Record, KnownObjects, T> reader;
+
+	private final KnownObjects knownObjects;
+
+	ResultMappingFunction(int maxKnownObjects, FetchOptions fetchOptions, @Nullable RelationshipLoader relationshipLoader,
+		BiFunction<Record, KnownObjects, T> reader) {
+
+		this.maxKnownObjects = maxKnownObjects;
+		this.fetchOptions = fetchOptions;
+		this.reader = reader;
+		this.knownObjects = new KnownObjects(maxKnownObjects, fetchOptions, relationshipLoader);
+	}
+
+	@Override
+	public T apply(TypeSystem typeSystem, Record record) {
+		return reader.apply(record, knownObjects);
+	}
+
+	/**
+	 * @param relationshipLoader The loader for the relationships fetched lazily
+	 * @return A new mapping function for another result, that loads lazily fetched relationships with the given loader
+	 */
+	ResultMappingFunction<T> withRelationshipLoader(RelationshipLoader relationshipLoader) {
+		return new ResultMappingFunction<>(maxKnownObjects, fetchOptions, relationshipLoader, reader);
+	}
+}
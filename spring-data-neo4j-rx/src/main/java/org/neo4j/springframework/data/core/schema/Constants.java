@@ -43,8 +43,11 @@ public final class Constants {
 	public static final String NAME_OF_VERSION_PARAM = "__version__";
 	public static final String NAME_OF_PROPERTIES_PARAM = "__properties__";
 	public static final String NAME_OF_ENTITY_LIST_PARAM = "__entities__";
+	public static final String NAME_OF_TOTAL = "__total__";
+	public static final String NAME_OF_ROW_INDEX = "__row__";
 
 	public static final String FROM_ID_PARAMETER_NAME = "fromId";
+	public static final String TO_ID_PARAMETER_NAME = "toId";
 
 	private Constants() {
 	}
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -101,6 +102,45 @@ public enum CypherGenerator {
 			.with(expressions.toArray(new Expression[] {}));
 	}
 
+	/**
+	 * This will create the same match statement as {@link #prepareMatchOf(NodeDescription, Condition)}, but counts all
+	 * matching nodes first, so that a page of nodes and the total number of nodes can be retrieved with one statement.
+	 * The {@code WITH} clause of this statement contains the total as {@link Constants#NAME_OF_TOTAL}, which must
+	 * be returned next to the nodes.
+	 * <p>
+	 * The condition is evaluated twice, once for counting and once for matching the nodes of the page, which is the
+	 * same shape as used by derived queries. Only the count is carried from the first to the second match, the matching
+	 * nodes are never collected. Without a condition, counting the nodes separately is cheaper, as the database can
+	 * answer that from its count store.
+	 *
+	 * @param nodeDescription The node description for which a match clause should be generated
+	 * @param condition       Optional conditions to add
+	 * @return An ongoing match
+	 * @since 1.0.1
+	 */
+	public StatementBuilder.OrderableOngoingReadingAndWith prepareMatchWithTotalOf(NodeDescription<?> nodeDescription,
+		@Nullable Condition condition) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+		IdDescription idDescription = nodeDescription.getIdDescription();
+
+		List<Expression> expressions = new ArrayList<>();
+		expressions.add(NAME_OF_ROOT_NODE);
+		if (idDescription.isInternallyGeneratedId()) {
+			expressions.add(Functions.id(rootNode).as(NAME_OF_INTERNAL_ID));
+		}
+		expressions.add(Cypher.name(NAME_OF_TOTAL));
+
+		// A node already visited is rendered without its labels, so the node to count needs to be another instance
+		Node nodeToCount = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+		return Cypher.match(nodeToCount).where(conditionOrNoCondition(condition))
+			.with(Functions.count(Cypher.asterisk()).as(NAME_OF_TOTAL))
+			.match(rootNode).where(conditionOrNoCondition(condition))
+			.with(expressions.toArray(new Expression[] {}));
+	}
+
 	public Statement prepareDeleteOf(NodeDescription<?> nodeDescription) {
 		return prepareDeleteOf(nodeDescription, null);
 	}
@@ -112,6 +152,28 @@ public enum CypherGenerator {
 		return Cypher.match(rootNode).where(conditionOrNoCondition(condition)).detachDelete(rootNode).build();
 	}
 
+	/**
+	 * Creates a statement that deletes at most {@code batchSize} of the matching nodes. The statement has to be
+	 * executed repeatedly until no more nodes are deleted.
+	 *
+	 * @param nodeDescription The description of the nodes to delete
+	 * @param condition       An optional condition restricting the nodes to delete
+	 * @param batchSize       The maximum number of nodes to delete in one execution
+	 * @return A statement deleting one batch of nodes
+	 * @since 1.0.1
+	 */
+	public Statement prepareDeleteOf(NodeDescription<?> nodeDescription, @Nullable Condition condition,
+		int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0.");
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+		return Cypher.match(rootNode).where(conditionOrNoCondition(condition))
+			.with(rootNode).limit(batchSize)
+			.detachDelete(rootNode).build();
+	}
+
 	public Statement prepareSaveOf(NodeDescription<?> nodeDescription) {
 
 		String primaryLabel = nodeDescription.getPrimaryLabel();
@@ -149,11 +211,27 @@ public enum CypherGenerator {
 					.build();
 				return Cypher.union(createIfNew, updateIfExists);
 
-			} else {
+			} else if (!((Neo4jPersistentEntity) nodeDescription).isSkippingUnchangedUpdates()) {
 				return Cypher.merge(rootNode.properties(nameOfIdProperty, idParameter))
 					.set(rootNode, parameter(NAME_OF_PROPERTIES_PARAM))
 					.returning(rootNode.internalId())
 					.build();
+			} else {
+				// Properties are only written when they changed, the existing node is returned in any case
+				Statement mergeIfChanged = Cypher.merge(rootNode.properties(nameOfIdProperty, idParameter))
+					.with(rootNode)
+					.where(Functions.properties(rootNode).isNotEqualTo(parameter(NAME_OF_PROPERTIES_PARAM)))
+					.set(rootNode, parameter(NAME_OF_PROPERTIES_PARAM))
+					.returning(rootNode.internalId())
+					.build();
+
+				Node existingNode = node(primaryLabel, additionalLabels).named(NAME_OF_ROOT_NODE);
+				Statement matchExisting = Cypher
+					.match(existingNode)
+					.where(existingNode.property(nameOfIdProperty).isEqualTo(idParameter))
+					.returning(existingNode.internalId())
+					.build();
+				return Cypher.union(mergeIfChanged, matchExisting);
 			}
 		} else {
 			String nameOfPossibleExistingNode = "hlp";
@@ -191,22 +269,52 @@ public enum CypherGenerator {
 					.returning(rootNode.internalId())
 					.build();
 
+				Condition updateCondition = rootNode.internalId().isEqualTo(idParameter);
+				boolean skipUnchanged = ((Neo4jPersistentEntity) nodeDescription).isSkippingUnchangedUpdates();
+				if (skipUnchanged) {
+					// Properties are only written when they changed
+					updateCondition = updateCondition
+						.and(Functions.properties(rootNode).isNotEqualTo(parameter(NAME_OF_PROPERTIES_PARAM)));
+				}
 				updateIfExists = Cypher
 					.match(rootNode)
-					.where(rootNode.internalId().isEqualTo(idParameter))
+					.where(updateCondition)
 					.set(rootNode, parameter(NAME_OF_PROPERTIES_PARAM))
 					.returning(rootNode.internalId())
 					.build();
+
+				if (skipUnchanged) {
+					// The existing node is returned in any case
+					Node existingNode = node(primaryLabel, additionalLabels).named(NAME_OF_ROOT_NODE);
+					Statement matchExisting = Cypher
+						.match(existingNode)
+						.where(existingNode.internalId().isEqualTo(idParameter))
+						.returning(existingNode.internalId())
+						.build();
+					return Cypher.union(createIfNew, updateIfExists, matchExisting);
+				}
 			}
 
 			return Cypher.union(createIfNew, updateIfExists);
 		}
 	}
 
+	/**
+	 * Creates a statement that saves all entities passed as {@link Constants#NAME_OF_ENTITY_LIST_PARAM} in one go.
+	 * Entities with external ids are merged. Each row returned contains the index of the entity passed in as
+	 * {@link Constants#NAME_OF_ROW_INDEX} and the internal id of the saved node as {@link Constants#NAME_OF_INTERNAL_ID},
+	 * as the rows are not guaranteed to be returned in the order of the list. The ids of the entities in the list should
+	 * be unique. For entities with internal ids or a version property see
+	 * {@link #prepareCreateOrUpdateOfMultipleInstancesOf(NodeDescription)}.
+	 *
+	 * @param nodeDescription The description of the entities to save
+	 * @return A statement saving a list of entities
+	 */
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
 
-		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
-			"Only entities that use external IDs can be saved in a batch.");
+		if (nodeDescription.isUsingInternalIds() || ((Neo4jPersistentEntity) nodeDescription).hasVersionProperty()) {
+			return prepareCreateOrUpdateOfMultipleInstancesOf(nodeDescription);
+		}
 
 		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
 			.named(NAME_OF_ROOT_NODE);
@@ -220,26 +328,121 @@ public enum CypherGenerator {
 			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
 			.merge(rootNode.properties(nameOfIdProperty, property(row, NAME_OF_ID)))
 			.set(rootNode, property(row, NAME_OF_PROPERTIES_PARAM))
-			.returning(Functions.collect(rootNode.property(nameOfIdProperty)).as(NAME_OF_IDS))
+			.returning(property(row, NAME_OF_ROW_INDEX).as(NAME_OF_ROW_INDEX),
+				rootNode.internalId().as(NAME_OF_INTERNAL_ID))
 			.build();
 	}
 
+	/**
+	 * Creates a statement that saves all entities with internal ids or a version property passed as
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM} in one go. Entities without an id or whose node doesn't exist
+	 * are created, all others are updated. In case of a version property, only the nodes having the version passed as
+	 * {@link Constants#NAME_OF_VERSION_PARAM} are updated. Each row returned contains the index of the entity passed in
+	 * as {@link Constants#NAME_OF_ROW_INDEX} and the internal id of the saved node as
+	 * {@link Constants#NAME_OF_INTERNAL_ID}. The ids of the entities in the list must be unique, otherwise several nodes
+	 * might be created for the same id. Entities that have been neither created nor updated are missing from the
+	 * result, unless the entity
+	 * {@link Neo4jPersistentEntity#isSkippingUnchangedUpdates() skips unchanged updates}: Those are only written when
+	 * their properties changed, but returned in any case.
+	 *
+	 * @param nodeDescription The description of the entities to save
+	 * @return A statement saving a list of entities
+	 * @since 1.0.1
+	 */
+	private Statement prepareCreateOrUpdateOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+
+		String primaryLabel = nodeDescription.getPrimaryLabel();
+		List<String> additionalLabels = nodeDescription.getAdditionalLabels();
+		IdDescription idDescription = nodeDescription.getIdDescription();
+
+		Function<Node, Expression> idOf;
+		if (idDescription.isInternallyGeneratedId()) {
+			idOf = Node::internalId;
+		} else {
+			String nameOfIdProperty = idDescription.getOptionalGraphPropertyName()
+				.orElseThrow(() -> new MappingException("External id does not correspond to a graph property!"));
+			idOf = node -> node.property(nameOfIdProperty);
+		}
+
+		String row = "entity";
+		String nameOfPossibleExistingNode = "hlp";
+		Node possibleExistingNode = node(primaryLabel, additionalLabels).named(nameOfPossibleExistingNode);
+		Node nodeToCreate = node(primaryLabel, additionalLabels).named(NAME_OF_ROOT_NODE);
+		Statement createIfNew = Cypher
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.optionalMatch(possibleExistingNode)
+			.where(idOf.apply(possibleExistingNode).isEqualTo(property(row, NAME_OF_ID)))
+			.with(row, nameOfPossibleExistingNode)
+			.where(possibleExistingNode.isNull())
+			.create(nodeToCreate)
+			.set(nodeToCreate, property(row, NAME_OF_PROPERTIES_PARAM))
+			.returning(property(row, NAME_OF_ROW_INDEX).as(NAME_OF_ROW_INDEX),
+				nodeToCreate.internalId().as(NAME_OF_INTERNAL_ID))
+			.build();
+
+		Node nodeToUpdate = node(primaryLabel, additionalLabels).named(NAME_OF_ROOT_NODE);
+		Condition updateCondition = idOf.apply(nodeToUpdate).isEqualTo(property(row, NAME_OF_ID));
+		boolean skipUnchanged = ((Neo4jPersistentEntity) nodeDescription).isSkippingUnchangedUpdates();
+		if (((Neo4jPersistentEntity) nodeDescription).hasVersionProperty()) {
+			PersistentProperty versionProperty = ((Neo4jPersistentEntity) nodeDescription)
+				.getRequiredVersionProperty();
+			updateCondition = updateCondition.and(
+				nodeToUpdate.property(versionProperty.getName()).isEqualTo(property(row, NAME_OF_VERSION_PARAM)));
+		} else if (skipUnchanged) {
+			// Properties are only written when they changed
+			updateCondition = updateCondition.and(
+				Functions.properties(nodeToUpdate).isNotEqualTo(property(row, NAME_OF_PROPERTIES_PARAM)));
+		}
+		Statement updateIfExists = Cypher
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.match(nodeToUpdate)
+			.where(updateCondition)
+			.set(nodeToUpdate, property(row, NAME_OF_PROPERTIES_PARAM))
+			.returning(property(row, NAME_OF_ROW_INDEX).as(NAME_OF_ROW_INDEX),
+				nodeToUpdate.internalId().as(NAME_OF_INTERNAL_ID))
+			.build();
+
+		if (!skipUnchanged) {
+			return Cypher.unionAll(createIfNew, updateIfExists);
+		}
+
+		// Return the unchanged nodes as well, the updated nodes are returned twice
+		Node existingNode = node(primaryLabel, additionalLabels).named(NAME_OF_ROOT_NODE);
+		Statement matchExisting = Cypher
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.match(existingNode)
+			.where(idOf.apply(existingNode).isEqualTo(property(row, NAME_OF_ID)))
+			.returning(property(row, NAME_OF_ROW_INDEX).as(NAME_OF_ROW_INDEX),
+				existingNode.internalId().as(NAME_OF_INTERNAL_ID))
+			.build();
+		return Cypher.unionAll(createIfNew, updateIfExists, matchExisting);
+	}
+
+	/**
+	 * Creates a statement that merges a single relationship between the node identified by
+	 * {@link Constants#FROM_ID_PARAMETER_NAME} and the related node identified by its internal id passed as
+	 * {@link Constants#TO_ID_PARAMETER_NAME}. Both nodes are qualified with their labels, so that the statement is the
+	 * same for all relationships of a given type between two kinds of nodes.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationship            The relationship to create
+	 * @param dynamicRelationshipType The concrete type of a dynamic relationship, ignored for static relationships
+	 * @param relatedNodeDescription  The description of the related node
+	 * @return A statement creating one relationship
+	 */
 	@NonNull
 	public Statement createRelationshipCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		RelationshipDescription relationship, @Nullable String dynamicRelationshipType, Long relatedInternalId) {
+		RelationshipDescription relationship, @Nullable String dynamicRelationshipType,
+		NodeDescription<?> relatedNodeDescription) {
 
-		Node startNode = anyNode(START_NODE_NAME);
-		Node endNode = anyNode(END_NODE_NAME);
-		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+		Node startNode = createStartNode(neo4jPersistentEntity);
+		Node endNode = createEndNode(relatedNodeDescription);
 
-		Parameter idParameter = parameter(FROM_ID_PARAMETER_NAME);
 		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
 		return match(startNode)
-			.where(neo4jPersistentEntity.isUsingInternalIds()
-				? startNode.internalId().isEqualTo(idParameter)
-				: startNode.property(idPropertyName).isEqualTo(idParameter))
+			.where(createStartNodeCondition(neo4jPersistentEntity, startNode))
 			.match(endNode)
-			.where(endNode.internalId().isEqualTo(literalOf(relatedInternalId)))
+			.where(endNode.internalId().isEqualTo(parameter(TO_ID_PARAMETER_NAME)))
 			.merge(relationship.isOutgoing()
 				? startNode.relationshipTo(endNode, type)
 				: startNode.relationshipFrom(endNode, type)
@@ -247,20 +450,28 @@ public enum CypherGenerator {
 			.build();
 	}
 
+	/**
+	 * Creates a statement that merges a single relationship with properties. The properties are expected as
+	 * {@link Constants#NAME_OF_PROPERTIES_PARAM}, the related node is identified like in
+	 * {@link #createRelationshipCreationQuery(Neo4jPersistentEntity, RelationshipDescription, String, NodeDescription)}.
+	 *
+	 * @param neo4jPersistentEntity  The entity owning the relationship
+	 * @param relationship           The relationship to create
+	 * @param relatedNodeDescription The description of the related node
+	 * @return A statement creating one relationship with properties
+	 */
 	@NonNull
 	public Statement createRelationshipWithPropertiesCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		RelationshipDescription relationship, Long relatedInternalId) {
+		RelationshipDescription relationship, NodeDescription<?> relatedNodeDescription) {
 
 		Assert.isTrue(relationship.hasRelationshipProperties(),
 			"Properties required to create a relationship with properties");
 		Assert.isTrue(!relationship.isDynamic(),
 			"Creation of relationships with properties is only supported for non-dynamic relationships");
 
-		Node startNode = anyNode(START_NODE_NAME);
-		Node endNode = anyNode(END_NODE_NAME);
-		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
+		Node startNode = createStartNode(neo4jPersistentEntity);
+		Node endNode = createEndNode(relatedNodeDescription);
 
-		Parameter idParameter = parameter(FROM_ID_PARAMETER_NAME);
 		Parameter relationshipProperties = parameter(NAME_OF_PROPERTIES_PARAM);
 		String type = relationship.getType();
 
@@ -268,11 +479,9 @@ public enum CypherGenerator {
 		Relationship relIncoming = startNode.relationshipFrom(endNode, type).named(RELATIONSHIP_NAME);
 
 		return match(startNode)
-			.where(neo4jPersistentEntity.isUsingInternalIds()
-				? startNode.internalId().isEqualTo(idParameter)
-				: startNode.property(idPropertyName).isEqualTo(idParameter))
+			.where(createStartNodeCondition(neo4jPersistentEntity, startNode))
 			.match(endNode)
-			.where(endNode.internalId().isEqualTo(literalOf(relatedInternalId)))
+			.where(endNode.internalId().isEqualTo(parameter(TO_ID_PARAMETER_NAME)))
 			.merge(relationship.isOutgoing()
 				? relOutgoing
 				: relIncoming
@@ -281,13 +490,113 @@ public enum CypherGenerator {
 			.build();
 	}
 
+	/**
+	 * Creates a statement that merges a batch of relationships of the same type between the node identified by
+	 * {@link Constants#FROM_ID_PARAMETER_NAME} and a list of already persisted related nodes. The rows are expected
+	 * in a list parameter named {@link Constants#NAME_OF_ENTITY_LIST_PARAM}, each of them containing the internal id
+	 * of the related node as {@link Constants#NAME_OF_ID} and, in case of relationships with properties, the properties
+	 * as {@link Constants#NAME_OF_PROPERTIES_PARAM}.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationship            The relationship to create
+	 * @param dynamicRelationshipType The concrete type of a dynamic relationship, ignored for static relationships
+	 * @param relatedNodeDescription  The description of the related nodes
+	 * @return A statement creating all relationships of one batch
+	 * @since 1.0.1
+	 */
+	@NonNull
+	public Statement createBatchRelationshipCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		RelationshipDescription relationship, @Nullable String dynamicRelationshipType,
+		NodeDescription<?> relatedNodeDescription) {
+
+		Assert.isTrue(!(relationship.isDynamic() && relationship.hasRelationshipProperties()),
+			"Creation of relationships with properties is only supported for non-dynamic relationships");
+
+		Node startNode = createStartNode(neo4jPersistentEntity);
+		Node endNode = createEndNode(relatedNodeDescription);
+
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+
+		Relationship relationshipToCreate = (relationship.isOutgoing()
+			? startNode.relationshipTo(endNode, type)
+			: startNode.relationshipFrom(endNode, type)).named(RELATIONSHIP_NAME);
+
+		String row = "relationship";
+		StatementBuilder.OngoingReadingWithWhere ongoingMatch = match(startNode)
+			.where(createStartNodeCondition(neo4jPersistentEntity, startNode))
+			.unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.match(endNode)
+			.where(endNode.internalId().isEqualTo(property(row, NAME_OF_ID)));
+
+		if (relationship.hasRelationshipProperties()) {
+			return ongoingMatch.merge(relationshipToCreate)
+				.set(RELATIONSHIP_NAME, property(row, NAME_OF_PROPERTIES_PARAM))
+				.build();
+		}
+		return ongoingMatch.merge(relationshipToCreate).build();
+	}
+
+	/**
+	 * Creates a statement that merges relationships of the same type between many start nodes and already persisted
+	 * related nodes. The rows are expected in a list parameter named {@link Constants#NAME_OF_ENTITY_LIST_PARAM}, each
+	 * of them containing the id of the start node as {@link Constants#FROM_ID_PARAMETER_NAME}, the internal id of the
+	 * related node as {@link Constants#NAME_OF_ID} and, in case of relationships with properties, the properties as
+	 * {@link Constants#NAME_OF_PROPERTIES_PARAM}.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationship            The relationship to create
+	 * @param dynamicRelationshipType The concrete type of a dynamic relationship, ignored for static relationships
+	 * @param relatedNodeDescription  The description of the related nodes
+	 * @return A statement creating the relationships of many start nodes
+	 * @since 1.0.1
+	 */
+	@NonNull
+	public Statement createRelationshipsOfManyNodesCreationQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		RelationshipDescription relationship, @Nullable String dynamicRelationshipType,
+		NodeDescription<?> relatedNodeDescription) {
+
+		Assert.isTrue(!(relationship.isDynamic() && relationship.hasRelationshipProperties()),
+			"Creation of relationships with properties is only supported for non-dynamic relationships");
+
+		Node startNode = createStartNode(neo4jPersistentEntity);
+		Node endNode = createEndNode(relatedNodeDescription);
+
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+
+		Relationship relationshipToCreate = (relationship.isOutgoing()
+			? startNode.relationshipTo(endNode, type)
+			: startNode.relationshipFrom(endNode, type)).named(RELATIONSHIP_NAME);
+
+		String row = "relationship";
+		StatementBuilder.OngoingReadingWithWhere ongoingMatch = unwind(parameter(NAME_OF_ENTITY_LIST_PARAM)).as(row)
+			.match(startNode)
+			.where(createStartNodeId(neo4jPersistentEntity, startNode).isEqualTo(property(row, FROM_ID_PARAMETER_NAME)))
+			.match(endNode)
+			.where(endNode.internalId().isEqualTo(property(row, NAME_OF_ID)));
+
+		if (relationship.hasRelationshipProperties()) {
+			return ongoingMatch.merge(relationshipToCreate)
+				.set(RELATIONSHIP_NAME, property(row, NAME_OF_PROPERTIES_PARAM))
+				.build();
+		}
+		return ongoingMatch.merge(relationshipToCreate).build();
+	}
+
+	/**
+	 * Creates a statement that removes all relationships described by {@code relationshipDescription} from the node
+	 * identified by {@link Constants#FROM_ID_PARAMETER_NAME}.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationshipDescription The relationship to remove
+	 * @param relatedNode             The description of the related nodes
+	 * @return A statement removing all relationships of one kind
+	 */
 	@NonNull
 	public Statement createRelationshipRemoveQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
-		RelationshipDescription relationshipDescription, Neo4jPersistentEntity relatedNode) {
+		RelationshipDescription relationshipDescription, NodeDescription<?> relatedNode) {
 
-		Node startNode = anyNode(START_NODE_NAME);
+		Node startNode = createStartNode(neo4jPersistentEntity);
 		Node endNode = node(relatedNode.getPrimaryLabel(), relatedNode.getAdditionalLabels());
-		String idPropertyName = neo4jPersistentEntity.getRequiredIdProperty().getPropertyName();
 		boolean outgoing = relationshipDescription.isOutgoing();
 
 		String relationshipType = relationshipDescription.isDynamic() ? null : relationshipDescription.getType();
@@ -297,14 +606,138 @@ public enum CypherGenerator {
 			? startNode.relationshipTo(endNode, relationshipType).named(relationshipToRemoveName)
 			: startNode.relationshipFrom(endNode, relationshipType).named(relationshipToRemoveName);
 
-		Parameter idParameter = parameter(FROM_ID_PARAMETER_NAME);
 		return match(relationship)
-			.where(neo4jPersistentEntity.isUsingInternalIds()
-				? startNode.internalId().isEqualTo(idParameter)
-				: startNode.property(idPropertyName).isEqualTo(idParameter))
+			.where(createStartNodeCondition(neo4jPersistentEntity, startNode))
+			.delete(relationship.getSymbolicName().get()).build();
+	}
+
+	/**
+	 * Creates a statement that removes all relationships described by {@code relationshipDescription} from all nodes
+	 * whose ids are passed as {@link Constants#NAME_OF_IDS}.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationshipDescription The relationship to remove
+	 * @param relatedNode             The description of the related nodes
+	 * @return A statement removing all relationships of one kind from many nodes
+	 * @since 1.0.1
+	 */
+	@NonNull
+	public Statement createRelationshipsOfManyNodesRemoveQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		RelationshipDescription relationshipDescription, NodeDescription<?> relatedNode) {
+
+		Node startNode = createStartNode(neo4jPersistentEntity);
+		Node endNode = node(relatedNode.getPrimaryLabel(), relatedNode.getAdditionalLabels());
+
+		String relationshipType = relationshipDescription.isDynamic() ? null : relationshipDescription.getType();
+
+		String relationshipToRemoveName = "rel";
+		Relationship relationship = relationshipDescription.isOutgoing()
+			? startNode.relationshipTo(endNode, relationshipType).named(relationshipToRemoveName)
+			: startNode.relationshipFrom(endNode, relationshipType).named(relationshipToRemoveName);
+
+		return match(relationship)
+			.where(createStartNodeId(neo4jPersistentEntity, startNode).in(parameter(NAME_OF_IDS)))
 			.delete(relationship.getSymbolicName().get()).build();
 	}
 
+	/**
+	 * Creates a statement that returns all relationships described by {@code relationshipDescription} from the node
+	 * identified by {@link Constants#FROM_ID_PARAMETER_NAME}. Each row contains the relationship itself as
+	 * {@link RelationshipDescription#NAME_OF_RELATIONSHIP} and the internal id of the related node as
+	 * {@link Constants#NAME_OF_INTERNAL_ID}.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationshipDescription The relationship to match
+	 * @param relatedNode             The description of the related nodes
+	 * @return A statement returning all existing relationships of one kind
+	 * @since 1.0.1
+	 */
+	@NonNull
+	public Statement createRelationshipMatchQuery(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+		RelationshipDescription relationshipDescription, NodeDescription<?> relatedNode) {
+
+		Node startNode = createStartNode(neo4jPersistentEntity);
+		Node endNode = createEndNode(relatedNode);
+
+		String relationshipType = relationshipDescription.isDynamic() ? null : relationshipDescription.getType();
+
+		Relationship relationship = relationshipDescription.isOutgoing()
+			? startNode.relationshipTo(endNode, relationshipType).named(RELATIONSHIP_NAME)
+			: startNode.relationshipFrom(endNode, relationshipType).named(RELATIONSHIP_NAME);
+
+		return match(relationship)
+			.where(createStartNodeCondition(neo4jPersistentEntity, startNode))
+			.returning(relationship.getSymbolicName().get().as(RelationshipDescription.NAME_OF_RELATIONSHIP),
+				endNode.internalId().as(NAME_OF_INTERNAL_ID))
+			.build();
+	}
+
+	/**
+	 * @return A statement that deletes all relationships whose internal ids are passed as {@link Constants#NAME_OF_IDS}.
+	 * @since 1.0.1
+	 */
+	@NonNull
+	public Statement createRelationshipDeleteByIdQuery() {
+
+		Relationship relationship = anyNode().relationshipTo(anyNode()).named(RELATIONSHIP_NAME);
+		return match(relationship)
+			.where(Functions.id(relationship).in(parameter(NAME_OF_IDS)))
+			.delete(relationship.getSymbolicName().get())
+			.build();
+	}
+
+	/**
+	 * Creates a statement that loads the related nodes of one relationship for all nodes whose ids are passed as
+	 * {@link Constants#NAME_OF_IDS}. Each row contains the id of the owning node as {@link Constants#NAME_OF_ID},
+	 * followed by a map with the related nodes under the same name as in
+	 * {@link #createReturnStatementForMatch(NodeDescription)}.
+	 *
+	 * @param nodeDescription         The description of the nodes owning the relationship
+	 * @param relationshipDescription The relationship to load
+	 * @return A statement loading the related nodes of many nodes
+	 * @since 1.0.1
+	 */
+	@NonNull
+	public Statement createRelationshipLoadQuery(NodeDescription<?> nodeDescription,
+		RelationshipDescription relationshipDescription) {
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+
+		List<Object> contentOfProjection = new ArrayList<>();
+		String fieldName = relationshipDescription.getFieldName();
+		generateListFor(relationshipDescription, NAME_OF_ROOT_NODE, new ArrayList<>(), fieldName, contentOfProjection,
+			new FetchPath(FetchOptions.defaults(), Collections.emptyList(), fieldName));
+
+		return match(rootNode)
+			.where(nodeDescription.getIdExpression().in(parameter(NAME_OF_IDS)))
+			.returning(nodeDescription.getIdExpression().as(NAME_OF_ID),
+				anyNode(NAME_OF_ROOT_NODE).project(contentOfProjection))
+			.build();
+	}
+
+	private static Node createStartNode(NodeDescription<?> nodeDescription) {
+
+		return node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels()).named(START_NODE_NAME);
+	}
+
+	private static Node createEndNode(NodeDescription<?> nodeDescription) {
+
+		return node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels()).named(END_NODE_NAME);
+	}
+
+	private static Condition createStartNodeCondition(Neo4jPersistentEntity<?> neo4jPersistentEntity, Node startNode) {
+
+		return createStartNodeId(neo4jPersistentEntity, startNode).isEqualTo(parameter(FROM_ID_PARAMETER_NAME));
+	}
+
+	private static Expression createStartNodeId(Neo4jPersistentEntity<?> neo4jPersistentEntity, Node startNode) {
+
+		return neo4jPersistentEntity.isUsingInternalIds()
+			? startNode.internalId()
+			: startNode.property(neo4jPersistentEntity.getRequiredIdProperty().getPropertyName());
+	}
+
 	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription) {
 		return createReturnStatementForMatch(nodeDescription, null);
 	}
@@ -318,32 +751,38 @@ public enum CypherGenerator {
 	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription,
 		@Nullable List<String> inputProperties) {
 
-		Predicate<String> includeField = s -> inputProperties == null || inputProperties.isEmpty()
-			|| inputProperties.contains(s);
-
-		List<RelationshipDescription> processedRelationships = new ArrayList<>();
-
-		return projectPropertiesAndRelationships(nodeDescription, NAME_OF_ROOT_NODE, includeField,
-			processedRelationships);
+		return createReturnStatementForMatch(nodeDescription, inputProperties, FetchOptions.defaults());
 	}
 
-	private MapProjection projectAllPropertiesAndRelationships(NodeDescription<?> nodeDescription,
-		SymbolicName nodeName,
-		List<RelationshipDescription> processedRelationships) {
+	/**
+	 * The input properties may contain the properties of related nodes as well, given by the name of the relationship,
+	 * a dot and the name of the property of the related node, for example {@code address.city}. Relationships listed
+	 * in the input properties are fetched regardless of the fetch options.
+	 *
+	 * @param nodeDescription Description of the root node
+	 * @param inputProperties A list of Java properties of the domain to be included.
+	 *                        Those properties are compared with the field names of graph properties respectively relationships.
+	 * @param fetchOptions    The options describing the relationships to fetch
+	 * @return An expresion to be returned by a Cypher statement
+	 * @since 1.0.1
+	 */
+	public Expression createReturnStatementForMatch(NodeDescription<?> nodeDescription,
+		@Nullable List<String> inputProperties, FetchOptions fetchOptions) {
+
+		List<RelationshipDescription> processedRelationships = new ArrayList<>();
 
-		Predicate<String> includeAllFields = (field) -> true;
-		return projectPropertiesAndRelationships(nodeDescription, nodeName, includeAllFields, processedRelationships);
+		return projectPropertiesAndRelationships(nodeDescription, NAME_OF_ROOT_NODE, processedRelationships,
+			new FetchPath(fetchOptions, inputProperties == null ? Collections.emptyList() : inputProperties, ""));
 	}
 
 	private MapProjection projectPropertiesAndRelationships(NodeDescription<?> nodeDescription,
 		SymbolicName nodeName,
-		Predicate<String> includeProperty,
-		List<RelationshipDescription> processedRelationships) {
+		List<RelationshipDescription> processedRelationships, FetchPath fetchPath) {
 
 		List<Object> contentOfProjection = new ArrayList<>();
-		contentOfProjection.addAll(projectNodeProperties(nodeDescription, nodeName, includeProperty));
+		contentOfProjection.addAll(projectNodeProperties(nodeDescription, nodeName, fetchPath::includesProperty));
 		contentOfProjection.addAll(
-			generateListsFor(nodeDescription.getRelationships(), nodeName, includeProperty, processedRelationships)
+			generateListsFor(nodeDescription.getRelationships(), nodeName, processedRelationships, fetchPath)
 		);
 
 		return Cypher.anyNode(nodeName).project(contentOfProjection);
@@ -382,15 +821,16 @@ public enum CypherGenerator {
 	 * @see org.neo4j.springframework.data.core.schema.CypherGenerator#projectNodeProperties
 	 */
 	private List<Object> generateListsFor(Collection<RelationshipDescription> relationships,
-		SymbolicName nodeName, Predicate<String> includeField,
-		List<RelationshipDescription> processedRelationships) {
+		SymbolicName nodeName,
+		List<RelationshipDescription> processedRelationships, FetchPath fetchPath) {
 
 		List<Object> mapProjectionLists = new ArrayList<>();
 
 		for (RelationshipDescription relationshipDescription : relationships) {
 
 			String fieldName = relationshipDescription.getFieldName();
-			if (!includeField.test(fieldName)) {
+			FetchPath relationshipPath = fetchPath.to(fieldName);
+			if (!fetchPath.includesProperty(fieldName) || !relationshipPath.isFetched(relationshipDescription)) {
 				continue;
 			}
 
@@ -405,14 +845,16 @@ public enum CypherGenerator {
 				return mapProjectionLists;
 			}
 
-			generateListFor(relationshipDescription, nodeName, processedRelationships, fieldName, mapProjectionLists);
+			generateListFor(relationshipDescription, nodeName, processedRelationships, fieldName, mapProjectionLists,
+				relationshipPath);
 		}
 
 		return mapProjectionLists;
 	}
 
 	private void generateListFor(RelationshipDescription relationshipDescription, SymbolicName nodeName,
-		List<RelationshipDescription> processedRelationships, String fieldName, List<Object> mapProjectionLists) {
+		List<RelationshipDescription> processedRelationships, String fieldName, List<Object> mapProjectionLists,
+		FetchPath fetchPath) {
 
 		String relationshipType = relationshipDescription.getType();
 		String relationshipTargetName = relationshipDescription.generateRelatedNodesCollectionName();
@@ -436,8 +878,8 @@ public enum CypherGenerator {
 			addMapProjection(relationshipTargetName,
 				listBasedOn(relationship)
 					.returning(
-						projectAllPropertiesAndRelationships(endNodeDescription,
-							relationshipFieldName, new ArrayList<>(processedRelationships))
+						projectPropertiesAndRelationships(endNodeDescription,
+							relationshipFieldName, new ArrayList<>(processedRelationships), fetchPath)
 							.and(NAME_OF_RELATIONSHIP_TYPE, Functions.type(relationship))),
 				mapProjectionLists);
 
@@ -446,8 +888,8 @@ public enum CypherGenerator {
 				? startNode.relationshipTo(endNode, relationshipType)
 				: startNode.relationshipFrom(endNode, relationshipType);
 
-			MapProjection mapProjection = projectAllPropertiesAndRelationships(endNodeDescription,
-				relationshipFieldName, new ArrayList<>(processedRelationships));
+			MapProjection mapProjection = projectPropertiesAndRelationships(endNodeDescription,
+				relationshipFieldName, new ArrayList<>(processedRelationships), fetchPath);
 
 			if (relationshipDescription.hasRelationshipProperties()) {
 				relationship = relationship.named(RelationshipDescription.NAME_OF_RELATIONSHIP);
@@ -469,5 +911,55 @@ public enum CypherGenerator {
 		return condition == null ? Conditions.noCondition() : condition;
 	}
 
+	/**
+	 * The path of the relationship through which the nodes of a projection are reached, together with the input
+	 * properties and options deciding which of their properties and relationships are fetched.
+	 */
+	private static final class FetchPath {
+
+		private final FetchOptions options;
+
+		private final List<String> inputProperties;
+
+		private final String path;
+
+		/**
+		 * Flag, whether the input properties restrict the properties of the nodes at this path.
+		 */
+		private final boolean restricted;
+
+		FetchPath(FetchOptions options, List<String> inputProperties, String path) {
+			this.options = options;
+			this.inputProperties = inputProperties;
+			this.path = path;
+			this.restricted = path.isEmpty() ?
+				!inputProperties.isEmpty() :
+				inputProperties.stream().anyMatch(p -> p.startsWith(path + "."));
+		}
+
+		FetchPath to(String fieldName) {
+			return new FetchPath(options, inputProperties, FetchOptions.pathOf(path, fieldName));
+		}
+
+		/**
+		 * @return True, if the property with the given field name of the nodes at this path is fetched
+		 */
+		boolean includesProperty(String fieldName) {
+			return !restricted || isListed(FetchOptions.pathOf(path, fieldName));
+		}
+
+		/**
+		 * @return True, if the relationship at this path is fetched
+		 */
+		boolean isFetched(RelationshipDescription relationshipDescription) {
+			return isListed(path) || options.includes(path, relationshipDescription);
+		}
+
+		private boolean isListed(String propertyPath) {
+			return inputProperties.stream()
+				.anyMatch(p -> p.equals(propertyPath) || p.startsWith(propertyPath + "."));
+		}
+	}
+
 }
 
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Describes which relationships are fetched together with the entities of a query. Relationships are identified by
+ * their path, that is the names of the relationship properties from the root entity to the relationship, separated by
+ * dots, for example {@code actors.movies}. The depth of a relationship is the number of properties in its path.
+ * <p>
+ * By {@link #defaults() default}, all relationships but the ones fetched {@link Relationship.FetchMode#LAZY lazily}
+ * are fetched. The fetched relationships can be restricted to a maximum depth, to an explicit fetch graph or both.
+ * A fetch graph contains the listed relationships and all relationships on their paths, regardless of their fetch
+ * mode. Relationships that are not fetched are loaded on first access like relationships fetched in
+ * {@link Relationship.FetchMode#BATCH batches}. Relationships that {@link RelationshipDescription#canBeLoadedLazily()
+ * cannot be loaded on first access}, especially single valued ones, are always fetched together with the entity owning
+ * them, regardless of the depth and the fetch graph.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public final class FetchOptions {
+
+	private static final int UNLIMITED_DEPTH = -1;
+
+	private static final FetchOptions DEFAULTS = new FetchOptions(UNLIMITED_DEPTH, Collections.emptySet());
+
+	private final int depth;
+
+	/**
+	 * The paths of all relationships in the fetch graph, including the ones on the way to the listed relationships.
+	 */
+	private final Set<String> paths;
+
+	/**
+	 * @return Options fetching all relationships that are not fetched lazily.
+	 */
+	public static FetchOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Creates options fetching all relationships up to the given depth, that are not fetched lazily.
+	 *
+	 * @param depth The maximum depth of fetched relationships, {@literal 0} doesn't fetch any relationship
+	 * @return The new options
+	 */
+	public static FetchOptions depth(int depth) {
+		return DEFAULTS.withDepth(depth);
+	}
+
+	/**
+	 * Creates options fetching the given relationships and all relationships on their paths.
+	 *
+	 * @param paths The paths of the relationships to fetch
+	 * @return The new options
+	 */
+	public static FetchOptions graph(String... paths) {
+		return DEFAULTS.withGraph(paths);
+	}
+
+	/**
+	 * Returns the path of a relationship of an entity.
+	 *
+	 * @param parentPath The path of the relationship the entity has been reached through, empty for the root entity
+	 * @param fieldName  The name of the relationship property
+	 * @return The path of the relationship
+	 */
+	public static String pathOf(String parentPath, String fieldName) {
+		return parentPath.isEmpty() ? fieldName : parentPath + "." + fieldName;
+	}
+
+	private FetchOptions(int depth, Set<String> paths) {
+		this.depth = depth;
+		this.paths = paths;
+	}
+
+	/**
+	 * @param newDepth The maximum depth of fetched relationships, {@literal 0} doesn't fetch any relationship
+	 * @return New options with the given maximum depth
+	 */
+	public FetchOptions withDepth(int newDepth) {
+
+		Assert.isTrue(newDepth >= 0, "The depth must not be negative.");
+		return new FetchOptions(newDepth, this.paths);
+	}
+
+	/**
+	 * @param newPaths The paths of the relationships to fetch
+	 * @return New options fetching the given relationships and all relationships on their paths
+	 */
+	public FetchOptions withGraph(String... newPaths) {
+
+		Assert.notEmpty(newPaths, "The fetch graph must contain at least one path.");
+
+		Set<String> allPaths = new LinkedHashSet<>();
+		for (String path : newPaths) {
+			Assert.hasText(path, "The paths of a fetch graph must not be empty.");
+
+			String[] fieldNames = StringUtils.delimitedListToStringArray(path.trim(), ".");
+			String currentPath = "";
+			for (String fieldName : fieldNames) {
+				currentPath = pathOf(currentPath, fieldName);
+				allPaths.add(currentPath);
+			}
+		}
+		return new FetchOptions(this.depth, Collections.unmodifiableSet(allPaths));
+	}
+
+	/**
+	 * Returns the options applying to the relationships of the entities reached through the given path. Two entities
+	 * mapped with equal relative options have the same relationships fetched.
+	 *
+	 * @param path The path of the relationship the entities have been reached through, empty for the root entities
+	 * @return Options treating the given path as root
+	 */
+	public FetchOptions relativeTo(String path) {
+
+		if (path.isEmpty() || isDefault()) {
+			return this;
+		}
+
+		int relativeDepth = this.depth == UNLIMITED_DEPTH ? UNLIMITED_DEPTH : Math.max(this.depth - depthOf(path), 0);
+		if (this.paths.isEmpty()) {
+			return new FetchOptions(relativeDepth, this.paths);
+		}
+
+		String prefix = path + ".";
+		Set<String> relativePaths = new LinkedHashSet<>();
+		for (String fetchedPath : this.paths) {
+			if (fetchedPath.startsWith(prefix)) {
+				relativePaths.add(fetchedPath.substring(prefix.length()));
+			}
+		}
+		// A fetch graph without any paths below the given one doesn't fetch any relationship from there on
+		return relativePaths.isEmpty()
+			? new FetchOptions(0, Collections.emptySet())
+			: new FetchOptions(relativeDepth, Collections.unmodifiableSet(relativePaths));
+	}
+
+	/**
+	 * @return True, if those are the default options.
+	 */
+	public boolean isDefault() {
+		return this.depth == UNLIMITED_DEPTH && this.paths.isEmpty();
+	}
+
+	/**
+	 * Checks whether a relationship is fetched together with the entity owning it.
+	 *
+	 * @param path         The path of the relationship
+	 * @param relationship The description of the relationship
+	 * @return True, if the relationship is fetched
+	 */
+	public boolean includes(String path, RelationshipDescription relationship) {
+
+		if (!relationship.canBeLoadedLazily()) {
+			return true;
+		}
+		if (this.depth != UNLIMITED_DEPTH && depthOf(path) > this.depth) {
+			return false;
+		}
+		return this.paths.isEmpty() ? !relationship.isLazy() : this.paths.contains(path);
+	}
+
+	private static int depthOf(String path) {
+		return StringUtils.countOccurrencesOf(path, ".") + 1;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof FetchOptions)) {
+			return false;
+		}
+		FetchOptions that = (FetchOptions) o;
+		return depth == that.depth && paths.equals(that.paths);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(depth, paths);
+	}
+
+	@Override
+	public String toString() {
+		return "FetchOptions{" +
+			"depth=" + (depth == UNLIMITED_DEPTH ? "unlimited" : Integer.toString(depth)) +
+			", paths=" + paths +
+			'}';
+	}
+}
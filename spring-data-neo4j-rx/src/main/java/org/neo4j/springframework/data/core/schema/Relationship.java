@@ -58,6 +58,30 @@ public @interface Relationship {
 		INCOMING
 	}
 
+	/**
+	 * Enumeration of the ways the related nodes of a relationship are loaded.
+	 * @since 1.0.1
+	 */
+	enum FetchMode {
+
+		/**
+		 * The related nodes are loaded together with the entity owning the relationship.
+		 */
+		EAGER,
+
+		/**
+		 * The related nodes are loaded on first access of the relationship, through the template that loaded the
+		 * owning entity and in the transaction active during that access.
+		 */
+		LAZY,
+
+		/**
+		 * Like {@link #LAZY}, but the first access loads the related nodes for all entities of the same result owning
+		 * the relationship, with one query.
+		 */
+		BATCH
+	}
+
 	/**
 	 * @return See {@link #type()}.
 	 */
@@ -85,4 +109,17 @@ public @interface Relationship {
 	 * @return The direction of the relationship.
 	 */
 	Direction direction() default Direction.OUTGOING;
+
+	/**
+	 * Relationships fetched lazily are represented by proxies that load the related nodes on first access. Lazy
+	 * loading is only available for entities loaded through the imperative {@code Neo4jTemplate} or repositories.
+	 * Only relationships declared as a {@link java.util.Collection} or {@link java.util.Map} interface can be fetched
+	 * lazily, the mapping of any other relationship that is not fetched {@link FetchMode#EAGER eagerly} fails. Single
+	 * valued relationships are therefore always loaded together with the owning entity. Lazy relationships that have
+	 * not been accessed are left untouched when the owning entity is saved.
+	 *
+	 * @return The way the related nodes are loaded
+	 * @since 1.0.1
+	 */
+	FetchMode fetch() default FetchMode.EAGER;
 }
@@ -99,6 +99,34 @@ public interface RelationshipDescription {
 	 */
 	boolean hasRelationshipProperties();
 
+	/**
+	 * @return The way the related nodes of this relationship are loaded
+	 * @since 1.0.1
+	 */
+	default Relationship.FetchMode getFetchMode() {
+		return Relationship.FetchMode.EAGER;
+	}
+
+	/**
+	 * @return True, if the related nodes are not loaded together with the owning entity
+	 * @since 1.0.1
+	 */
+	default boolean isLazy() {
+		return getFetchMode() != Relationship.FetchMode.EAGER;
+	}
+
+	/**
+	 * Relationships loaded on first access are represented by proxies implementing the collection or map interface they
+	 * have been declared with. All other relationships, especially single valued ones, are always loaded together with
+	 * the owning entity.
+	 *
+	 * @return True, if the related nodes of this relationship can be loaded on first access
+	 * @since 1.0.1
+	 */
+	default boolean canBeLoadedLazily() {
+		return true;
+	}
+
 	default boolean isOutgoing() {
 		return Direction.OUTGOING.equals(this.getDirection());
 	}
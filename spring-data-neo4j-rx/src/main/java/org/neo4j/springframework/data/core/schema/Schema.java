@@ -110,6 +110,22 @@ public interface Schema {
 		return (typeSystem, record) -> getConverter().read(targetClass, record);
 	}
 
+	/**
+	 * Retrieves a mapping function like {@link #getRequiredMappingFunctionFor(Class)}, that is however meant to map all
+	 * records of exactly one result. The function may remember the related entities it has already mapped and return
+	 * the same instance when a node appears again in a later record of the result, instead of creating a new one for
+	 * each record. Thus the function must not be reused for another query execution.
+	 *
+	 * @param targetClass The target class to which to map to.
+	 * @param <T>         Type of the target class
+	 * @return A new mapping function for the given target class that must be used for one result only
+	 * @throws UnknownEntityException When {@code targetClass} is not a managed class
+	 * @since 1.0.1
+	 */
+	default <T> BiFunction<TypeSystem, Record, T> getRequiredResultMappingFunctionFor(Class<T> targetClass) {
+		return getRequiredMappingFunctionFor(targetClass);
+	}
+
 	Neo4jConverter getConverter();
 
 	default <T> Function<T, Map<String, Object>> getRequiredBinderFunctionFor(Class<T> sourceClass) {
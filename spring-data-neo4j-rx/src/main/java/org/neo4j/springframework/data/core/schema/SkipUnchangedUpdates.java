@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marks a {@link Node node entity} whose existing nodes are only updated when at least one of their properties
+ * changed. This only skips the write itself: All properties of the entity are still sent to the database with every
+ * save and compared there with the ones of the existing node, so that saving an unchanged entity neither writes nor
+ * locks its node. Saves of such entities run an additional match of the existing node, so this pays off for entities
+ * that are saved often without being changed.
+ * <p>
+ * Properties with a {@literal null} value are not sent to the database for entities annotated with this annotation.
+ * As the properties of a node are replaced as a whole, a property that has been set to {@literal null} is still
+ * removed from the node. Entities with a version property are always updated, as their version changes with every
+ * save.
+ * <p>
+ * Only the properties of the node are compared. The relationships of an entity are written with every save, whether
+ * its properties changed or not, as they might have changed independently of them.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+@API(status = API.Status.STABLE, since = "1.0.1")
+public @interface SkipUnchangedUpdates {
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+
+/**
+ * The position of a row inside a sorted result, described by the values of its sort keys. The values are indexed
+ * by the names of the properties of the domain class and always contain the value of the id property, which is used
+ * to break ties between rows with equal sort keys.
+ * <p>
+ * A position can be stored by a client and used later on to continue right after the row it describes, without
+ * skipping over all previous rows.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public final class KeysetPosition {
+
+	private static final KeysetPosition INITIAL = new KeysetPosition(Collections.emptyMap());
+
+	private final Map<String, Object> keys;
+
+	/**
+	 * @return The position before the first row.
+	 */
+	public static KeysetPosition initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates a position from the given keys.
+	 *
+	 * @param keys The values of the sort properties and of the id property, indexed by property name. A sort property
+	 *             without a value is contained with a {@literal null} value. An empty map denotes the initial
+	 *             position.
+	 * @return The new position
+	 */
+	public static KeysetPosition of(Map<String, ?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null.");
+
+		return keys.isEmpty() ? INITIAL : new KeysetPosition(new LinkedHashMap<>(keys));
+	}
+
+	private KeysetPosition(Map<String, ?> keys) {
+		this.keys = Collections.unmodifiableMap(keys);
+	}
+
+	/**
+	 * @return True, if this position is before the first row.
+	 */
+	public boolean isInitial() {
+		return keys.isEmpty();
+	}
+
+	/**
+	 * @return The values of the sort properties and of the id property, indexed by property name
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof KeysetPosition)) {
+			return false;
+		}
+		KeysetPosition that = (KeysetPosition) o;
+		return keys.equals(that.keys);
+	}
+
+	@Override
+	public int hashCode() {
+		return keys.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPosition{" +
+			"keys=" + keys +
+			'}';
+	}
+}
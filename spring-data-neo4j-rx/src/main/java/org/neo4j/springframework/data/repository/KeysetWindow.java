@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apiguardian.api.API;
+
+/**
+ * A window of consecutive rows of a sorted result, retrieved after a given {@link KeysetPosition}. Use
+ * {@link #getNextPosition()} to retrieve the window directly following this one.
+ *
+ * @author agent
+ * @param <T> type of the domain class
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public final class KeysetWindow<T> implements Iterable<T> {
+
+	private final List<T> content;
+
+	private final boolean hasNext;
+
+	private final KeysetPosition nextPosition;
+
+	/**
+	 * Creates a new window.
+	 *
+	 * @param content      The content of this window
+	 * @param hasNext      Flag, whether there are more rows after this window
+	 * @param nextPosition The position of the last row of this window
+	 */
+	public KeysetWindow(List<T> content, boolean hasNext, KeysetPosition nextPosition) {
+
+		this.content = Collections.unmodifiableList(content);
+		this.hasNext = hasNext;
+		this.nextPosition = nextPosition;
+	}
+
+	/**
+	 * @return The content of this window
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * @return True, if this window contains no rows
+	 */
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+
+	/**
+	 * @return True, if there are more rows after this window
+	 */
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/**
+	 * @return The position to retrieve the next window with. This is the position of the last row of this window or
+	 * the position this window has been retrieved with, if this window is empty.
+	 */
+	public KeysetPosition getNextPosition() {
+		return nextPosition;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetWindow{" +
+			"size=" + content.size() +
+			", hasNext=" + hasNext +
+			", nextPosition=" + nextPosition +
+			'}';
+	}
+}
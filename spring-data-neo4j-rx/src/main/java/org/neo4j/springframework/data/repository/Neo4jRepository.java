@@ -19,7 +19,9 @@
 package org.neo4j.springframework.data.repository;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.neo4j.springframework.data.core.DeleteProgress;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -36,7 +38,8 @@ import org.springframework.data.repository.query.QueryByExampleExecutor;
  * @since 1.0
  */
 @NoRepositoryBean
-public interface Neo4jRepository<T, ID> extends PagingAndSortingRepository<T, ID>, QueryByExampleExecutor<T> {
+public interface Neo4jRepository<T, ID> extends PagingAndSortingRepository<T, ID>, QueryByExampleExecutor<T>,
+	KeysetPagingExecutor<T> {
 
 	/*
 	 * (non-Javadoc)
@@ -76,4 +79,25 @@ public interface Neo4jRepository<T, ID> extends PagingAndSortingRepository<T, ID
 	 * @see org.springframework.data.repository.query.QueryByExampleExecutor#findAll(org.springframework.data.domain.Example, org.springframework.data.domain.Sort)
 	 */
 	@Override <S extends T> List<S> findAll(Example<S> example, Sort sort);
+
+	/**
+	 * Deletes all entities managed by the repository in batches of the given size, each batch in its own transaction.
+	 *
+	 * @param batchSize        the maximum number of entities deleted in one batch. Must be greater than 0.
+	 * @param progressListener notified with the accumulated progress after each batch. Must not be {@code null}.
+	 * @return the accumulated progress of all batches
+	 * @since 1.0.1
+	 */
+	DeleteProgress deleteAllInBatches(int batchSize, Consumer<DeleteProgress> progressListener);
+
+	/**
+	 * Deletes all entities with the given ids in batches of the given size, each batch in its own transaction.
+	 *
+	 * @param ids              the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize        the maximum number of ids used in one batch. Must be greater than 0.
+	 * @param progressListener notified with the accumulated progress after each batch. Must not be {@code null}.
+	 * @return the accumulated progress of all batches
+	 * @since 1.0.1
+	 */
+	DeleteProgress deleteAllByIdInBatches(Iterable<ID> ids, int batchSize, Consumer<DeleteProgress> progressListener);
 }
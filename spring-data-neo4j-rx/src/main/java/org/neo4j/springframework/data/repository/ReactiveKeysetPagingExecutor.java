@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository;
+
+import reactor.core.publisher.Mono;
+
+import org.apiguardian.api.API;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Interface to allow reactive retrieval of sorted entities in windows following a known position ("keyset" or "seek"
+ * pagination).
+ *
+ * @author agent
+ * @param <T> type of the domain class
+ * @see KeysetPagingExecutor
+ * @since 1.0.1
+ */
+@API(status = API.Status.STABLE, since = "1.0.1")
+public interface ReactiveKeysetPagingExecutor<T> {
+
+	/**
+	 * Retrieves the window of entities following the given position. See
+	 * {@link KeysetPagingExecutor#findAll(KeysetPosition, int, Sort)} for details.
+	 *
+	 * @param position The position after which the window starts, use {@link KeysetPosition#initial()} to start with
+	 *                 the first row. Must not be {@code null}.
+	 * @param size     The maximum number of entities in the window. Must be greater than 0.
+	 * @param sort     The sort to apply. Must not be {@code null}, but may be unsorted.
+	 * @return The window of entities following the given position
+	 */
+	Mono<KeysetWindow<T>> findAll(KeysetPosition position, int size, Sort sort);
+}
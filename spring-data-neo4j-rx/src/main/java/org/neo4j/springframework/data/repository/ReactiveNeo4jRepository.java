@@ -18,6 +18,12 @@
  */
 package org.neo4j.springframework.data.repository;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.neo4j.springframework.data.core.DeleteProgress;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
@@ -32,5 +38,34 @@ import org.springframework.data.repository.reactive.ReactiveSortingRepository;
  */
 @NoRepositoryBean
 public interface ReactiveNeo4jRepository<T, ID>
-	extends ReactiveSortingRepository<T, ID>, ReactiveQueryByExampleExecutor<T> {
+	extends ReactiveSortingRepository<T, ID>, ReactiveQueryByExampleExecutor<T>, ReactiveKeysetPagingExecutor<T> {
+
+	/**
+	 * Returns a page of entities meeting the paging restriction provided in the given {@link Pageable}. The content
+	 * of the page and the total number of entities are queried concurrently.
+	 *
+	 * @param pageable the paging restriction. Must not be {@code null}.
+	 * @return a page of entities
+	 * @since 1.0.1
+	 */
+	Mono<Page<T>> findAll(Pageable pageable);
+
+	/**
+	 * Deletes all entities managed by the repository in batches of the given size, each batch in its own transaction.
+	 *
+	 * @param batchSize the maximum number of entities deleted in one batch. Must be greater than 0.
+	 * @return the accumulated progress, emitted after each batch
+	 * @since 1.0.1
+	 */
+	Flux<DeleteProgress> deleteAllInBatches(int batchSize);
+
+	/**
+	 * Deletes all entities with the given ids in batches of the given size, each batch in its own transaction.
+	 *
+	 * @param ids       the ids of the entities to be deleted. Must not be {@code null}.
+	 * @param batchSize the maximum number of ids used in one batch. Must be greater than 0.
+	 * @return the accumulated progress, emitted after each batch
+	 * @since 1.0.1
+	 */
+	Flux<DeleteProgress> deleteAllByIdInBatches(Iterable<ID> ids, int batchSize);
 }
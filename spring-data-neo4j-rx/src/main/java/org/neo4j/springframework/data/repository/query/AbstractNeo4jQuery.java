@@ -28,10 +28,10 @@ import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryExecution.DefaultQueryExecution;
+import org.neo4j.springframework.data.repository.query.Neo4jQueryExecution.StreamQueryExecution;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
-import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -69,21 +69,24 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		PreparedQuery<?> preparedQuery = prepareQuery(resultProcessor.getReturnedType().getReturnedType(),
 			getInputProperties(resultProcessor), parameterAccessor, null, getMappingFunction(resultProcessor));
 
-		Object rawResult = new DefaultQueryExecution(neo4jOperations).execute(
-			preparedQuery, queryMethod.isCollectionLikeQuery() || queryMethod.isPageQuery());
+		Object rawResult;
+		if (queryMethod.isPageQuery()) {
+			// Derived queries return the total with the page, other queries need a separate count query
+			rawResult = neo4jOperations.toExecutableQuery(preparedQuery)
+				.getPage(parameterAccessor.getPageable(), () -> {
 
-		Object processedResult = resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
-
-		if (!queryMethod.isPageQuery()) {
-			return processedResult;
+					PreparedQuery<Long> countQuery = prepareQuery(Long.class, Collections.emptyList(),
+						parameterAccessor, Neo4jQueryType.COUNT, null);
+					return neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult();
+				});
 		} else {
-			return PageableExecutionUtils.getPage((List<?>) processedResult, parameterAccessor.getPageable(), () -> {
-
-				PreparedQuery<Long> countQuery = prepareQuery(Long.class, Collections.emptyList(), parameterAccessor,
-					Neo4jQueryType.COUNT, null);
-				return neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult();
-			});
+			Neo4jQueryExecution queryExecution = queryMethod.isStreamQuery() ?
+				new StreamQueryExecution(neo4jOperations) :
+				new DefaultQueryExecution(neo4jOperations);
+			rawResult = queryExecution.execute(preparedQuery, queryMethod.isCollectionLikeQuery());
 		}
+
+		return resultProcessor.processResult(rawResult, OptionalUnwrappingConverter.INSTANCE);
 	}
 
 	protected abstract <T extends Object> PreparedQuery<T> prepareQuery(
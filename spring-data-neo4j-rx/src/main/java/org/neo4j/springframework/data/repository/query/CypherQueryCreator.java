@@ -43,6 +43,7 @@ import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.neo4j.springframework.data.core.schema.NodeDescription;
 import org.neo4j.springframework.data.core.schema.RelationshipDescription;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryMethod.Neo4jParameter;
@@ -91,6 +92,11 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 
 	private final Pageable pagingParameter;
 
+	/**
+	 * Flag, whether the total number of matching nodes should be counted and returned by the same statement.
+	 */
+	private final boolean includeTotal;
+
 	/**
 	 * Stores the number of max results, if the {@link PartTree tree} is limiting.
 	 */
@@ -103,13 +109,17 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 
 	private final List<String> includedProperties;
 
+	private final FetchOptions fetchOptions;
+
 	private final List<PropertyPathWrapper> propertyPathWrappers;
 
 	CypherQueryCreator(Neo4jMappingContext mappingContext, Class<?> domainType, Neo4jQueryType queryType,
 		PartTree tree,
 		ParametersParameterAccessor actualParameters,
 		List<String> includedProperties,
-		Function<Object, Object> parameterConversion
+		FetchOptions fetchOptions,
+		Function<Object, Object> parameterConversion,
+		boolean includeTotal
 	) {
 		super(tree, actualParameters);
 		this.mappingContext = mappingContext;
@@ -123,9 +133,11 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 		this.maxResults = tree.isLimiting() ? tree.getMaxResults() : null;
 
 		this.includedProperties = includedProperties;
+		this.fetchOptions = fetchOptions;
 		this.parameterConversion = parameterConversion;
 
 		this.pagingParameter = actualParameters.getPageable();
+		this.includeTotal = includeTotal && queryType == Neo4jQueryType.DEFAULT && this.pagingParameter.isPaged();
 
 		AtomicInteger symbolicNameIndex = new AtomicInteger();
 
@@ -245,28 +257,15 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 	private Statement createStatement(@Nullable Condition condition, Sort sort) {
 		CypherGenerator cypherGenerator = CypherGenerator.INSTANCE;
 
-		// all the ways we could query for
-		Node startNode = Cypher.node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
-			.named(NAME_OF_ROOT_NODE);
-
-		ExposesReturning matchAndCondition = Cypher.match(startNode).where(Optional.ofNullable(condition).orElseGet(Conditions::noCondition));
-		StatementBuilder.OngoingReadingWithoutWhere matches = null;
-
-		Iterator<PropertyPathWrapper> wrapperIterator = propertyPathWrappers.iterator();
-		while (wrapperIterator.hasNext()) {
-			PropertyPathWrapper propertyPathWithRelationship = wrapperIterator.next();
-			if (propertyPathWithRelationship.hasRelationships()) {
-				// first loop should create the starting relationship
-				if (matches == null) {
-					matches = Cypher.match((RelationshipPattern) propertyPathWithRelationship.createRelationshipChain(startNode));
-				} else { // the next ones adds another relationship chain as separated match
-					matches.match(((RelationshipPattern) propertyPathWithRelationship.createRelationshipChain(startNode)));
-				}
-				// closing action: add the condition
-				if (!wrapperIterator.hasNext()) {
-					matchAndCondition = matches.where(condition);
-				}
-			}
+		StatementBuilder.OngoingReading matchAndCondition;
+		if (includeTotal) {
+			// The conditions are applied twice, first to count all matches, then to retrieve the requested page.
+			// This is the same shape as CypherGenerator#prepareMatchWithTotalOf, the matches are never collected.
+			StatementBuilder.OrderableOngoingReadingAndWithWithoutWhere withTotal = createMatchAndCondition(
+				condition, Cypher::match).with(Functions.count(Cypher.asterisk()).as(NAME_OF_TOTAL));
+			matchAndCondition = createMatchAndCondition(condition, withTotal::match);
+		} else {
+			matchAndCondition = createMatchAndCondition(condition, Cypher::match);
 		}
 
 		Statement statement;
@@ -277,8 +276,11 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 				.build();
 
 		} else {
-			OngoingMatchAndReturnWithOrder ongoingMatchAndReturnWithOrder =
-				matchAndCondition.returning(cypherGenerator.createReturnStatementForMatch(nodeDescription, includedProperties))
+			Expression returnStatement = cypherGenerator.createReturnStatementForMatch(nodeDescription,
+				includedProperties, fetchOptions);
+			OngoingMatchAndReturnWithOrder ongoingMatchAndReturnWithOrder = (includeTotal ?
+				matchAndCondition.returning(returnStatement, Cypher.name(NAME_OF_TOTAL)) :
+				matchAndCondition.returning(returnStatement))
 				.orderBy(
 					Stream.concat(
 						sortItems.stream(),
@@ -297,6 +299,41 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryAndParameters,
 		return statement;
 	}
 
+	/**
+	 * Creates the matches of the root node and all relationships used in conditions together with the conditions.
+	 *
+	 * @param condition The conditions
+	 * @param match     Starts a match, either a new statement or another match in an ongoing statement
+	 * @return The ongoing reading
+	 */
+	private StatementBuilder.OngoingReading createMatchAndCondition(@Nullable Condition condition,
+		Function<PatternElement, StatementBuilder.OngoingReadingWithoutWhere> match) {
+
+		// all the ways we could query for
+		Node startNode = Cypher.node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(NAME_OF_ROOT_NODE);
+
+		StatementBuilder.OngoingReadingWithoutWhere matches = null;
+		for (PropertyPathWrapper propertyPathWithRelationship : propertyPathWrappers) {
+			if (propertyPathWithRelationship.hasRelationships()) {
+				RelationshipPattern relationshipChain = (RelationshipPattern) propertyPathWithRelationship
+					.createRelationshipChain(startNode);
+				// first loop should create the starting relationship
+				if (matches == null) {
+					matches = match.apply(relationshipChain);
+				} else { // the next ones adds another relationship chain as separated match
+					matches = matches.match(relationshipChain);
+				}
+			}
+		}
+
+		if (matches == null) {
+			return match.apply(startNode).where(Optional.ofNullable(condition).orElseGet(Conditions::noCondition));
+		}
+		// closing action: add the condition
+		return matches.where(condition);
+	}
+
 	private Condition createImpl(Part part, Iterator<Object> actualParameters) {
 
 		PersistentPropertyPath<Neo4jPersistentProperty> path = mappingContext
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
+
+/**
+ * Limits the depth of the relationships fetched by a query method. The depth of a relationship is the number of
+ * relationship properties from the returned entity to the relationship. Relationships that are not fetched are loaded
+ * on first access. Can be combined with a {@link FetchGraph}.
+ *
+ * @author agent
+ * @see FetchOptions#depth(int)
+ * @since 1.0.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+@API(status = API.Status.STABLE, since = "1.0.1")
+public @interface Depth {
+
+	/**
+	 * @return The maximum depth of the fetched relationships, {@literal 0} to fetch no relationships at all.
+	 */
+	int value();
+}
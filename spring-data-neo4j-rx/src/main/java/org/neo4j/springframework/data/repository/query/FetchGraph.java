@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
+
+/**
+ * Lists the relationships fetched by a query method. A relationship is given by its path, the names of the
+ * relationship properties from the returned entity to the relationship separated by dots, for example
+ * {@code actors.movies}. All relationships on the listed paths are fetched as well, regardless of their fetch mode,
+ * while all other relationships are loaded on first access.
+ *
+ * @author agent
+ * @see FetchOptions#graph(String...)
+ * @since 1.0.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+@API(status = API.Status.STABLE, since = "1.0.1")
+public @interface FetchGraph {
+
+	/**
+	 * @return The paths of the relationships to fetch
+	 */
+	String[] value();
+}
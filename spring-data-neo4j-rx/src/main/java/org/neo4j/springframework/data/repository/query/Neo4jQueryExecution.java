@@ -58,6 +58,26 @@ interface Neo4jQueryExecution {
 		}
 	}
 
+	/**
+	 * Executes a query lazily, returning a stream of the mapped results.
+	 *
+	 * @since 1.0.1
+	 */
+	class StreamQueryExecution implements Neo4jQueryExecution {
+
+		private final Neo4jOperations neo4jOperations;
+
+		StreamQueryExecution(Neo4jOperations neo4jOperations) {
+			this.neo4jOperations = neo4jOperations;
+		}
+
+		@Override
+		public Object execute(PreparedQuery preparedQuery, boolean asCollectionQuery) {
+
+			return neo4jOperations.toExecutableQuery(preparedQuery).stream();
+		}
+	}
+
 	class ReactiveQueryExecution implements Neo4jQueryExecution {
 
 		private final ReactiveNeo4jOperations neo4jOperations;
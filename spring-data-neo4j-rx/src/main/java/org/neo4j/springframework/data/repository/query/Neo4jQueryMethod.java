@@ -24,6 +24,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.projection.ProjectionFactory;
@@ -48,6 +49,11 @@ class Neo4jQueryMethod extends QueryMethod {
 	 */
 	private @Nullable final Query queryAnnotation;
 
+	/**
+	 * The relationships to fetch, as described by the {@link Depth} and {@link FetchGraph} annotations of the method.
+	 */
+	private final FetchOptions fetchOptions;
+
 	/**
 	 * Creates a new {@link Neo4jQueryMethod} from the given parameters. Looks up the correct query to use for following
 	 * invocations of the method given.
@@ -60,6 +66,23 @@ class Neo4jQueryMethod extends QueryMethod {
 		super(method, metadata, factory);
 
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+		this.fetchOptions = createFetchOptions(method);
+	}
+
+	private static FetchOptions createFetchOptions(Method method) {
+
+		FetchOptions fetchOptions = FetchOptions.defaults();
+
+		Depth depth = AnnotatedElementUtils.findMergedAnnotation(method, Depth.class);
+		if (depth != null) {
+			fetchOptions = fetchOptions.withDepth(depth.value());
+		}
+
+		FetchGraph fetchGraph = AnnotatedElementUtils.findMergedAnnotation(method, FetchGraph.class);
+		if (fetchGraph != null) {
+			fetchOptions = fetchOptions.withGraph(fetchGraph.value());
+		}
+		return fetchOptions;
 	}
 
 	boolean isCollectionLikeQuery() {
@@ -80,6 +103,13 @@ class Neo4jQueryMethod extends QueryMethod {
 		return Optional.ofNullable(this.queryAnnotation);
 	}
 
+	/**
+	 * @return The options describing the relationships fetched by this method
+	 */
+	FetchOptions getFetchOptions() {
+		return this.fetchOptions;
+	}
+
 	@Override
 	protected Parameters<Neo4jParameters, Neo4jParameter> createParameters(Method method) {
 		return new Neo4jParameters(method);
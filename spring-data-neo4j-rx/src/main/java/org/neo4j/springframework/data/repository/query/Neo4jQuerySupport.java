@@ -32,6 +32,7 @@ import org.neo4j.driver.Values;
 import org.neo4j.driver.types.TypeSystem;
 import org.neo4j.springframework.data.core.convert.Neo4jSimpleTypes;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
 import org.neo4j.springframework.data.repository.query.Neo4jQueryMethod.Neo4jParameters;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.data.domain.Range;
@@ -88,6 +89,7 @@ abstract class Neo4jQuerySupport {
 	protected final BiFunction<TypeSystem, Record, ?> getMappingFunction(final ResultProcessor resultProcessor) {
 
 		final Class<?> returnedType = resultProcessor.getReturnedType().getReturnedType();
+		final FetchOptions fetchOptions = queryMethod.getFetchOptions();
 
 		final BiFunction<TypeSystem, Record, ?> mappingFunction;
 		if (Neo4jSimpleTypes.HOLDER.isSimpleType(returnedType)) {
@@ -96,16 +98,20 @@ abstract class Neo4jQuerySupport {
 			mappingFunction = null;
 		} else if (resultProcessor.getReturnedType().isProjecting()) {
 
-			if (returnedType.isInterface()) {
-				mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(domainType);
+			if (this.mappingContext.supportsDirectProjection(domainType, returnedType)) {
+				// Closed interfaces and DTOs are read directly from the record, without instantiating the domain type
+				mappingFunction = this.mappingContext
+					.getRequiredProjectionMappingFunctionFor(domainType, returnedType, fetchOptions);
+			} else if (returnedType.isInterface()) {
+				mappingFunction = this.mappingContext.getRequiredResultMappingFunctionFor(domainType, fetchOptions);
 			} else if (this.mappingContext.hasPersistentEntityFor(returnedType)) {
-				mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(returnedType);
+				mappingFunction = this.mappingContext.getRequiredResultMappingFunctionFor(returnedType, fetchOptions);
 			} else {
 				this.mappingContext.addPersistentEntity(returnedType);
-				mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(returnedType);
+				mappingFunction = this.mappingContext.getRequiredResultMappingFunctionFor(returnedType, fetchOptions);
 			}
 		} else {
-			mappingFunction = this.mappingContext.getRequiredMappingFunctionFor(domainType);
+			mappingFunction = this.mappingContext.getRequiredResultMappingFunctionFor(domainType, fetchOptions);
 		}
 		return mappingFunction;
 	}
@@ -113,7 +119,12 @@ abstract class Neo4jQuerySupport {
 	protected final List<String> getInputProperties(final ResultProcessor resultProcessor) {
 
 		ReturnedType returnedType = resultProcessor.getReturnedType();
-		return returnedType.isProjecting() ? returnedType.getInputProperties() : Collections.emptyList();
+		if (!returnedType.isProjecting()) {
+			return Collections.emptyList();
+		}
+		return this.mappingContext.supportsDirectProjection(domainType, returnedType.getReturnedType()) ?
+			this.mappingContext.getProjectedPropertyPaths(domainType, returnedType.getReturnedType()) :
+			returnedType.getInputProperties();
 	}
 
 	/**
@@ -97,7 +97,9 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		CypherQueryCreator queryCreator = new CypherQueryCreator(
 			mappingContext, domainType, Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
 			includedProperties,
-			this::convertParameter
+			queryMethod.getFetchOptions(),
+			this::convertParameter,
+			queryMethod.isPageQuery()
 		);
 
 		QueryAndParameters queryAndParameters = queryCreator.createQuery();
@@ -72,7 +72,9 @@ final class ReactivePartTreeNeo4jQuery extends AbstractReactiveNeo4jQuery {
 		CypherQueryCreator queryCreator = new CypherQueryCreator(
 			mappingContext, domainType, Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
 			includedProperties,
-			this::convertParameter
+			queryMethod.getFetchOptions(),
+			this::convertParameter,
+			false
 		);
 
 		QueryAndParameters queryAndParameters = queryCreator.createQuery();
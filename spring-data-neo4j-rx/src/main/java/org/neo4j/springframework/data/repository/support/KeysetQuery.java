@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.support;
+
+import static org.neo4j.springframework.data.core.cypher.Cypher.*;
+import static org.neo4j.springframework.data.core.schema.Constants.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.springframework.data.core.convert.Neo4jConverter;
+import org.neo4j.springframework.data.core.cypher.Condition;
+import org.neo4j.springframework.data.core.cypher.Conditions;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Expression;
+import org.neo4j.springframework.data.core.cypher.Functions;
+import org.neo4j.springframework.data.core.cypher.SortItem;
+import org.neo4j.springframework.data.core.cypher.Statement;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentProperty;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.repository.KeysetPosition;
+import org.neo4j.springframework.data.repository.KeysetWindow;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Support class for keyset pagination executors.
+ * <p>
+ * This wraps the statement retrieving the window after a given position and the actual parameters to fill in the
+ * values of the position. Instead of skipping rows, the statement only matches rows whose sort keys are greater
+ * than the keys of the position, which is expanded into {@code k1 > $v1 OR (k1 = $v1 AND k2 > $v2) OR ...}, as Cypher
+ * doesn't support comparing lists of keys. One more row than the size of the window is retrieved to check whether
+ * there are more rows.
+ * <p>
+ * Sort keys may be {@literal null}. As in Cypher's own ordering, {@literal null} is considered greater than all other
+ * values: Rows without a value come last in ascending and first in descending order. Orders ignoring the case are
+ * supported for string properties, both the keys and the values of the position are compared in lower case.
+ *
+ * @author agent
+ * @param <T> type of the domain class
+ * @since 1.0.1
+ */
+final class KeysetQuery<T> {
+
+	private static final String NAME_OF_KEY_PARAM = "__key%d__";
+
+	static <T> KeysetQuery<T> create(Neo4jMappingContext mappingContext, Neo4jPersistentEntity<T> entityMetaData,
+		KeysetPosition position, int size, Sort sort) {
+
+		Assert.notNull(position, "The position is required.");
+		Assert.isTrue(size > 0, "The size of a window must be greater than 0.");
+		Assert.notNull(sort, "The sort is required.");
+
+		List<Key> keys = new ArrayList<>();
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		boolean sortedById = false;
+		for (Sort.Order order : sort) {
+			Neo4jPersistentProperty property = entityMetaData.getPersistentProperty(order.getProperty());
+			if (property == null || property.isRelationship()) {
+				throw new IllegalStateException(
+					String.format("Cannot order by the unknown graph property: '%s'", order.getProperty()));
+			}
+			if (order.isIgnoreCase() && !String.class.equals(property.getActualType())) {
+				throw new IllegalStateException(
+					String.format("Cannot ignore the case when ordering by the non-string property: '%s'",
+						order.getProperty()));
+			}
+			keys.add(new Key(entityMetaData, property, order.isDescending(), order.isIgnoreCase()));
+			sortedById = sortedById || property.equals(idProperty);
+		}
+		// The id breaks ties between rows with equal sort keys and makes the order stable
+		if (!sortedById) {
+			keys.add(new Key(entityMetaData, idProperty, false, false));
+		}
+
+		Neo4jConverter converter = mappingContext.getConverter();
+		Condition condition = Conditions.noCondition();
+		Map<String, Object> parameters = new HashMap<>();
+		if (!position.isInitial()) {
+			// The parameters of the keys, null if the position has no value for a key
+			List<Expression> keyParameters = new ArrayList<>();
+			for (int i = 0; i < keys.size(); ++i) {
+				Key key = keys.get(i);
+				if (!position.getKeys().containsKey(key.property.getName())) {
+					throw new IllegalArgumentException(
+						String.format("The position doesn't contain a value for '%s'.", key.property.getName()));
+				}
+
+				Object value = position.getKeys().get(key.property.getName());
+				if (value == null) {
+					keyParameters.add(null);
+				} else {
+					String parameterName = String.format(NAME_OF_KEY_PARAM, i);
+					parameters.put(parameterName,
+						converter.writeValueFromProperty(value, key.property.getTypeInformation()));
+					keyParameters.add(key.toComparable(parameter(parameterName)));
+				}
+
+				// Nothing is sorted after null in ascending order
+				if (!key.descending && value == null) {
+					continue;
+				}
+
+				// Compound conditions are mutable, so the conditions of each term must be created anew
+				Condition keyAfterPosition = Conditions.noCondition();
+				for (int j = 0; j < i; ++j) {
+					keyAfterPosition = keyAfterPosition.and(keys.get(j).isEqualTo(keyParameters.get(j)));
+				}
+				keyAfterPosition = keyAfterPosition.and(key.isAfter(keyParameters.get(i)));
+				condition = condition.or(keyAfterPosition);
+			}
+		}
+
+		CypherGenerator cypherGenerator = CypherGenerator.INSTANCE;
+		Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, condition)
+			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData))
+			.orderBy(keys.stream().map(Key::toSortItem).toArray(SortItem[]::new))
+			.limit(size + 1)
+			.build();
+
+		return new KeysetQuery<>(entityMetaData, position, size, keys, statement, parameters);
+	}
+
+	private final Neo4jPersistentEntity<T> entityMetaData;
+
+	private final KeysetPosition position;
+
+	private final int size;
+
+	private final List<Key> keys;
+
+	private final Statement statement;
+
+	private final Map<String, Object> parameters;
+
+	private KeysetQuery(Neo4jPersistentEntity<T> entityMetaData, KeysetPosition position, int size, List<Key> keys,
+		Statement statement, Map<String, Object> parameters) {
+
+		this.entityMetaData = entityMetaData;
+		this.position = position;
+		this.size = size;
+		this.keys = keys;
+		this.statement = statement;
+		this.parameters = parameters;
+	}
+
+	Statement getStatement() {
+		return statement;
+	}
+
+	Map<String, Object> getParameters() {
+		return Collections.unmodifiableMap(parameters);
+	}
+
+	/**
+	 * Creates the window from the rows retrieved with this query.
+	 *
+	 * @param rows The rows retrieved with {@link #getStatement()}
+	 * @return The window
+	 */
+	KeysetWindow<T> toWindow(List<T> rows) {
+
+		boolean hasNext = rows.size() > size;
+		List<T> content = hasNext ? rows.subList(0, size) : rows;
+		KeysetPosition nextPosition = content.isEmpty() ? position : positionOf(content.get(content.size() - 1));
+		return new KeysetWindow<>(content, hasNext, nextPosition);
+	}
+
+	private KeysetPosition positionOf(T entity) {
+
+		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (Key key : keys) {
+			values.put(key.property.getName(), propertyAccessor.getProperty(key.property));
+		}
+		return KeysetPosition.of(values);
+	}
+
+	private static final class Key {
+
+		private final Neo4jPersistentProperty property;
+
+		/**
+		 * The expression to compare the key of the matched node with.
+		 */
+		private final Expression expression;
+
+		/**
+		 * The expression to order the returned rows by, which are map projections of the matched nodes.
+		 */
+		private final Expression sortExpression;
+
+		private final boolean descending;
+
+		private final boolean ignoreCase;
+
+		Key(Neo4jPersistentEntity<?> entityMetaData, Neo4jPersistentProperty property, boolean descending,
+			boolean ignoreCase) {
+
+			this.property = property;
+			this.descending = descending;
+			this.ignoreCase = ignoreCase;
+			if (property.isInternalIdProperty()) {
+				this.expression = entityMetaData.getIdExpression();
+				this.sortExpression = property(NAME_OF_ROOT_NODE, NAME_OF_INTERNAL_ID);
+			} else {
+				this.expression = toComparable(property(NAME_OF_ROOT_NODE, property.getPropertyName()));
+				this.sortExpression = this.expression;
+			}
+		}
+
+		Expression toComparable(Expression value) {
+			return ignoreCase ? Functions.toLower(value) : value;
+		}
+
+		/**
+		 * @param value The value of this key in the position or {@literal null}
+		 * @return A condition that the key of the matched node equals the value
+		 */
+		Condition isEqualTo(@Nullable Expression value) {
+			return value == null ? expression.isNull() : expression.isEqualTo(value);
+		}
+
+		/**
+		 * @param value The value of this key in the position or {@literal null}
+		 * @return A condition that the key of the matched node is sorted after the value, {@literal null} being
+		 * greater than all other values
+		 */
+		Condition isAfter(@Nullable Expression value) {
+
+			if (descending) {
+				return value == null ? expression.isNotNull() : expression.lt(value);
+			}
+			Assert.notNull(value, "Nothing is sorted after null in ascending order.");
+			// ids are never null
+			return property.isIdProperty() ? expression.gt(value) : expression.gt(value).or(expression.isNull());
+		}
+
+		SortItem toSortItem() {
+			SortItem sortItem = Cypher.sort(sortExpression);
+			return descending ? sortItem.descending() : sortItem;
+		}
+	}
+}
@@ -80,6 +80,11 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		fragments = fragments.append(RepositoryFragment.implemented(byExampleExecutor));
 
+		Object keysetPagingExecutor = getTargetRepositoryViaReflection(SimpleKeysetPagingExecutor.class,
+			neo4jOperations, mappingContext, getEntityInformation(metadata.getDomainType()));
+
+		fragments = fragments.append(RepositoryFragment.implemented(keysetPagingExecutor));
+
 		return fragments;
 	}
 
@@ -83,6 +83,12 @@ final class ReactiveNeo4jRepositoryFactory extends ReactiveRepositoryFactorySupp
 
 		fragments = fragments.append(RepositoryFragment.implemented(byExampleExecutor));
 
+		SimpleReactiveKeysetPagingExecutor keysetPagingExecutor = getTargetRepositoryViaReflection(
+			SimpleReactiveKeysetPagingExecutor.class, neo4jOperations, mappingContext,
+			getEntityInformation(metadata.getDomainType()));
+
+		fragments = fragments.append(RepositoryFragment.implemented(keysetPagingExecutor));
+
 		return fragments;
 	}
 
@@ -23,10 +23,12 @@ import static org.neo4j.springframework.data.repository.query.CypherAdapterUtils
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.DeleteProgress;
 import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder;
@@ -39,6 +41,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -104,6 +107,7 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 	@Override
 	public Page<T> findAll(Pageable pageable) {
 
+		// Without a condition, the total is counted separately, which the database answers from its count store
 		OngoingReadingAndReturn returning = cypherGenerator.prepareMatchOf(entityMetaData)
 			.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData));
 
@@ -173,4 +177,40 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 		this.neo4jOperations.deleteAllById(ids, this.entityInformation.getJavaType());
 	}
+
+	/**
+	 * Deletes all entities in batches. Runs without a surrounding transaction, so that each batch is committed on its
+	 * own.
+	 *
+	 * @param batchSize        the maximum number of entities deleted in one batch
+	 * @param progressListener notified with the accumulated progress after each batch
+	 * @return the accumulated progress of all batches
+	 * @see org.neo4j.springframework.data.repository.Neo4jRepository#deleteAllInBatches(int, Consumer)
+	 * @since 1.0.1
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public DeleteProgress deleteAllInBatches(int batchSize, Consumer<DeleteProgress> progressListener) {
+
+		return this.neo4jOperations
+			.deleteAllInBatches(this.entityInformation.getJavaType(), batchSize, progressListener);
+	}
+
+	/**
+	 * Deletes all entities with the given ids in batches. Runs without a surrounding transaction, so that each batch is
+	 * committed on its own.
+	 *
+	 * @param ids              the ids of the entities to be deleted
+	 * @param batchSize        the maximum number of ids used in one batch
+	 * @param progressListener notified with the accumulated progress after each batch
+	 * @return the accumulated progress of all batches
+	 * @see org.neo4j.springframework.data.repository.Neo4jRepository#deleteAllByIdInBatches(Iterable, int, Consumer)
+	 * @since 1.0.1
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public DeleteProgress deleteAllByIdInBatches(Iterable<ID> ids, int batchSize,
+		Consumer<DeleteProgress> progressListener) {
+
+		return this.neo4jOperations
+			.deleteAllByIdInBatches(ids, this.entityInformation.getJavaType(), batchSize, progressListener);
+	}
 }
@@ -26,10 +26,12 @@ import java.util.Optional;
 import java.util.function.LongSupplier;
 
 import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.PreparedQuery;
 import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder;
 import org.neo4j.springframework.data.core.cypher.StatementBuilder.BuildableStatement;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
 import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
 import org.springframework.data.domain.Example;
@@ -37,7 +39,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
-import org.springframework.data.repository.support.PageableExecutionUtils;
 
 /**
  * A fragment for repositories providing "Query by example" functionality.
@@ -114,9 +115,10 @@ class SimpleQueryByExampleExecutor<T> implements QueryByExampleExecutor<T> {
 	@Override
 	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
 
+		// The total is counted by the same statement
 		Predicate predicate = Predicate.create(mappingContext, example);
 		StatementBuilder.OngoingReadingAndReturn returning = predicate
-			.useWithReadingFragment(cypherGenerator::prepareMatchOf)
+			.useWithReadingFragment(cypherGenerator::prepareMatchWithTotalOf)
 			.returning(asterisk());
 
 		BuildableStatement returningWithPaging = addPagingParameter(predicate.getNeo4jPersistentEntity(), pageable,
@@ -124,8 +126,11 @@ class SimpleQueryByExampleExecutor<T> implements QueryByExampleExecutor<T> {
 
 		Statement statement = returningWithPaging.build();
 
-		List<S> page = this.neo4jOperations.findAll(statement, predicate.getParameters(), example.getProbeType());
+		PreparedQuery<S> preparedQuery = PreparedQuery.queryFor(example.getProbeType())
+			.withCypherQuery(Renderer.getDefaultRenderer().render(statement))
+			.withParameters(predicate.getParameters())
+			.build();
 		LongSupplier totalCountSupplier = () -> this.count(example);
-		return PageableExecutionUtils.getPage(page, pageable, totalCountSupplier);
+		return this.neo4jOperations.toExecutableQuery(preparedQuery).getPage(pageable, totalCountSupplier);
 	}
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.support;
+
+import reactor.core.publisher.Mono;
+
+import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.repository.KeysetPosition;
+import org.neo4j.springframework.data.repository.KeysetWindow;
+import org.neo4j.springframework.data.repository.ReactiveKeysetPagingExecutor;
+import org.springframework.data.domain.Sort;
+
+/**
+ * A fragment for repositories providing keyset pagination in a reactive way.
+ *
+ * @author agent
+ * @param <T> type of the domain class
+ * @since 1.0.1
+ */
+class SimpleReactiveKeysetPagingExecutor<T> implements ReactiveKeysetPagingExecutor<T> {
+
+	private final ReactiveNeo4jOperations neo4jOperations;
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Neo4jEntityInformation<T, ?> entityInformation;
+
+	SimpleReactiveKeysetPagingExecutor(ReactiveNeo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
+		Neo4jEntityInformation<T, ?> entityInformation) {
+
+		this.neo4jOperations = neo4jOperations;
+		this.mappingContext = mappingContext;
+		this.entityInformation = entityInformation;
+	}
+
+	@Override
+	public Mono<KeysetWindow<T>> findAll(KeysetPosition position, int size, Sort sort) {
+
+		return Mono.fromSupplier(() -> KeysetQuery.create(
+			mappingContext, entityInformation.getEntityMetaData(), position, size, sort))
+			.flatMap(keysetQuery -> this.neo4jOperations
+				.findAll(keysetQuery.getStatement(), keysetQuery.getParameters(), entityInformation.getJavaType())
+				.collectList()
+				.map(keysetQuery::toWindow));
+	}
+}
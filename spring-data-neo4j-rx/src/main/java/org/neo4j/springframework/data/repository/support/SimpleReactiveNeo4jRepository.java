@@ -24,18 +24,24 @@ import static org.neo4j.springframework.data.repository.query.CypherAdapterUtils
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
+import org.neo4j.springframework.data.core.DeleteProgress;
 import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
 import org.neo4j.springframework.data.core.schema.CypherGenerator;
 import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -53,6 +59,16 @@ import org.springframework.util.Assert;
 @API(status = API.Status.STABLE, since = "1.0")
 public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepository<T, ID> {
 
+	/**
+	 * The maximum number of entities of a stream written with one statement by {@link #saveAll(Publisher)}.
+	 */
+	private static final int SAVE_ALL_BATCH_SIZE = 100;
+
+	/**
+	 * The maximum time {@link #saveAll(Publisher)} waits for more entities of a stream before writing them.
+	 */
+	private static final Duration SAVE_ALL_BATCH_DURATION = Duration.ofMillis(500);
+
 	private final ReactiveNeo4jOperations neo4jOperations;
 
 	private final Neo4jEntityInformation<T, ID> entityInformation;
@@ -108,6 +124,25 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		return neo4jOperations.findAll(statement, this.entityInformation.getJavaType());
 	}
 
+	/**
+	 * @see org.neo4j.springframework.data.repository.ReactiveNeo4jRepository#findAll(Pageable)
+	 * @since 1.0.1
+	 */
+	public Mono<Page<T>> findAll(Pageable pageable) {
+
+		Assert.notNull(pageable, "Pageable must not be null.");
+
+		Statement statement = addPagingParameter(entityMetaData, pageable,
+			cypherGenerator.prepareMatchOf(entityMetaData)
+				.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)))
+			.build();
+
+		// Content and total don't depend on each other, so there's no need to wait for the content before counting
+		return Mono.zip(neo4jOperations.findAll(statement, this.entityInformation.getJavaType()).collectList(), count())
+			.map(contentAndTotal -> PageableExecutionUtils
+				.getPage(contentAndTotal.getT1(), pageable, contentAndTotal.getT2()::longValue));
+	}
+
 	@Override
 	public Mono<Long> count() {
 
@@ -138,11 +173,21 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		return this.neo4jOperations.saveAll(entities);
 	}
 
+	/**
+	 * Saves a stream of entities in batches. Runs without a surrounding transaction, so that the statements of each batch
+	 * are committed as soon as they have been executed instead of all together once the stream completes. A failing
+	 * batch doesn't roll back the batches written before.
+	 *
+	 * @param entityStream the stream of entities to save
+	 * @return the saved entities, emitted as their batches have been written
+	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#saveAll(Publisher)
+	 * @since 1.0.1
+	 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
 
-		return Flux.from(entityStream).flatMap(this::save);
+		return this.neo4jOperations.saveAll(entityStream, SAVE_ALL_BATCH_SIZE, SAVE_ALL_BATCH_DURATION);
 	}
 
 	/*
@@ -217,4 +262,36 @@ public class SimpleReactiveNeo4jRepository<T, ID> implements ReactiveSortingRepo
 		Assert.notNull(entitiesPublisher, "The given Publisher of entities must not be null!");
 		return Flux.from(entitiesPublisher).flatMap(this::delete).then();
 	}
+
+	/**
+	 * Deletes all entities in batches. Runs without a surrounding transaction, so that each batch is committed on its
+	 * own.
+	 *
+	 * @param batchSize the maximum number of entities deleted in one batch
+	 * @return the accumulated progress, emitted after each batch
+	 * @see org.neo4j.springframework.data.repository.ReactiveNeo4jRepository#deleteAllInBatches(int)
+	 * @since 1.0.1
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Flux<DeleteProgress> deleteAllInBatches(int batchSize) {
+
+		return this.neo4jOperations.deleteAllInBatches(this.entityInformation.getJavaType(), batchSize);
+	}
+
+	/**
+	 * Deletes all entities with the given ids in batches. Runs without a surrounding transaction, so that each batch is
+	 * committed on its own.
+	 *
+	 * @param ids       the ids of the entities to be deleted
+	 * @param batchSize the maximum number of ids used in one batch
+	 * @return the accumulated progress, emitted after each batch
+	 * @see org.neo4j.springframework.data.repository.ReactiveNeo4jRepository#deleteAllByIdInBatches(Iterable, int)
+	 * @since 1.0.1
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Flux<DeleteProgress> deleteAllByIdInBatches(Iterable<ID> ids, int batchSize) {
+
+		Assert.notNull(ids, "The given Iterable of ids must not be null!");
+		return this.neo4jOperations.deleteAllByIdInBatches(ids, this.entityInformation.getJavaType(), batchSize);
+	}
 }
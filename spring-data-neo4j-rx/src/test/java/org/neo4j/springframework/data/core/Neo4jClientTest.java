@@ -270,6 +270,36 @@ class Neo4jClientTest {
 			verify(session).close();
 		}
 
+		@Test
+		void streaming() {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.hasNext()).thenReturn(true, true, false);
+			when(result.next()).thenReturn(record1, record2);
+
+			Neo4jClient client = Neo4jClient.create(driver);
+
+			String cypher = "MATCH (n) RETURN n";
+			try (Stream<Map<String, Object>> records = client.query(cypher).fetch().stream()) {
+
+				verify(session).run(eq(cypher), anyMap());
+				verify(session, never()).close();
+				verifyNoMoreInteractions(result, record1, record2);
+
+				assertThat(records).hasSize(2);
+			}
+
+			verifyDatabaseSelection(null);
+
+			verify(result, atLeast(3)).hasNext();
+			verify(result, times(2)).next();
+			verify(record1).asMap();
+			verify(record2).asMap();
+			verify(session).close();
+		}
+
 		@Test
 		void shouldApplyNullChecksDuringReading() {
 
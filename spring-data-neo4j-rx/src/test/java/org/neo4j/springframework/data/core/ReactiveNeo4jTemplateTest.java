@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core;
+
+import static java.util.Collections.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class ReactiveNeo4jTemplateTest {
+
+	@Test
+	void batchesShouldBeLimitedBySize() {
+
+		StepVerifier.withVirtualTime(() -> ReactiveNeo4jTemplate.batch(Flux.range(1, 5), 2, Duration.ofSeconds(1)))
+			.expectNext(Arrays.asList(1, 2), Arrays.asList(3, 4), singletonList(5))
+			.verifyComplete();
+	}
+
+	@Test
+	void batchDurationShouldStartWithTheFirstElement() {
+
+		StepVerifier.withVirtualTime(() -> ReactiveNeo4jTemplate.batch(Flux.concat(
+			Mono.just(1).delaySubscription(Duration.ofMillis(10500)),
+			Mono.just(2).delaySubscription(Duration.ofMillis(700)),
+			Mono.just(3).delaySubscription(Duration.ofMillis(1300))), 10, Duration.ofSeconds(1)))
+			.expectSubscription()
+			.expectNoEvent(Duration.ofMillis(11400))
+			.thenAwait(Duration.ofMillis(100))
+			.expectNext(Arrays.asList(1, 2))
+			.thenAwait(Duration.ofSeconds(1))
+			.expectNext(singletonList(3))
+			.verifyComplete();
+	}
+}
@@ -689,6 +689,17 @@ class CypherIT {
 					"MATCH (u:`User`) RETURN count(u) AS cnt");
 		}
 
+		@Test
+		void propertiesInWhereClause() {
+			Statement statement = Cypher.match(userNode)
+				.where(Functions.properties(userNode).isNotEqualTo(parameter("properties")))
+				.returning(userNode).build();
+
+			assertThat(cypherRenderer.render(statement))
+				.isEqualTo(
+					"MATCH (u:`User`) WHERE properties(u) <> $properties RETURN u");
+		}
+
 		@Test
 		void shouldSupportMoreThanOneArgument() {
 			Statement statement = Cypher.match(userNode)
@@ -2116,6 +2127,23 @@ class CypherIT {
 				.isEqualTo(
 					"MATCH (b:`Bike`) WITH collect(b) AS collected UNWIND collected AS x WITH x DELETE x RETURN x");
 		}
+
+		@Test
+		void shouldRenderMatchAfterUnwind() {
+
+			Statement statement;
+			statement = Cypher.match(userNode)
+				.where(userNode.internalId().isEqualTo(parameter("id")))
+				.unwind(parameter("rows")).as("row")
+				.match(bikeNode)
+				.where(bikeNode.internalId().isEqualTo(property("row", "id")))
+				.merge(userNode.relationshipTo(bikeNode, "OWNS"))
+				.build();
+
+			assertThat(cypherRenderer.render(statement))
+				.isEqualTo(
+					"MATCH (u:`User`) WHERE id(u) = $id UNWIND $rows AS row MATCH (b:`Bike`) WHERE id(b) = row.id MERGE (u)-[:`OWNS`]->(b)");
+		}
 	}
 
 	@Nested
@@ -66,6 +66,8 @@ class FunctionsTest {
 		return Stream.of(
 			Arguments.of("id", Node.class),
 			Arguments.of("id", Relationship.class),
+			Arguments.of("properties", Node.class),
+			Arguments.of("properties", Relationship.class),
 			Arguments.of("count", Expression.class),
 			Arguments.of("collect", Expression.class),
 			Arguments.of("head", Expression.class),
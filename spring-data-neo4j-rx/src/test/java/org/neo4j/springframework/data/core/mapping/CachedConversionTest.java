@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.springframework.data.core.convert.Neo4jConversions;
+import org.neo4j.springframework.data.core.mapping.CachedConversion.ConverterLookup;
+import org.springframework.core.convert.ConverterNotFoundException;
+
+/**
+ * @author agent
+ */
+class CachedConversionTest {
+
+	private final ConverterLookup conversionService = new ConverterLookup();
+
+	CachedConversionTest() {
+		new Neo4jConversions().registerConvertersIn(conversionService);
+	}
+
+	@Test
+	void shouldConvertValuesOfChangingSourceTypes() {
+
+		CachedConversion conversion = new CachedConversion(Value.class);
+
+		assertThat(conversion.convert("a", conversionService)).isEqualTo(Values.value("a"));
+		assertThat(conversion.convert("b", conversionService)).isEqualTo(Values.value("b"));
+		assertThat(conversion.convert(42L, conversionService)).isEqualTo(Values.value(42L));
+		assertThat(conversion.convert(LocalDate.of(2020, 4, 1), conversionService))
+			.isEqualTo(Values.value(LocalDate.of(2020, 4, 1)));
+	}
+
+	@Test
+	void shouldReadDriverValues() {
+
+		CachedConversion conversion = new CachedConversion(String.class);
+
+		assertThat(conversion.convert(Values.value("a"), conversionService)).isEqualTo("a");
+		assertThat(conversion.convert(null, conversionService)).isNull();
+	}
+
+	@Test
+	void shouldFailOnMissingConverters() {
+
+		CachedConversion conversion = new CachedConversion(CachedConversionTest.class);
+
+		assertThatExceptionOfType(ConverterNotFoundException.class)
+			.isThrownBy(() -> conversion.convert(Values.value("a"), conversionService));
+	}
+}
@@ -20,6 +20,7 @@ package org.neo4j.springframework.data.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -94,6 +95,18 @@ class DefaultNeo4jPersistentEntityTest {
 				.isThrownBy(() -> schema.initialize())
 				.withMessageMatching(expectedMessage);
 		}
+
+		@ParameterizedTest
+		@ValueSource(classes = { SingleValuedLazyRelationship.class, LazyRelationshipWithConcreteCollection.class })
+		void failsOnLazyRelationshipsThatCannotBeProxied(Class<?> entityToTest) {
+
+			String expectedMessage = "Only relationships declared as a collection or map interface can be fetched "
+				+ "(LAZY|BATCH) in class .*(SingleValuedLazyRelationship|LazyRelationshipWithConcreteCollection) "
+				+ "on field related\\.";
+			assertThatIllegalStateException()
+				.isThrownBy(() -> new Neo4jMappingContext().getPersistentEntity(entityToTest))
+				.withMessageMatching(expectedMessage);
+		}
 	}
 
 	@Nested
@@ -256,7 +269,27 @@ class DefaultNeo4jPersistentEntityTest {
 		private String name;
 	}
 
-	static class TypeWithInvalidDynamicRelationshipMappings1 {
+	@Node
+	static class SingleValuedLazyRelationship {
+
+		@Id
+		private String id;
+
+		@Relationship(type = "RELATED", fetch = Relationship.FetchMode.LAZY)
+		private CorrectEntity1 related;
+	}
+
+	@Node
+	static class LazyRelationshipWithConcreteCollection {
+
+		@Id
+		private String id;
+
+		@Relationship(type = "RELATED", fetch = Relationship.FetchMode.BATCH)
+		private ArrayList<CorrectEntity1> related;
+	}
+
+		static class TypeWithInvalidDynamicRelationshipMappings1 {
 
 		@Id
 		private String id;
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.mapping.EntityReadPlan.PropertySlot;
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.schema.Property;
+import org.neo4j.springframework.data.core.schema.Relationship;
+import org.neo4j.springframework.data.integration.shared.KotlinPerson;
+
+/**
+ * @author agent
+ */
+class EntityReadPlanTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	@Test
+	void shouldReadAllPropertiesOfConstructorOnlyEntitiesThroughTheConstructor() {
+
+		EntityReadPlan<ConstructorOnlyEntity> plan = planFor(ConstructorOnlyEntity.class);
+
+		assertThat(plan.requiresPropertyPopulation()).isFalse();
+		assertThat(plan.getProperties()).isEmpty();
+		assertThat(plan.getAssociations()).isEmpty();
+
+		PropertySlot title = plan.getConstructorArgument("title");
+		assertThat(title.getGraphPropertyName()).isEqualTo("the_title");
+		assertThat(title.isRelationship()).isFalse();
+		assertThat(title.isCollection()).isFalse();
+
+		PropertySlot related = plan.getConstructorArgument("related");
+		assertThat(related.isRelationship()).isTrue();
+		assertThat(related.isCollection()).isTrue();
+		assertThat(related.getGraphPropertyName()).isNull();
+		assertThat(related.getRequiredRelationship().getType()).isEqualTo("RELATED_TO");
+
+		assertThat(plan.getIdSlot()).isNotNull();
+		assertThat(plan.getIdSlot().getGraphPropertyName()).isEqualTo("id");
+	}
+
+	@Test
+	void shouldPopulateOnlyPropertiesThatAreNoConstructorArguments() {
+
+		EntityReadPlan<MixedEntity> plan = planFor(MixedEntity.class);
+
+		assertThat(plan.requiresPropertyPopulation()).isTrue();
+		assertThat(plan.getConstructorArgument("id").isInternalIdProperty()).isTrue();
+		assertThat(plan.getConstructorArgument("name").getGraphPropertyName()).isEqualTo("name");
+		assertThat(namesOf(plan.getProperties())).containsExactly("description");
+		assertThat(namesOf(plan.getAssociations())).containsExactly("friends");
+		assertThat(plan.getAssociations().get(0).getRequiredRelationship().getType()).isEqualTo("FRIENDS");
+
+		assertThatIllegalStateException().isThrownBy(() -> plan.getConstructorArgument("description"))
+			.withMessage("No property for constructor parameter description");
+		assertThatIllegalStateException().isThrownBy(() -> plan.getProperties().get(0).getRequiredRelationship())
+			.withMessage("Property description is not a relationship");
+	}
+
+	@Test
+	void shouldReadImmutableEntitiesThroughTheConstructor() {
+
+		EntityReadPlan<ImmutableEntity> plan = planFor(ImmutableEntity.class);
+
+		assertThat(plan.requiresPropertyPopulation()).isFalse();
+		assertThat(plan.getProperties()).isEmpty();
+		assertThat(plan.getConstructorArgument("id").isInternalIdProperty()).isTrue();
+		assertThat(plan.getConstructorArgument("id").getGraphPropertyName()).isNull();
+		assertThat(plan.getConstructorArgument("name").getGraphPropertyName()).isEqualTo("name");
+	}
+
+	@Test
+	void shouldReadKotlinDataClassesThroughTheirPrimaryConstructor() {
+
+		EntityReadPlan<KotlinPerson> plan = planFor(KotlinPerson.class);
+
+		assertThat(plan.requiresPropertyPopulation()).isFalse();
+		assertThat(plan.getProperties()).isEmpty();
+		assertThat(plan.getAssociations()).isEmpty();
+		assertThat(plan.getConstructorArgument("id").isInternalIdProperty()).isTrue();
+		assertThat(plan.getConstructorArgument("name").getTargetType().getType()).isEqualTo(String.class);
+	}
+
+	private <T> EntityReadPlan<T> planFor(Class<T> type) {
+
+		return EntityReadPlan.of((Neo4jPersistentEntity<T>) mappingContext.getRequiredPersistentEntity(type));
+	}
+
+	private static String[] namesOf(List<PropertySlot> slots) {
+
+		return slots.stream().map(slot -> slot.getProperty().getName()).toArray(String[]::new);
+	}
+
+	@Node
+	static class ConstructorOnlyEntity {
+
+		@Id private final String id;
+
+		@Property("the_title") private final String title;
+
+		@Relationship("RELATED_TO") private final List<ConstructorOnlyEntity> related;
+
+		ConstructorOnlyEntity(String id, String title, List<ConstructorOnlyEntity> related) {
+			this.id = id;
+			this.title = title;
+			this.related = related;
+		}
+	}
+
+	@Node
+	static class MixedEntity {
+
+		@Id @GeneratedValue private final Long id;
+
+		private final String name;
+
+		private String description;
+
+		@Relationship("FRIENDS") private List<MixedEntity> friends;
+
+		MixedEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public void setFriends(List<MixedEntity> friends) {
+			this.friends = friends;
+		}
+	}
+
+	@Node
+	static class ImmutableEntity {
+
+		@Id @GeneratedValue private final Long id;
+
+		private final String name;
+
+		ImmutableEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		ImmutableEntity withId(Long newId) {
+			return new ImmutableEntity(newId, this.name);
+		}
+	}
+}
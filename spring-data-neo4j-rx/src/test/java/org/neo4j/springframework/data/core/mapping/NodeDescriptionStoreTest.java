@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.mapping;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+
+/**
+ * @author agent
+ */
+class NodeDescriptionStoreTest {
+
+	@Node(primaryLabel = "Base")
+	private abstract static class BaseClass {
+		@Id private Long id;
+	}
+
+	@Node(primaryLabel = "Child")
+	private static class Child extends BaseClass {
+		private String name;
+	}
+
+	@Test
+	void shouldFindNodeDescriptionsByClass() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		DefaultNeo4jPersistentEntity<?> child = (DefaultNeo4jPersistentEntity<?>) mappingContext
+			.getRequiredPersistentEntity(Child.class);
+
+		NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
+		assertThat(nodeDescriptionStore.getNodeDescription(Child.class)).isNull();
+
+		nodeDescriptionStore.put(child.getPrimaryLabel(), child);
+		assertThat(nodeDescriptionStore.getNodeDescription(Child.class)).isSameAs(child);
+		assertThat(nodeDescriptionStore.getNodeDescription(BaseClass.class)).isNull();
+	}
+
+	@Test
+	void concreteNodeDescriptionsShouldReflectEntitiesRegisteredLater() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		DefaultNeo4jPersistentEntity<?> base = (DefaultNeo4jPersistentEntity<?>) mappingContext
+			.getRequiredPersistentEntity(BaseClass.class);
+
+		NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
+		nodeDescriptionStore.put(base.getPrimaryLabel(), base);
+		assertThat(nodeDescriptionStore.deriveConcreteNodeDescription(base, singletonList("Child"))).isSameAs(base);
+
+		DefaultNeo4jPersistentEntity<?> child = (DefaultNeo4jPersistentEntity<?>) mappingContext
+			.getRequiredPersistentEntity(Child.class);
+		nodeDescriptionStore.put(child.getPrimaryLabel(), child);
+		assertThat(nodeDescriptionStore.deriveConcreteNodeDescription(base, singletonList("Child"))).isSameAs(child);
+		assertThat(nodeDescriptionStore.deriveConcreteNodeDescription(base, emptyList())).isSameAs(base);
+	}
+}
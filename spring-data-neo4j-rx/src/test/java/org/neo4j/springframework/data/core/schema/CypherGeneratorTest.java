@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.springframework.data.core.cypher.Cypher;
+import org.neo4j.springframework.data.core.cypher.Node;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+
+/**
+ * @author agent
+ */
+class CypherGeneratorTest {
+
+	private static final Renderer cypherRenderer = Renderer.getDefaultRenderer();
+
+	private Neo4jMappingContext mappingContext;
+
+	@BeforeEach
+	void setupMappingContext() {
+
+		mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(
+			new HashSet<>(Arrays.asList(PersonNode.class, MovieNode.class, StudioNode.class, TagNode.class,
+				CategoryNode.class)));
+		mappingContext.initialize();
+	}
+
+	@Test
+	void relationshipCreationQueryShouldBeParameterizedAndLabelQualified() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipCreationQuery(person, getRelationship(person, "actedIn"), null, movie));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Person`) WHERE startNode.name = $fromId "
+				+ "MATCH (endNode:`Movie`) WHERE id(endNode) = $toId "
+				+ "MERGE (startNode)-[:`ACTED_IN`]->(endNode)");
+	}
+
+	@Test
+	void relationshipCreationQueryShouldUseInternalIdsOfStartNode() {
+
+		Neo4jPersistentEntity<?> movie = mappingContext.getPersistentEntity(MovieNode.class);
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipCreationQuery(movie, getRelationship(movie, "directors"), null, person));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Movie`) WHERE id(startNode) = $fromId "
+				+ "MATCH (endNode:`Person`) WHERE id(endNode) = $toId "
+				+ "MERGE (startNode)<-[:`DIRECTED`]-(endNode)");
+	}
+
+	@Test
+	void relationshipWithPropertiesCreationQueryShouldBeParameterizedAndLabelQualified() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipWithPropertiesCreationQuery(person, getRelationship(person, "reviewed"), movie));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Person`) WHERE startNode.name = $fromId "
+				+ "MATCH (endNode:`Movie`) WHERE id(endNode) = $toId "
+				+ "MERGE (startNode)-[relProps:`REVIEWED`]->(endNode) SET relProps = $__properties__");
+	}
+
+	@Test
+	void relationshipRemoveQueryShouldBeLabelQualified() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipRemoveQuery(person, getRelationship(person, "actedIn"), movie));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Person`)-[rel:`ACTED_IN`]->(:`Movie`) WHERE startNode.name = $fromId DELETE rel");
+	}
+
+	@Test
+	void relationshipsOfManyNodesRemoveQueryShouldBeParameterizedWithAllIds() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipsOfManyNodesRemoveQuery(person, getRelationship(person, "actedIn"), movie));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Person`)-[rel:`ACTED_IN`]->(:`Movie`) WHERE startNode.name IN $__ids__ DELETE rel");
+	}
+
+	@Test
+	void relationshipsOfManyNodesCreationQueryShouldTakeStartNodesFromRows() {
+
+		Neo4jPersistentEntity<?> movie = mappingContext.getPersistentEntity(MovieNode.class);
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipsOfManyNodesCreationQuery(movie, getRelationship(movie, "directors"), null, person));
+		assertThat(cypher).isEqualTo(
+			"UNWIND $__entities__ AS relationship "
+				+ "MATCH (startNode:`Movie`) WHERE id(startNode) = relationship.fromId "
+				+ "MATCH (endNode:`Person`) WHERE id(endNode) = relationship.__id__ "
+				+ "MERGE (startNode)<-[relProps:`DIRECTED`]-(endNode)");
+	}
+
+	@Test
+	void relationshipMatchQueryShouldReturnRelationshipsAndRelatedIds() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipMatchQuery(person, getRelationship(person, "reviewed"), movie));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Person`)-[relProps:`REVIEWED`]->(endNode:`Movie`) WHERE startNode.name = $fromId "
+				+ "RETURN relProps AS __relationship__, id(endNode) AS __internalNeo4jId__");
+	}
+
+	@Test
+	void relationshipMatchQueryShouldNotRestrictTypeOfDynamicRelationships() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.createRelationshipMatchQuery(person, getRelationship(person, "favorites"), movie));
+		assertThat(cypher).isEqualTo(
+			"MATCH (startNode:`Person`)-[relProps]->(endNode:`Movie`) WHERE startNode.name = $fromId "
+				+ "RETURN relProps AS __relationship__, id(endNode) AS __internalNeo4jId__");
+	}
+
+	@Test
+	void relationshipDeleteByIdQueryShouldBeParameterized() {
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.createRelationshipDeleteByIdQuery());
+		assertThat(cypher).isEqualTo("MATCH ()-[relProps]->() WHERE id(relProps) IN $__ids__ DELETE relProps");
+	}
+
+	@Test
+	void saveOfMultipleInstancesWithInternalIdsShouldCreateAndUpdateInOneStatement() {
+
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(movie));
+		assertThat(cypher).isEqualTo(
+			"UNWIND $__entities__ AS entity "
+				+ "OPTIONAL MATCH (hlp:`Movie`) WHERE id(hlp) = entity.__id__ WITH entity, hlp WHERE hlp IS NULL "
+				+ "CREATE (n:`Movie`) SET n = entity.__properties__ "
+				+ "RETURN entity.__row__ AS __row__, id(n) AS __internalNeo4jId__ "
+				+ "UNION ALL "
+				+ "UNWIND $__entities__ AS entity "
+				+ "MATCH (n:`Movie`) WHERE id(n) = entity.__id__ SET n = entity.__properties__ "
+				+ "RETURN entity.__row__ AS __row__, id(n) AS __internalNeo4jId__");
+	}
+
+	@Test
+	void saveOfMultipleInstancesWithAssignedIdsShouldReturnTheRowIndex() {
+
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(person));
+		assertThat(cypher).isEqualTo(
+			"UNWIND $__entities__ AS entity "
+				+ "MERGE (n:`Person` {name: entity.__id__}) SET n = entity.__properties__ "
+				+ "RETURN entity.__row__ AS __row__, id(n) AS __internalNeo4jId__");
+	}
+
+	@Test
+	void saveOfSingleInstanceShouldWriteAllProperties() {
+
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOf(movie));
+		assertThat(cypher).isEqualTo(
+			"OPTIONAL MATCH (hlp:`Movie`) WHERE id(hlp) = $__id__ WITH hlp WHERE hlp IS NULL "
+				+ "CREATE (n:`Movie`) SET n = $__properties__ RETURN id(n) "
+				+ "UNION "
+				+ "MATCH (n) WHERE id(n) = $__id__ SET n = $__properties__ RETURN id(n)");
+
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOf(person));
+		assertThat(cypher).isEqualTo("MERGE (n:`Person` {name: $__id__}) SET n = $__properties__ RETURN id(n)");
+	}
+
+	@Test
+	void saveOfMultipleInstancesSkippingUnchangedUpdatesShouldOnlyWriteChangedProperties() {
+
+		NodeDescription<?> tag = mappingContext.getRequiredNodeDescription(TagNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(tag));
+		assertThat(cypher).isEqualTo(
+			"UNWIND $__entities__ AS entity "
+				+ "OPTIONAL MATCH (hlp:`Tag`) WHERE id(hlp) = entity.__id__ WITH entity, hlp WHERE hlp IS NULL "
+				+ "CREATE (n:`Tag`) SET n = entity.__properties__ "
+				+ "RETURN entity.__row__ AS __row__, id(n) AS __internalNeo4jId__ "
+				+ "UNION ALL "
+				+ "UNWIND $__entities__ AS entity "
+				+ "MATCH (n:`Tag`) WHERE (id(n) = entity.__id__ AND properties(n) <> entity.__properties__) "
+				+ "SET n = entity.__properties__ "
+				+ "RETURN entity.__row__ AS __row__, id(n) AS __internalNeo4jId__ "
+				+ "UNION ALL "
+				+ "UNWIND $__entities__ AS entity "
+				+ "MATCH (n:`Tag`) WHERE id(n) = entity.__id__ "
+				+ "RETURN entity.__row__ AS __row__, id(n) AS __internalNeo4jId__");
+	}
+
+	@Test
+	void saveOfSingleInstanceSkippingUnchangedUpdatesShouldOnlyWriteChangedProperties() {
+
+		NodeDescription<?> tag = mappingContext.getRequiredNodeDescription(TagNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOf(tag));
+		assertThat(cypher).isEqualTo(
+			"OPTIONAL MATCH (hlp:`Tag`) WHERE id(hlp) = $__id__ WITH hlp WHERE hlp IS NULL "
+				+ "CREATE (n:`Tag`) SET n = $__properties__ RETURN id(n) "
+				+ "UNION "
+				+ "MATCH (n) WHERE (id(n) = $__id__ AND properties(n) <> $__properties__) "
+				+ "SET n = $__properties__ RETURN id(n) "
+				+ "UNION "
+				+ "MATCH (n:`Tag`) WHERE id(n) = $__id__ RETURN id(n)");
+
+		NodeDescription<?> category = mappingContext.getRequiredNodeDescription(CategoryNode.class);
+
+		cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareSaveOf(category));
+		assertThat(cypher).isEqualTo(
+			"MERGE (n:`Category` {name: $__id__}) WITH n WHERE properties(n) <> $__properties__ "
+				+ "SET n = $__properties__ RETURN id(n) "
+				+ "UNION "
+				+ "MATCH (n:`Category`) WHERE n.name = $__id__ RETURN id(n)");
+	}
+
+	@Test
+	void batchedDeleteShouldBeLimited() {
+
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareDeleteOf(movie, null, 1000));
+		assertThat(cypher).isEqualTo("MATCH (n:`Movie`) WITH n LIMIT 1000 DETACH DELETE n");
+	}
+
+	@Test
+	void matchWithTotalShouldCarryTheTotal() {
+
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchWithTotalOf(movie, null)
+			.returning(Cypher.name("n"), Cypher.name(Constants.NAME_OF_TOTAL)).build());
+		assertThat(cypher).isEqualTo("MATCH (n:`Movie`) WITH count(*) AS __total__ "
+			+ "MATCH (n:`Movie`) WITH n, id(n) AS __internalNeo4jId__, __total__ RETURN n, __total__");
+	}
+
+	@Test
+	void matchWithTotalShouldCountBeforeMatchingThePage() {
+
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+		Node rootNode = Cypher.node("Movie").named("n");
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE
+			.prepareMatchWithTotalOf(movie, rootNode.property("title").startsWith(Cypher.parameter("title")))
+			.returning(Cypher.name("n"), Cypher.name(Constants.NAME_OF_TOTAL))
+			.orderBy(rootNode.property("title").ascending())
+			.skip(10).limit(5).build());
+		assertThat(cypher).isEqualTo("MATCH (n:`Movie`) WHERE n.title STARTS WITH $title "
+			+ "WITH count(*) AS __total__ "
+			+ "MATCH (n:`Movie`) WHERE n.title STARTS WITH $title WITH n, id(n) AS __internalNeo4jId__, __total__ "
+			+ "RETURN n, __total__ ORDER BY n.title ASC SKIP 10 LIMIT 5");
+	}
+
+	@Test
+	void lazyRelationshipsShouldNotBeReturned() {
+
+		NodeDescription<?> studio = mappingContext.getRequiredNodeDescription(StudioNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchOf(studio)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(studio)).build());
+		assertThat(cypher).isEqualTo("MATCH (n:`Studio`) WITH n "
+			+ "RETURN n{.name, __nodeLabels__: labels(n)}");
+	}
+
+	@Test
+	void depthShouldLimitRelationships() {
+
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchOf(person)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(person, null, FetchOptions.depth(0)))
+			.build());
+		assertThat(cypher).isEqualTo("MATCH (n:`Person`) WITH n "
+			+ "RETURN n{.name, __nodeLabels__: labels(n)}");
+
+		cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchOf(person)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(person, null, FetchOptions.depth(1)))
+			.build());
+		assertThat(cypher)
+			.contains("Person_ACTED_IN_Movie: [(n)-[:`ACTED_IN`]->(n_actedIn:`Movie`) | "
+				+ "n_actedIn{__internalNeo4jId__: id(n_actedIn), .title, __nodeLabels__: labels(n_actedIn)}]")
+			.doesNotContain("n_actedIn_directors");
+	}
+
+	@Test
+	void nestedInputPropertiesShouldPruneRelatedNodes() {
+
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchOf(person)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(person,
+				Arrays.asList("name", "actedIn.title"), FetchOptions.defaults()))
+			.build());
+		assertThat(cypher).isEqualTo("MATCH (n:`Person`) WITH n "
+			+ "RETURN n{.name, __nodeLabels__: labels(n), "
+			+ "Person_ACTED_IN_Movie: [(n)-[:`ACTED_IN`]->(n_actedIn:`Movie`) | "
+			+ "n_actedIn{.title, __nodeLabels__: labels(n_actedIn)}]}");
+	}
+
+	@Test
+	void fetchGraphShouldOnlyContainListedRelationships() {
+
+		NodeDescription<?> person = mappingContext.getRequiredNodeDescription(PersonNode.class);
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchOf(person)
+			.returning(CypherGenerator.INSTANCE
+				.createReturnStatementForMatch(person, null, FetchOptions.graph("actedIn.directors")))
+			.build());
+		assertThat(cypher).contains("n_actedIn_directors").doesNotContain("REVIEWED", "favorites");
+
+		NodeDescription<?> studio = mappingContext.getRequiredNodeDescription(StudioNode.class);
+
+		cypher = cypherRenderer.render(CypherGenerator.INSTANCE.prepareMatchOf(studio)
+			.returning(CypherGenerator.INSTANCE.createReturnStatementForMatch(studio, null, FetchOptions.graph("genres")))
+			.build());
+		assertThat(cypher).isEqualTo("MATCH (n:`Studio`) WITH n "
+			+ "RETURN n{.name, __nodeLabels__: labels(n), "
+			+ "Studio_GENRE_Genre: [(n)-[:`GENRE`]->(n_genres:`Genre`) | n_genres{.name, __nodeLabels__: labels(n_genres)}]}");
+	}
+
+	@Test
+	void relationshipLoadQueryShouldReturnRelatedNodesOfAllOwners() {
+
+		Neo4jPersistentEntity<?> studio = mappingContext.getPersistentEntity(StudioNode.class);
+		RelationshipDescription genres = getRelationship(studio, "genres");
+
+		String cypher = cypherRenderer.render(CypherGenerator.INSTANCE.createRelationshipLoadQuery(studio, genres));
+		assertThat(cypher).isEqualTo("MATCH (n:`Studio`) WHERE n.name IN $__ids__ RETURN n.name AS __id__, "
+			+ "n{Studio_GENRE_Genre: [(n)-[:`GENRE`]->(n_genres:`Genre`) | n_genres{.name, __nodeLabels__: labels(n_genres)}]}");
+	}
+
+	@Test
+	void shouldCreateOneStableStatementPerRelationshipType() {
+
+		Neo4jPersistentEntity<?> person = mappingContext.getPersistentEntity(PersonNode.class);
+		NodeDescription<?> movie = mappingContext.getRequiredNodeDescription(MovieNode.class);
+		RelationshipDescription actedIn = getRelationship(person, "actedIn");
+		RelationshipDescription favorites = getRelationship(person, "favorites");
+
+		Set<String> statements = new HashSet<>();
+		for (int i = 0; i < 10; ++i) {
+			statements.add(cypherRenderer.render(CypherGenerator.INSTANCE
+				.createRelationshipCreationQuery(person, actedIn, null, movie)));
+			statements.add(cypherRenderer.render(CypherGenerator.INSTANCE
+				.createRelationshipCreationQuery(person, favorites, "LIKES", movie)));
+			statements.add(cypherRenderer.render(CypherGenerator.INSTANCE
+				.createRelationshipCreationQuery(person, favorites, "LOVES", movie)));
+		}
+
+		assertThat(statements).hasSize(3)
+			.allSatisfy(statement -> assertThat(statement).contains("$fromId", "$toId"));
+	}
+
+	private static RelationshipDescription getRelationship(NodeDescription<?> nodeDescription, String fieldName) {
+
+		return nodeDescription.getRelationships().stream()
+			.filter(r -> r.getFieldName().equals(fieldName))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("No relationship " + fieldName));
+	}
+
+	@Node("Person")
+	static class PersonNode {
+
+		@Id
+		private String name;
+
+		@Relationship("ACTED_IN")
+		private List<MovieNode> actedIn;
+
+		@Relationship("REVIEWED")
+		private Map<MovieNode, Review> reviewed;
+
+		private Map<String, MovieNode> favorites;
+	}
+
+	@Node("Studio")
+	static class StudioNode {
+
+		@Id
+		private String name;
+
+		@Relationship(type = "GENRE", fetch = Relationship.FetchMode.LAZY)
+		private List<GenreNode> genres;
+	}
+
+	@Node("Genre")
+	static class GenreNode {
+
+		@Id
+		private String name;
+	}
+
+	@Node("Movie")
+	static class MovieNode {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private String title;
+
+		@Relationship(type = "DIRECTED", direction = Relationship.Direction.INCOMING)
+		private List<PersonNode> directors;
+	}
+
+	@Node("Tag")
+	@SkipUnchangedUpdates
+	static class TagNode {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private String name;
+	}
+
+	@Node("Category")
+	@SkipUnchangedUpdates
+	static class CategoryNode {
+
+		@Id
+		private String name;
+	}
+
+	@RelationshipProperties
+	static class Review {
+
+		private int rating;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.core.schema;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ */
+class FetchOptionsTest {
+
+	@Test
+	void defaultsShouldBeTheSameOnEveryPath() {
+
+		assertThat(FetchOptions.defaults().relativeTo("actors.movies")).isSameAs(FetchOptions.defaults());
+	}
+
+	@Test
+	void relativeDepthShouldBeReducedByTheDepthOfThePath() {
+
+		assertThat(FetchOptions.depth(3).relativeTo("")).isEqualTo(FetchOptions.depth(3));
+		assertThat(FetchOptions.depth(3).relativeTo("actors")).isEqualTo(FetchOptions.depth(2));
+		assertThat(FetchOptions.depth(3).relativeTo("actors.movies")).isEqualTo(FetchOptions.depth(1));
+		assertThat(FetchOptions.depth(1).relativeTo("actors.movies")).isEqualTo(FetchOptions.depth(0));
+	}
+
+	@Test
+	void relativeGraphShouldOnlyContainThePathsBelow() {
+
+		FetchOptions options = FetchOptions.graph("actors.movies.genres", "directors");
+
+		assertThat(options.relativeTo("actors")).isEqualTo(FetchOptions.graph("movies.genres"));
+		assertThat(options.relativeTo("actors.movies")).isEqualTo(FetchOptions.graph("genres"));
+		assertThat(options.relativeTo("directors")).isEqualTo(FetchOptions.depth(0));
+		assertThat(options.relativeTo("actors")).isNotEqualTo(options.relativeTo("directors"));
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.async;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.AsyncNeo4jClient;
+import org.neo4j.springframework.data.core.AsyncNeo4jOperations;
+import org.neo4j.springframework.data.core.AsyncNeo4jTemplate;
+import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.shared.AnotherThingWithAssignedId;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.ThingWithAssignedId;
+import org.neo4j.springframework.data.integration.shared.VersionedThing;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class AsyncNeo4jTemplateIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final AsyncNeo4jClient asyncNeo4jClient;
+	private final AsyncNeo4jOperations asyncNeo4jOperations;
+
+	@Autowired AsyncNeo4jTemplateIT(Driver driver, AsyncNeo4jClient asyncNeo4jClient,
+		AsyncNeo4jOperations asyncNeo4jOperations) {
+		this.driver = driver;
+		this.asyncNeo4jClient = asyncNeo4jClient;
+		this.asyncNeo4jOperations = asyncNeo4jOperations;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+	}
+
+	@Test
+	void shouldSaveAndLoadEntitiesWithRelationships() {
+
+		ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+		thing.setName("Thing");
+		AnotherThingWithAssignedId anotherThing = new AnotherThingWithAssignedId(4711L);
+		anotherThing.setName("Another thing");
+		thing.setThings(Arrays.asList(anotherThing, new AnotherThingWithAssignedId(4712L)));
+
+		asyncNeo4jOperations.save(thing).toCompletableFuture().join();
+
+		Optional<ThingWithAssignedId> loadedThing = asyncNeo4jOperations.findById("t1", ThingWithAssignedId.class)
+			.toCompletableFuture().join();
+		assertThat(loadedThing).hasValueSatisfying(t -> {
+			assertThat(t.getName()).isEqualTo("Thing");
+			assertThat(t.getThings()).extracting(AnotherThingWithAssignedId::getTheId)
+				.containsExactlyInAnyOrder(4711L, 4712L);
+		});
+	}
+
+	@Test
+	void shouldSaveAllAndSetInternalIds() {
+
+		List<VersionedThing> things = asyncNeo4jOperations
+			.saveAll(Arrays.asList(new VersionedThing("a"), new VersionedThing("b")))
+			.toCompletableFuture().join();
+
+		assertThat(things).extracting(VersionedThing::getMyVersion).containsExactly(0L, 0L);
+		assertThat(asyncNeo4jOperations.count(VersionedThing.class).toCompletableFuture().join()).isEqualTo(2L);
+		assertThat(asyncNeo4jOperations.findAll(VersionedThing.class).toCompletableFuture().join()).hasSize(2);
+	}
+
+	@Test
+	void shouldCompleteExceptionallyOnVersionMismatch() {
+
+		VersionedThing thing = asyncNeo4jOperations.save(new VersionedThing("a")).toCompletableFuture().join();
+		thing.setMyVersion(thing.getMyVersion() - 1);
+
+		assertThatExceptionOfType(CompletionException.class)
+			.isThrownBy(() -> asyncNeo4jOperations.save(thing).toCompletableFuture().join())
+			.withCauseInstanceOf(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	void findOneShouldCompleteExceptionallyWithMoreThanOneResult() {
+
+		asyncNeo4jOperations.saveAll(Arrays.asList(new VersionedThing("a"), new VersionedThing("b")))
+			.toCompletableFuture().join();
+
+		assertThatExceptionOfType(CompletionException.class)
+			.isThrownBy(() -> asyncNeo4jOperations
+				.findOne("MATCH (n:VersionedThing) RETURN n", emptyMap(), VersionedThing.class)
+				.toCompletableFuture().join())
+			.withCauseInstanceOf(IncorrectResultSizeDataAccessException.class);
+	}
+
+	@Test
+	void shouldDeleteEntities() {
+
+		ThingWithAssignedId thing1 = new ThingWithAssignedId("t1");
+		ThingWithAssignedId thing2 = new ThingWithAssignedId("t2");
+		asyncNeo4jOperations.saveAll(Arrays.asList(thing1, thing2)).toCompletableFuture().join();
+
+		asyncNeo4jOperations.deleteById("t1", ThingWithAssignedId.class)
+			.thenCompose(v -> asyncNeo4jOperations.count(ThingWithAssignedId.class))
+			.thenAccept(count -> assertThat(count).isEqualTo(1L))
+			.thenCompose(v -> asyncNeo4jOperations.deleteAll(ThingWithAssignedId.class))
+			.thenCompose(v -> asyncNeo4jOperations.count(ThingWithAssignedId.class))
+			.thenAccept(count -> assertThat(count).isEqualTo(0L))
+			.toCompletableFuture().join();
+	}
+
+	@Test
+	void delegationShouldRollbackOnFailure() {
+
+		assertThatExceptionOfType(CompletionException.class)
+			.isThrownBy(() -> asyncNeo4jClient
+				.delegateTo(queryRunner -> queryRunner.runAsync("CREATE (n:Thing {theId: 't1'})")
+					.thenCompose(cursor -> queryRunner.runAsync("THIS IS NOT CYPHER")))
+				.run().toCompletableFuture().join())
+			.withCauseInstanceOf(InvalidDataAccessResourceUsageException.class);
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n) RETURN count(n) AS cnt").single().get("cnt").asLong()).isEqualTo(0L);
+		}
+	}
+
+	@Test
+	void clientShouldFetchMappedResults() {
+
+		Collection<String> names = asyncNeo4jClient.query("UNWIND $names AS name RETURN name")
+			.bind(Arrays.asList("a", "b")).to("names")
+			.fetchAs(String.class).all()
+			.toCompletableFuture().join();
+		assertThat(names).containsExactly("a", "b");
+
+		Optional<Long> first = asyncNeo4jClient.query("UNWIND range(1, 10) AS i RETURN i")
+			.fetchAs(Long.class).first()
+			.toCompletableFuture().join();
+		assertThat(first).hasValue(1L);
+	}
+
+	@Configuration
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Bean
+		public AsyncNeo4jClient asyncNeo4jClient(Driver driver) {
+			return AsyncNeo4jClient.create(driver);
+		}
+
+		@Bean
+		public AsyncNeo4jTemplate asyncNeo4jTemplate(AsyncNeo4jClient asyncNeo4jClient,
+			Neo4jMappingContext mappingContext, DatabaseSelectionProvider databaseNameProvider) {
+			return new AsyncNeo4jTemplate(asyncNeo4jClient, mappingContext, databaseNameProvider);
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
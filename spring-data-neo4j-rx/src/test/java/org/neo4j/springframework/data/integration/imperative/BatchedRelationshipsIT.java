@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.imperative;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.Neo4jClient;
+import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.Neo4jTemplate;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.shared.AnotherThingWithAssignedId;
+import org.neo4j.springframework.data.integration.shared.Hobby;
+import org.neo4j.springframework.data.integration.shared.ImmutablePerson;
+import org.neo4j.springframework.data.integration.shared.LikesHobbyRelationship;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelationshipWithProperties;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelatives;
+import org.neo4j.springframework.data.integration.shared.Pet;
+import org.neo4j.springframework.data.integration.shared.ThingWithAssignedId;
+import org.neo4j.springframework.data.repository.event.BeforeBindCallback;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Makes sure that related nodes and relationships are stored correctly when written in batches.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class BatchedRelationshipsIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final Neo4jOperations neo4jOperations;
+
+	@Autowired BatchedRelationshipsIT(Driver driver, Neo4jOperations neo4jOperations) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+	}
+
+	@Test
+	void shouldBatchRelatedNodesWithAssignedIds() {
+
+		ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+		thing.setName("Thing");
+		thing.setThings(IntStream.rangeClosed(1, 5).mapToObj(i -> {
+			AnotherThingWithAssignedId anotherThing = new AnotherThingWithAssignedId((long) i);
+			anotherThing.setName("Another" + i);
+			return anotherThing;
+		}).collect(Collectors.toList()));
+
+		neo4jOperations.save(thing);
+
+		try (Session session = driver.session()) {
+			List<String> names = session
+				.run("MATCH (t:Thing {theId: 't1'}) - [:Has] -> (a:Thing2) RETURN a.name AS name ORDER BY name")
+				.list(r -> r.get("name").asString());
+			assertThat(names).containsExactly("Another1", "Another2", "Another3", "Another4", "Another5");
+		}
+
+		thing.getThings().get(1).setName("Another2 updated");
+		AnotherThingWithAssignedId newThing = new AnotherThingWithAssignedId(6L);
+		newThing.setName("Another6");
+		thing.getThings().add(newThing);
+		neo4jOperations.save(thing);
+
+		try (Session session = driver.session()) {
+			List<String> names = session
+				.run("MATCH (t:Thing {theId: 't1'}) - [:Has] -> (a:Thing2) RETURN a.name AS name ORDER BY name")
+				.list(r -> r.get("name").asString());
+			assertThat(names)
+				.containsExactly("Another1", "Another2 updated", "Another3", "Another4", "Another5", "Another6");
+			assertThat(session.run("MATCH (a:Thing2) RETURN count(a) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(6L);
+		}
+	}
+
+	@Test
+	void shouldBatchRelatedNodesDuringSaveAll() {
+
+		List<ThingWithAssignedId> things = new ArrayList<>();
+		for (int i = 1; i <= 2; ++i) {
+			ThingWithAssignedId thing = new ThingWithAssignedId("t" + i);
+			thing.setName("Thing" + i);
+			int offset = i * 10;
+			thing.setThings(IntStream.rangeClosed(1, 3).mapToObj(j -> {
+				AnotherThingWithAssignedId anotherThing = new AnotherThingWithAssignedId((long) offset + j);
+				anotherThing.setName("Another" + (offset + j));
+				return anotherThing;
+			}).collect(Collectors.toList()));
+			things.add(thing);
+		}
+
+		neo4jOperations.saveAll(things);
+
+		try (Session session = driver.session()) {
+			Map<String, List<Object>> relatedIds = session
+				.run("MATCH (t:Thing) - [:Has] -> (a:Thing2) RETURN t.theId AS id, collect(a.theId) AS relatedIds")
+				.stream()
+				.collect(Collectors.toMap(r -> r.get("id").asString(), r -> r.get("relatedIds").asList()));
+			assertThat(relatedIds).containsOnlyKeys("t1", "t2");
+			assertThat(relatedIds.get("t1")).containsExactlyInAnyOrder(11L, 12L, 13L);
+			assertThat(relatedIds.get("t2")).containsExactlyInAnyOrder(21L, 22L, 23L);
+		}
+	}
+
+	@Test
+	void shouldBatchRelationshipsWithProperties() {
+
+		PersonWithRelationshipWithProperties person = new PersonWithRelationshipWithProperties("Freddie");
+		Map<Hobby, LikesHobbyRelationship> hobbies = new HashMap<>();
+		for (int i = 1; i <= 3; ++i) {
+			Hobby hobby = new Hobby();
+			hobby.setName("Hobby" + i);
+			LikesHobbyRelationship likesHobby = new LikesHobbyRelationship(2000 + i);
+			likesHobby.setActive(i % 2 == 0);
+			hobbies.put(hobby, likesHobby);
+		}
+		person.setHobbies(hobbies);
+
+		neo4jOperations.save(person);
+
+		try (Session session = driver.session()) {
+			List<Record> records = session.run(
+				"MATCH (p:PersonWithRelationshipWithProperties {name: 'Freddie'}) - [l:LIKES] -> (h:Hobby) "
+					+ "RETURN h.name AS name, l.since AS since, l.active AS active ORDER BY name").list();
+			assertThat(records).hasSize(3);
+			assertThat(records).extracting(r -> r.get("name").asString())
+				.containsExactly("Hobby1", "Hobby2", "Hobby3");
+			assertThat(records).extracting(r -> r.get("since").asInt())
+				.containsExactly(2001, 2002, 2003);
+			assertThat(records).extracting(r -> r.get("active").asBoolean())
+				.containsExactly(false, true, false);
+		}
+	}
+
+	@Test
+	void shouldBatchDynamicRelationships() {
+
+		PersonWithRelatives person = new PersonWithRelatives("Person");
+		Map<String, List<Pet>> pets = person.getPets();
+		pets.put("CATS", Arrays.asList(new Pet("Tom"), new Pet("Garfield"), new Pet("Delilah")));
+		pets.put("DOGS", Arrays.asList(new Pet("Benji"), new Pet("Lassie")));
+
+		PersonWithRelatives savedPerson = neo4jOperations.save(person);
+		assertThat(savedPerson.getPets().values()).flatExtracting(l -> l).extracting(Pet::getId).doesNotContainNull();
+
+		try (Session session = driver.session()) {
+			Map<String, List<Object>> petsByType = session
+				.run("MATCH (p:PersonWithRelatives) - [r] -> (pet:Pet) "
+					+ "RETURN type(r) AS type, collect(pet.name) AS names")
+				.stream()
+				.collect(Collectors.toMap(r -> r.get("type").asString(), r -> r.get("names").asList()));
+			assertThat(petsByType).containsOnlyKeys("CATS", "DOGS");
+			assertThat(petsByType.get("CATS")).containsExactlyInAnyOrder("Tom", "Garfield", "Delilah");
+			assertThat(petsByType.get("DOGS")).containsExactlyInAnyOrder("Benji", "Lassie");
+		}
+	}
+
+	@Test
+	void shouldSaveSharedRelatedNodesOnlyOnce() {
+
+		Pet sharedPet = new Pet("Garfield");
+		PersonWithRelatives person1 = new PersonWithRelatives("Person1");
+		person1.getPets().put("CATS", Arrays.asList(sharedPet, new Pet("Tom"), sharedPet));
+		PersonWithRelatives person2 = new PersonWithRelatives("Person2");
+		person2.getPets().put("CATS", Arrays.asList(new Pet("Delilah"), sharedPet));
+
+		neo4jOperations.saveAll(Arrays.asList(person1, person2));
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (pet:Pet) RETURN count(pet) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(3L);
+			List<String> owners = session
+				.run("MATCH (p:PersonWithRelatives) - [:CATS] -> (pet:Pet {name: 'Garfield'}) "
+					+ "WHERE id(pet) = $id RETURN p.name AS name ORDER BY name",
+					singletonMap("id", sharedPet.getId()))
+				.list(r -> r.get("name").asString());
+			assertThat(owners).containsExactly("Person1", "Person2");
+		}
+	}
+
+	@Test
+	void shouldNotSaveRootsAgainWhenRelatedToEachOther(@Autowired ImmutablePersonBindings bindings) {
+
+		ImmutablePerson onboarder = new ImmutablePerson("Onboarder", emptyList());
+		ImmutablePerson newHire = new ImmutablePerson("New hire", singletonList(onboarder));
+		bindings.getNames().clear();
+
+		neo4jOperations.saveAll(Arrays.asList(newHire, onboarder));
+
+		assertThat(bindings.getNames()).containsExactlyInAnyOrder("New hire", "Onboarder");
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (p:ImmutablePerson) RETURN count(p) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(2L);
+			assertThat(session.run("MATCH (:ImmutablePerson {name: 'New hire'}) - [r] -> (o:ImmutablePerson) "
+				+ "RETURN collect(o.name) AS names").single().get("names").asList()).containsExactly("Onboarder");
+		}
+	}
+
+	static class ImmutablePersonBindings implements BeforeBindCallback<ImmutablePerson> {
+
+		private final List<String> names = new ArrayList<>();
+
+		@Override
+		public ImmutablePerson onBeforeBind(ImmutablePerson entity) {
+
+			names.add(entity.getName());
+			return entity;
+		}
+
+		List<String> getNames() {
+			return names;
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public ImmutablePersonBindings immutablePersonBindings() {
+			return new ImmutablePersonBindings();
+		}
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public Neo4jTemplate neo4jTemplate(Neo4jClient neo4jClient, Neo4jMappingContext mappingContext,
+			DatabaseSelectionProvider databaseNameProvider) {
+
+			Neo4jTemplate neo4jTemplate = super.neo4jTemplate(neo4jClient, mappingContext, databaseNameProvider);
+			neo4jTemplate.setBatchSize(2);
+			return neo4jTemplate;
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.imperative;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.mapping.LazyLoadingProxy;
+import org.neo4j.springframework.data.core.schema.FetchOptions;
+import org.neo4j.springframework.data.integration.shared.LazyRelationshipsEntities.Author;
+import org.neo4j.springframework.data.integration.shared.LazyRelationshipsEntities.Book;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.repository.Neo4jRepository;
+import org.neo4j.springframework.data.repository.config.EnableNeo4jRepositories;
+import org.neo4j.springframework.data.repository.query.Depth;
+import org.neo4j.springframework.data.repository.query.FetchGraph;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Makes sure that only the relationships described by the fetch options are fetched and that all others are loaded on
+ * first access.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class FetchOptionsIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final Neo4jOperations neo4jOperations;
+
+	private long idOfAuthor1;
+
+	@Autowired FetchOptionsIT(Driver driver, Neo4jOperations neo4jOperations) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			idOfAuthor1 = session.run("CREATE (a1:Author {name: 'Author1'}) - [:WROTE] -> (b1:Book {title: 'Book1'}), "
+				+ "(a1) - [:WROTE] -> (b2:Book {title: 'Book2'}), (a1) - [:LIKES] -> (b2), "
+				+ "(a1) - [:LIVES_IN] -> (:City {name: 'Berlin'}), "
+				+ "(a1) - [:PUBLISHED_BY] -> (:Publisher {name: 'Publisher1'}) - [:LOCATED_IN] -> (:City {name: 'Hamburg'}), "
+				+ "(a2:Author {name: 'Author2'}) - [:LIKES] -> (b1), "
+				+ "(a2) - [:PUBLISHED_BY] -> (:Publisher {name: 'Publisher2'}) "
+				+ "RETURN id(a1) AS id").single().get("id").asLong();
+		}
+	}
+
+	@Test
+	void relationshipsBeyondTheDepthShouldBeLoadedOnFirstAccess() {
+
+		List<Author> authors = neo4jOperations.findAll(Author.class, FetchOptions.depth(0));
+		assertThat(authors).hasSize(2);
+		assertThat(authors).extracting(author -> author.getFavorites() instanceof LazyLoadingProxy)
+			.containsOnly(true);
+		assertThat(authors).extracting(author -> ((LazyLoadingProxy) author.getFavorites()).isLoaded())
+			.containsOnly(false);
+
+		Author author1 = authors.stream().filter(a -> a.getName().equals("Author1")).findFirst().get();
+		assertThat(author1.getFavorites()).extracting(Book::getTitle).containsExactly("Book2");
+		assertThat(authors).extracting(author -> ((LazyLoadingProxy) author.getFavorites()).isLoaded())
+			.containsOnly(true);
+	}
+
+	@Test
+	void singleValuedRelationshipsShouldBeFetchedRegardlessOfTheDepth() {
+
+		List<Author> authors = neo4jOperations.findAll(Author.class, FetchOptions.depth(0));
+		assertThat(authors).extracting(Author::getPublisher).doesNotHaveAnyElementsOfTypes(LazyLoadingProxy.class);
+		assertThat(authors).extracting(author -> author.getPublisher().getName())
+			.containsExactlyInAnyOrder("Publisher1", "Publisher2");
+	}
+
+	@Test
+	void fetchGraphShouldIncludeLazyRelationships() {
+
+		Author author = neo4jOperations
+			.findById(idOfAuthor1, Author.class, FetchOptions.graph("books", "publisher.city")).get();
+
+		assertThat((Object) author.getBooks()).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("Book1", "Book2");
+		assertThat(author.getPublisher()).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getPublisher().getCity()).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getPublisher().getCity().getName()).isEqualTo("Hamburg");
+
+		assertThat((Object) author.getFavorites()).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getFavorites()).extracting(Book::getTitle).containsExactly("Book2");
+		assertThat(author.getCity()).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getCity().getName()).isEqualTo("Berlin");
+	}
+
+	@Test
+	void relationshipsNotFetchedShouldBeKeptOnSave() {
+
+		Author author = neo4jOperations.findById(idOfAuthor1, Author.class, FetchOptions.depth(0)).get();
+		author.setName("Changed");
+		neo4jOperations.save(author);
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (a:Author {name: 'Changed'}) - [r] -> () RETURN count(r) AS cnt")
+				.single().get("cnt").asLong()).isEqualTo(5L);
+		}
+	}
+
+	@Test
+	void queryMethodsShouldUseDepth(@Autowired AuthorRepository repository) {
+
+		List<Author> authors = repository.findAllByNameStartingWith("Author");
+		assertThat(authors).hasSize(2);
+		assertThat(authors).extracting(author -> ((LazyLoadingProxy) author.getFavorites()).isLoaded())
+			.containsOnly(false);
+	}
+
+	@Test
+	void queryMethodsShouldUseFetchGraph(@Autowired AuthorRepository repository) {
+
+		Optional<Author> optionalAuthor = repository.findOneByName("Author1");
+		assertThat(optionalAuthor).hasValueSatisfying(author -> {
+			assertThat((Object) author.getBooks()).isNotInstanceOf(LazyLoadingProxy.class);
+			assertThat(author.getBooks()).hasSize(2);
+			assertThat((Object) author.getFavorites()).isInstanceOf(LazyLoadingProxy.class);
+			assertThat(author.getPublisher()).isNotInstanceOf(LazyLoadingProxy.class);
+			assertThat(author.getPublisher().getName()).isEqualTo("Publisher1");
+		});
+	}
+
+	interface AuthorRepository extends Neo4jRepository<Author, Long> {
+
+		@Depth(0)
+		List<Author> findAllByNameStartingWith(String prefix);
+
+		@FetchGraph("books")
+		Optional<Author> findOneByName(String name);
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.imperative;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.Neo4jClient;
+import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.mapping.LazyLoadingProxy;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.shared.LazyRelationshipsEntities.Author;
+import org.neo4j.springframework.data.integration.shared.LazyRelationshipsEntities.Book;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Makes sure that lazily fetched relationships are loaded on first access and left alone when not loaded.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class LazyRelationshipsIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final Neo4jOperations neo4jOperations;
+
+	private long idOfAuthor1;
+
+	@Autowired LazyRelationshipsIT(Driver driver, Neo4jOperations neo4jOperations) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			idOfAuthor1 = session.run("CREATE (a1:Author {name: 'Author1'}) - [:WROTE] -> (b1:Book {title: 'Book1'}), "
+				+ "(a1) - [:WROTE] -> (b2:Book {title: 'Book2'}), (a1) - [:LIKES] -> (b2), "
+				+ "(a1) - [:LIVES_IN] -> (:City {name: 'Berlin'}), "
+				+ "(a1) - [:PUBLISHED_BY] -> (:Publisher {name: 'Publisher1'}) - [:LOCATED_IN] -> (:City {name: 'Hamburg'}), "
+				+ "(a2:Author {name: 'Author2'}) - [:LIKES] -> (b1), (a2) - [:LIKES] -> (b2) "
+				+ "RETURN id(a1) AS id").single().get("id").asLong();
+		}
+	}
+
+	@Test
+	void lazyRelationshipsShouldBeLoadedOnFirstAccess() {
+
+		Author author = neo4jOperations.findById(idOfAuthor1, Author.class).get();
+		assertThat((Object) author.getBooks()).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(((LazyLoadingProxy) author.getBooks()).isLoaded()).isFalse();
+
+		assertThat(author.getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("Book1", "Book2");
+		assertThat(((LazyLoadingProxy) author.getBooks()).isLoaded()).isTrue();
+	}
+
+	@Test
+	void singleValuedRelationshipsShouldBeLoadedEagerly() {
+
+		Author author = neo4jOperations.findById(idOfAuthor1, Author.class).get();
+		assertThat(author.getCity()).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getCity().getName()).isEqualTo("Berlin");
+
+		assertThat(author.getPublisher()).isNotInstanceOf(LazyLoadingProxy.class);
+		assertThat(author.getPublisher().getName()).isEqualTo("Publisher1");
+		assertThat(author.getPublisher().getCity().getName()).isEqualTo("Hamburg");
+	}
+
+	@Test
+	void batchedRelationshipsShouldBeLoadedForAllEntitiesOfAResult() {
+
+		List<Author> authors = neo4jOperations.findAll(Author.class);
+		assertThat(authors).hasSize(2);
+		assertThat(authors).extracting(author -> ((LazyLoadingProxy) author.getFavorites()).isLoaded())
+			.containsOnly(false);
+
+		Author author1 = authors.stream().filter(a -> a.getName().equals("Author1")).findFirst().get();
+		assertThat(author1.getFavorites()).extracting(Book::getTitle).containsExactly("Book2");
+		assertThat(authors).extracting(author -> ((LazyLoadingProxy) author.getFavorites()).isLoaded())
+			.containsOnly(true);
+
+		Author author2 = authors.stream().filter(a -> a.getName().equals("Author2")).findFirst().get();
+		assertThat(author2.getFavorites()).extracting(Book::getTitle).containsExactlyInAnyOrder("Book1", "Book2");
+	}
+
+	@Test
+	void mappingFunctionsNotExecutedByATemplateShouldNotLoadRelationships(@Autowired Neo4jClient neo4jClient,
+		@Autowired Neo4jMappingContext mappingContext) {
+
+		Author author = neo4jClient.query("MATCH (a:Author) WHERE id(a) = $id RETURN a")
+			.bind(idOfAuthor1).to("id")
+			.fetchAs(Author.class).mappedBy(mappingContext.getRequiredResultMappingFunctionFor(Author.class))
+			.one().get();
+
+		assertThat((Object) author.getBooks()).isInstanceOf(LazyLoadingProxy.class);
+		assertThatIllegalStateException().isThrownBy(() -> author.getBooks().size())
+			.withMessageContaining("lazy relationships are only loaded through a Neo4jTemplate");
+	}
+
+	@Test
+	void relationshipsNotLoadedShouldBeKeptOnSave() {
+
+		Author author = neo4jOperations.findById(idOfAuthor1, Author.class).get();
+		author.setName("Changed");
+		neo4jOperations.save(author);
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (a:Author {name: 'Changed'}) - [r] -> () RETURN count(r) AS cnt")
+				.single().get("cnt").asLong()).isEqualTo(5L);
+		}
+	}
+
+	@Test
+	void loadedRelationshipsShouldBeSaved() {
+
+		Author author = neo4jOperations.findById(idOfAuthor1, Author.class).get();
+		author.getBooks().add(new Book("Book3"));
+		neo4jOperations.save(author);
+
+		try (Session session = driver.session()) {
+			List<String> titles = session.run("MATCH (a:Author) - [:WROTE] -> (b:Book) WHERE id(a) = $id "
+				+ "RETURN b.title AS title ORDER BY title", singletonMap("id", idOfAuthor1))
+				.list(r -> r.get("title").asString());
+			assertThat(titles).containsExactly("Book1", "Book2", "Book3");
+		}
+
+		Optional<Author> reloadedAuthor = neo4jOperations.findById(idOfAuthor1, Author.class);
+		assertThat(reloadedAuthor).hasValueSatisfying(a -> assertThat(a.getBooks()).hasSize(3));
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
@@ -21,6 +21,7 @@ package org.neo4j.springframework.data.integration.imperative;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,6 +29,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,19 +43,24 @@ import org.neo4j.driver.Transaction;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.DeleteProgress;
+import org.neo4j.springframework.data.core.ImportStatistics;
 import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.core.cypher.Cypher;
 import org.neo4j.springframework.data.core.cypher.Functions;
 import org.neo4j.springframework.data.core.cypher.Node;
 import org.neo4j.springframework.data.core.cypher.Statement;
 import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelationship;
 import org.neo4j.springframework.data.integration.shared.ThingWithGeneratedId;
 import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
 import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Gerrit Meier
@@ -146,6 +154,21 @@ class Neo4jOperationsIT {
 		assertThat(people).hasSize(2);
 	}
 
+	@Test
+	void findAllShouldShareRelatedEntitiesBetweenRecords() {
+
+		try (Session session = driver.session(getSessionConfig())) {
+			session.run("CREATE (h:Hobby {name: 'Music'}) "
+				+ "CREATE (:PersonWithRelationship {name: 'Freddie'})-[:Has]->(h) "
+				+ "CREATE (:PersonWithRelationship {name: 'Brian'})-[:Has]->(h)").consume();
+		}
+
+		List<PersonWithRelationship> people = neo4jOperations.findAll(PersonWithRelationship.class);
+		assertThat(people).hasSize(2);
+		assertThat(people.get(0).getHobbies()).isNotNull();
+		assertThat(people.get(0).getHobbies()).isSameAs(people.get(1).getHobbies());
+	}
+
 	@Test
 	void findAllWithStatement() {
 		Node node = Cypher.node("PersonWithAllConstructor").named("n");
@@ -267,6 +290,36 @@ class Neo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void saveAllWithInternalIds() {
+		PersonWithAllConstructor existingPerson = neo4jOperations
+			.findById(person1Id, PersonWithAllConstructor.class).get();
+		existingPerson.setFirstName("Updated");
+		PersonWithAllConstructor newPerson1 = new PersonWithAllConstructor(null, "New1", null, null, null, null, null,
+			null, null, null, null);
+		PersonWithAllConstructor newPerson2 = new PersonWithAllConstructor(null, "New2", null, null, null, null, null,
+			null, null, null, null);
+
+		List<PersonWithAllConstructor> savedPeople = neo4jOperations
+			.saveAll(Arrays.asList(newPerson1, existingPerson, newPerson2));
+
+		assertThat(savedPeople).extracting(PersonWithAllConstructor::getName)
+			.containsExactly("New1", TEST_PERSON1_NAME, "New2");
+		assertThat(savedPeople).extracting(PersonWithAllConstructor::getId).doesNotContainNull().doesNotHaveDuplicates();
+		assertThat(savedPeople.get(1).getId()).isEqualTo(person1Id);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			for (PersonWithAllConstructor savedPerson : savedPeople) {
+				Record record = session.run("MATCH (p:PersonWithAllConstructor) WHERE id(p) = $id RETURN p",
+					Values.parameters("id", savedPerson.getId())).single();
+				assertThat(record.get("p").get("name").asString()).isEqualTo(savedPerson.getName());
+			}
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) WHERE id(p) = $id RETURN p.first_name",
+				Values.parameters("id", person1Id));
+			assertThat(result.single().get(0).asString()).isEqualTo("Updated");
+		}
+	}
+
 	@Test
 	void deleteById() {
 		neo4jOperations.deleteById(person1Id, PersonWithAllConstructor.class);
@@ -287,6 +340,90 @@ class Neo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void importAll() {
+
+		Stream<PersonWithAllConstructor> people = IntStream.rangeClosed(1, 25).mapToObj(i ->
+			new PersonWithAllConstructor(null, "Imported" + i, null, null, null, null, null, null, null, null, null));
+
+		ImportStatistics statistics = neo4jOperations.importAll(people, 10, 2);
+		assertThat(statistics.getChunks()).isEqualTo(3);
+		assertThat(statistics.getEntities()).isEqualTo(25L);
+		assertThat(statistics.getNodesCreated()).isEqualTo(25L);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) WHERE p.name STARTS WITH 'Imported' "
+				+ "RETURN count(p) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(25L);
+		}
+	}
+
+	@Test
+	void sequentialImportShouldCommitChunksIndependentOfOngoingTransaction(
+		@Autowired PlatformTransactionManager transactionManager) {
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		assertThatIllegalStateException().isThrownBy(() -> transactionTemplate.execute(tx -> {
+			neo4jOperations.importAll(Stream.of(new ThingWithGeneratedId("Imported")));
+			throw new IllegalStateException("Rollback");
+		}));
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (t:ThingWithGeneratedId {name: 'Imported'}) RETURN count(t) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void parallelImportShouldCommitChunksIndependentOfOngoingTransaction(
+		@Autowired PlatformTransactionManager transactionManager) {
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		assertThatIllegalStateException().isThrownBy(() -> transactionTemplate.execute(tx -> {
+			neo4jOperations.importAll(Stream.of(new ThingWithGeneratedId("Imported")), 1000, 2);
+			throw new IllegalStateException("Rollback");
+		}));
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (t:ThingWithGeneratedId {name: 'Imported'}) RETURN count(t) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void deleteAllInBatches() {
+
+		try (Session session = driver.session(getSessionConfig())) {
+			session.run("UNWIND range(1, 5) AS i CREATE (:PersonWithAllConstructor {name: 'Batch' + i})").consume();
+		}
+
+		List<DeleteProgress> progress = new ArrayList<>();
+		DeleteProgress result = neo4jOperations.deleteAllInBatches(PersonWithAllConstructor.class, 3, progress::add);
+
+		assertThat(progress).extracting(DeleteProgress::getNodesDeletedInBatch).containsExactly(3, 3, 1);
+		assertThat(result.getBatches()).isEqualTo(3);
+		assertThat(result.getNodesDeleted()).isEqualTo(7L);
+		try (Session session = driver.session(getSessionConfig())) {
+			Result countResult = session.run("MATCH (p:PersonWithAllConstructor) return count(p) as count");
+			assertThat(countResult.single().get("count").asLong()).isEqualTo(0);
+		}
+	}
+
+	@Test
+	void deleteAllByIdInBatches() {
+
+		List<DeleteProgress> progress = new ArrayList<>();
+		DeleteProgress result = neo4jOperations.deleteAllByIdInBatches(Arrays.asList(person1Id, person2Id, -1L),
+			PersonWithAllConstructor.class, 2, progress::add);
+
+		assertThat(progress).extracting(DeleteProgress::getNodesDeletedInBatch).containsExactly(2, 0);
+		assertThat(result.getNodesDeleted()).isEqualTo(2L);
+		try (Session session = driver.session(getSessionConfig())) {
+			Result countResult = session.run("MATCH (p:PersonWithAllConstructor) return count(p) as count");
+			assertThat(countResult.single().get("count").asLong()).isEqualTo(0);
+		}
+	}
+
 	@Configuration
 	@EnableTransactionManagement
 	static class Config extends AbstractNeo4jConfig {
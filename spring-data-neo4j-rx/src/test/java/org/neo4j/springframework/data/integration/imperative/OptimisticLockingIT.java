@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.*;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,7 @@ import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Transaction;
 import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.Neo4jOperations;
 import org.neo4j.springframework.data.integration.shared.VersionedThing;
 import org.neo4j.springframework.data.integration.shared.VersionedThingWithAssignedId;
 import org.neo4j.springframework.data.repository.Neo4jRepository;
@@ -208,6 +210,63 @@ class OptimisticLockingIT {
 
 	}
 
+	@Test
+	void shouldReportAllFailingIdsForMultipleSaveForAssignedId(
+		@Autowired VersionedThingWithAssignedIdRepository repository) {
+		VersionedThingWithAssignedId thing1 = new VersionedThingWithAssignedId(4711L, "Thing1");
+		VersionedThingWithAssignedId thing2 = new VersionedThingWithAssignedId(42L, "Thing2");
+		VersionedThingWithAssignedId thing3 = new VersionedThingWithAssignedId(23L, "Thing3");
+		List<VersionedThingWithAssignedId> thingsToSave = Arrays.asList(thing1, thing2, thing3);
+
+		repository.saveAll(thingsToSave);
+
+		thing1.setMyVersion(1L); // Version in DB is 0
+		thing3.setMyVersion(1L); // Version in DB is 0
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+			.isThrownBy(() -> repository.saveAll(thingsToSave))
+			.withMessageContaining("[4711, 23]");
+
+		try (Session session = driver.session()) {
+			long versionsIncremented = session
+				.run("MATCH (n:VersionedThingWithAssignedId) WHERE n.myVersion > 0 RETURN count(n)")
+				.single().get(0).asLong();
+			assertThat(versionsIncremented).isZero();
+		}
+	}
+
+	@Test
+	void shouldCreateOneNodePerIdForMultipleSaveForAssignedId(
+		@Autowired VersionedThingWithAssignedIdRepository repository) {
+
+		VersionedThingWithAssignedId thing1 = new VersionedThingWithAssignedId(4711L, "Thing1");
+		VersionedThingWithAssignedId thing2 = new VersionedThingWithAssignedId(4711L, "Thing2");
+
+		List<VersionedThingWithAssignedId> savedThings = repository.saveAll(Arrays.asList(thing1, thing2));
+		assertThat(savedThings).hasSize(2).extracting(VersionedThingWithAssignedId::getMyVersion).containsOnly(0L);
+
+		try (Session session = driver.session()) {
+			List<String> names = session
+				.run("MATCH (n:VersionedThingWithAssignedId {id: 4711}) RETURN n.name")
+				.list(r -> r.get(0).asString());
+			assertThat(names).containsExactly("Thing2");
+		}
+	}
+
+	@Test
+	void shouldFailImportOfStaleVersionsForAssignedId(@Autowired VersionedThingWithAssignedIdRepository repository,
+		@Autowired Neo4jOperations neo4jOperations) {
+		VersionedThingWithAssignedId thing1 = new VersionedThingWithAssignedId(4711L, "Thing1");
+		VersionedThingWithAssignedId thing2 = new VersionedThingWithAssignedId(42L, "Thing2");
+		repository.saveAll(Arrays.asList(thing1, thing2));
+
+		thing1.setMyVersion(1L); // Version in DB is 0
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+			.isThrownBy(() -> neo4jOperations.importAll(Stream.of(thing1, thing2)))
+			.withMessageContaining("[4711]");
+	}
+
 	interface VersionedThingRepository extends Neo4jRepository<VersionedThing, Long> {
 	}
 
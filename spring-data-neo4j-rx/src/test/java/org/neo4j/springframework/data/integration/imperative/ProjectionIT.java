@@ -22,6 +22,7 @@ import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,7 @@ import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.projection.TargetAware;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
@@ -105,6 +107,26 @@ class ProjectionIT {
 
 	}
 
+	@Test
+	void closedProjectionsShouldNotBeBackedByTheEntity(@Autowired ProjectionPersonRepository repository) {
+		Collection<PersonSummary> people = repository.findByFirstName(FIRST_NAME);
+		assertThat(people).hasSize(1);
+
+		PersonSummary person = people.iterator().next();
+		assertThat(person).isInstanceOf(TargetAware.class);
+		assertThat(((TargetAware) person).getTarget()).isInstanceOf(Map.class);
+		assertThat(((TargetAware) person.getAddress()).getTarget()).isInstanceOf(Map.class);
+	}
+
+	@Test
+	void loadNestedDtoProjection(@Autowired ProjectionPersonRepository repository) {
+		PersonWithAddressDto person = repository.findOneByLastName(LAST_NAME);
+
+		assertThat(person.getLastName()).isEqualTo(LAST_NAME);
+		assertThat(person.getAddress()).isNotNull();
+		assertThat(person.getAddress().getCity()).isEqualTo(CITY);
+	}
+
 	@Test
 	void loadNamesOnlyDtoProjection(@Autowired ProjectionPersonRepository repository) {
 		Collection<NamesOnlyDto> people = repository.findByFirstNameAndLastName(FIRST_NAME, LAST_NAME);
@@ -167,6 +189,41 @@ class ProjectionIT {
 		Collection<NamesOnlyDto> findByFirstNameAndLastName(String firstName, String lastName);
 
 		<T> Collection<T> findByLastNameAndFirstName(String lastName, String firstName, Class<T> projectionClass);
+
+		PersonWithAddressDto findOneByLastName(String lastName);
+	}
+
+	static class PersonWithAddressDto {
+
+		private final String lastName;
+
+		private final AddressDto address;
+
+		PersonWithAddressDto(String lastName, AddressDto address) {
+			this.lastName = lastName;
+			this.address = address;
+		}
+
+		String getLastName() {
+			return lastName;
+		}
+
+		AddressDto getAddress() {
+			return address;
+		}
+	}
+
+	static class AddressDto {
+
+		private String city;
+
+		String getCity() {
+			return city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
 	}
 
 	@Configuration
@@ -29,6 +29,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.assertj.core.data.MapEntry;
@@ -47,10 +48,13 @@ import org.neo4j.driver.types.Node;
 import org.neo4j.driver.types.Point;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.DeleteProgress;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.integration.imperative.repositories.PersonRepository;
 import org.neo4j.springframework.data.integration.imperative.repositories.ThingRepository;
 import org.neo4j.springframework.data.integration.shared.*;
+import org.neo4j.springframework.data.repository.KeysetPosition;
+import org.neo4j.springframework.data.repository.KeysetWindow;
 import org.neo4j.springframework.data.repository.Neo4jRepository;
 import org.neo4j.springframework.data.repository.config.EnableNeo4jRepositories;
 import org.neo4j.springframework.data.repository.query.BoundingBox;
@@ -758,6 +762,35 @@ class RepositoryIT {
 		assertThat(person.getHobbies()).contains(MapEntry.entry(hobby1, rel1), MapEntry.entry(hobby2, rel2));
 	}
 
+	@Test
+	void loadEntityWithRelationshipToSharedNodeFromCustomQuery(@Autowired PersonWithRelationshipWithPropertiesRepository repository) {
+
+		long hobbyNodeId;
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Record record = session
+				.run("CREATE (f:PersonWithRelationshipWithProperties{name:'Freddie'}),"
+					+ " (b:PersonWithRelationshipWithProperties{name:'Brian'}),"
+					+ " (f)-[:LIKES{since: 1995, active: true}]->(h:Hobby{name:'Music'}),"
+					+ " (b)-[:LIKES{since: 2010, active: false}]->(h),"
+					+ " (b)-[:LIKES{since: 2015, active: true}]->(:Hobby{name:'Guitar'})"
+					+ "RETURN h").single();
+
+			hobbyNodeId = record.get("h").asNode().id();
+		}
+
+		PersonWithRelationshipWithProperties person = repository.loadWithRelationshipsOfAllPersons("Freddie");
+		assertThat(person.getName()).isEqualTo("Freddie");
+
+		Hobby hobby = new Hobby();
+		hobby.setName("Music");
+		hobby.setId(hobbyNodeId);
+		LikesHobbyRelationship rel = new LikesHobbyRelationship(1995);
+		rel.setActive(true);
+
+		assertThat(person.getHobbies()).containsExactly(MapEntry.entry(hobby, rel));
+	}
+
 	@Test
 	void existsById(@Autowired PersonRepository repository) {
 
@@ -1130,6 +1163,24 @@ class RepositoryIT {
 		assertThat(repository.count()).isEqualTo(0L);
 	}
 
+	@Test
+	void deleteAllInBatches(@Autowired PersonRepository repository) {
+
+		List<Integer> nodesDeletedInBatches = new ArrayList<>();
+		repository.deleteAllInBatches(1, progress -> nodesDeletedInBatches.add(progress.getNodesDeletedInBatch()));
+		assertThat(nodesDeletedInBatches).containsExactly(1, 1);
+		assertThat(repository.count()).isEqualTo(0L);
+	}
+
+	@Test
+	void deleteAllByIdInBatches(@Autowired PersonRepository repository) {
+
+		DeleteProgress progress = repository.deleteAllByIdInBatches(Arrays.asList(id1, id2), 1, p -> { });
+		assertThat(progress.getBatches()).isEqualTo(2);
+		assertThat(progress.getNodesDeleted()).isEqualTo(2L);
+		assertThat(repository.count()).isEqualTo(0L);
+	}
+
 	@Test
 	void deleteSimpleRelationship(@Autowired RelationshipRepository repository) {
 		try (Session session = driver.session(getSessionConfig())) {
@@ -1425,6 +1476,71 @@ class RepositoryIT {
 		assertThat(persons).containsExactly(person2);
 	}
 
+	@Test
+	void findAllWithPageableShouldContainTotal(@Autowired PersonRepository repository) {
+
+		Page<PersonWithAllConstructor> persons = repository.findAll(PageRequest.of(0, 1, Sort.by("name")));
+		assertThat(persons).containsExactly(person1);
+		assertThat(persons.getTotalElements()).isEqualTo(2L);
+		assertThat(persons.getTotalPages()).isEqualTo(2);
+
+		// No row is returned for a page after the last one, so the total must be counted separately
+		persons = repository.findAll(PageRequest.of(5, 1, Sort.by("name")));
+		assertThat(persons).isEmpty();
+		assertThat(persons.getTotalElements()).isEqualTo(2L);
+	}
+
+	@Test
+	void findAllWithKeysetPagination(@Autowired PersonRepository repository) {
+
+		// All persons have the same value, the id breaks the ties
+		Sort sort = Sort.by("sameValue");
+
+		KeysetWindow<PersonWithAllConstructor> window = repository.findAll(KeysetPosition.initial(), 1, sort);
+		assertThat(window).containsExactly(person1);
+		assertThat(window.hasNext()).isTrue();
+
+		window = repository.findAll(window.getNextPosition(), 1, sort);
+		assertThat(window).containsExactly(person2);
+		assertThat(window.hasNext()).isFalse();
+
+		KeysetPosition lastPosition = window.getNextPosition();
+		window = repository.findAll(lastPosition, 1, sort);
+		assertThat(window.isEmpty()).isTrue();
+		assertThat(window.hasNext()).isFalse();
+		assertThat(window.getNextPosition()).isEqualTo(lastPosition);
+	}
+
+	@Test
+	void findAllWithKeysetPaginationShouldVisitAllEntitiesInOrder(@Autowired ThingRepository repository) {
+
+		Sort sort = Sort.by(Sort.Order.desc("name"));
+		List<String> names = new ArrayList<>();
+
+		KeysetWindow<ThingWithAssignedId> window;
+		KeysetPosition position = KeysetPosition.initial();
+		do {
+			window = repository.findAll(position, 7, sort);
+			window.forEach(thing -> names.add(thing.getName()));
+			position = window.getNextPosition();
+		} while (window.hasNext());
+
+		List<String> expectedNames = repository.findAll(sort).stream()
+			.map(ThingWithAssignedId::getName).collect(toList());
+		assertThat(names).hasSize(21).containsExactlyElementsOf(expectedNames);
+	}
+
+	@Test
+	void findAllWithKeysetPaginationAfterGivenPosition(@Autowired ThingRepository repository) {
+
+		KeysetWindow<ThingWithAssignedId> window = repository
+			.findAll(KeysetPosition.of(singletonMap("theId", "id10")), 3, Sort.unsorted());
+
+		assertThat(window).extracting(ThingWithAssignedId::getTheId).containsExactly("id11", "id12", "id13");
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.getNextPosition().getKeys()).containsExactly(MapEntry.entry("theId", "id13"));
+	}
+
 	@Test
 	void findOneByExample(@Autowired PersonRepository repository) {
 
@@ -1512,6 +1628,20 @@ class RepositoryIT {
 		assertThat(persons).containsExactly(person2);
 	}
 
+	@Test
+	void findAllByExampleWithPaginationShouldContainTotal(@Autowired PersonRepository repository) {
+
+		Example<PersonWithAllConstructor> example = Example.of(personExample(TEST_PERSON_SAMEVALUE));
+		Page<PersonWithAllConstructor> persons = repository.findAll(example, PageRequest.of(0, 1, Sort.by("name")));
+
+		assertThat(persons).containsExactly(person1);
+		assertThat(persons.getTotalElements()).isEqualTo(2L);
+
+		persons = repository.findAll(example, PageRequest.of(5, 1, Sort.by("name")));
+		assertThat(persons).isEmpty();
+		assertThat(persons.getTotalElements()).isEqualTo(2L);
+	}
+
 	@Test
 	void existsByExample(@Autowired PersonRepository repository) {
 
@@ -1538,6 +1668,14 @@ class RepositoryIT {
 		assertThat(persons).anyMatch(person -> person.getName().equals(TEST_PERSON1_NAME));
 	}
 
+	@Test
+	void streamAllPersonsWithAllConstructorViaCustomQuery(@Autowired PersonRepository repository) {
+
+		try (Stream<PersonWithAllConstructor> persons = repository.streamAllPersonsViaQuery()) {
+			assertThat(persons).hasSize(2).anyMatch(person -> person.getName().equals(TEST_PERSON1_NAME));
+		}
+	}
+
 	@Test
 	void loadOnePersonWithAllConstructor(@Autowired PersonRepository repository) {
 
@@ -1736,6 +1874,15 @@ class RepositoryIT {
 		assertThat(people.getTotalPages()).isEqualTo(2);
 	}
 
+	@Test
+	void findByPropertyWithPageableAfterLastPage(@Autowired PersonRepository repository) {
+
+		Page<PersonWithAllConstructor> people = repository
+			.findAllByNameOrName(PageRequest.of(5, 1, Sort.by("name")), TEST_PERSON1_NAME, TEST_PERSON2_NAME);
+		assertThat(people).isEmpty();
+		assertThat(people.getTotalElements()).isEqualTo(2L);
+	}
+
 	@Test // GH-112
 	void countBySimplePropertiesOred(@Autowired PersonRepository repository) {
 
@@ -2639,6 +2786,12 @@ class RepositoryIT {
 
 		@Query("MATCH (p:PersonWithRelationshipWithProperties)-[l:LIKES]->(h:Hobby) return p, collect(l), collect(h)")
 		PersonWithRelationshipWithProperties loadFromCustomQuery(@Param("id") Long id);
+
+		@Query("MATCH (p:PersonWithRelationshipWithProperties{name: $name}) "
+			+ "MATCH (:PersonWithRelationshipWithProperties)-[l:LIKES]->(h:Hobby) "
+			+ "WITH p, l, h ORDER BY l.since DESC "
+			+ "RETURN p, collect(l), collect(h)")
+		PersonWithRelationshipWithProperties loadWithRelationshipsOfAllPersons(@Param("name") String name);
 	}
 
 	interface PetRepository extends Neo4jRepository<Pet, Long> {
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.imperative;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.schema.CypherGenerator;
+import org.neo4j.springframework.data.integration.shared.ThingSkippingUnchangedUpdates;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Makes sure that nodes of entities skipping unchanged updates are only written when their properties changed.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class SkipUnchangedUpdatesIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final Neo4jOperations neo4jOperations;
+	private final Neo4jMappingContext mappingContext;
+
+	@Autowired SkipUnchangedUpdatesIT(Driver driver, Neo4jOperations neo4jOperations,
+		Neo4jMappingContext mappingContext) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+		this.mappingContext = mappingContext;
+	}
+
+	@BeforeEach
+	void setupData() {
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+	}
+
+	@Test
+	void unchangedEntityShouldNotBeWritten() {
+
+		ThingSkippingUnchangedUpdates thing = neo4jOperations.save(new ThingSkippingUnchangedUpdates("a thing"));
+
+		try (Session session = driver.session()) {
+			assertThat(runSaveStatement(session, thing)).isFalse();
+
+			thing.setDescription("a description");
+			assertThat(runSaveStatement(session, thing)).isTrue();
+			assertThat(runSaveStatement(session, thing)).isFalse();
+		}
+	}
+
+	@Test
+	void saveShouldReturnUnchangedAndChangedEntities() {
+
+		ThingSkippingUnchangedUpdates thing = neo4jOperations.save(new ThingSkippingUnchangedUpdates("a thing"));
+		ThingSkippingUnchangedUpdates unchanged = neo4jOperations.save(thing);
+		assertThat(unchanged.getId()).isEqualTo(thing.getId());
+
+		thing.setName("a changed thing");
+		ThingSkippingUnchangedUpdates changed = neo4jOperations.save(thing);
+		assertThat(changed.getId()).isEqualTo(thing.getId());
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n:ThingSkippingUnchangedUpdates) RETURN n.name AS name")
+				.single().get("name").asString()).isEqualTo("a changed thing");
+		}
+	}
+
+	@Test
+	void saveAllShouldReturnUnchangedAndChangedEntities() {
+
+		List<ThingSkippingUnchangedUpdates> things = neo4jOperations.saveAll(Arrays.asList(
+			new ThingSkippingUnchangedUpdates("a"), new ThingSkippingUnchangedUpdates("b")));
+		things.get(1).setDescription("changed");
+
+		List<ThingSkippingUnchangedUpdates> savedThings = neo4jOperations.saveAll(things);
+		assertThat(savedThings).extracting(ThingSkippingUnchangedUpdates::getId)
+			.containsExactly(things.get(0).getId(), things.get(1).getId());
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n:ThingSkippingUnchangedUpdates) "
+				+ "RETURN n.name AS name, n.description AS description ORDER BY name")
+				.list(r -> r.get("name").asString() + ":" + r.get("description").asString(null)))
+				.containsExactly("a:null", "b:changed");
+		}
+	}
+
+	@Test
+	void propertySetToNullShouldBeRemoved() {
+
+		ThingSkippingUnchangedUpdates thing = new ThingSkippingUnchangedUpdates("a thing");
+		thing.setDescription("a description");
+		thing = neo4jOperations.save(thing);
+
+		thing.setDescription(null);
+		neo4jOperations.save(thing);
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n:ThingSkippingUnchangedUpdates) RETURN n")
+				.single().get("n").asNode().keys()).containsExactly("name");
+		}
+	}
+
+	private boolean runSaveStatement(Session session, ThingSkippingUnchangedUpdates thing) {
+
+		Map<String, Object> parameters = new HashMap<>();
+		mappingContext.getConverter().write(thing, parameters);
+		String cypher = Renderer.getDefaultRenderer().render(CypherGenerator.INSTANCE
+			.prepareSaveOf(mappingContext.getRequiredNodeDescription(ThingSkippingUnchangedUpdates.class)));
+
+		return session.run(cypher, parameters).consume().counters().containsUpdates();
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(ThingSkippingUnchangedUpdates.class.getPackage().getName());
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.imperative;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractNeo4jConfig;
+import org.neo4j.springframework.data.core.DatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.Neo4jClient;
+import org.neo4j.springframework.data.core.Neo4jOperations;
+import org.neo4j.springframework.data.core.Neo4jTemplate;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.shared.AnotherThingWithAssignedId;
+import org.neo4j.springframework.data.integration.shared.ImmutableAuditableThingWithGeneratedId;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelatives;
+import org.neo4j.springframework.data.integration.shared.ThingWithAssignedId;
+import org.neo4j.springframework.data.integration.shared.VersionedThingWithAssignedId;
+import org.neo4j.springframework.data.test.Neo4jExtension.Neo4jConnectionSupport;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Makes sure that writes are deferred until commit and coalesced in write-behind mode.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+class WriteBehindIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final Neo4jOperations neo4jOperations;
+	private final Neo4jClient neo4jClient;
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired WriteBehindIT(Driver driver, Neo4jOperations neo4jOperations, Neo4jClient neo4jClient,
+		PlatformTransactionManager transactionManager) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+		this.neo4jClient = neo4jClient;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+	}
+
+	@Test
+	void shouldDeferAndCoalesceSavesUntilCommit() {
+
+		ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+		ThingWithAssignedId otherThing = new ThingWithAssignedId("t2");
+		otherThing.setName("Other thing");
+
+		transactionTemplate.execute(tx -> {
+			for (int i = 1; i <= 3; ++i) {
+				thing.setName("Thing " + i);
+				neo4jOperations.save(thing);
+				neo4jOperations.saveAll(Arrays.asList(thing, otherThing));
+			}
+
+			assertThat(countNodesInTransaction()).isEqualTo(0L);
+			return null;
+		});
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n) RETURN count(n) AS cnt").single().get("cnt").asLong()).isEqualTo(2L);
+			assertThat(session.run("MATCH (t:Thing {theId: 't1'}) RETURN t.name AS name").single().get("name")
+				.asString()).isEqualTo("Thing 3");
+		}
+	}
+
+	@Test
+	void entitiesWithInternalIdsShouldBeSavedImmediately() {
+
+		ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+		thing.setName("Thing");
+		PersonWithRelatives person = new PersonWithRelatives("Person");
+
+		transactionTemplate.execute(tx -> {
+			List<Object> savedEntities = neo4jOperations.saveAll(Arrays.asList(thing, person));
+
+			assertThat(savedEntities).containsExactly(thing, person);
+			assertThat(person.getId()).isNotNull();
+			assertThat(countNodesInTransaction()).isEqualTo(1L);
+			return null;
+		});
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n) RETURN count(n) AS cnt").single().get("cnt").asLong()).isEqualTo(2L);
+		}
+	}
+
+	@Test
+	void shouldDiscardSavesOfDeletedEntities() {
+
+		try (Session session = driver.session()) {
+			session.run("CREATE (:Thing {theId: 't2', name: 'Existing'})").consume();
+		}
+
+		transactionTemplate.execute(tx -> {
+			ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+			thing.setName("Thing");
+			neo4jOperations.save(thing);
+			neo4jOperations.deleteById("t1", ThingWithAssignedId.class);
+			neo4jOperations.deleteAllById(singletonList("t2"), ThingWithAssignedId.class);
+
+			assertThat(countNodesInTransaction()).isEqualTo(1L);
+			return null;
+		});
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n) RETURN count(n) AS cnt").single().get("cnt").asLong()).isEqualTo(0L);
+		}
+	}
+
+	@Test
+	void shouldExecuteOperationsInTheOrderTheyHaveBeenRecordedIn() {
+
+		try (Session session = driver.session()) {
+			session.run("CREATE (:Thing {theId: 't2', name: 'Existing'})").consume();
+		}
+
+		transactionTemplate.execute(tx -> {
+			AnotherThingWithAssignedId anotherThing = new AnotherThingWithAssignedId(11L);
+			anotherThing.setName("Another thing");
+			ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+			thing.setName("Thing");
+			thing.setThings(singletonList(anotherThing));
+			neo4jOperations.save(thing);
+			neo4jOperations.deleteById(11L, AnotherThingWithAssignedId.class);
+
+			neo4jOperations.deleteById("t2", ThingWithAssignedId.class);
+			ThingWithAssignedId recreatedThing = new ThingWithAssignedId("t2");
+			recreatedThing.setName("Recreated");
+			neo4jOperations.save(recreatedThing);
+			return null;
+		});
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n:Thing2) RETURN count(n) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(0L);
+			List<String> names = session.run("MATCH (t:Thing) RETURN t.name AS name ORDER BY name")
+				.list(r -> r.get("name").asString());
+			assertThat(names).containsExactly("Recreated", "Thing");
+		}
+	}
+
+	@Test
+	void queriesShouldFlushPendingWrites() {
+
+		Optional<ThingWithAssignedId> loadedThing = transactionTemplate.execute(tx -> {
+			ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+			thing.setName("Thing");
+			neo4jOperations.save(thing);
+
+			assertThat(neo4jOperations.count(ThingWithAssignedId.class)).isEqualTo(1L);
+			return neo4jOperations.findById("t1", ThingWithAssignedId.class);
+		});
+
+		assertThat(loadedThing).hasValueSatisfying(thing -> assertThat(thing.getName()).isEqualTo("Thing"));
+	}
+
+	@Test
+	void rollbackShouldDiscardPendingWrites() {
+
+		transactionTemplate.execute(tx -> {
+			ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+			thing.setName("Thing");
+			neo4jOperations.save(thing);
+			tx.setRollbackOnly();
+			return null;
+		});
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (n) RETURN count(n) AS cnt").single().get("cnt").asLong()).isEqualTo(0L);
+		}
+	}
+
+	@Test
+	void immutableEntitiesShouldBeSavedImmediately() {
+
+		ImmutableAuditableThingWithGeneratedId savedThing = transactionTemplate.execute(tx -> {
+			ImmutableAuditableThingWithGeneratedId thing = neo4jOperations
+				.save(new ImmutableAuditableThingWithGeneratedId("Thing"));
+
+			assertThat(thing.getId()).isNotNull();
+			assertThat(countNodesInTransaction()).isEqualTo(1L);
+			return thing;
+		});
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (t:ImmutableAuditableThingWithGeneratedId) RETURN t.id AS id").single()
+				.get("id").asString()).isEqualTo(savedThing.getId());
+		}
+	}
+
+	@Test
+	void versionConflictsShouldBeThrownBySave() {
+
+		VersionedThingWithAssignedId thing = neo4jOperations.save(new VersionedThingWithAssignedId(4711L, "Thing"));
+		thing.setMyVersion(1L); // Version in DB is 0
+
+		ThingWithAssignedId otherThing = new ThingWithAssignedId("t1");
+		otherThing.setName("Thing");
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() ->
+			transactionTemplate.execute(tx -> {
+				neo4jOperations.save(otherThing);
+				neo4jOperations.save(thing);
+				return fail("The save of a stale entity must not be deferred.");
+			}));
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (t:Thing) RETURN count(t) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(0L);
+		}
+	}
+
+	@Test
+	void shouldWriteImmediatelyOutsideTransactions() {
+
+		ThingWithAssignedId thing = new ThingWithAssignedId("t1");
+		thing.setName("Thing");
+		neo4jOperations.save(thing);
+
+		try (Session session = driver.session()) {
+			List<String> names = session.run("MATCH (t:Thing) RETURN t.name AS name").list(r -> r.get("name").asString());
+			assertThat(names).containsExactly("Thing");
+		}
+	}
+
+	private long countNodesInTransaction() {
+
+		return neo4jClient.query("MATCH (n) RETURN count(n)").fetchAs(Long.class).one().orElse(-1L);
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends AbstractNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public Neo4jTemplate neo4jTemplate(Neo4jClient neo4jClient, Neo4jMappingContext mappingContext,
+			DatabaseSelectionProvider databaseNameProvider) {
+
+			Neo4jTemplate neo4jTemplate = super.neo4jTemplate(neo4jClient, mappingContext, databaseNameProvider);
+			neo4jTemplate.setWriteBehind(true);
+			return neo4jTemplate;
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
@@ -60,6 +60,9 @@ public interface PersonRepository extends Neo4jRepository<PersonWithAllConstruct
 	@Query("MATCH (n:PersonWithAllConstructor) return n")
 	List<PersonWithAllConstructor> getAllPersonsViaQuery();
 
+	@Query("MATCH (n:PersonWithAllConstructor) return n")
+	Stream<PersonWithAllConstructor> streamAllPersonsViaQuery();
+
 	@Query("MATCH (n:UnknownLabel) return n")
 	List<PersonWithAllConstructor> getNobodyViaQuery();
 
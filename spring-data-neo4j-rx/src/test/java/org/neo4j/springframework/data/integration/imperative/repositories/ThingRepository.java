@@ -22,12 +22,12 @@ import java.util.List;
 
 import org.neo4j.springframework.data.integration.shared.ThingWithAssignedId;
 import org.neo4j.springframework.data.repository.query.Query;
-import org.springframework.data.repository.CrudRepository;
+import org.neo4j.springframework.data.repository.Neo4jRepository;
 
 /**
  * @author Michael J. Simons
  */
-public interface ThingRepository extends CrudRepository<ThingWithAssignedId, String> {
+public interface ThingRepository extends Neo4jRepository<ThingWithAssignedId, String> {
 	List<ThingWithAssignedId> findFirstByOrderByNameDesc();
 
 	List<ThingWithAssignedId> findTop5ByOrderByNameDesc();
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.reactive;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.neo4j.springframework.data.test.Neo4jExtension.*;
+
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractReactiveNeo4jConfig;
+import org.neo4j.springframework.data.core.ReactiveDatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.ReactiveNeo4jClient;
+import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
+import org.neo4j.springframework.data.core.ReactiveNeo4jTemplate;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.shared.AnotherThingWithAssignedId;
+import org.neo4j.springframework.data.integration.shared.DeepRelationships;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelatives;
+import org.neo4j.springframework.data.integration.shared.Pet;
+import org.neo4j.springframework.data.integration.shared.ThingWithAssignedId;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Makes sure that related nodes and relationships are stored correctly when aggregates are saved level by level.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+@Tag(NEEDS_REACTIVE_SUPPORT)
+class ReactiveLevelOrderSavesIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final ReactiveNeo4jOperations neo4jOperations;
+
+	@Autowired ReactiveLevelOrderSavesIT(Driver driver, ReactiveNeo4jOperations neo4jOperations) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+	}
+
+	@Test
+	void shouldSaveDeepAggregates() {
+
+		DeepRelationships.Type1 type1 = new DeepRelationships.Type1();
+		type1.nextType = new DeepRelationships.Type2();
+		type1.nextType.sameType = new DeepRelationships.Type2();
+		type1.nextType.nextType = new DeepRelationships.Type3();
+		type1.nextType.nextType.nextType = new DeepRelationships.Type4();
+		type1.nextType.nextType.nextType.nextType = new DeepRelationships.Type5();
+		type1.nextType.nextType.nextType.nextType.nextType = new DeepRelationships.Type6();
+		type1.nextType.nextType.nextType.nextType.nextType.nextType = new DeepRelationships.Type7();
+
+		StepVerifier.create(neo4jOperations.save(type1))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (:Type1) -[:NEXT_TYPE]-> (:Type2) -[:NEXT_TYPE]-> (:Type3) "
+				+ "-[:NEXT_TYPE]-> (:Type4) -[:NEXT_TYPE]-> (:Type5) -[:NEXT_TYPE]-> (:Type6) -[:NEXT_TYPE]-> (:Type7) "
+				+ "RETURN count(*) AS cnt").single().get("cnt").asLong()).isEqualTo(1L);
+			assertThat(session.run("MATCH (:Type1) -[:NEXT_TYPE]-> (:Type2) -[:SAME_TYPE]-> (:Type2) "
+				+ "RETURN count(*) AS cnt").single().get("cnt").asLong()).isEqualTo(1L);
+			assertThat(session.run("MATCH (n) RETURN count(n) AS cnt").single().get("cnt").asLong()).isEqualTo(8L);
+		}
+	}
+
+	@Test
+	void shouldReplaceRelationshipsOfExistingEntities() {
+
+		PersonWithRelatives person = new PersonWithRelatives("Person");
+		person.getPets().put("CATS", Arrays.asList(new Pet("Tom"), new Pet("Garfield")));
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		person.getPets().clear();
+		person.getPets().put("DOGS", Arrays.asList(new Pet("Benji"), new Pet("Lassie")));
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		try (Session session = driver.session()) {
+			List<String> names = session
+				.run("MATCH (p:PersonWithRelatives) - [:DOGS] -> (pet:Pet) RETURN pet.name AS name ORDER BY name")
+				.list(r -> r.get("name").asString());
+			assertThat(names).containsExactly("Benji", "Lassie");
+			assertThat(session.run("MATCH (:PersonWithRelatives) - [r] -> () RETURN count(r) AS cnt").single()
+				.get("cnt").asLong()).isEqualTo(2L);
+		}
+	}
+
+	@Test
+	void shouldSaveRelatedNodesOfAllEntitiesDuringSaveAll() {
+
+		List<ThingWithAssignedId> things = new ArrayList<>();
+		for (int i = 1; i <= 2; ++i) {
+			ThingWithAssignedId thing = new ThingWithAssignedId("t" + i);
+			thing.setName("Thing" + i);
+			int offset = i * 10;
+			thing.setThings(IntStream.rangeClosed(1, 3).mapToObj(j -> {
+				AnotherThingWithAssignedId anotherThing = new AnotherThingWithAssignedId((long) offset + j);
+				anotherThing.setName("Another" + (offset + j));
+				return anotherThing;
+			}).collect(Collectors.toList()));
+			things.add(thing);
+		}
+
+		StepVerifier.create(neo4jOperations.saveAll(things))
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		try (Session session = driver.session()) {
+			Map<String, List<Object>> relatedIds = session
+				.run("MATCH (t:Thing) - [:Has] -> (a:Thing2) RETURN t.theId AS id, collect(a.theId) AS relatedIds")
+				.stream()
+				.collect(Collectors.toMap(r -> r.get("id").asString(), r -> r.get("relatedIds").asList()));
+			assertThat(relatedIds).containsOnlyKeys("t1", "t2");
+			assertThat(relatedIds.get("t1")).containsExactlyInAnyOrder(11L, 12L, 13L);
+			assertThat(relatedIds.get("t2")).containsExactlyInAnyOrder(21L, 22L, 23L);
+		}
+	}
+
+	@Test
+	void shouldSaveDynamicRelationshipsAndSharedNodesOnlyOnce() {
+
+		Pet sharedPet = new Pet("Garfield");
+		PersonWithRelatives person1 = new PersonWithRelatives("Person1");
+		person1.getPets().put("CATS", Arrays.asList(sharedPet, new Pet("Tom"), sharedPet));
+		person1.getPets().put("DOGS", Arrays.asList(new Pet("Benji"), new Pet("Lassie")));
+		PersonWithRelatives person2 = new PersonWithRelatives("Person2");
+		person2.getPets().put("CATS", Arrays.asList(new Pet("Delilah"), sharedPet));
+
+		StepVerifier.create(neo4jOperations.saveAll(Arrays.asList(person1, person2)))
+			.expectNextCount(2L)
+			.verifyComplete();
+
+		try (Session session = driver.session()) {
+			assertThat(session.run("MATCH (pet:Pet) RETURN count(pet) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(5L);
+			List<String> owners = session
+				.run("MATCH (p:PersonWithRelatives) - [:CATS] -> (pet:Pet) WHERE id(pet) = $id "
+					+ "RETURN DISTINCT p.name AS name ORDER BY name", singletonMap("id", sharedPet.getId()))
+				.list(r -> r.get("name").asString());
+			assertThat(owners).containsExactly("Person1", "Person2");
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends AbstractReactiveNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public ReactiveNeo4jTemplate neo4jTemplate(ReactiveNeo4jClient neo4jClient,
+			Neo4jMappingContext mappingContext, ReactiveDatabaseSelectionProvider databaseNameProvider) {
+
+			ReactiveNeo4jTemplate neo4jTemplate = super
+				.neo4jTemplate(neo4jClient, mappingContext, databaseNameProvider);
+			neo4jTemplate.setLevelOrderSaves(true);
+			return neo4jTemplate;
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
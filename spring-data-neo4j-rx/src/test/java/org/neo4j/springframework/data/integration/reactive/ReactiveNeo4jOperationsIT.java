@@ -19,12 +19,17 @@
 package org.neo4j.springframework.data.integration.reactive;
 
 import static java.util.Collections.*;
+import static java.util.stream.Collectors.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.neo4j.springframework.data.core.cypher.Cypher.*;
 import static org.neo4j.springframework.data.test.Neo4jExtension.*;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +37,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -57,7 +63,9 @@ import org.neo4j.springframework.data.test.Neo4jExtension.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 /**
  * @author Gerrit Meier
@@ -288,6 +296,67 @@ class ReactiveNeo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void saveAllFromPublisherInBatches() {
+
+		Flux<PersonWithAllConstructor> people = Flux.range(1, 25)
+			.map(i -> new PersonWithAllConstructor(null, "Streamed" + i, null, null, null, null, null, null, null, null,
+				null))
+			// Closes the second batch by time instead of size
+			.concatMap(p -> p.getName().equals("Streamed16")
+				? Mono.delay(Duration.ofMillis(600)).thenReturn(p)
+				: Mono.just(p));
+
+		List<PersonWithAllConstructor> savedPeople = new ArrayList<>();
+		StepVerifier.create(neo4jOperations.saveAll(people, 10, Duration.ofMillis(300)))
+			.recordWith(() -> savedPeople)
+			.expectNextCount(25)
+			.verifyComplete();
+
+		assertThat(savedPeople).extracting(PersonWithAllConstructor::getName)
+			.containsExactlyElementsOf(IntStream.rangeClosed(1, 25).mapToObj(i -> "Streamed" + i).collect(toList()));
+		assertThat(savedPeople).extracting(PersonWithAllConstructor::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) WHERE p.name STARTS WITH 'Streamed' "
+				+ "RETURN count(p) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(25L);
+		}
+	}
+
+	@Test
+	void saveAllWithInternalIds() {
+		List<PersonWithAllConstructor> savedPeople = new ArrayList<>();
+		StepVerifier.create(neo4jOperations.findById(person1Id, PersonWithAllConstructor.class)
+			.flatMapMany(existingPerson -> {
+				existingPerson.setFirstName("Updated");
+				PersonWithAllConstructor newPerson1 = new PersonWithAllConstructor(null, "New1", null, null, null, null,
+					null, null, null, null, null);
+				PersonWithAllConstructor newPerson2 = new PersonWithAllConstructor(null, "New2", null, null, null, null,
+					null, null, null, null, null);
+				return neo4jOperations.saveAll(Arrays.asList(newPerson1, existingPerson, newPerson2));
+			}))
+			.recordWith(() -> savedPeople)
+			.expectNextCount(3)
+			.verifyComplete();
+
+		assertThat(savedPeople).extracting(PersonWithAllConstructor::getName)
+			.containsExactly("New1", TEST_PERSON1_NAME, "New2");
+		assertThat(savedPeople).extracting(PersonWithAllConstructor::getId).doesNotContainNull().doesNotHaveDuplicates();
+		assertThat(savedPeople.get(1).getId()).isEqualTo(person1Id);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			for (PersonWithAllConstructor savedPerson : savedPeople) {
+				Record record = session.run("MATCH (p:PersonWithAllConstructor) WHERE id(p) = $id RETURN p",
+					Values.parameters("id", savedPerson.getId())).single();
+				assertThat(record.get("p").get("name").asString()).isEqualTo(savedPerson.getName());
+			}
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) WHERE id(p) = $id RETURN p.first_name",
+				Values.parameters("id", person1Id));
+			assertThat(result.single().get(0).asString()).isEqualTo("Updated");
+		}
+	}
+
 	@Test
 	void deleteById() {
 		StepVerifier.create(neo4jOperations.deleteById(person1Id, PersonWithAllConstructor.class))
@@ -311,6 +380,84 @@ class ReactiveNeo4jOperationsIT {
 		}
 	}
 
+	@Test
+	void importAll() {
+
+		Flux<PersonWithAllConstructor> people = Flux.range(1, 25).map(i ->
+			new PersonWithAllConstructor(null, "Imported" + i, null, null, null, null, null, null, null, null, null));
+
+		StepVerifier.create(neo4jOperations.importAll(people, 10, 2))
+			.assertNext(statistics -> {
+				assertThat(statistics.getChunks()).isEqualTo(3);
+				assertThat(statistics.getEntities()).isEqualTo(25L);
+				assertThat(statistics.getNodesCreated()).isEqualTo(25L);
+			})
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) WHERE p.name STARTS WITH 'Imported' "
+				+ "RETURN count(p) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(25L);
+		}
+	}
+
+	@Test
+	void importAllShouldCommitChunksIndependentOfOngoingTransaction(
+		@Autowired ReactiveTransactionManager transactionManager) {
+
+		TransactionalOperator transactionalOperator = TransactionalOperator.create(transactionManager);
+		StepVerifier.create(transactionalOperator.transactional(
+			neo4jOperations.importAll(Flux.just(new ThingWithGeneratedId("Imported")))
+				.then(Mono.error(new IllegalStateException("Rollback")))))
+			.verifyError(IllegalStateException.class);
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (t:ThingWithGeneratedId {name: 'Imported'}) RETURN count(t) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(1L);
+		}
+	}
+
+	@Test
+	void deleteAllInBatches() {
+
+		try (Session session = driver.session(getSessionConfig())) {
+			session.run("UNWIND range(1, 5) AS i CREATE (:PersonWithAllConstructor {name: 'Batch' + i})").consume();
+		}
+
+		StepVerifier.create(neo4jOperations.deleteAllInBatches(PersonWithAllConstructor.class, 3))
+			.assertNext(progress -> assertThat(progress.getNodesDeletedInBatch()).isEqualTo(3))
+			.assertNext(progress -> assertThat(progress.getNodesDeletedInBatch()).isEqualTo(3))
+			.assertNext(progress -> {
+				assertThat(progress.getNodesDeletedInBatch()).isEqualTo(1);
+				assertThat(progress.getBatches()).isEqualTo(3);
+				assertThat(progress.getNodesDeleted()).isEqualTo(7L);
+			})
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) return count(p) as count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(0);
+		}
+	}
+
+	@Test
+	void deleteAllByIdInBatches() {
+
+		StepVerifier.create(neo4jOperations.deleteAllByIdInBatches(Arrays.asList(person1Id, person2Id, -1L),
+			PersonWithAllConstructor.class, 2))
+			.assertNext(progress -> assertThat(progress.getNodesDeletedInBatch()).isEqualTo(2))
+			.assertNext(progress -> {
+				assertThat(progress.getNodesDeletedInBatch()).isEqualTo(0);
+				assertThat(progress.getNodesDeleted()).isEqualTo(2L);
+			})
+			.verifyComplete();
+
+		try (Session session = driver.session(getSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAllConstructor) return count(p) as count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(0);
+		}
+	}
+
 	@Configuration
 	@EnableTransactionManagement
 	static class Config extends AbstractReactiveNeo4jConfig {
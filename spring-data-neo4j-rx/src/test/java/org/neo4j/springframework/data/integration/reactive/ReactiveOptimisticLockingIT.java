@@ -221,6 +221,38 @@ class ReactiveOptimisticLockingIT {
 
 	}
 
+	@Test
+	void shouldReportAllFailingIdsForMultipleSaveForAssignedId(
+		@Autowired VersionedThingWithAssignedIdRepository repository) {
+
+		VersionedThingWithAssignedId thing1 = new VersionedThingWithAssignedId(4711L, "Thing1");
+		VersionedThingWithAssignedId thing2 = new VersionedThingWithAssignedId(42L, "Thing2");
+		VersionedThingWithAssignedId thing3 = new VersionedThingWithAssignedId(23L, "Thing3");
+		List<VersionedThingWithAssignedId> thingsToSave = Arrays.asList(thing1, thing2, thing3);
+
+		StepVerifier.create(repository.saveAll(thingsToSave))
+			.expectNextCount(3)
+			.verifyComplete();
+
+		thing1.setMyVersion(1L); // Version in DB is 0
+		thing3.setMyVersion(1L); // Version in DB is 0
+
+		StepVerifier.create(repository.saveAll(thingsToSave))
+			.expectErrorSatisfies(e -> assertThat(e)
+				.isInstanceOf(OptimisticLockingFailureException.class)
+				.hasMessageContaining("4711")
+				.hasMessageContaining("23")
+				.hasMessageNotContaining("42"))
+			.verify();
+
+		try (Session session = driver.session()) {
+			long versionsIncremented = session
+				.run("MATCH (n:VersionedThingWithAssignedId) WHERE n.myVersion > 0 RETURN count(n)")
+				.single().get(0).asLong();
+			assertThat(versionsIncremented).isZero();
+		}
+	}
+
 	interface VersionedThingRepository extends ReactiveNeo4jRepository<VersionedThing, Long> {
 	}
 
@@ -54,10 +54,12 @@ import org.neo4j.driver.types.Node;
 import org.neo4j.driver.types.Point;
 import org.neo4j.driver.types.Relationship;
 import org.neo4j.springframework.data.config.AbstractReactiveNeo4jConfig;
+import org.neo4j.springframework.data.core.DeleteProgress;
 import org.neo4j.springframework.data.core.convert.Neo4jConversions;
 import org.neo4j.springframework.data.integration.reactive.repositories.ReactivePersonRepository;
 import org.neo4j.springframework.data.integration.reactive.repositories.ReactiveThingRepository;
 import org.neo4j.springframework.data.integration.shared.*;
+import org.neo4j.springframework.data.repository.KeysetPosition;
 import org.neo4j.springframework.data.repository.ReactiveNeo4jRepository;
 import org.neo4j.springframework.data.repository.config.EnableReactiveNeo4jRepositories;
 import org.neo4j.springframework.data.repository.query.Query;
@@ -798,6 +800,35 @@ class ReactiveRepositoryIT {
 				.verifyComplete();
 	}
 
+	@Test
+	void findAllWithPageable(@Autowired ReactivePersonRepository repository) {
+
+		StepVerifier.create(repository.findAll(PageRequest.of(1, 1, Sort.by("name"))))
+				.assertNext(page -> {
+					assertThat(page).containsExactly(person2);
+					assertThat(page.getTotalElements()).isEqualTo(2L);
+					assertThat(page.getTotalPages()).isEqualTo(2);
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	void findAllWithKeysetPagination(@Autowired ReactivePersonRepository repository) {
+
+		Sort sort = Sort.by(Sort.Order.desc("name"));
+		StepVerifier.create(repository.findAll(KeysetPosition.initial(), 1, sort)
+				.flatMap(window -> {
+					assertThat(window).containsExactly(person2);
+					assertThat(window.hasNext()).isTrue();
+					return repository.findAll(window.getNextPosition(), 1, sort);
+				}))
+				.assertNext(window -> {
+					assertThat(window).containsExactly(person1);
+					assertThat(window.hasNext()).isFalse();
+				})
+				.verifyComplete();
+	}
+
 	@Test
 	void findOneByExample(@Autowired ReactivePersonRepository repository) {
 		Example<PersonWithAllConstructor> example = Example.of(person1,
@@ -987,6 +1018,32 @@ class ReactiveRepositoryIT {
 			.verifyComplete();
 	}
 
+	@Test
+	void deleteAllInBatches(@Autowired ReactivePersonRepository repository) {
+
+		repository.deleteAllInBatches(1)
+			.map(DeleteProgress::getNodesDeletedInBatch)
+			.as(StepVerifier::create)
+			.expectNext(1, 1)
+			.verifyComplete();
+
+		repository.count()
+			.as(StepVerifier::create)
+			.expectNext(0L)
+			.verifyComplete();
+	}
+
+	@Test
+	void deleteAllByIdInBatches(@Autowired ReactivePersonRepository repository) {
+
+		repository.deleteAllByIdInBatches(Arrays.asList(id1, id2), 1)
+			.last()
+			.then(repository.count())
+			.as(StepVerifier::create)
+			.expectNext(0L)
+			.verifyComplete();
+	}
+
 	@Test
 	void deleteById(@Autowired ReactivePersonRepository repository) {
 
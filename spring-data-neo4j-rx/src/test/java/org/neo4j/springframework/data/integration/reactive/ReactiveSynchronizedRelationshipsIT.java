@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.reactive;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.neo4j.springframework.data.test.Neo4jExtension.*;
+
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.springframework.data.config.AbstractReactiveNeo4jConfig;
+import org.neo4j.springframework.data.core.ReactiveDatabaseSelectionProvider;
+import org.neo4j.springframework.data.core.ReactiveNeo4jClient;
+import org.neo4j.springframework.data.core.ReactiveNeo4jOperations;
+import org.neo4j.springframework.data.core.ReactiveNeo4jTemplate;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.integration.shared.Hobby;
+import org.neo4j.springframework.data.integration.shared.LikesHobbyRelationship;
+import org.neo4j.springframework.data.integration.shared.PersonWithAllConstructor;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelationshipWithProperties;
+import org.neo4j.springframework.data.integration.shared.PersonWithRelatives;
+import org.neo4j.springframework.data.integration.shared.Pet;
+import org.neo4j.springframework.data.test.Neo4jIntegrationTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Makes sure that only the difference between the stored and the new relationships is written when relationships
+ * are synchronized.
+ *
+ * @author agent
+ */
+@Neo4jIntegrationTest
+@Tag(NEEDS_REACTIVE_SUPPORT)
+class ReactiveSynchronizedRelationshipsIT {
+
+	protected static Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+	private final ReactiveNeo4jOperations neo4jOperations;
+
+	@Autowired ReactiveSynchronizedRelationshipsIT(Driver driver, ReactiveNeo4jOperations neo4jOperations) {
+		this.driver = driver;
+		this.neo4jOperations = neo4jOperations;
+	}
+
+	@BeforeEach
+	void setupData() {
+
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+		}
+	}
+
+	@Test
+	void shouldOnlyWriteChangedRelationshipsWithProperties() {
+
+		PersonWithRelationshipWithProperties person = new PersonWithRelationshipWithProperties("Freddie");
+		Map<Hobby, LikesHobbyRelationship> hobbies = new HashMap<>();
+		for (int i = 1; i <= 3; ++i) {
+			hobbies.put(createHobby("Hobby" + i), new LikesHobbyRelationship(2000 + i));
+		}
+		person.setHobbies(hobbies);
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		Map<String, Long> relationshipIds = getLikesRelationshipIds();
+		assertThat(relationshipIds).containsOnlyKeys("Hobby1", "Hobby2", "Hobby3");
+
+		// Rehash the keys as they have been assigned ids
+		hobbies = new HashMap<>(person.getHobbies());
+		hobbies.entrySet().removeIf(e -> e.getKey().getName().equals("Hobby3"));
+		hobbies.entrySet().stream().filter(e -> e.getKey().getName().equals("Hobby2"))
+			.forEach(e -> e.getValue().setActive(true));
+		hobbies.put(createHobby("Hobby4"), new LikesHobbyRelationship(2004));
+		person.setHobbies(hobbies);
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		Map<String, Long> newRelationshipIds = getLikesRelationshipIds();
+		assertThat(newRelationshipIds).containsOnlyKeys("Hobby1", "Hobby2", "Hobby4");
+		assertThat(newRelationshipIds.get("Hobby1")).isEqualTo(relationshipIds.get("Hobby1"));
+		assertThat(newRelationshipIds.get("Hobby2")).isEqualTo(relationshipIds.get("Hobby2"));
+
+		try (Session session = driver.session()) {
+			List<Record> records = session.run(
+				"MATCH (p:PersonWithRelationshipWithProperties {name: 'Freddie'}) - [l:LIKES] -> (h:Hobby) "
+					+ "RETURN h.name AS name, l.since AS since, l.active AS active ORDER BY name").list();
+			assertThat(records).extracting(r -> r.get("since").asInt()).containsExactly(2001, 2002, 2004);
+			assertThat(records).extracting(r -> r.get("active").asObject()).containsExactly(null, true, null);
+			assertThat(session.run("MATCH (h:Hobby) RETURN count(h) AS cnt").single().get("cnt").asLong())
+				.isEqualTo(4L);
+		}
+	}
+
+	@Test
+	void shouldSynchronizeDynamicRelationships() {
+
+		PersonWithRelatives person = new PersonWithRelatives("Person");
+		Pet tom = new Pet("Tom");
+		Pet garfield = new Pet("Garfield");
+		Pet benji = new Pet("Benji");
+		person.getPets().put("CATS", Arrays.asList(tom, garfield));
+		person.getPets().put("DOGS", new ArrayList<>(singletonList(benji)));
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		Map<String, Long> relationshipIds = getPetRelationshipIds();
+
+		person.getPets().put("CATS", singletonList(tom));
+		person.getPets().get("DOGS").add(garfield);
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+
+		Map<String, Long> newRelationshipIds = getPetRelationshipIds();
+		assertThat(newRelationshipIds).containsOnlyKeys("CATS:Tom", "DOGS:Benji", "DOGS:Garfield");
+		assertThat(newRelationshipIds.get("CATS:Tom")).isEqualTo(relationshipIds.get("CATS:Tom"));
+		assertThat(newRelationshipIds.get("DOGS:Benji")).isEqualTo(relationshipIds.get("DOGS:Benji"));
+	}
+
+	@Test
+	void shouldRemoveAllRelationshipsOfAnEmptyAssociation() {
+
+		PersonWithRelatives person = new PersonWithRelatives("Person");
+		person.getPets().put("CATS", Arrays.asList(new Pet("Tom"), new Pet("Garfield")));
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+		assertThat(getPetRelationshipIds()).hasSize(2);
+
+		person.getPets().clear();
+		StepVerifier.create(neo4jOperations.save(person))
+			.expectNextCount(1)
+			.verifyComplete();
+		assertThat(getPetRelationshipIds()).isEmpty();
+	}
+
+	private static Hobby createHobby(String name) {
+
+		Hobby hobby = new Hobby();
+		hobby.setName(name);
+		return hobby;
+	}
+
+	private Map<String, Long> getLikesRelationshipIds() {
+
+		try (Session session = driver.session()) {
+			return session
+				.run("MATCH (:PersonWithRelationshipWithProperties) - [l:LIKES] -> (h:Hobby) "
+					+ "RETURN h.name AS name, id(l) AS id")
+				.stream()
+				.collect(Collectors.toMap(r -> r.get("name").asString(), r -> r.get("id").asLong()));
+		}
+	}
+
+	private Map<String, Long> getPetRelationshipIds() {
+
+		try (Session session = driver.session()) {
+			return session
+				.run("MATCH (:PersonWithRelatives) - [r] -> (pet:Pet) "
+					+ "RETURN type(r) + ':' + pet.name AS name, id(r) AS id")
+				.stream()
+				.collect(Collectors.toMap(r -> r.get("name").asString(), r -> r.get("id").asLong()));
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	static class Config extends AbstractReactiveNeo4jConfig {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Override
+		public ReactiveNeo4jTemplate neo4jTemplate(ReactiveNeo4jClient neo4jClient,
+			Neo4jMappingContext mappingContext, ReactiveDatabaseSelectionProvider databaseNameProvider) {
+
+			ReactiveNeo4jTemplate neo4jTemplate = super
+				.neo4jTemplate(neo4jClient, mappingContext, databaseNameProvider);
+			neo4jTemplate.setSynchronizeRelationships(true);
+			return neo4jTemplate;
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return singletonList(PersonWithAllConstructor.class.getPackage().getName());
+		}
+	}
+}
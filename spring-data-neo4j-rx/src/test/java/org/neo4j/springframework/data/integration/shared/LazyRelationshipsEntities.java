@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.integration.shared;
+
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.core.schema.Relationship;
+import org.neo4j.springframework.data.core.schema.Relationship.FetchMode;
+
+/**
+ * @author agent
+ */
+public final class LazyRelationshipsEntities {
+
+	/**
+	 * Owns relationships with all fetch modes.
+	 */
+	@Node
+	public static class Author {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private String name;
+
+		@Relationship(type = "WROTE", fetch = FetchMode.LAZY)
+		private List<Book> books;
+
+		@Relationship(type = "LIKES", fetch = FetchMode.BATCH)
+		private Set<Book> favorites;
+
+		@Relationship(type = "LIVES_IN")
+		private City city;
+
+		@Relationship(type = "PUBLISHED_BY")
+		private Publisher publisher;
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+
+		public Set<Book> getFavorites() {
+			return favorites;
+		}
+
+		public City getCity() {
+			return city;
+		}
+
+		public Publisher getPublisher() {
+			return publisher;
+		}
+	}
+
+	/**
+	 * Target of lazy relationships.
+	 */
+	@Node
+	public static class Book {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private final String title;
+
+		public Book(String title) {
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	/**
+	 * Target of single valued relationships, which are always loaded eagerly.
+	 */
+	@Node
+	public static class City {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private final String name;
+
+		public City(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Eagerly loaded, owning a single valued relationship itself.
+	 */
+	@Node
+	public static class Publisher {
+
+		@Id @GeneratedValue
+		private Long id;
+
+		private final String name;
+
+		@Relationship(type = "LOCATED_IN")
+		private City city;
+
+		public Publisher(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public City getCity() {
+			return city;
+		}
+	}
+
+	private LazyRelationshipsEntities() {
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2019-2020 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.springframework.data.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.springframework.data.core.cypher.renderer.Renderer;
+import org.neo4j.springframework.data.core.mapping.Neo4jMappingContext;
+import org.neo4j.springframework.data.core.mapping.Neo4jPersistentEntity;
+import org.neo4j.springframework.data.core.schema.GeneratedValue;
+import org.neo4j.springframework.data.core.schema.Id;
+import org.neo4j.springframework.data.core.schema.Node;
+import org.neo4j.springframework.data.repository.KeysetPosition;
+import org.springframework.data.domain.Sort;
+
+/**
+ * @author agent
+ */
+class KeysetQueryTest {
+
+	private static final Renderer cypherRenderer = Renderer.getDefaultRenderer();
+
+	@Node
+	private static class Entity {
+
+		@Id @GeneratedValue private Long id;
+
+		private String name;
+
+		private Integer age;
+	}
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	@SuppressWarnings("unchecked")
+	private final Neo4jPersistentEntity<Entity> entity = (Neo4jPersistentEntity<Entity>) mappingContext
+		.getRequiredPersistentEntity(Entity.class);
+
+	@Test
+	void initialPositionShouldNotAddConditions() {
+
+		KeysetQuery<Entity> keysetQuery = KeysetQuery
+			.create(mappingContext, entity, KeysetPosition.initial(), 10, Sort.by("name"));
+
+		assertThat(cypherRenderer.render(keysetQuery.getStatement())).isEqualTo(
+			"MATCH (n:`Entity`) WITH n, id(n) AS __internalNeo4jId__ "
+				+ "RETURN n{.age, __internalNeo4jId__: id(n), .name, __nodeLabels__: labels(n)} "
+				+ "ORDER BY n.name, n.__internalNeo4jId__ LIMIT 11");
+		assertThat(keysetQuery.getParameters()).isEmpty();
+	}
+
+	@Test
+	void shouldSeekAfterPosition() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("name", "a");
+		keys.put("age", 42);
+		keys.put("id", 4711L);
+		KeysetQuery<Entity> keysetQuery = KeysetQuery.create(mappingContext, entity, KeysetPosition.of(keys), 10,
+			Sort.by(Sort.Order.asc("name"), Sort.Order.desc("age")));
+
+		assertThat(cypherRenderer.render(keysetQuery.getStatement())).isEqualTo(
+			"MATCH (n:`Entity`) WHERE ((n.name > $__key0__ OR n.name IS NULL) "
+				+ "OR (n.name = $__key0__ AND n.age < $__key1__) "
+				+ "OR (n.name = $__key0__ AND n.age = $__key1__ AND id(n) > $__key2__)) "
+				+ "WITH n, id(n) AS __internalNeo4jId__ "
+				+ "RETURN n{.age, __internalNeo4jId__: id(n), .name, __nodeLabels__: labels(n)} "
+				+ "ORDER BY n.name, n.age DESC, n.__internalNeo4jId__ LIMIT 11");
+		assertThat(keysetQuery.getParameters()).containsEntry("__key0__", Values.value("a"))
+			.containsEntry("__key1__", Values.value(42))
+			.containsEntry("__key2__", Values.value(4711L));
+	}
+
+	@Test
+	void shouldSeekAfterPositionWithoutValues() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("name", null);
+		keys.put("age", null);
+		keys.put("id", 4711L);
+		KeysetQuery<Entity> keysetQuery = KeysetQuery.create(mappingContext, entity, KeysetPosition.of(keys), 10,
+			Sort.by(Sort.Order.asc("name"), Sort.Order.desc("age")));
+
+		assertThat(cypherRenderer.render(keysetQuery.getStatement())).isEqualTo(
+			"MATCH (n:`Entity`) WHERE ((n.name IS NULL AND n.age IS NOT NULL) "
+				+ "OR (n.name IS NULL AND n.age IS NULL AND id(n) > $__key2__)) "
+				+ "WITH n, id(n) AS __internalNeo4jId__ "
+				+ "RETURN n{.age, __internalNeo4jId__: id(n), .name, __nodeLabels__: labels(n)} "
+				+ "ORDER BY n.name, n.age DESC, n.__internalNeo4jId__ LIMIT 11");
+		assertThat(keysetQuery.getParameters()).containsOnlyKeys("__key2__");
+	}
+
+	@Test
+	void shouldContinueAfterEntityWithoutValue() {
+
+		Entity entityWithoutName = new Entity();
+		entityWithoutName.id = 4711L;
+		KeysetQuery<Entity> keysetQuery = KeysetQuery
+			.create(mappingContext, entity, KeysetPosition.initial(), 1, Sort.by("name"));
+
+		KeysetPosition nextPosition = keysetQuery.toWindow(Arrays.asList(entityWithoutName, new Entity()))
+			.getNextPosition();
+
+		Map<String, Object> expectedKeys = new HashMap<>();
+		expectedKeys.put("name", null);
+		expectedKeys.put("id", 4711L);
+		assertThat(nextPosition.getKeys()).isEqualTo(expectedKeys);
+	}
+
+	@Test
+	void shouldIgnoreCase() {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("name", "A");
+		keys.put("id", 4711L);
+		KeysetQuery<Entity> keysetQuery = KeysetQuery.create(mappingContext, entity, KeysetPosition.of(keys), 10,
+			Sort.by(Sort.Order.asc("name").ignoreCase()));
+
+		assertThat(cypherRenderer.render(keysetQuery.getStatement())).isEqualTo(
+			"MATCH (n:`Entity`) WHERE ((toLower(n.name) > toLower($__key0__) OR toLower(n.name) IS NULL) "
+				+ "OR (toLower(n.name) = toLower($__key0__) AND id(n) > $__key1__)) "
+				+ "WITH n, id(n) AS __internalNeo4jId__ "
+				+ "RETURN n{.age, __internalNeo4jId__: id(n), .name, __nodeLabels__: labels(n)} "
+				+ "ORDER BY toLower(n.name), n.__internalNeo4jId__ LIMIT 11");
+	}
+
+	@Test
+	void shouldOnlyIgnoreCaseOfStrings() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> KeysetQuery.create(mappingContext, entity, KeysetPosition.initial(), 10,
+				Sort.by(Sort.Order.asc("age").ignoreCase())))
+			.withMessage("Cannot ignore the case when ordering by the non-string property: 'age'");
+	}
+
+	@Test
+	void shouldRequireAllKeys() {
+
+		KeysetPosition position = KeysetPosition.of(Collections.singletonMap("id", 4711L));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> KeysetQuery.create(mappingContext, entity, position, 10, Sort.by("name")))
+			.withMessage("The position doesn't contain a value for 'name'.");
+	}
+
+	@Test
+	void shouldOnlyAllowSimpleProperties() {
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> KeysetQuery
+				.create(mappingContext, entity, KeysetPosition.initial(), 10, Sort.by("unknown")))
+			.withMessage("Cannot order by the unknown graph property: 'unknown'");
+	}
+}